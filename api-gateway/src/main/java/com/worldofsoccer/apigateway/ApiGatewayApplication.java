@@ -1,16 +1,43 @@
 package com.worldofsoccer.apigateway;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 @SpringBootApplication
 public class ApiGatewayApplication {
 
 	@Bean
-	RestTemplate restTemplate() {
-		return new RestTemplate();
+	ShallowEtagHeaderFilter etagFilter() {
+		return new ShallowEtagHeaderFilter();
+	}
+
+	// runs the parallel downstream lookups of aggregate endpoints such as the league dashboard
+	@Bean
+	@ConditionalOnThreading(Threading.PLATFORM)
+	AsyncTaskExecutor aggregateExecutor(@Value("${app.dashboard.threads:32}") int threads) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(threads * 16);
+		executor.setThreadNamePrefix("aggregate-");
+		executor.initialize();
+		return executor;
+	}
+
+	@Bean("aggregateExecutor")
+	@ConditionalOnThreading(Threading.VIRTUAL)
+	AsyncTaskExecutor virtualAggregateExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("aggregate-");
+		executor.setVirtualThreads(true);
+		return executor;
 	}
 
 	public static void main(String[] args) {
@@ -0,0 +1,7 @@
+package com.worldofsoccer.apigateway.businesslayer.dashboard;
+
+import com.worldofsoccer.apigateway.presentationlayer.dashboard.LeagueDashboardResponseModel;
+
+public interface LeagueDashboardService {
+    LeagueDashboardResponseModel getLeagueDashboard(String leagueId, Integer matchLimit);
+}
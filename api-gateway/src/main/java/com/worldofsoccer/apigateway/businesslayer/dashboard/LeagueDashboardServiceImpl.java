@@ -0,0 +1,194 @@
+package com.worldofsoccer.apigateway.businesslayer.dashboard;
+
+import com.worldofsoccer.apigateway.domainclientlayer.league.LeagueServiceClient;
+import com.worldofsoccer.apigateway.domainclientlayer.location.VenueServiceClient;
+import com.worldofsoccer.apigateway.domainclientlayer.match.MatchServiceClient;
+import com.worldofsoccer.apigateway.domainclientlayer.teams.TeamServiceClient;
+import com.worldofsoccer.apigateway.presentationlayer.dashboard.DashboardErrorModel;
+import com.worldofsoccer.apigateway.presentationlayer.dashboard.LeagueDashboardController;
+import com.worldofsoccer.apigateway.presentationlayer.dashboard.LeagueDashboardResponseModel;
+import com.worldofsoccer.apigateway.presentationlayer.league.LeagueController;
+import com.worldofsoccer.apigateway.presentationlayer.league.LeagueResponseModel;
+import com.worldofsoccer.apigateway.presentationlayer.location.VenueResponseModel;
+import com.worldofsoccer.apigateway.presentationlayer.match.MatchController;
+import com.worldofsoccer.apigateway.presentationlayer.match.MatchResponseModel;
+import com.worldofsoccer.apigateway.presentationlayer.teams.TeamResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.LinkTemplate;
+import com.worldofsoccer.apigateway.utils.exceptions.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Assembles the league dashboard in two parallel rounds: the league and its matches first,
+ * then every distinct team and venue those matches reference. All lookups share one deadline;
+ * anything still running when it passes is cancelled and reported as a timeout.
+ */
+@Service
+@Slf4j
+public class LeagueDashboardServiceImpl implements LeagueDashboardService {
+
+    private final LeagueServiceClient leagueServiceClient;
+    private final MatchServiceClient matchServiceClient;
+    private final TeamServiceClient teamServiceClient;
+    private final VenueServiceClient venueServiceClient;
+    private final AsyncTaskExecutor executor;
+    private final Duration timeout;
+    private final int maxMatches;
+
+    private static final LinkTemplate SELF_LINK =
+            LinkTemplate.of(p -> methodOn(LeagueDashboardController.class).getLeagueDashboard(p[0], null), 1);
+    private static final LinkTemplate LEAGUE_LINK =
+            LinkTemplate.of(p -> methodOn(LeagueController.class).getLeagueById(p[0]), 1);
+    private static final LinkTemplate MATCHES_LINK =
+            LinkTemplate.of(p -> methodOn(MatchController.class).getAll(p[0], null, null), 1);
+
+    public LeagueDashboardServiceImpl(LeagueServiceClient leagueServiceClient,
+                                      MatchServiceClient matchServiceClient,
+                                      TeamServiceClient teamServiceClient,
+                                      VenueServiceClient venueServiceClient,
+                                      @Qualifier("aggregateExecutor") AsyncTaskExecutor executor,
+                                      @Value("${app.dashboard.timeout:3s}") Duration timeout,
+                                      @Value("${app.dashboard.max-matches:200}") int maxMatches) {
+        this.leagueServiceClient = leagueServiceClient;
+        this.matchServiceClient = matchServiceClient;
+        this.teamServiceClient = teamServiceClient;
+        this.venueServiceClient = venueServiceClient;
+        this.executor = executor;
+        this.timeout = timeout;
+        this.maxMatches = maxMatches;
+    }
+
+    @Override
+    public LeagueDashboardResponseModel getLeagueDashboard(String leagueId, Integer matchLimit) {
+        log.debug("Business Layer: Assembling dashboard for league {}", leagueId);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int limit = matchLimit == null ? maxMatches : Math.min(matchLimit, maxMatches);
+        List<DashboardErrorModel> errors = new ArrayList<>();
+
+        CompletableFuture<LeagueResponseModel> leagueCall =
+                submit(() -> leagueServiceClient.getLeagueById(leagueId));
+        CompletableFuture<CursorPage<MatchResponseModel>> matchesCall =
+                submit(() -> matchServiceClient.getAllMatches(leagueId, null, limit));
+
+        LeagueResponseModel league = await(leagueCall, deadline, "league", leagueId, errors);
+        if (league == null && isNotFound(errors)) {
+            matchesCall.cancel(true);
+            throw new NotFoundException(errors.get(0).getMessage());
+        }
+        CursorPage<MatchResponseModel> page = await(matchesCall, deadline, "matches", leagueId, errors);
+        List<MatchResponseModel> matches = page != null ? page.getItems() : Collections.emptyList();
+
+        Map<String, CompletableFuture<TeamResponseModel>> teamCalls =
+                submitDistinct(matches, MatchResponseModel::getTeamId, teamServiceClient::getTeamById);
+        Map<String, CompletableFuture<VenueResponseModel>> venueCalls =
+                submitDistinct(matches, MatchResponseModel::getVenueId, venueServiceClient::getVenueById);
+
+        Map<String, TeamResponseModel> teams = awaitAll(teamCalls, deadline, "team", errors);
+        Map<String, VenueResponseModel> venues = awaitAll(venueCalls, deadline, "venue", errors);
+
+        LeagueDashboardResponseModel dashboard = LeagueDashboardResponseModel.builder()
+                .leagueId(leagueId)
+                .league(league)
+                .matches(matches)
+                .nextMatchesCursor(page != null ? page.getNextCursor() : null)
+                .teams(teams)
+                .venues(venues)
+                .partial(!errors.isEmpty())
+                .errors(errors)
+                .build();
+        dashboard.add(SELF_LINK.expand(IanaLinkRelations.SELF, leagueId));
+        dashboard.add(LEAGUE_LINK.expand("league", leagueId));
+        dashboard.add(MATCHES_LINK.expand("allMatches", leagueId));
+        return dashboard;
+    }
+
+    // a saturated executor fails only this lookup, which the dashboard then reports as unavailable
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(call, executor);
+        } catch (RejectedExecutionException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    // one call per distinct id, in first-seen order, however many matches share it
+    private <T> Map<String, CompletableFuture<T>> submitDistinct(List<MatchResponseModel> matches,
+                                                                  Function<MatchResponseModel, String> id,
+                                                                  Function<String, T> fetch) {
+        Map<String, CompletableFuture<T>> calls = new LinkedHashMap<>();
+        for (MatchResponseModel match : matches) {
+            String key = id.apply(match);
+            if (key != null && !calls.containsKey(key)) {
+                calls.put(key, submit(() -> fetch.apply(key)));
+            }
+        }
+        return calls;
+    }
+
+    private <T> Map<String, T> awaitAll(Map<String, CompletableFuture<T>> calls, long deadline,
+                                        String section, List<DashboardErrorModel> errors) {
+        Map<String, T> results = new LinkedHashMap<>();
+        calls.forEach((id, call) -> {
+            T result = await(call, deadline, section, id, errors);
+            if (result != null) {
+                results.put(id, result);
+            }
+        });
+        return results;
+    }
+
+    private <T> T await(CompletableFuture<T> call, long deadline, String section, String id,
+                        List<DashboardErrorModel> errors) {
+        try {
+            return call.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            call.cancel(true);
+            errors.add(error(section, id, DashboardErrorModel.TIMEOUT, "No response within " + timeout));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            call.cancel(true);
+            errors.add(error(section, id, DashboardErrorModel.TIMEOUT, "Interrupted"));
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof NotFoundException) {
+                errors.add(error(section, id, DashboardErrorModel.NOT_FOUND, cause.getMessage()));
+            } else if (cause instanceof RejectedExecutionException) {
+                errors.add(error(section, id, DashboardErrorModel.UNAVAILABLE, "Too many lookups in flight"));
+            } else {
+                log.warn("Dashboard lookup of {} {} failed: {}", section, id, cause.toString());
+                errors.add(error(section, id, DashboardErrorModel.UNAVAILABLE, cause.getMessage()));
+            }
+        }
+        return null;
+    }
+
+    private static boolean isNotFound(List<DashboardErrorModel> errors) {
+        return !errors.isEmpty() && DashboardErrorModel.NOT_FOUND.equals(errors.get(0).getStatus());
+    }
+
+    private static DashboardErrorModel error(String section, String id, String status, String message) {
+        return DashboardErrorModel.builder()
+                .section(section)
+                .id(id)
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
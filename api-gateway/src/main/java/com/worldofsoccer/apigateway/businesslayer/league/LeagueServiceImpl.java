@@ -4,13 +4,13 @@ import com.worldofsoccer.apigateway.domainclientlayer.league.LeagueServiceClient
 import com.worldofsoccer.apigateway.presentationlayer.league.LeagueController;
 import com.worldofsoccer.apigateway.presentationlayer.league.LeagueRequestModel;
 import com.worldofsoccer.apigateway.presentationlayer.league.LeagueResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.LinkTemplate;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.Link;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Service
@@ -19,6 +19,11 @@ public class LeagueServiceImpl implements LeagueService {
 
     private final LeagueServiceClient leagueServiceClient;
 
+    private static final LinkTemplate SELF_LINK =
+            LinkTemplate.of(p -> methodOn(LeagueController.class).getLeagueById(p[0]), 1);
+    private static final LinkTemplate ALL_LEAGUES_LINK =
+            LinkTemplate.of(p -> methodOn(LeagueController.class).getAllLeagues(null, null), 0);
+
     public LeagueServiceImpl(LeagueServiceClient leagueServiceClient) {
         this.leagueServiceClient = leagueServiceClient;
     }
@@ -51,25 +56,18 @@ public class LeagueServiceImpl implements LeagueService {
     }
 
     @Override
-    public List<LeagueResponseModel> getAllLeagues() {
-        log.debug("Business Layer: Fetching all leagues");
-        List<LeagueResponseModel> leagues = leagueServiceClient.getAllLeagues();
-        for (LeagueResponseModel league : leagues) {
+    public CursorPage<LeagueResponseModel> getAllLeagues(String after, Integer limit) {
+        log.debug("Business Layer: Fetching leagues after cursor {} (limit {})", after, limit);
+        CursorPage<LeagueResponseModel> leagues = leagueServiceClient.getAllLeagues(after, limit);
+        for (LeagueResponseModel league : leagues.getItems()) {
             addHateoasLinks(league);
         }
         return leagues;
     }
 
     private LeagueResponseModel addHateoasLinks(LeagueResponseModel league) {
-        Link selfLink = linkTo(methodOn(LeagueController.class)
-                .getLeagueById(league.getLeagueId()))
-                .withSelfRel();
-        league.add(selfLink);
-
-        Link allLeaguesLink = linkTo(methodOn(LeagueController.class)
-                .getAllLeagues())
-                .withRel("allLeagues");
-        league.add(allLeaguesLink);
+        league.add(SELF_LINK.expand(IanaLinkRelations.SELF, league.getLeagueId()));
+        league.add(ALL_LEAGUES_LINK.expand("allLeagues"));
 
         return league;
     }
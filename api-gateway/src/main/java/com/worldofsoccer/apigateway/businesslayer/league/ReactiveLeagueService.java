@@ -0,0 +1,15 @@
+package com.worldofsoccer.apigateway.businesslayer.league;
+
+import com.worldofsoccer.apigateway.presentationlayer.league.LeagueRequestModel;
+import com.worldofsoccer.apigateway.presentationlayer.league.LeagueResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveLeagueService {
+    Mono<LeagueResponseModel> getLeagueById(String leagueId);
+    Mono<LeagueResponseModel> createLeague(LeagueRequestModel leagueRequest);
+    // ifMatch, when given, is forwarded so the owning service refuses a stale write
+    Mono<LeagueResponseModel> updateLeague(String leagueId, LeagueRequestModel leagueRequest, String ifMatch);
+    Mono<Void> deleteLeague(String leagueId);
+    Mono<CursorPage<LeagueResponseModel>> getAllLeagues(String after, Integer limit);
+}
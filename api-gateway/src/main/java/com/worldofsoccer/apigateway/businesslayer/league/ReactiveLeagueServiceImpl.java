@@ -0,0 +1,78 @@
+package com.worldofsoccer.apigateway.businesslayer.league;
+
+import com.worldofsoccer.apigateway.domainclientlayer.league.ReactiveLeagueServiceClient;
+import com.worldofsoccer.apigateway.presentationlayer.league.LeagueController;
+import com.worldofsoccer.apigateway.presentationlayer.league.LeagueRequestModel;
+import com.worldofsoccer.apigateway.presentationlayer.league.LeagueResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.LinkTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.function.UnaryOperator;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "true")
+public class ReactiveLeagueServiceImpl implements ReactiveLeagueService {
+
+    private final ReactiveLeagueServiceClient leagueServiceClient;
+
+    // routes are shared with the reactive controller; methodOn only needs the mapping annotations
+    private static final LinkTemplate SELF_LINK =
+            LinkTemplate.of(p -> methodOn(LeagueController.class).getLeagueById(p[0]), 1);
+    private static final LinkTemplate ALL_LEAGUES_LINK =
+            LinkTemplate.of(p -> methodOn(LeagueController.class).getAllLeagues(null, null), 0);
+
+    public ReactiveLeagueServiceImpl(ReactiveLeagueServiceClient leagueServiceClient) {
+        this.leagueServiceClient = leagueServiceClient;
+    }
+
+    @Override
+    public Mono<LeagueResponseModel> getLeagueById(String leagueId) {
+        log.debug("Business Layer: Fetching league with id: {}", leagueId);
+        return leagueServiceClient.getLeagueById(leagueId).map(hateoasLinks());
+    }
+
+    @Override
+    public Mono<LeagueResponseModel> createLeague(LeagueRequestModel leagueRequest) {
+        log.debug("Business Layer: Creating new league");
+        return leagueServiceClient.createLeague(leagueRequest).map(hateoasLinks());
+    }
+
+    @Override
+    public Mono<LeagueResponseModel> updateLeague(String leagueId, LeagueRequestModel leagueRequest, String ifMatch) {
+        log.debug("Business Layer: Updating league with id: {}", leagueId);
+        return leagueServiceClient.updateLeague(leagueId, leagueRequest, ifMatch).map(hateoasLinks());
+    }
+
+    @Override
+    public Mono<Void> deleteLeague(String leagueId) {
+        log.debug("Business Layer: Deleting league with id: {}", leagueId);
+        return leagueServiceClient.deleteLeague(leagueId);
+    }
+
+    @Override
+    public Mono<CursorPage<LeagueResponseModel>> getAllLeagues(String after, Integer limit) {
+        log.debug("Business Layer: Fetching leagues after cursor {} (limit {})", after, limit);
+        UnaryOperator<LeagueResponseModel> links = hateoasLinks();
+        return leagueServiceClient.getAllLeagues(after, limit)
+                .doOnNext(page -> page.getItems().forEach(links::apply));
+    }
+
+    // bound while still on the request thread; the response arrives on a Netty event loop
+    private static UnaryOperator<LeagueResponseModel> hateoasLinks() {
+        LinkTemplate.Bound self = SELF_LINK.bind();
+        LinkTemplate.Bound allLeagues = ALL_LEAGUES_LINK.bind();
+        return league -> {
+            league.add(self.expand(IanaLinkRelations.SELF, league.getLeagueId()));
+            league.add(allLeagues.expand("allLeagues"));
+            return league;
+        };
+    }
+}
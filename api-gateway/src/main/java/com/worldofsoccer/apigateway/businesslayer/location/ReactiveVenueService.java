@@ -0,0 +1,15 @@
+package com.worldofsoccer.apigateway.businesslayer.location;
+
+import com.worldofsoccer.apigateway.presentationlayer.location.VenueRequestModel;
+import com.worldofsoccer.apigateway.presentationlayer.location.VenueResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveVenueService {
+    Mono<VenueResponseModel> getVenueById(String venueId);
+    Mono<VenueResponseModel> createVenue(VenueRequestModel venueRequest);
+    // ifMatch, when given, is forwarded so the owning service refuses a stale write
+    Mono<VenueResponseModel> updateVenue(String venueId, VenueRequestModel venueRequest, String ifMatch);
+    Mono<Void> deleteVenue(String venueId);
+    Mono<CursorPage<VenueResponseModel>> getAllVenues(String after, Integer limit);
+}
@@ -0,0 +1,78 @@
+package com.worldofsoccer.apigateway.businesslayer.location;
+
+import com.worldofsoccer.apigateway.domainclientlayer.location.ReactiveVenueServiceClient;
+import com.worldofsoccer.apigateway.presentationlayer.location.VenueController;
+import com.worldofsoccer.apigateway.presentationlayer.location.VenueRequestModel;
+import com.worldofsoccer.apigateway.presentationlayer.location.VenueResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.LinkTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.function.UnaryOperator;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "true")
+public class ReactiveVenueServiceImpl implements ReactiveVenueService {
+
+    private final ReactiveVenueServiceClient venueServiceClient;
+
+    // routes are shared with the reactive controller; methodOn only needs the mapping annotations
+    private static final LinkTemplate SELF_LINK =
+            LinkTemplate.of(p -> methodOn(VenueController.class).getVenueById(p[0]), 1);
+    private static final LinkTemplate ALL_VENUES_LINK =
+            LinkTemplate.of(p -> methodOn(VenueController.class).getAllVenues(null, null), 0);
+
+    public ReactiveVenueServiceImpl(ReactiveVenueServiceClient venueServiceClient) {
+        this.venueServiceClient = venueServiceClient;
+    }
+
+    @Override
+    public Mono<VenueResponseModel> getVenueById(String venueId) {
+        log.debug("Business Layer: Fetching venue with id: {}", venueId);
+        return venueServiceClient.getVenueById(venueId).map(hateoasLinks());
+    }
+
+    @Override
+    public Mono<VenueResponseModel> createVenue(VenueRequestModel venueRequest) {
+        log.debug("Business Layer: Creating new venue");
+        return venueServiceClient.createVenue(venueRequest).map(hateoasLinks());
+    }
+
+    @Override
+    public Mono<VenueResponseModel> updateVenue(String venueId, VenueRequestModel venueRequest, String ifMatch) {
+        log.debug("Business Layer: Updating venue with id: {}", venueId);
+        return venueServiceClient.updateVenue(venueId, venueRequest, ifMatch).map(hateoasLinks());
+    }
+
+    @Override
+    public Mono<Void> deleteVenue(String venueId) {
+        log.debug("Business Layer: Deleting venue with id: {}", venueId);
+        return venueServiceClient.deleteVenue(venueId);
+    }
+
+    @Override
+    public Mono<CursorPage<VenueResponseModel>> getAllVenues(String after, Integer limit) {
+        log.debug("Business Layer: Fetching venues after cursor {} (limit {})", after, limit);
+        UnaryOperator<VenueResponseModel> links = hateoasLinks();
+        return venueServiceClient.getAllVenues(after, limit)
+                .doOnNext(page -> page.getItems().forEach(links::apply));
+    }
+
+    // bound while still on the request thread; the response arrives on a Netty event loop
+    private static UnaryOperator<VenueResponseModel> hateoasLinks() {
+        LinkTemplate.Bound self = SELF_LINK.bind();
+        LinkTemplate.Bound allVenues = ALL_VENUES_LINK.bind();
+        return venue -> {
+            venue.add(self.expand(IanaLinkRelations.SELF, venue.getVenueId()));
+            venue.add(allVenues.expand("allVenues"));
+            return venue;
+        };
+    }
+}
@@ -1,12 +1,12 @@
 package com.worldofsoccer.apigateway.businesslayer.location;
 import com.worldofsoccer.apigateway.presentationlayer.location.VenueRequestModel;
 import com.worldofsoccer.apigateway.presentationlayer.location.VenueResponseModel;
-import java.util.List;
+import com.worldofsoccer.apigateway.utils.CursorPage;
 
 public interface VenueService {
     VenueResponseModel getVenueById(String venueId);
     VenueResponseModel createVenue(VenueRequestModel venueRequest);
     VenueResponseModel updateVenue(String venueId, VenueRequestModel venueRequest);
     void deleteVenue(String venueId);
-    List<VenueResponseModel> getAllVenues();
+    CursorPage<VenueResponseModel> getAllVenues(String after, Integer limit);
 }
\ No newline at end of file
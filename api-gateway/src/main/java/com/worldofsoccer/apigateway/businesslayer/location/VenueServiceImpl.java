@@ -4,13 +4,13 @@ import com.worldofsoccer.apigateway.domainclientlayer.location.VenueServiceClien
 import com.worldofsoccer.apigateway.presentationlayer.location.VenueController;
 import com.worldofsoccer.apigateway.presentationlayer.location.VenueRequestModel;
 import com.worldofsoccer.apigateway.presentationlayer.location.VenueResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.LinkTemplate;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.Link;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Service
@@ -19,6 +19,11 @@ public class VenueServiceImpl implements VenueService {
 
     private final VenueServiceClient venueServiceClient;
 
+    private static final LinkTemplate SELF_LINK =
+            LinkTemplate.of(p -> methodOn(VenueController.class).getVenueById(p[0]), 1);
+    private static final LinkTemplate ALL_VENUES_LINK =
+            LinkTemplate.of(p -> methodOn(VenueController.class).getAllVenues(null, null), 0);
+
     public VenueServiceImpl(VenueServiceClient venueServiceClient) {
         this.venueServiceClient = venueServiceClient;
     }
@@ -51,25 +56,18 @@ public class VenueServiceImpl implements VenueService {
     }
 
     @Override
-    public List<VenueResponseModel> getAllVenues() {
-        log.debug("Business Layer: Fetching all venues");
-        List<VenueResponseModel> venues = venueServiceClient.getAllVenues();
-        for (VenueResponseModel venue : venues) {
+    public CursorPage<VenueResponseModel> getAllVenues(String after, Integer limit) {
+        log.debug("Business Layer: Fetching venues after cursor {} (limit {})", after, limit);
+        CursorPage<VenueResponseModel> venues = venueServiceClient.getAllVenues(after, limit);
+        for (VenueResponseModel venue : venues.getItems()) {
             addHateoasLinks(venue);
         }
         return venues;
     }
 
     private VenueResponseModel addHateoasLinks(VenueResponseModel venue) {
-        Link selfLink = linkTo(methodOn(VenueController.class)
-                .getVenueById(venue.getVenueId()))
-                .withSelfRel();
-        venue.add(selfLink);
-
-        Link allVenuesLink = linkTo(methodOn(VenueController.class)
-                .getAllVenues())
-                .withRel("allVenues");
-        venue.add(allVenuesLink);
+        venue.add(SELF_LINK.expand(IanaLinkRelations.SELF, venue.getVenueId()));
+        venue.add(ALL_VENUES_LINK.expand("allVenues"));
 
         return venue;
     }
@@ -2,11 +2,10 @@ package com.worldofsoccer.apigateway.businesslayer.match;
 
 import com.worldofsoccer.apigateway.presentationlayer.match.MatchRequestModel;
 import com.worldofsoccer.apigateway.presentationlayer.match.MatchResponseModel;
-
-import java.util.List;
+import com.worldofsoccer.apigateway.utils.CursorPage;
 
 public interface MatchService {
-    List<MatchResponseModel> getAllMatches(String leagueId);
+    CursorPage<MatchResponseModel> getAllMatches(String leagueId, String after, Integer limit);
     MatchResponseModel getMatchById(String leagueId, String matchId);
     MatchResponseModel createMatch(String leagueId, MatchRequestModel request);
     MatchResponseModel updateMatch(String leagueId, String matchId, MatchRequestModel request);
@@ -4,13 +4,13 @@ import com.worldofsoccer.apigateway.domainclientlayer.match.MatchServiceClient;
 import com.worldofsoccer.apigateway.presentationlayer.match.MatchController;
 import com.worldofsoccer.apigateway.presentationlayer.match.MatchRequestModel;
 import com.worldofsoccer.apigateway.presentationlayer.match.MatchResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.LinkTemplate;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.Link;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Slf4j
@@ -19,15 +19,20 @@ public class MatchServiceImpl implements MatchService {
 
     private final MatchServiceClient client;
 
+    private static final LinkTemplate SELF_LINK =
+            LinkTemplate.of(p -> methodOn(MatchController.class).getOne(p[0], p[1]), 2);
+    private static final LinkTemplate ALL_MATCHES_LINK =
+            LinkTemplate.of(p -> methodOn(MatchController.class).getAll(p[0], null, null), 1);
+
     public MatchServiceImpl(MatchServiceClient client) {
         this.client = client;
     }
 
     @Override
-    public List<MatchResponseModel> getAllMatches(String leagueId) {
-        log.debug("Business Layer: Fetching all matches for league {}", leagueId);
-        List<MatchResponseModel> matches = client.getAllMatches(leagueId);
-        for (MatchResponseModel match : matches) {
+    public CursorPage<MatchResponseModel> getAllMatches(String leagueId, String after, Integer limit) {
+        log.debug("Business Layer: Fetching matches for league {} after cursor {} (limit {})", leagueId, after, limit);
+        CursorPage<MatchResponseModel> matches = client.getAllMatches(leagueId, after, limit);
+        for (MatchResponseModel match : matches.getItems()) {
             addHateoasLinks(match, leagueId);
         }
         return matches;
@@ -61,15 +66,8 @@ public class MatchServiceImpl implements MatchService {
     }
 
     private MatchResponseModel addHateoasLinks(MatchResponseModel match, String leagueId) {
-        Link selfLink = linkTo(methodOn(MatchController.class)
-                .getOne(leagueId, match.getMatchId()))
-                .withSelfRel();
-        match.add(selfLink);
-
-        Link allMatchesLink = linkTo(methodOn(MatchController.class)
-                .getAll(leagueId))
-                .withRel("allMatches");
-        match.add(allMatchesLink);
+        match.add(SELF_LINK.expand(IanaLinkRelations.SELF, leagueId, match.getMatchId()));
+        match.add(ALL_MATCHES_LINK.expand("allMatches", leagueId));
 
         return match;
     }
@@ -0,0 +1,14 @@
+package com.worldofsoccer.apigateway.businesslayer.match;
+
+import com.worldofsoccer.apigateway.presentationlayer.match.MatchRequestModel;
+import com.worldofsoccer.apigateway.presentationlayer.match.MatchResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveMatchService {
+    Mono<CursorPage<MatchResponseModel>> getAllMatches(String leagueId, String after, Integer limit);
+    Mono<MatchResponseModel> getMatchById(String leagueId, String matchId);
+    Mono<MatchResponseModel> createMatch(String leagueId, MatchRequestModel request);
+    Mono<MatchResponseModel> updateMatch(String leagueId, String matchId, MatchRequestModel request);
+    Mono<Void> deleteMatch(String leagueId, String matchId);
+}
@@ -0,0 +1,78 @@
+package com.worldofsoccer.apigateway.businesslayer.match;
+
+import com.worldofsoccer.apigateway.domainclientlayer.match.ReactiveMatchServiceClient;
+import com.worldofsoccer.apigateway.presentationlayer.match.MatchController;
+import com.worldofsoccer.apigateway.presentationlayer.match.MatchRequestModel;
+import com.worldofsoccer.apigateway.presentationlayer.match.MatchResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.LinkTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.function.UnaryOperator;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "true")
+public class ReactiveMatchServiceImpl implements ReactiveMatchService {
+
+    private final ReactiveMatchServiceClient client;
+
+    // routes are shared with the reactive controller; methodOn only needs the mapping annotations
+    private static final LinkTemplate SELF_LINK =
+            LinkTemplate.of(p -> methodOn(MatchController.class).getOne(p[0], p[1]), 2);
+    private static final LinkTemplate ALL_MATCHES_LINK =
+            LinkTemplate.of(p -> methodOn(MatchController.class).getAll(p[0], null, null), 1);
+
+    public ReactiveMatchServiceImpl(ReactiveMatchServiceClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public Mono<CursorPage<MatchResponseModel>> getAllMatches(String leagueId, String after, Integer limit) {
+        log.debug("Business Layer: Fetching matches for league {} after cursor {} (limit {})", leagueId, after, limit);
+        UnaryOperator<MatchResponseModel> links = hateoasLinks(leagueId);
+        return client.getAllMatches(leagueId, after, limit)
+                .doOnNext(page -> page.getItems().forEach(links::apply));
+    }
+
+    @Override
+    public Mono<MatchResponseModel> getMatchById(String leagueId, String matchId) {
+        log.debug("Business Layer: Fetching match {} for league {}", matchId, leagueId);
+        return client.getMatchById(leagueId, matchId).map(hateoasLinks(leagueId));
+    }
+
+    @Override
+    public Mono<MatchResponseModel> createMatch(String leagueId, MatchRequestModel request) {
+        log.debug("Business Layer: Creating match in league {}", leagueId);
+        return client.createMatch(leagueId, request).map(hateoasLinks(leagueId));
+    }
+
+    @Override
+    public Mono<MatchResponseModel> updateMatch(String leagueId, String matchId, MatchRequestModel request) {
+        log.debug("Business Layer: Updating match {} in league {}", matchId, leagueId);
+        return client.updateMatch(leagueId, matchId, request).map(hateoasLinks(leagueId));
+    }
+
+    @Override
+    public Mono<Void> deleteMatch(String leagueId, String matchId) {
+        log.debug("Business Layer: Deleting match {} from league {}", matchId, leagueId);
+        return client.deleteMatch(leagueId, matchId);
+    }
+
+    // bound while still on the request thread; the response arrives on a Netty event loop
+    private static UnaryOperator<MatchResponseModel> hateoasLinks(String leagueId) {
+        LinkTemplate.Bound self = SELF_LINK.bind();
+        LinkTemplate.Bound allMatches = ALL_MATCHES_LINK.bind();
+        return match -> {
+            match.add(self.expand(IanaLinkRelations.SELF, leagueId, match.getMatchId()));
+            match.add(allMatches.expand("allMatches", leagueId));
+            return match;
+        };
+    }
+}
@@ -0,0 +1,15 @@
+package com.worldofsoccer.apigateway.businesslayer.teams;
+
+import com.worldofsoccer.apigateway.presentationlayer.teams.TeamRequestModel;
+import com.worldofsoccer.apigateway.presentationlayer.teams.TeamResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveTeamService {
+    Mono<TeamResponseModel> getTeamById(String teamId);
+    Mono<TeamResponseModel> createTeam(TeamRequestModel teamRequest);
+    // ifMatch, when given, is forwarded so the owning service refuses a stale write
+    Mono<TeamResponseModel> updateTeam(String teamId, TeamRequestModel teamRequest, String ifMatch);
+    Mono<Void> deleteTeam(String teamId);
+    Mono<CursorPage<TeamResponseModel>> getAllTeams(String after, Integer limit);
+}
@@ -0,0 +1,78 @@
+package com.worldofsoccer.apigateway.businesslayer.teams;
+
+import com.worldofsoccer.apigateway.domainclientlayer.teams.ReactiveTeamServiceClient;
+import com.worldofsoccer.apigateway.presentationlayer.teams.TeamController;
+import com.worldofsoccer.apigateway.presentationlayer.teams.TeamRequestModel;
+import com.worldofsoccer.apigateway.presentationlayer.teams.TeamResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.LinkTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.function.UnaryOperator;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "true")
+public class ReactiveTeamServiceImpl implements ReactiveTeamService {
+
+    private final ReactiveTeamServiceClient teamServiceClient;
+
+    // routes are shared with the reactive controller; methodOn only needs the mapping annotations
+    private static final LinkTemplate SELF_LINK =
+            LinkTemplate.of(p -> methodOn(TeamController.class).getTeamById(p[0]), 1);
+    private static final LinkTemplate ALL_TEAMS_LINK =
+            LinkTemplate.of(p -> methodOn(TeamController.class).getAllTeams(null, null), 0);
+
+    public ReactiveTeamServiceImpl(ReactiveTeamServiceClient teamServiceClient) {
+        this.teamServiceClient = teamServiceClient;
+    }
+
+    @Override
+    public Mono<TeamResponseModel> getTeamById(String teamId) {
+        log.debug("Business Layer: Fetching team with id: {}", teamId);
+        return teamServiceClient.getTeamById(teamId).map(hateoasLinks());
+    }
+
+    @Override
+    public Mono<TeamResponseModel> createTeam(TeamRequestModel teamRequest) {
+        log.debug("Business Layer: Creating new team");
+        return teamServiceClient.createTeam(teamRequest).map(hateoasLinks());
+    }
+
+    @Override
+    public Mono<TeamResponseModel> updateTeam(String teamId, TeamRequestModel teamRequest, String ifMatch) {
+        log.debug("Business Layer: Updating team with id: {}", teamId);
+        return teamServiceClient.updateTeam(teamId, teamRequest, ifMatch).map(hateoasLinks());
+    }
+
+    @Override
+    public Mono<Void> deleteTeam(String teamId) {
+        log.debug("Business Layer: Deleting team with id: {}", teamId);
+        return teamServiceClient.deleteTeam(teamId);
+    }
+
+    @Override
+    public Mono<CursorPage<TeamResponseModel>> getAllTeams(String after, Integer limit) {
+        log.debug("Business Layer: Fetching teams after cursor {} (limit {})", after, limit);
+        UnaryOperator<TeamResponseModel> links = hateoasLinks();
+        return teamServiceClient.getAllTeams(after, limit)
+                .doOnNext(page -> page.getItems().forEach(links::apply));
+    }
+
+    // bound while still on the request thread; the response arrives on a Netty event loop
+    private static UnaryOperator<TeamResponseModel> hateoasLinks() {
+        LinkTemplate.Bound self = SELF_LINK.bind();
+        LinkTemplate.Bound allTeams = ALL_TEAMS_LINK.bind();
+        return team -> {
+            team.add(self.expand(IanaLinkRelations.SELF, team.getTeamId()));
+            team.add(allTeams.expand("allTeams"));
+            return team;
+        };
+    }
+}
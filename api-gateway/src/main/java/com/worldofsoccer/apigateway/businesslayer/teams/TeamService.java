@@ -2,13 +2,12 @@ package com.worldofsoccer.apigateway.businesslayer.teams;
 
 import com.worldofsoccer.apigateway.presentationlayer.teams.TeamRequestModel;
 import com.worldofsoccer.apigateway.presentationlayer.teams.TeamResponseModel;
-
-import java.util.List;
+import com.worldofsoccer.apigateway.utils.CursorPage;
 
 public interface TeamService {
     TeamResponseModel getTeamById(String teamId);
     TeamResponseModel createTeam(TeamRequestModel teamRequest);
     TeamResponseModel updateTeam(String teamId, TeamRequestModel teamRequest);
     void deleteTeam(String teamId);
-    List<TeamResponseModel> getAllTeams();
+    CursorPage<TeamResponseModel> getAllTeams(String after, Integer limit);
 }
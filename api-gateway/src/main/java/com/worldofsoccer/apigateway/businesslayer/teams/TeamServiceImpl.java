@@ -4,13 +4,12 @@ import com.worldofsoccer.apigateway.domainclientlayer.teams.TeamServiceClient;
 import com.worldofsoccer.apigateway.presentationlayer.teams.TeamController;
 import com.worldofsoccer.apigateway.presentationlayer.teams.TeamRequestModel;
 import com.worldofsoccer.apigateway.presentationlayer.teams.TeamResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.LinkTemplate;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.hateoas.Link;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Service
@@ -19,6 +18,11 @@ public class TeamServiceImpl implements TeamService {
 
     private final TeamServiceClient teamServiceClient;
 
+    private static final LinkTemplate SELF_LINK =
+            LinkTemplate.of(p -> methodOn(TeamController.class).getTeamById(p[0]), 1);
+    private static final LinkTemplate ALL_TEAMS_LINK =
+            LinkTemplate.of(p -> methodOn(TeamController.class).getAllTeams(null, null), 0);
+
     public TeamServiceImpl(TeamServiceClient teamServiceClient) {
         this.teamServiceClient = teamServiceClient;
     }
@@ -51,25 +55,18 @@ public class TeamServiceImpl implements TeamService {
     }
 
     @Override
-    public List<TeamResponseModel> getAllTeams() {
-        log.debug("Business Layer: Fetching all teams");
-        List<TeamResponseModel> teams = teamServiceClient.getAllTeams();
-        for (TeamResponseModel team : teams) {
+    public CursorPage<TeamResponseModel> getAllTeams(String after, Integer limit) {
+        log.debug("Business Layer: Fetching teams after cursor {} (limit {})", after, limit);
+        CursorPage<TeamResponseModel> teams = teamServiceClient.getAllTeams(after, limit);
+        for (TeamResponseModel team : teams.getItems()) {
             addHateoasLinks(team);
         }
         return teams;
     }
 
     private TeamResponseModel addHateoasLinks(TeamResponseModel team) {
-        Link selfLink = linkTo(methodOn(TeamController.class)
-                .getTeamById(team.getTeamId()))
-                .withSelfRel();
-        team.add(selfLink);
-
-        Link allTeamsLink = linkTo(methodOn(TeamController.class)
-                .getAllTeams())
-                .withRel("allTeams");
-        team.add(allTeamsLink);
+        team.add(SELF_LINK.expand(IanaLinkRelations.SELF, team.getTeamId()));
+        team.add(ALL_TEAMS_LINK.expand("allTeams"));
 
         return team;
     }
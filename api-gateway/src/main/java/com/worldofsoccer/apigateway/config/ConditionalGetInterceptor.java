@@ -0,0 +1,139 @@
+package com.worldofsoccer.apigateway.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Validator-aware cache for downstream GETs. The last ETag'd response per URL is kept and
+ * replayed when the downstream answers the next request's {@code If-None-Match} with a 304,
+ * so an unchanged league or venue costs one bodiless round-trip instead of a full payload.
+ * <p>
+ * Every GET still goes downstream, so nothing is served stale; entries are evicted least
+ * recently used, and bodies larger than {@code maxBodyBytes} are passed through uncached.
+ */
+public class ConditionalGetInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Map<String, CachedResponse> responses;
+    private final long maxBodyBytes;
+    private final Counter notModified;
+    private final Counter modified;
+
+    public ConditionalGetInterceptor(int maxEntries, long maxBodyBytes, MeterRegistry registry) {
+        this.responses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        });
+        this.maxBodyBytes = maxBodyBytes;
+        this.notModified = registry != null ? counter(registry, "not_modified") : null;
+        this.modified = registry != null ? counter(registry, "modified") : null;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        if (request.getMethod() != HttpMethod.GET) {
+            return execution.execute(request, body);
+        }
+        String key = request.getURI().toString();
+        CachedResponse cached = responses.get(key);
+        if (cached != null) {
+            request.getHeaders().setIfNoneMatch(cached.etag());
+        }
+
+        ClientHttpResponse response = execution.execute(request, body);
+        if (cached != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            response.close();
+            increment(notModified);
+            return cached.replay();
+        }
+        if (cached != null) {
+            increment(modified);
+        }
+
+        String etag = response.getHeaders().getETag();
+        if (etag == null || !response.getStatusCode().is2xxSuccessful()) {
+            responses.remove(key);
+            return response;
+        }
+        CachedResponse fresh;
+        try (response) {
+            fresh = new CachedResponse(response.getStatusCode(), response.getStatusText(),
+                    copyOf(response.getHeaders()), StreamUtils.copyToByteArray(response.getBody()), etag);
+        }
+        if (fresh.body().length <= maxBodyBytes) {
+            responses.put(key, fresh);
+        } else {
+            responses.remove(key);
+        }
+        return fresh.replay();
+    }
+
+    private static HttpHeaders copyOf(HttpHeaders headers) {
+        HttpHeaders copy = new HttpHeaders();
+        copy.putAll(headers);
+        return copy;
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("http.client.conditional.revalidations")
+                .description("Downstream GETs sent with If-None-Match, by outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private record CachedResponse(HttpStatusCode status, String statusText, HttpHeaders headers,
+                                  byte[] body, String etag) {
+
+        ClientHttpResponse replay() {
+            return new ClientHttpResponse() {
+                @Override
+                public HttpStatusCode getStatusCode() {
+                    return status;
+                }
+
+                @Override
+                public String getStatusText() {
+                    return statusText;
+                }
+
+                @Override
+                public HttpHeaders getHeaders() {
+                    return headers;
+                }
+
+                @Override
+                public InputStream getBody() {
+                    return new ByteArrayInputStream(body);
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.worldofsoccer.apigateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Connection pool settings for the gateway's outbound HTTP client.
+ * <p>
+ * {@code app.http-client} holds the pool-wide defaults; each downstream
+ * ({@code app.teams-service}, {@code app.league-service}, ...) may override the
+ * per-route limits and timeouts under its own {@code pool} key.
+ */
+@Data
+@ConfigurationProperties(prefix = "app")
+public class DownstreamHttpProperties {
+
+    private HttpClient httpClient = new HttpClient();
+
+    private Downstream teamsService = new Downstream();
+    private Downstream leagueService = new Downstream();
+    private Downstream locationService = new Downstream();
+    private Downstream matchService = new Downstream();
+
+    public Map<String, Downstream> downstreams() {
+        Map<String, Downstream> downstreams = new LinkedHashMap<>();
+        downstreams.put("teams-service", teamsService);
+        downstreams.put("league-service", leagueService);
+        downstreams.put("location-service", locationService);
+        downstreams.put("match-service", matchService);
+        return downstreams;
+    }
+
+    @Data
+    public static class HttpClient {
+        private int maxTotalConnections = 200;
+        private int maxConnectionsPerRoute = 50;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+        private Duration keepAlive = Duration.ofSeconds(30);
+        private Duration idleEviction = Duration.ofSeconds(30);
+        private Duration validateAfterInactivity = Duration.ofSeconds(2);
+        // last ETag'd GET response per URL, revalidated with If-None-Match
+        private int etagCacheMaxEntries = 1000;
+        private DataSize etagCacheMaxBodySize = DataSize.ofKilobytes(256);
+    }
+
+    @Data
+    public static class Downstream {
+        private String host;
+        private int port;
+        private Pool pool = new Pool();
+    }
+
+    // null values fall back to the app.http-client defaults
+    @Data
+    public static class Pool {
+        private Integer maxConnections;
+        private Duration connectTimeout;
+        private Duration readTimeout;
+    }
+}
@@ -0,0 +1,148 @@
+package com.worldofsoccer.apigateway.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+@EnableConfigurationProperties(DownstreamHttpProperties.class)
+@Slf4j
+public class HttpClientConfig {
+
+    @Bean(destroyMethod = "close")
+    PoolingHttpClientConnectionManager httpClientConnectionManager(DownstreamHttpProperties properties) {
+        DownstreamHttpProperties.HttpClient defaults = properties.getHttpClient();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(defaults.getMaxTotalConnections());
+        connectionManager.setDefaultMaxPerRoute(defaults.getMaxConnectionsPerRoute());
+
+        ConnectionConfig defaultConfig = connectionConfig(defaults, new DownstreamHttpProperties.Pool());
+        Map<HttpRoute, ConnectionConfig> routeConfigs = new HashMap<>();
+
+        properties.downstreams().forEach((name, downstream) -> {
+            if (downstream.getHost() == null) {
+                return;
+            }
+            HttpRoute route = route(downstream);
+            DownstreamHttpProperties.Pool pool = downstream.getPool();
+            int maxConnections = pool.getMaxConnections() != null
+                    ? pool.getMaxConnections()
+                    : defaults.getMaxConnectionsPerRoute();
+            connectionManager.setMaxPerRoute(route, maxConnections);
+            routeConfigs.put(route, connectionConfig(defaults, pool));
+            log.debug("HTTP pool for {} ({}): maxConnections={}", name, route.getTargetHost(), maxConnections);
+        });
+
+        connectionManager.setConnectionConfigResolver(route -> routeConfigs.getOrDefault(route, defaultConfig));
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    CloseableHttpClient httpClient(PoolingHttpClientConnectionManager connectionManager,
+                                   DownstreamHttpProperties properties) {
+        DownstreamHttpProperties.HttpClient defaults = properties.getHttpClient();
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(timeout(defaults.getConnectionRequestTimeout()))
+                .setConnectionKeepAlive(timeValue(defaults.getKeepAlive()))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(timeValue(defaults.getIdleEviction()))
+                .build();
+    }
+
+    @Bean
+    RestTemplate restTemplate(CloseableHttpClient httpClient,
+                              DownstreamHttpProperties properties,
+                              ObjectProvider<MeterRegistry> meterRegistry) {
+        DownstreamHttpProperties.HttpClient defaults = properties.getHttpClient();
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        restTemplate.getInterceptors().add(new ConditionalGetInterceptor(
+                defaults.getEtagCacheMaxEntries(),
+                defaults.getEtagCacheMaxBodySize().toBytes(),
+                meterRegistry.getIfAvailable()));
+        restTemplate.getInterceptors().add(new IfMatchPropagationInterceptor());
+        return restTemplate;
+    }
+
+    @Bean
+    MeterBinder httpClientPoolMetrics(PoolingHttpClientConnectionManager connectionManager,
+                                      DownstreamHttpProperties properties) {
+        return registry -> {
+            registerPoolGauges(registry, "all", connectionManager::getTotalStats);
+            properties.downstreams().forEach((name, downstream) -> {
+                if (downstream.getHost() != null) {
+                    HttpRoute route = route(downstream);
+                    registerPoolGauges(registry, name, () -> connectionManager.getStats(route));
+                }
+            });
+        };
+    }
+
+    private static void registerPoolGauges(MeterRegistry registry,
+                                           String downstream,
+                                           Supplier<PoolStats> stats) {
+        gauge(registry, "http.client.pool.leased", downstream, stats, PoolStats::getLeased);
+        gauge(registry, "http.client.pool.available", downstream, stats, PoolStats::getAvailable);
+        gauge(registry, "http.client.pool.pending", downstream, stats, PoolStats::getPending);
+        gauge(registry, "http.client.pool.max", downstream, stats, PoolStats::getMax);
+    }
+
+    private static void gauge(MeterRegistry registry, String name, String downstream,
+                              Supplier<PoolStats> stats, ToDoubleFunction<PoolStats> value) {
+        Gauge.builder(name, stats, s -> value.applyAsDouble(s.get()))
+                .tag("downstream", downstream)
+                .register(registry);
+    }
+
+    static HttpRoute route(DownstreamHttpProperties.Downstream downstream) {
+        return new HttpRoute(new HttpHost("http", downstream.getHost(), downstream.getPort()));
+    }
+
+    private static ConnectionConfig connectionConfig(DownstreamHttpProperties.HttpClient defaults,
+                                                     DownstreamHttpProperties.Pool pool) {
+        Duration connectTimeout = pool.getConnectTimeout() != null ? pool.getConnectTimeout() : defaults.getConnectTimeout();
+        Duration readTimeout = pool.getReadTimeout() != null ? pool.getReadTimeout() : defaults.getReadTimeout();
+        return ConnectionConfig.custom()
+                .setConnectTimeout(timeout(connectTimeout))
+                .setSocketTimeout(timeout(readTimeout))
+                .setValidateAfterInactivity(timeValue(defaults.getValidateAfterInactivity()))
+                .build();
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+
+    private static TimeValue timeValue(Duration duration) {
+        return TimeValue.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -0,0 +1,42 @@
+package com.worldofsoccer.apigateway.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+
+/**
+ * Forwards the caller's {@code If-Match} on downstream writes, so a gateway PUT carrying the
+ * version the caller read is checked by the owning service and a stale write comes back 412.
+ */
+public class IfMatchPropagationInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        if (request.getMethod() != HttpMethod.GET && !request.getHeaders().containsKey(HttpHeaders.IF_MATCH)) {
+            String ifMatch = inboundIfMatch();
+            if (ifMatch != null) {
+                request.getHeaders().set(HttpHeaders.IF_MATCH, ifMatch);
+            }
+        }
+        return execution.execute(request, body);
+    }
+
+    private static String inboundIfMatch() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest inbound = servletAttributes.getRequest();
+            return inbound.getHeader(HttpHeaders.IF_MATCH);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.worldofsoccer.apigateway.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+
+/**
+ * Streaming client for match-service's live feed, present in both gateway modes. Unlike the
+ * {@link WebClientConfig} clients it does not bound the whole response, which lasts as long as
+ * the feed; instead a stream that goes {@code idle-timeout} without a byte, heartbeats included,
+ * is dropped, and its clients reconnect.
+ */
+@Configuration
+public class LiveFeedClientConfig {
+
+    @Bean
+    WebClient matchServiceLiveFeedWebClient(WebClient.Builder builder, DownstreamHttpProperties properties,
+                                            @Value("${app.live-feed.idle-timeout:45s}") Duration idleTimeout) {
+        DownstreamHttpProperties.Downstream downstream = properties.getMatchService();
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getHttpClient().getConnectTimeout().toMillis())
+                // measured between reads, not over the whole stream
+                .responseTimeout(idleTimeout);
+        return builder
+                .baseUrl("http://" + downstream.getHost() + ":" + downstream.getPort())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.worldofsoccer.apigateway.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+/**
+ * Non-blocking downstream clients for the reactive gateway mode ({@code app.gateway.reactive=true}).
+ * <p>
+ * All four {@link WebClient}s share one Netty {@link ConnectionProvider}, sized from the same
+ * {@code app.http-client} / per-downstream {@code pool} settings as the blocking
+ * {@link HttpClientConfig}. Reactor Netty pools per remote host, so
+ * {@code max-total-connections} has no equivalent here.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "true")
+@Slf4j
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider downstreamConnectionProvider(DownstreamHttpProperties properties) {
+        DownstreamHttpProperties.HttpClient defaults = properties.getHttpClient();
+
+        ConnectionProvider.Builder builder = ConnectionProvider.builder("downstream")
+                .maxConnections(defaults.getMaxConnectionsPerRoute())
+                .pendingAcquireTimeout(defaults.getConnectionRequestTimeout())
+                .maxIdleTime(defaults.getIdleEviction())
+                .evictInBackground(defaults.getIdleEviction())
+                // reactor.netty.connection.provider.* gauges, tagged by remote address
+                .metrics(true);
+
+        properties.downstreams().forEach((name, downstream) -> {
+            if (downstream.getHost() == null) {
+                return;
+            }
+            Integer maxConnections = downstream.getPool().getMaxConnections();
+            if (maxConnections != null) {
+                builder.forRemoteHost(address(downstream), spec -> spec.maxConnections(maxConnections));
+            }
+            log.debug("Reactive pool for {} ({}): maxConnections={}", name, address(downstream),
+                    maxConnections != null ? maxConnections : defaults.getMaxConnectionsPerRoute());
+        });
+        return builder.build();
+    }
+
+    @Bean
+    WebClient teamsServiceWebClient(WebClient.Builder builder, ConnectionProvider provider,
+                                    DownstreamHttpProperties properties) {
+        return webClient(builder, provider, properties.getHttpClient(), properties.getTeamsService());
+    }
+
+    @Bean
+    WebClient leagueServiceWebClient(WebClient.Builder builder, ConnectionProvider provider,
+                                     DownstreamHttpProperties properties) {
+        return webClient(builder, provider, properties.getHttpClient(), properties.getLeagueService());
+    }
+
+    @Bean
+    WebClient locationServiceWebClient(WebClient.Builder builder, ConnectionProvider provider,
+                                       DownstreamHttpProperties properties) {
+        return webClient(builder, provider, properties.getHttpClient(), properties.getLocationService());
+    }
+
+    @Bean
+    WebClient matchServiceWebClient(WebClient.Builder builder, ConnectionProvider provider,
+                                    DownstreamHttpProperties properties) {
+        return webClient(builder, provider, properties.getHttpClient(), properties.getMatchService());
+    }
+
+    private static WebClient webClient(WebClient.Builder builder,
+                                       ConnectionProvider provider,
+                                       DownstreamHttpProperties.HttpClient defaults,
+                                       DownstreamHttpProperties.Downstream downstream) {
+        DownstreamHttpProperties.Pool pool = downstream.getPool();
+        Duration connectTimeout = pool.getConnectTimeout() != null ? pool.getConnectTimeout() : defaults.getConnectTimeout();
+        Duration readTimeout = pool.getReadTimeout() != null ? pool.getReadTimeout() : defaults.getReadTimeout();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout);
+
+        return builder
+                .baseUrl("http://" + downstream.getHost() + ":" + downstream.getPort())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    private static InetSocketAddress address(DownstreamHttpProperties.Downstream downstream) {
+        return InetSocketAddress.createUnresolved(downstream.getHost(), downstream.getPort());
+    }
+}
@@ -4,19 +4,22 @@ package com.worldofsoccer.apigateway.domainclientlayer.league;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.worldofsoccer.apigateway.presentationlayer.league.LeagueResponseModel;
 import com.worldofsoccer.apigateway.presentationlayer.league.LeagueRequestModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
 import com.worldofsoccer.apigateway.utils.HttpErrorInfo;
+import com.worldofsoccer.apigateway.utils.exceptions.ConflictException;
+import com.worldofsoccer.apigateway.utils.exceptions.PreconditionFailedException;
 import com.worldofsoccer.apigateway.utils.exceptions.NotFoundException;
 import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -76,15 +79,15 @@ public class LeagueServiceClient {
         }
     }
 
-    public List<LeagueResponseModel> getAllLeagues() {
+    public CursorPage<LeagueResponseModel> getAllLeagues(String after, Integer limit) {
         try {
-            String url = LEAGUE_SERVICE_BASE_URL;
+            String url = UriComponentsBuilder.fromUriString(LEAGUE_SERVICE_BASE_URL)
+                    .queryParamIfPresent("after", Optional.ofNullable(after))
+                    .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                    .toUriString();
             log.debug("League-Service GET (all) URL is: " + url);
-            LeagueResponseModel[] leaguesArray = restTemplate.getForObject(url, LeagueResponseModel[].class);
-            if (leaguesArray != null) {
-                return Arrays.asList(leaguesArray);
-            }
-            return Collections.emptyList();
+            ResponseEntity<LeagueResponseModel[]> response = restTemplate.getForEntity(url, LeagueResponseModel[].class);
+            return CursorPage.fromResponse(response);
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -105,6 +108,12 @@ public class LeagueServiceClient {
         if (ex.getStatusCode() == HttpStatus.UNPROCESSABLE_ENTITY) {
             return new InvalidInputException(getErrorMessage(ex));
         }
+        if (ex.getStatusCode() == HttpStatus.CONFLICT) {
+            return new ConflictException(getErrorMessage(ex));
+        }
+        if (ex.getStatusCode() == HttpStatus.PRECONDITION_FAILED) {
+            return new PreconditionFailedException(getErrorMessage(ex));
+        }
         log.warn("Got an unexpected HTTP error: {}, will rethrow it", ex.getStatusCode());
         log.warn("Error body: {}", ex.getResponseBodyAsString());
         return ex;
@@ -0,0 +1,131 @@
+package com.worldofsoccer.apigateway.domainclientlayer.location;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worldofsoccer.apigateway.presentationlayer.location.VenueRequestModel;
+import com.worldofsoccer.apigateway.presentationlayer.location.VenueResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.HttpErrorInfo;
+import com.worldofsoccer.apigateway.utils.exceptions.ConflictException;
+import com.worldofsoccer.apigateway.utils.exceptions.PreconditionFailedException;
+import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
+import com.worldofsoccer.apigateway.utils.exceptions.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Non-blocking counterpart of {@link VenueServiceClient}, used when {@code app.gateway.reactive=true}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "true")
+public class ReactiveVenueServiceClient {
+
+    private static final String BASE_PATH = "/api/v1/venues";
+
+    private final WebClient webClient;
+    private final ObjectMapper mapper;
+
+    public ReactiveVenueServiceClient(@Qualifier("locationServiceWebClient") WebClient webClient,
+                                      ObjectMapper mapper) {
+        this.webClient = webClient;
+        this.mapper = mapper;
+    }
+
+    public Mono<VenueResponseModel> getVenueById(String venueId) {
+        log.debug("Venue-Service GET URL is: " + BASE_PATH + "/" + venueId);
+        return webClient.get()
+                .uri(BASE_PATH + "/{venueId}", venueId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handleHttpClientException)
+                .bodyToMono(VenueResponseModel.class);
+    }
+
+    public Mono<VenueResponseModel> createVenue(VenueRequestModel venueRequest) {
+        log.debug("Venue-Service POST URL is: " + BASE_PATH);
+        return webClient.post()
+                .uri(BASE_PATH)
+                .bodyValue(venueRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handleHttpClientException)
+                .bodyToMono(VenueResponseModel.class);
+    }
+
+    public Mono<VenueResponseModel> updateVenue(String venueId, VenueRequestModel venueRequest, String ifMatch) {
+        log.debug("Venue-Service PUT URL is: " + BASE_PATH + "/" + venueId);
+        return webClient.put()
+                .uri(BASE_PATH + "/{venueId}", venueId)
+                .headers(headers -> {
+                    if (ifMatch != null) {
+                        headers.set(HttpHeaders.IF_MATCH, ifMatch);
+                    }
+                })
+                .bodyValue(venueRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handleHttpClientException)
+                .toBodilessEntity()
+                .then(getVenueById(venueId));
+    }
+
+    public Mono<Void> deleteVenue(String venueId) {
+        log.debug("Venue-Service DELETE URL is: " + BASE_PATH + "/" + venueId);
+        return webClient.delete()
+                .uri(BASE_PATH + "/{venueId}", venueId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handleHttpClientException)
+                .toBodilessEntity()
+                .then();
+    }
+
+    public Mono<CursorPage<VenueResponseModel>> getAllVenues(String after, Integer limit) {
+        log.debug("Venue-Service GET (all) URL is: " + BASE_PATH);
+        return webClient.get()
+                .uri(uri -> uri.path(BASE_PATH)
+                        .queryParamIfPresent("after", Optional.ofNullable(after))
+                        .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                        .build())
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handleHttpClientException)
+                .toEntity(VenueResponseModel[].class)
+                .map(CursorPage::fromResponse);
+    }
+
+    private String getErrorMessage(WebClientResponseException ex) {
+        try {
+            return mapper.readValue(ex.getResponseBodyAsString(), HttpErrorInfo.class).getMessage();
+        } catch (IOException ioex) {
+            return ioex.getMessage();
+        }
+    }
+
+    private Mono<? extends Throwable> handleHttpClientException(ClientResponse response) {
+        return response.createException().map(ex -> {
+            if (ex.getStatusCode() == HttpStatus.NOT_FOUND) {
+                return new NotFoundException(getErrorMessage(ex));
+            }
+            if (ex.getStatusCode() == HttpStatus.UNPROCESSABLE_ENTITY) {
+                return new InvalidInputException(getErrorMessage(ex));
+            }
+            if (ex.getStatusCode() == HttpStatus.CONFLICT) {
+                return new ConflictException(getErrorMessage(ex));
+            }
+            if (ex.getStatusCode() == HttpStatus.PRECONDITION_FAILED) {
+                return new PreconditionFailedException(getErrorMessage(ex));
+            }
+            log.warn("Unexpected HTTP error: {}. Rethrowing.", ex.getStatusCode());
+            log.warn("Error body: {}", ex.getResponseBodyAsString());
+            return ex;
+        });
+    }
+}
@@ -3,19 +3,22 @@ package com.worldofsoccer.apigateway.domainclientlayer.location;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.worldofsoccer.apigateway.presentationlayer.location.VenueResponseModel;
 import com.worldofsoccer.apigateway.presentationlayer.location.VenueRequestModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
 import com.worldofsoccer.apigateway.utils.HttpErrorInfo;
+import com.worldofsoccer.apigateway.utils.exceptions.ConflictException;
+import com.worldofsoccer.apigateway.utils.exceptions.PreconditionFailedException;
 import com.worldofsoccer.apigateway.utils.exceptions.NotFoundException;
 import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -75,15 +78,15 @@ public class VenueServiceClient {
         }
     }
 
-    public List<VenueResponseModel> getAllVenues() {
+    public CursorPage<VenueResponseModel> getAllVenues(String after, Integer limit) {
         try {
-            String url = VENUE_SERVICE_BASE_URL;
+            String url = UriComponentsBuilder.fromUriString(VENUE_SERVICE_BASE_URL)
+                    .queryParamIfPresent("after", Optional.ofNullable(after))
+                    .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                    .toUriString();
             log.debug("Venue-Service GET (all) URL is: " + url);
-            VenueResponseModel[] venuesArray = restTemplate.getForObject(url, VenueResponseModel[].class);
-            if (venuesArray != null) {
-                return Arrays.asList(venuesArray);
-            }
-            return Collections.emptyList();
+            ResponseEntity<VenueResponseModel[]> response = restTemplate.getForEntity(url, VenueResponseModel[].class);
+            return CursorPage.fromResponse(response);
         } catch (HttpClientErrorException ex) {
             throw handleHttpClientException(ex);
         }
@@ -104,6 +107,12 @@ public class VenueServiceClient {
         if (ex.getStatusCode() == HttpStatus.UNPROCESSABLE_ENTITY) {
             return new InvalidInputException(getErrorMessage(ex));
         }
+        if (ex.getStatusCode() == HttpStatus.CONFLICT) {
+            return new ConflictException(getErrorMessage(ex));
+        }
+        if (ex.getStatusCode() == HttpStatus.PRECONDITION_FAILED) {
+            return new PreconditionFailedException(getErrorMessage(ex));
+        }
         log.warn("Unexpected HTTP error: {}. Rethrowing", ex.getStatusCode());
         log.warn("Error body: {}", ex.getResponseBodyAsString());
         return ex;
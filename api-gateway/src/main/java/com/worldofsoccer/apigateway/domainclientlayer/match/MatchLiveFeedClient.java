@@ -0,0 +1,81 @@
+package com.worldofsoccer.apigateway.domainclientlayer.match;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Relays match-service's live feeds. All clients following the same league or match share one
+ * downstream stream, opened by the first and closed when the last one leaves; events are passed
+ * on as received, without being parsed. A client resuming with {@code Last-Event-ID} gets a
+ * stream of its own, so match-service can replay what it missed.
+ * <p>
+ * Each client reads through its own buffer of {@code subscriber-buffer} events, so a slow one
+ * does not hold up the shared stream; one that falls further behind is disconnected and resumes
+ * with {@code Last-Event-ID}.
+ */
+@Slf4j
+@Component
+public class MatchLiveFeedClient {
+
+    private static final String LEAGUE_FEED = "/api/v1/leagues/{leagueId}/live";
+    private static final String MATCH_FEED = "/api/v1/leagues/{leagueId}/matches/{matchId}/live";
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> EVENT =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient webClient;
+    private final int subscriberBuffer;
+    private final Map<String, Flux<ServerSentEvent<String>>> shared = new ConcurrentHashMap<>();
+
+    public MatchLiveFeedClient(@Qualifier("matchServiceLiveFeedWebClient") WebClient webClient,
+                               @Value("${app.live-feed.subscriber-buffer:256}") int subscriberBuffer) {
+        this.webClient = webClient;
+        this.subscriberBuffer = subscriberBuffer;
+    }
+
+    public Flux<ServerSentEvent<String>> followLeague(String leagueId, String lastEventId) {
+        return follow(LEAGUE_FEED.replace("{leagueId}", leagueId), lastEventId);
+    }
+
+    public Flux<ServerSentEvent<String>> followMatch(String leagueId, String matchId, String lastEventId) {
+        return follow(MATCH_FEED.replace("{leagueId}", leagueId).replace("{matchId}", matchId), lastEventId);
+    }
+
+    private Flux<ServerSentEvent<String>> follow(String path, String lastEventId) {
+        Flux<ServerSentEvent<String>> events;
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            events = open(path, lastEventId);
+        } else {
+            events = shared.computeIfAbsent(path, key -> open(key, null)
+                    // the last subscriber left or the stream ended: the next one opens a fresh stream
+                    .doFinally(signal -> shared.remove(key))
+                    .publish()
+                    .refCount());
+        }
+        // overflowing fails this subscriber alone
+        return events.onBackpressureBuffer(subscriberBuffer);
+    }
+
+    private Flux<ServerSentEvent<String>> open(String path, String lastEventId) {
+        log.debug("Opening live feed {} (Last-Event-ID {})", path, lastEventId);
+        return webClient.get()
+                .uri(path)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(headers -> {
+                    if (lastEventId != null) {
+                        headers.set("Last-Event-ID", lastEventId);
+                    }
+                })
+                .retrieve()
+                .bodyToFlux(EVENT);
+    }
+}
@@ -3,20 +3,21 @@ package com.worldofsoccer.apigateway.domainclientlayer.match;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.worldofsoccer.apigateway.presentationlayer.match.MatchRequestModel;
 import com.worldofsoccer.apigateway.presentationlayer.match.MatchResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
 import com.worldofsoccer.apigateway.utils.HttpErrorInfo;
 import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.apigateway.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -35,11 +36,14 @@ public class MatchServiceClient {
         this.BASE = "http://" + host + ":" + port + "/api/v1/leagues";
     }
 
-    public List<MatchResponseModel> getAllMatches(String leagueId) {
+    public CursorPage<MatchResponseModel> getAllMatches(String leagueId, String after, Integer limit) {
         try {
-            String url = BASE + "/" + leagueId + "/matches";
-            MatchResponseModel[] arr = restTemplate.getForObject(url, MatchResponseModel[].class);
-            return arr != null ? Arrays.asList(arr) : Collections.emptyList();
+            String url = UriComponentsBuilder.fromUriString(BASE + "/" + leagueId + "/matches")
+                    .queryParamIfPresent("after", Optional.ofNullable(after))
+                    .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                    .toUriString();
+            ResponseEntity<MatchResponseModel[]> response = restTemplate.getForEntity(url, MatchResponseModel[].class);
+            return CursorPage.fromResponse(response);
         } catch (HttpClientErrorException ex) {
             throw handle(ex);
         }
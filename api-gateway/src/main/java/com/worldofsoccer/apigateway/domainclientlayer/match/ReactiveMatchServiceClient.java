@@ -0,0 +1,113 @@
+package com.worldofsoccer.apigateway.domainclientlayer.match;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worldofsoccer.apigateway.presentationlayer.match.MatchRequestModel;
+import com.worldofsoccer.apigateway.presentationlayer.match.MatchResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.HttpErrorInfo;
+import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
+import com.worldofsoccer.apigateway.utils.exceptions.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Non-blocking counterpart of {@link MatchServiceClient}, used when {@code app.gateway.reactive=true}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "true")
+public class ReactiveMatchServiceClient {
+
+    private static final String MATCHES = "/api/v1/leagues/{leagueId}/matches";
+    private static final String MATCH = MATCHES + "/{matchId}";
+
+    private final WebClient webClient;
+    private final ObjectMapper mapper;
+
+    public ReactiveMatchServiceClient(@Qualifier("matchServiceWebClient") WebClient webClient,
+                                      ObjectMapper mapper) {
+        this.webClient = webClient;
+        this.mapper = mapper;
+    }
+
+    public Mono<CursorPage<MatchResponseModel>> getAllMatches(String leagueId, String after, Integer limit) {
+        return webClient.get()
+                .uri(uri -> uri.path(MATCHES)
+                        .queryParamIfPresent("after", Optional.ofNullable(after))
+                        .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                        .build(leagueId))
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handle)
+                .toEntity(MatchResponseModel[].class)
+                .map(CursorPage::fromResponse);
+    }
+
+    public Mono<MatchResponseModel> getMatchById(String leagueId, String matchId) {
+        return webClient.get()
+                .uri(MATCH, leagueId, matchId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handle)
+                .bodyToMono(MatchResponseModel.class);
+    }
+
+    public Mono<MatchResponseModel> createMatch(String leagueId, MatchRequestModel req) {
+        return webClient.post()
+                .uri(MATCHES, leagueId)
+                .bodyValue(req)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handle)
+                .bodyToMono(MatchResponseModel.class);
+    }
+
+    public Mono<MatchResponseModel> updateMatch(String leagueId, String matchId, MatchRequestModel req) {
+        return webClient.put()
+                .uri(MATCH, leagueId, matchId)
+                .bodyValue(req)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handle)
+                .toBodilessEntity()
+                .then(getMatchById(leagueId, matchId));
+    }
+
+    public Mono<Void> deleteMatch(String leagueId, String matchId) {
+        return webClient.delete()
+                .uri(MATCH, leagueId, matchId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handle)
+                .toBodilessEntity()
+                .then();
+    }
+
+    private Mono<? extends Throwable> handle(ClientResponse response) {
+        return response.createException().map(ex -> {
+            String msg = extractMessage(ex);
+            if (ex.getStatusCode() == HttpStatus.NOT_FOUND) {
+                return new NotFoundException(msg);
+            }
+            if (ex.getStatusCode() == HttpStatus.UNPROCESSABLE_ENTITY) {
+                return new InvalidInputException(msg);
+            }
+            log.warn("Unexpected HTTP error from match-service: {}", ex.getStatusCode());
+            return ex;
+        });
+    }
+
+    private String extractMessage(WebClientResponseException ex) {
+        try {
+            return mapper.readValue(ex.getResponseBodyAsString(), HttpErrorInfo.class).getMessage();
+        } catch (IOException e) {
+            return ex.getMessage();
+        }
+    }
+}
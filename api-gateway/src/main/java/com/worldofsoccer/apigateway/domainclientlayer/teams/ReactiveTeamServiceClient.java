@@ -0,0 +1,131 @@
+package com.worldofsoccer.apigateway.domainclientlayer.teams;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worldofsoccer.apigateway.presentationlayer.teams.TeamRequestModel;
+import com.worldofsoccer.apigateway.presentationlayer.teams.TeamResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.HttpErrorInfo;
+import com.worldofsoccer.apigateway.utils.exceptions.ConflictException;
+import com.worldofsoccer.apigateway.utils.exceptions.PreconditionFailedException;
+import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
+import com.worldofsoccer.apigateway.utils.exceptions.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Non-blocking counterpart of {@link TeamServiceClient}, used when {@code app.gateway.reactive=true}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "true")
+public class ReactiveTeamServiceClient {
+
+    private static final String BASE_PATH = "/api/v1/teams";
+
+    private final WebClient webClient;
+    private final ObjectMapper mapper;
+
+    public ReactiveTeamServiceClient(@Qualifier("teamsServiceWebClient") WebClient webClient,
+                                     ObjectMapper mapper) {
+        this.webClient = webClient;
+        this.mapper = mapper;
+    }
+
+    public Mono<TeamResponseModel> getTeamById(String teamId) {
+        log.debug("Team-Service GET URL is: " + BASE_PATH + "/" + teamId);
+        return webClient.get()
+                .uri(BASE_PATH + "/{teamId}", teamId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handleHttpClientException)
+                .bodyToMono(TeamResponseModel.class);
+    }
+
+    public Mono<TeamResponseModel> createTeam(TeamRequestModel teamRequest) {
+        log.debug("Team-Service POST URL is: " + BASE_PATH);
+        return webClient.post()
+                .uri(BASE_PATH)
+                .bodyValue(teamRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handleHttpClientException)
+                .bodyToMono(TeamResponseModel.class);
+    }
+
+    public Mono<TeamResponseModel> updateTeam(String teamId, TeamRequestModel teamRequest, String ifMatch) {
+        log.debug("Team-Service PUT URL is: " + BASE_PATH + "/" + teamId);
+        return webClient.put()
+                .uri(BASE_PATH + "/{teamId}", teamId)
+                .headers(headers -> {
+                    if (ifMatch != null) {
+                        headers.set(HttpHeaders.IF_MATCH, ifMatch);
+                    }
+                })
+                .bodyValue(teamRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handleHttpClientException)
+                .toBodilessEntity()
+                .then(getTeamById(teamId));
+    }
+
+    public Mono<Void> deleteTeam(String teamId) {
+        log.debug("Team-Service DELETE URL is: " + BASE_PATH + "/" + teamId);
+        return webClient.delete()
+                .uri(BASE_PATH + "/{teamId}", teamId)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handleHttpClientException)
+                .toBodilessEntity()
+                .then();
+    }
+
+    public Mono<CursorPage<TeamResponseModel>> getAllTeams(String after, Integer limit) {
+        log.debug("Team-Service GET (all) URL is: " + BASE_PATH);
+        return webClient.get()
+                .uri(uri -> uri.path(BASE_PATH)
+                        .queryParamIfPresent("after", Optional.ofNullable(after))
+                        .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                        .build())
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, this::handleHttpClientException)
+                .toEntity(TeamResponseModel[].class)
+                .map(CursorPage::fromResponse);
+    }
+
+    private String getErrorMessage(WebClientResponseException ex) {
+        try {
+            return mapper.readValue(ex.getResponseBodyAsString(), HttpErrorInfo.class).getMessage();
+        } catch (IOException ioex) {
+            return ioex.getMessage();
+        }
+    }
+
+    private Mono<? extends Throwable> handleHttpClientException(ClientResponse response) {
+        return response.createException().map(ex -> {
+            if (ex.getStatusCode() == HttpStatus.NOT_FOUND) {
+                return new NotFoundException(getErrorMessage(ex));
+            }
+            if (ex.getStatusCode() == HttpStatus.UNPROCESSABLE_ENTITY) {
+                return new InvalidInputException(getErrorMessage(ex));
+            }
+            if (ex.getStatusCode() == HttpStatus.CONFLICT) {
+                return new ConflictException(getErrorMessage(ex));
+            }
+            if (ex.getStatusCode() == HttpStatus.PRECONDITION_FAILED) {
+                return new PreconditionFailedException(getErrorMessage(ex));
+            }
+            log.warn("Unexpected HTTP error: {}. Rethrowing.", ex.getStatusCode());
+            log.warn("Error body: {}", ex.getResponseBodyAsString());
+            return ex;
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.worldofsoccer.apigateway.presentationlayer.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DashboardErrorModel {
+
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String UNAVAILABLE = "UNAVAILABLE";
+    public static final String TIMEOUT = "TIMEOUT";
+
+    // league, matches, team or venue
+    private String section;
+    private String id;
+    private String status;
+    private String message;
+}
@@ -0,0 +1,34 @@
+package com.worldofsoccer.apigateway.presentationlayer.dashboard;
+
+import com.worldofsoccer.apigateway.businesslayer.dashboard.LeagueDashboardService;
+import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/leagues/{leagueId}/dashboard")
+@Slf4j
+public class LeagueDashboardController {
+
+    private final LeagueDashboardService service;
+    private static final int UUID_LENGTH = 36;
+
+    public LeagueDashboardController(LeagueDashboardService service) {
+        this.service = service;
+    }
+
+    @GetMapping
+    public ResponseEntity<LeagueDashboardResponseModel> getLeagueDashboard(
+            @PathVariable String leagueId,
+            @RequestParam(required = false) Integer matchLimit) {
+        log.debug("Request received in API-Gateway Dashboard Controller: getLeagueDashboard");
+        if (leagueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid leagueId provided: " + leagueId);
+        }
+        if (matchLimit != null && matchLimit < 1) {
+            throw new InvalidInputException("matchLimit must be positive: " + matchLimit);
+        }
+        return ResponseEntity.ok(service.getLeagueDashboard(leagueId, matchLimit));
+    }
+}
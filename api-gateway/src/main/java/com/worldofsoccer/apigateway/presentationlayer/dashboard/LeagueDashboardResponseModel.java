@@ -0,0 +1,32 @@
+package com.worldofsoccer.apigateway.presentationlayer.dashboard;
+
+import com.worldofsoccer.apigateway.presentationlayer.league.LeagueResponseModel;
+import com.worldofsoccer.apigateway.presentationlayer.location.VenueResponseModel;
+import com.worldofsoccer.apigateway.presentationlayer.match.MatchResponseModel;
+import com.worldofsoccer.apigateway.presentationlayer.teams.TeamResponseModel;
+import lombok.*;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything a league page needs in one document. Teams and venues are keyed by id and appear
+ * once however many matches reference them. When a section could not be loaded it is left
+ * empty, {@code partial} is true and {@code errors} says which lookup failed.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class LeagueDashboardResponseModel extends RepresentationModel<LeagueDashboardResponseModel> {
+    private String leagueId;
+    private LeagueResponseModel league;
+    private List<MatchResponseModel> matches;
+    private String nextMatchesCursor;
+    private Map<String, TeamResponseModel> teams;
+    private Map<String, VenueResponseModel> venues;
+    private boolean partial;
+    private List<DashboardErrorModel> errors;
+}
@@ -1,8 +1,11 @@
 package com.worldofsoccer.apigateway.presentationlayer.league;
 
 import com.worldofsoccer.apigateway.businesslayer.league.LeagueService;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.VersionTag;
 import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -10,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 @RestController
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "false", matchIfMissing = true)
 @Slf4j
 @RequestMapping("/api/v1/leagues")
 public class LeagueController {
@@ -22,8 +26,15 @@ public class LeagueController {
     }
 
     @GetMapping
-    public ResponseEntity<List<LeagueResponseModel>> getAllLeagues() {
-        return ResponseEntity.ok(leagueService.getAllLeagues());
+    public ResponseEntity<List<LeagueResponseModel>> getAllLeagues(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<LeagueResponseModel> page = leagueService.getAllLeagues(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @GetMapping("/{leagueId}")
@@ -31,7 +42,8 @@ public class LeagueController {
         if (leagueId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid leagueId provided: " + leagueId);
         }
-        return ResponseEntity.ok(leagueService.getLeagueById(leagueId));
+        LeagueResponseModel league = leagueService.getLeagueById(leagueId);
+        return ResponseEntity.ok().eTag(VersionTag.of(league.getVersion())).body(league);
     }
 
     @PostMapping
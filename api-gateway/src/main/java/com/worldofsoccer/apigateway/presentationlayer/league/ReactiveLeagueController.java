@@ -0,0 +1,81 @@
+package com.worldofsoccer.apigateway.presentationlayer.league;
+
+import com.worldofsoccer.apigateway.businesslayer.league.ReactiveLeagueService;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.VersionTag;
+import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Same routes as {@link LeagueController}, served without holding a request thread while the
+ * downstream call is in flight. Active when {@code app.gateway.reactive=true}.
+ */
+@RestController
+@Slf4j
+@RequestMapping("/api/v1/leagues")
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "true")
+public class ReactiveLeagueController {
+
+    private final ReactiveLeagueService leagueService;
+    private static final int UUID_LENGTH = 36;
+
+    public ReactiveLeagueController(ReactiveLeagueService leagueService) {
+        this.leagueService = leagueService;
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<List<LeagueResponseModel>>> getAllLeagues(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return leagueService.getAllLeagues(after, limit).map(page -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getItems());
+        });
+    }
+
+    @GetMapping("/{leagueId}")
+    public Mono<ResponseEntity<LeagueResponseModel>> getLeagueById(@PathVariable String leagueId) {
+        if (leagueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid leagueId provided: " + leagueId);
+        }
+        return leagueService.getLeagueById(leagueId)
+                .map(league -> ResponseEntity.ok().eTag(VersionTag.of(league.getVersion())).body(league));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<LeagueResponseModel>> createLeague(@RequestBody LeagueRequestModel leagueRequest) {
+        return leagueService.createLeague(leagueRequest)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    @PutMapping("/{leagueId}")
+    public Mono<ResponseEntity<LeagueResponseModel>> updateLeague(
+            @PathVariable String leagueId,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody LeagueRequestModel leagueRequest) {
+        if (leagueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid leagueId provided: " + leagueId);
+        }
+        return leagueService.updateLeague(leagueId, leagueRequest, ifMatch).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{leagueId}")
+    public Mono<ResponseEntity<Void>> deleteLeague(@PathVariable String leagueId) {
+        if (leagueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid leagueId provided: " + leagueId);
+        }
+        ResponseEntity<Void> noContent = ResponseEntity.noContent().build();
+        return leagueService.deleteLeague(leagueId).thenReturn(noContent);
+    }
+}
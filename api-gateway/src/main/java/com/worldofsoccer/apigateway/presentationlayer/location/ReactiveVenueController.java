@@ -0,0 +1,81 @@
+package com.worldofsoccer.apigateway.presentationlayer.location;
+
+import com.worldofsoccer.apigateway.businesslayer.location.ReactiveVenueService;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.VersionTag;
+import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Same routes as {@link VenueController}, served without holding a request thread while the
+ * downstream call is in flight. Active when {@code app.gateway.reactive=true}.
+ */
+@RestController
+@Slf4j
+@RequestMapping("/api/v1/venues")
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "true")
+public class ReactiveVenueController {
+
+    private final ReactiveVenueService venueService;
+    private static final int UUID_LENGTH = 36;
+
+    public ReactiveVenueController(ReactiveVenueService venueService) {
+        this.venueService = venueService;
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<List<VenueResponseModel>>> getAllVenues(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return venueService.getAllVenues(after, limit).map(page -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getItems());
+        });
+    }
+
+    @GetMapping("/{venueId}")
+    public Mono<ResponseEntity<VenueResponseModel>> getVenueById(@PathVariable String venueId) {
+        if (venueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid venueId provided: " + venueId);
+        }
+        return venueService.getVenueById(venueId)
+                .map(venue -> ResponseEntity.ok().eTag(VersionTag.of(venue.getVersion())).body(venue));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<VenueResponseModel>> createVenue(@RequestBody VenueRequestModel venueRequest) {
+        return venueService.createVenue(venueRequest)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    @PutMapping("/{venueId}")
+    public Mono<ResponseEntity<VenueResponseModel>> updateVenue(
+            @PathVariable String venueId,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody VenueRequestModel venueRequest) {
+        if (venueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid venueId provided: " + venueId);
+        }
+        return venueService.updateVenue(venueId, venueRequest, ifMatch).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{venueId}")
+    public Mono<ResponseEntity<Void>> deleteVenue(@PathVariable String venueId) {
+        if (venueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid venueId provided: " + venueId);
+        }
+        ResponseEntity<Void> noContent = ResponseEntity.noContent().build();
+        return venueService.deleteVenue(venueId).thenReturn(noContent);
+    }
+}
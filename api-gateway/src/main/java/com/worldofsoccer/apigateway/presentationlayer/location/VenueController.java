@@ -1,14 +1,18 @@
 package com.worldofsoccer.apigateway.presentationlayer.location;
 
 import com.worldofsoccer.apigateway.businesslayer.location.VenueService;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.VersionTag;
 import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.List;
 
 @RestController
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "false", matchIfMissing = true)
 @Slf4j
 @RequestMapping("/api/v1/venues")
 public class VenueController {
@@ -21,8 +25,15 @@ public class VenueController {
     }
 
     @GetMapping
-    public ResponseEntity<List<VenueResponseModel>> getAllVenues() {
-        return ResponseEntity.ok(venueService.getAllVenues());
+    public ResponseEntity<List<VenueResponseModel>> getAllVenues(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<VenueResponseModel> page = venueService.getAllVenues(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @GetMapping("/{venueId}")
@@ -30,7 +41,8 @@ public class VenueController {
         if (venueId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid venueId provided: " + venueId);
         }
-        return ResponseEntity.ok(venueService.getVenueById(venueId));
+        VenueResponseModel venue = venueService.getVenueById(venueId);
+        return ResponseEntity.ok().eTag(VersionTag.of(venue.getVersion())).body(venue);
     }
 
     @PostMapping
@@ -18,4 +18,5 @@ public class VenueResponseModel extends RepresentationModel<VenueResponseModel>
     private String city;
     private Integer yearBuilt;
     private VenueStateEnum venueState;
+    private Long version;
 }
\ No newline at end of file
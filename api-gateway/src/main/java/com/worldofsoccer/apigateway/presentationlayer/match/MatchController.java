@@ -1,14 +1,17 @@
 package com.worldofsoccer.apigateway.presentationlayer.match;
 
 import com.worldofsoccer.apigateway.businesslayer.match.MatchService;
+import com.worldofsoccer.apigateway.utils.CursorPage;
 import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
 @RestController
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "false", matchIfMissing = true)
 @RequestMapping("/api/v1/leagues/{leagueId}/matches")
 @Slf4j
 public class MatchController {
@@ -22,11 +25,18 @@ public class MatchController {
 
     @GetMapping
     public ResponseEntity<List<MatchResponseModel>> getAll(
-            @PathVariable String leagueId) {
+            @PathVariable String leagueId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
         if (leagueId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid leagueId length: " + leagueId);
         }
-        return ResponseEntity.ok(service.getAllMatches(leagueId));
+        CursorPage<MatchResponseModel> page = service.getAllMatches(leagueId, after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @GetMapping("/{matchId}")
@@ -0,0 +1,62 @@
+package com.worldofsoccer.apigateway.presentationlayer.match;
+
+import com.worldofsoccer.apigateway.domainclientlayer.league.LeagueServiceClient;
+import com.worldofsoccer.apigateway.domainclientlayer.match.MatchLiveFeedClient;
+import com.worldofsoccer.apigateway.domainclientlayer.match.MatchServiceClient;
+import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import reactor.core.publisher.Flux;
+
+/**
+ * Live feed routes, served in both gateway modes. The league or match is looked up first so an
+ * unknown id is a plain 404 rather than a broken stream.
+ */
+@RestController
+@RequestMapping("/api/v1/leagues/{leagueId}")
+public class MatchLiveFeedController {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+    private static final int UUID_LENGTH = 36;
+
+    private final MatchLiveFeedClient liveFeedClient;
+    private final MatchServiceClient matchServiceClient;
+    private final LeagueServiceClient leagueServiceClient;
+
+    public MatchLiveFeedController(MatchLiveFeedClient liveFeedClient,
+                                   MatchServiceClient matchServiceClient,
+                                   LeagueServiceClient leagueServiceClient) {
+        this.liveFeedClient = liveFeedClient;
+        this.matchServiceClient = matchServiceClient;
+        this.leagueServiceClient = leagueServiceClient;
+    }
+
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> followLeague(@PathVariable String leagueId,
+                                                      @RequestHeader(name = LAST_EVENT_ID, required = false) String lastEventId,
+                                                      HttpServletRequest request) {
+        if (leagueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid leagueId length: " + leagueId);
+        }
+        leagueServiceClient.getLeagueById(leagueId);
+        // an endless body cannot be buffered for an ETag
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        return liveFeedClient.followLeague(leagueId, lastEventId);
+    }
+
+    @GetMapping(value = "/matches/{matchId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> followMatch(@PathVariable String leagueId,
+                                                     @PathVariable String matchId,
+                                                     @RequestHeader(name = LAST_EVENT_ID, required = false) String lastEventId,
+                                                     HttpServletRequest request) {
+        if (leagueId.length() != UUID_LENGTH || matchId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid ID length");
+        }
+        matchServiceClient.getMatchById(leagueId, matchId);
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        return liveFeedClient.followMatch(leagueId, matchId, lastEventId);
+    }
+}
@@ -0,0 +1,89 @@
+package com.worldofsoccer.apigateway.presentationlayer.match;
+
+import com.worldofsoccer.apigateway.businesslayer.match.ReactiveMatchService;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Same routes as {@link MatchController}, served without holding a request thread while the
+ * downstream call is in flight. Active when {@code app.gateway.reactive=true}.
+ */
+@RestController
+@RequestMapping("/api/v1/leagues/{leagueId}/matches")
+@Slf4j
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "true")
+public class ReactiveMatchController {
+
+    private final ReactiveMatchService service;
+    private static final int UUID_LENGTH = 36;
+
+    public ReactiveMatchController(ReactiveMatchService service) {
+        this.service = service;
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<List<MatchResponseModel>>> getAll(
+            @PathVariable String leagueId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        if (leagueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid leagueId length: " + leagueId);
+        }
+        return service.getAllMatches(leagueId, after, limit).map(page -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getItems());
+        });
+    }
+
+    @GetMapping("/{matchId}")
+    public Mono<ResponseEntity<MatchResponseModel>> getOne(
+            @PathVariable String leagueId,
+            @PathVariable String matchId) {
+        if (leagueId.length() != UUID_LENGTH || matchId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid ID length");
+        }
+        return service.getMatchById(leagueId, matchId).map(ResponseEntity::ok);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<MatchResponseModel>> create(
+            @PathVariable String leagueId,
+            @RequestBody MatchRequestModel req) {
+        if (leagueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid leagueId length: " + leagueId);
+        }
+        return service.createMatch(leagueId, req).map(created -> ResponseEntity.status(201).body(created));
+    }
+
+    @PutMapping("/{matchId}")
+    public Mono<ResponseEntity<MatchResponseModel>> update(
+            @PathVariable String leagueId,
+            @PathVariable String matchId,
+            @RequestBody MatchRequestModel req) {
+        if (leagueId.length() != UUID_LENGTH || matchId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid ID length");
+        }
+        return service.updateMatch(leagueId, matchId, req).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{matchId}")
+    public Mono<ResponseEntity<Void>> delete(
+            @PathVariable String leagueId,
+            @PathVariable String matchId) {
+        if (leagueId.length() != UUID_LENGTH || matchId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid ID length");
+        }
+        ResponseEntity<Void> noContent = ResponseEntity.noContent().build();
+        return service.deleteMatch(leagueId, matchId).thenReturn(noContent);
+    }
+}
@@ -0,0 +1,81 @@
+package com.worldofsoccer.apigateway.presentationlayer.teams;
+
+import com.worldofsoccer.apigateway.businesslayer.teams.ReactiveTeamService;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.VersionTag;
+import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Same routes as {@link TeamController}, served without holding a request thread while the
+ * downstream call is in flight. Active when {@code app.gateway.reactive=true}.
+ */
+@RestController
+@Slf4j
+@RequestMapping("/api/v1/teams")
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "true")
+public class ReactiveTeamController {
+
+    private final ReactiveTeamService teamService;
+    private static final int UUID_LENGTH = 36;
+
+    public ReactiveTeamController(ReactiveTeamService teamService) {
+        this.teamService = teamService;
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<List<TeamResponseModel>>> getAllTeams(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return teamService.getAllTeams(after, limit).map(page -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getItems());
+        });
+    }
+
+    @GetMapping("/{teamId}")
+    public Mono<ResponseEntity<TeamResponseModel>> getTeamById(@PathVariable String teamId) {
+        if (teamId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid teamId provided: " + teamId);
+        }
+        return teamService.getTeamById(teamId)
+                .map(team -> ResponseEntity.ok().eTag(VersionTag.of(team.getVersion())).body(team));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<TeamResponseModel>> createTeam(@RequestBody TeamRequestModel teamRequest) {
+        return teamService.createTeam(teamRequest)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    @PutMapping("/{teamId}")
+    public Mono<ResponseEntity<TeamResponseModel>> updateTeam(
+            @PathVariable String teamId,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody TeamRequestModel teamRequest) {
+        if (teamId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid teamId provided: " + teamId);
+        }
+        return teamService.updateTeam(teamId, teamRequest, ifMatch).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{teamId}")
+    public Mono<ResponseEntity<Void>> deleteTeam(@PathVariable String teamId) {
+        if (teamId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid teamId provided: " + teamId);
+        }
+        ResponseEntity<Void> noContent = ResponseEntity.noContent().build();
+        return teamService.deleteTeam(teamId).thenReturn(noContent);
+    }
+}
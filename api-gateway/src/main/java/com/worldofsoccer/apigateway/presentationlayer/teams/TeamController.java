@@ -1,14 +1,18 @@
 package com.worldofsoccer.apigateway.presentationlayer.teams;
 
 import com.worldofsoccer.apigateway.businesslayer.teams.TeamService;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.VersionTag;
 import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
 @RestController
+@ConditionalOnProperty(name = "app.gateway.reactive", havingValue = "false", matchIfMissing = true)
 @RequestMapping("/api/v1/teams")
 @Slf4j
 public class TeamController {
@@ -21,9 +25,16 @@ public class TeamController {
     }
 
     @GetMapping
-    public ResponseEntity<List<TeamResponseModel>> getAllTeams() {
+    public ResponseEntity<List<TeamResponseModel>> getAllTeams(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
         log.debug("Request received in API-Gateway Teams Controller: getAllTeams");
-        return ResponseEntity.ok(service.getAllTeams());
+        CursorPage<TeamResponseModel> page = service.getAllTeams(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @GetMapping("/{teamId}")
@@ -33,7 +44,8 @@ public class TeamController {
         if (teamId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid teamId provided: " + teamId);
         }
-        return ResponseEntity.ok(service.getTeamById(teamId));
+        TeamResponseModel team = service.getTeamById(teamId);
+        return ResponseEntity.ok().eTag(VersionTag.of(team.getVersion())).body(team);
     }
 
     @PostMapping
@@ -17,4 +17,5 @@ public class TeamResponseModel extends RepresentationModel<TeamResponseModel> {
     private Integer foundingYear;
     private String budget;
     private String teamStatus;
+    private Long version;
 }
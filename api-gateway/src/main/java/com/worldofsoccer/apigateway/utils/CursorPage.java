@@ -0,0 +1,32 @@
+package com.worldofsoccer.apigateway.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a downstream keyset listing. The cursor is opaque to the gateway and is
+ * relayed unchanged in the {@code X-Next-Cursor} header; it is null on the last page.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public static <T> CursorPage<T> fromResponse(ResponseEntity<T[]> response) {
+        if (response == null) {
+            return new CursorPage<>(Collections.emptyList(), null);
+        }
+        T[] body = response.getBody();
+        List<T> items = body != null ? Arrays.asList(body) : Collections.emptyList();
+        return new CursorPage<>(items, response.getHeaders().getFirst(NEXT_CURSOR_HEADER));
+    }
+}
@@ -1,8 +1,10 @@
 package com.worldofsoccer.apigateway.utils;
 
 
+import com.worldofsoccer.apigateway.utils.exceptions.ConflictException;
 import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.apigateway.utils.exceptions.NotFoundException;
+import com.worldofsoccer.apigateway.utils.exceptions.PreconditionFailedException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -10,7 +12,9 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
 @RestControllerAdvice
@@ -29,6 +33,18 @@ public class GlobalControllerExceptionHandler {
         return createHttpErrorInfo(UNPROCESSABLE_ENTITY, request, ex);
     }
 
+    @ResponseStatus(CONFLICT)
+    @ExceptionHandler(ConflictException.class)
+    public HttpErrorInfo handleConflictException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(CONFLICT, request, ex);
+    }
+
+    @ResponseStatus(PRECONDITION_FAILED)
+    @ExceptionHandler(PreconditionFailedException.class)
+    public HttpErrorInfo handlePreconditionFailedException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(PRECONDITION_FAILED, request, ex);
+    }
+
 
 
 
@@ -0,0 +1,17 @@
+package com.worldofsoccer.apigateway.utils;
+
+/**
+ * The ETag of a single versioned resource, built from the {@code version} the owning service
+ * returns. It is the same tag the service itself issues, so a caller can send it back through
+ * the gateway as {@code If-Match}. Null when the downstream did not report a version, which
+ * leaves the body-hash ETag in place.
+ */
+public final class VersionTag {
+
+    private VersionTag() {
+    }
+
+    public static String of(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+}
@@ -0,0 +1,12 @@
+package com.worldofsoccer.apigateway.utils.exceptions;
+
+public class ConflictException extends RuntimeException{
+
+    public ConflictException() {}
+
+    public ConflictException(String message) { super(message); }
+
+    public ConflictException(Throwable cause) { super(cause); }
+
+    public ConflictException(String message, Throwable cause) { super(message, cause); }
+}
@@ -0,0 +1,12 @@
+package com.worldofsoccer.apigateway.utils.exceptions;
+
+public class PreconditionFailedException extends RuntimeException{
+
+    public PreconditionFailedException() {}
+
+    public PreconditionFailedException(String message) { super(message); }
+
+    public PreconditionFailedException(Throwable cause) { super(cause); }
+
+    public PreconditionFailedException(String message, Throwable cause) { super(message, cause); }
+}
@@ -0,0 +1,65 @@
+package com.worldofsoccer.apigateway.businesslayer.dashboard;
+
+import com.worldofsoccer.apigateway.domainclientlayer.league.LeagueServiceClient;
+import com.worldofsoccer.apigateway.domainclientlayer.location.VenueServiceClient;
+import com.worldofsoccer.apigateway.domainclientlayer.match.MatchServiceClient;
+import com.worldofsoccer.apigateway.domainclientlayer.teams.TeamServiceClient;
+import com.worldofsoccer.apigateway.presentationlayer.dashboard.DashboardErrorModel;
+import com.worldofsoccer.apigateway.presentationlayer.dashboard.LeagueDashboardResponseModel;
+import com.worldofsoccer.apigateway.presentationlayer.league.LeagueResponseModel;
+import com.worldofsoccer.apigateway.presentationlayer.location.VenueResponseModel;
+import com.worldofsoccer.apigateway.presentationlayer.match.MatchResponseModel;
+import com.worldofsoccer.apigateway.presentationlayer.teams.TeamResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LeagueDashboardServiceImplTest {
+
+    private static final String LEAGUE_ID = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
+
+    private final LeagueServiceClient leagueServiceClient = mock(LeagueServiceClient.class);
+    private final MatchServiceClient matchServiceClient = mock(MatchServiceClient.class);
+    private final TeamServiceClient teamServiceClient = mock(TeamServiceClient.class);
+    private final VenueServiceClient venueServiceClient = mock(VenueServiceClient.class);
+
+    @Test
+    void whenExecutorIsSaturated_thenRejectedLookupsAreMarkedAndTheRestReturned() {
+        // accepts the league, matches and one team lookup, then behaves like a full queue
+        AtomicInteger accepted = new AtomicInteger();
+        AsyncTaskExecutor saturated = task -> {
+            if (accepted.incrementAndGet() > 3) {
+                throw new TaskRejectedException("queue full");
+            }
+            task.run();
+        };
+        LeagueDashboardServiceImpl service = new LeagueDashboardServiceImpl(leagueServiceClient, matchServiceClient,
+                teamServiceClient, venueServiceClient, saturated, Duration.ofSeconds(3), 200);
+
+        when(leagueServiceClient.getLeagueById(LEAGUE_ID))
+                .thenReturn(LeagueResponseModel.builder().leagueId(LEAGUE_ID).build());
+        when(matchServiceClient.getAllMatches(LEAGUE_ID, null, 200)).thenReturn(new CursorPage<>(List.of(
+                MatchResponseModel.builder().matchId("m1").teamId("t1").venueId("v1").build(),
+                MatchResponseModel.builder().matchId("m2").teamId("t2").venueId("v1").build()), null));
+        when(teamServiceClient.getTeamById("t1")).thenReturn(TeamResponseModel.builder().teamId("t1").build());
+
+        LeagueDashboardResponseModel dashboard = service.getLeagueDashboard(LEAGUE_ID, null);
+
+        assertTrue(dashboard.isPartial());
+        assertEquals(List.of("t1"), List.copyOf(dashboard.getTeams().keySet()));
+        assertTrue(dashboard.getVenues().isEmpty());
+        assertEquals(List.of("t2", "v1"), dashboard.getErrors().stream().map(DashboardErrorModel::getId).toList());
+        assertTrue(dashboard.getErrors().stream()
+                .allMatch(error -> DashboardErrorModel.UNAVAILABLE.equals(error.getStatus())));
+        verify(teamServiceClient, never()).getTeamById("t2");
+        verifyNoInteractions(venueServiceClient);
+    }
+}
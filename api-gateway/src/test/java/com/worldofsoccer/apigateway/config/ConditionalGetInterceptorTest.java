@@ -0,0 +1,86 @@
+package com.worldofsoccer.apigateway.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ConditionalGetInterceptorTest {
+
+    private static final String LEAGUE_URL = "http://localhost:7002/api/v1/leagues/aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
+    private static final String BODY = "{\"name\":\"Premier\"}";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private RestTemplate restTemplate;
+    private MockRestServiceServer mockServer;
+
+    @BeforeEach
+    void init() {
+        restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new ConditionalGetInterceptor(10, 1024, registry));
+        mockServer = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    void whenDownstreamAnswers304_thenCachedBodyIsReplayed() {
+        mockServer.expect(requestTo(LEAGUE_URL))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"v1\""));
+        mockServer.expect(requestTo(LEAGUE_URL))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED).header(HttpHeaders.ETAG, "\"v1\""));
+
+        assertEquals(BODY, restTemplate.getForObject(LEAGUE_URL, String.class));
+        assertEquals(BODY, restTemplate.getForObject(LEAGUE_URL, String.class));
+
+        mockServer.verify();
+        assertEquals(1, registry.get("http.client.conditional.revalidations").tag("result", "not_modified").counter().count());
+    }
+
+    @Test
+    void whenRepresentationChanged_thenNewBodyReplacesCachedOne() {
+        mockServer.expect(requestTo(LEAGUE_URL))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"v1\""));
+        mockServer.expect(requestTo(LEAGUE_URL))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withSuccess("{\"name\":\"Serie A\"}", MediaType.APPLICATION_JSON).header(HttpHeaders.ETAG, "\"v2\""));
+        mockServer.expect(requestTo(LEAGUE_URL))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v2\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        restTemplate.getForObject(LEAGUE_URL, String.class);
+        restTemplate.getForObject(LEAGUE_URL, String.class);
+        assertEquals("{\"name\":\"Serie A\"}", restTemplate.getForObject(LEAGUE_URL, String.class));
+
+        mockServer.verify();
+    }
+
+    @Test
+    void whenBodyExceedsLimit_thenNextRequestIsUnconditional() {
+        String large = "x".repeat(2048);
+        mockServer.expect(requestTo(LEAGUE_URL))
+                .andRespond(withSuccess(large, MediaType.TEXT_PLAIN).header(HttpHeaders.ETAG, "\"big\""));
+        mockServer.expect(requestTo(LEAGUE_URL))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(large, MediaType.TEXT_PLAIN));
+
+        assertEquals(large, restTemplate.getForObject(LEAGUE_URL, String.class));
+        assertEquals(large, restTemplate.getForObject(LEAGUE_URL, String.class));
+
+        mockServer.verify();
+    }
+}
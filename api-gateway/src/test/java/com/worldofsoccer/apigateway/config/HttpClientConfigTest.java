@@ -0,0 +1,47 @@
+package com.worldofsoccer.apigateway.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpClientConfigTest {
+
+    private final HttpClientConfig config = new HttpClientConfig();
+
+    @Test
+    void whenRouteOverridesPool_thenMaxPerRouteIsApplied() {
+        DownstreamHttpProperties properties = properties();
+        properties.getTeamsService().getPool().setMaxConnections(7);
+
+        PoolingHttpClientConnectionManager manager = config.httpClientConnectionManager(properties);
+
+        assertEquals(200, manager.getMaxTotal());
+        assertEquals(7, manager.getMaxPerRoute(HttpClientConfig.route(properties.getTeamsService())));
+        assertEquals(50, manager.getMaxPerRoute(HttpClientConfig.route(properties.getLeagueService())));
+        manager.close();
+    }
+
+    @Test
+    void whenMetricsBound_thenPoolGaugesArePublishedPerDownstream() {
+        DownstreamHttpProperties properties = properties();
+        PoolingHttpClientConnectionManager manager = config.httpClientConnectionManager(properties);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        config.httpClientPoolMetrics(manager, properties).bindTo(registry);
+
+        assertNotNull(registry.find("http.client.pool.leased").tag("downstream", "all").gauge());
+        assertEquals(50, registry.find("http.client.pool.max").tag("downstream", "teams-service").gauge().value());
+        manager.close();
+    }
+
+    private static DownstreamHttpProperties properties() {
+        DownstreamHttpProperties properties = new DownstreamHttpProperties();
+        properties.getTeamsService().setHost("localhost");
+        properties.getTeamsService().setPort(7001);
+        properties.getLeagueService().setHost("localhost");
+        properties.getLeagueService().setPort(7002);
+        return properties;
+    }
+}
@@ -0,0 +1,106 @@
+package com.worldofsoccer.apigateway.domainclientlayer.match;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchLiveFeedClientTest {
+
+    private static final String LEAGUE = "11111111-1111-1111-1111-111111111111";
+
+    private final Sinks.Many<String> downstream = Sinks.many().multicast().onBackpressureBuffer();
+    private final AtomicInteger opened = new AtomicInteger();
+
+    // stands in for match-service: every exchange streams whatever the test emits
+    private final WebClient webClient = WebClient.builder()
+            .exchangeFunction(request -> {
+                opened.incrementAndGet();
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.TEXT_EVENT_STREAM_VALUE)
+                        .body(downstream.asFlux().map(MatchLiveFeedClientTest::buffer))
+                        .build());
+            })
+            .build();
+
+    private final MatchLiveFeedClient client = new MatchLiveFeedClient(webClient, 2);
+
+    @Test
+    void whenOneFollowerStalls_thenOnlyThatFollowerIsDisconnected() {
+        List<String> fast = new CopyOnWriteArrayList<>();
+        client.followLeague(LEAGUE, null).subscribe(event -> fast.add(event.id()));
+
+        List<String> slow = new CopyOnWriteArrayList<>();
+        AtomicReference<Throwable> slowError = new AtomicReference<>();
+        BaseSubscriber<ServerSentEvent<String>> stalled = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                // reads nothing, like a browser that stopped draining its socket
+            }
+
+            @Override
+            protected void hookOnNext(ServerSentEvent<String> event) {
+                slow.add(event.id());
+            }
+
+            @Override
+            protected void hookOnError(Throwable throwable) {
+                slowError.set(throwable);
+            }
+        };
+        client.followLeague(LEAGUE, null).subscribe(stalled);
+
+        // well past the buffer, which Reactor rounds up to a small minimum
+        for (int id = 1; id <= 20; id++) {
+            emit("id:e-" + id + "\nevent:match\ndata:{}\n\n");
+        }
+
+        assertEquals(1, opened.get());
+        assertEquals(20, fast.size());
+        assertEquals("e-20", fast.get(19));
+
+        // once it reads again it gets what its buffer held, then the overflow
+        stalled.request(Long.MAX_VALUE);
+        assertTrue(slow.size() < 20);
+        assertEquals("e-1", slow.get(0));
+        assertTrue(Exceptions.isOverflow(slowError.get()));
+    }
+
+    @Test
+    void whenResuming_thenOwnStreamWithItsOwnBuffer() {
+        client.followLeague(LEAGUE, null).subscribe();
+        List<ServerSentEvent<String>> resumed = new CopyOnWriteArrayList<>();
+        client.followLeague(LEAGUE, "e-4").subscribe(resumed::add);
+
+        emit("id:e-5\nevent:match\ndata:{}\n\n");
+
+        assertEquals(2, opened.get());
+        assertEquals("e-5", resumed.get(0).id());
+    }
+
+    private void emit(String frame) {
+        downstream.tryEmitNext(frame);
+    }
+
+    private static DataBuffer buffer(String frame) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(frame.getBytes(StandardCharsets.UTF_8));
+    }
+}
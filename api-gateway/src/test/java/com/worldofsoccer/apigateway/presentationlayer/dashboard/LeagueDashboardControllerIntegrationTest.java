@@ -0,0 +1,129 @@
+package com.worldofsoccer.apigateway.presentationlayer.dashboard;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worldofsoccer.apigateway.presentationlayer.league.LeagueResponseModel;
+import com.worldofsoccer.apigateway.presentationlayer.location.VenueResponseModel;
+import com.worldofsoccer.apigateway.presentationlayer.match.MatchResponseModel;
+import com.worldofsoccer.apigateway.presentationlayer.teams.TeamResponseModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class LeagueDashboardControllerIntegrationTest {
+
+    @Autowired private WebTestClient webClient;
+    @Autowired private RestTemplate restTemplate;
+    @Autowired private ObjectMapper mapper;
+
+    private MockRestServiceServer mockServer;
+
+    private static final String LEAGUE_ID = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa";
+    private static final String TEAM_1    = "11111111-1111-1111-1111-111111111111";
+    private static final String TEAM_2    = "22222222-2222-2222-2222-222222222222";
+    private static final String VENUE_1   = "33333333-3333-3333-3333-333333333333";
+    private static final String VENUE_2   = "44444444-4444-4444-4444-444444444444";
+
+    private static final String API_URL     = "/api/v1/leagues/" + LEAGUE_ID + "/dashboard";
+    private static final String LEAGUE_URL  = "http://localhost:7002/api/v1/leagues/" + LEAGUE_ID;
+    private static final String MATCHES_URL = "http://localhost:7004/api/v1/leagues/" + LEAGUE_ID + "/matches?limit=200";
+    private static final String TEAMS_URL   = "http://localhost:7001/api/v1/teams/";
+    private static final String VENUES_URL  = "http://localhost:7003/api/v1/venues/";
+
+    @BeforeEach
+    void init() {
+        // lookups run in parallel, so arrival order is not fixed
+        mockServer = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+    }
+
+    @Test
+    void whenMatchesShareTeamsAndVenues_thenEachIsFetchedOnceAndFailuresAreMarked() throws Exception {
+        expectJson(LEAGUE_URL, LeagueResponseModel.builder().leagueId(LEAGUE_ID).name("Premier").build());
+        expectJson(MATCHES_URL, new MatchResponseModel[]{
+                match("m1", TEAM_1, VENUE_1),
+                match("m2", TEAM_1, VENUE_2),
+                match("m3", TEAM_2, VENUE_1)
+        });
+        expectJson(TEAMS_URL + TEAM_1, TeamResponseModel.builder().teamId(TEAM_1).name("Alpha").build());
+        expectJson(TEAMS_URL + TEAM_2, TeamResponseModel.builder().teamId(TEAM_2).name("Beta").build());
+        expectJson(VENUES_URL + VENUE_1, VenueResponseModel.builder().venueId(VENUE_1).name("Arena").build());
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI(VENUES_URL + VENUE_2)))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        webClient.get()
+                .uri(API_URL)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.league.name").isEqualTo("Premier")
+                .jsonPath("$.matches.length()").isEqualTo(3)
+                .jsonPath("$.teams.length()").isEqualTo(2)
+                .jsonPath("$.teams['" + TEAM_1 + "'].name").isEqualTo("Alpha")
+                .jsonPath("$.venues.length()").isEqualTo(1)
+                .jsonPath("$.partial").isEqualTo(true)
+                .jsonPath("$.errors.length()").isEqualTo(1)
+                .jsonPath("$.errors[0].section").isEqualTo("venue")
+                .jsonPath("$.errors[0].id").isEqualTo(VENUE_2)
+                .jsonPath("$.errors[0].status").isEqualTo(DashboardErrorModel.UNAVAILABLE)
+                .jsonPath("$._links.self.href").exists();
+
+        // ExpectedCount.once() per team/venue: shared ids were not fetched again
+        mockServer.verify();
+    }
+
+    @Test
+    void whenLeagueNotFound_thenReturns404() throws Exception {
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI(LEAGUE_URL)))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        mockServer.expect(ExpectedCount.between(0, 1), requestTo(new URI(MATCHES_URL)))
+                .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+
+        webClient.get()
+                .uri(API_URL)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void whenLeagueIdInvalid_thenReturns422() {
+        webClient.get()
+                .uri("/api/v1/leagues/bad-id/dashboard")
+                .exchange()
+                .expectStatus().isEqualTo(422);
+    }
+
+    private void expectJson(String url, Object body) throws Exception {
+        mockServer.expect(ExpectedCount.once(), requestTo(new URI(url)))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(mapper.writeValueAsString(body), MediaType.APPLICATION_JSON));
+    }
+
+    private static MatchResponseModel match(String matchId, String teamId, String venueId) {
+        return MatchResponseModel.builder()
+                .matchId(matchId)
+                .leagueId(LEAGUE_ID)
+                .teamId(teamId)
+                .venueId(venueId)
+                .build();
+    }
+}
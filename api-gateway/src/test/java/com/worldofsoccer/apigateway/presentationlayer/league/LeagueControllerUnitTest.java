@@ -5,8 +5,11 @@ import com.worldofsoccer.apigateway.domainclientlayer.league.FormatTypeEnum;
 import com.worldofsoccer.apigateway.domainclientlayer.league.LeagueServiceClient;
 import com.worldofsoccer.apigateway.presentationlayer.league.LeagueRequestModel;
 import com.worldofsoccer.apigateway.presentationlayer.league.LeagueResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
+import com.worldofsoccer.apigateway.utils.exceptions.ConflictException;
 import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.apigateway.utils.exceptions.NotFoundException;
+import com.worldofsoccer.apigateway.utils.exceptions.PreconditionFailedException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -46,14 +49,14 @@ class LeagueControllerUnitTest {
 
     @Test
     void whenGetAll_thenReturnEmpty() {
-        when(service.getAllLeagues()).thenReturn(Collections.emptyList());
+        when(service.getAllLeagues(null, null)).thenReturn(new CursorPage<>(Collections.emptyList(), null));
 
-        ResponseEntity<List<LeagueResponseModel>> resp = controller.getAllLeagues();
+        ResponseEntity<List<LeagueResponseModel>> resp = controller.getAllLeagues(null, null);
 
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertNotNull(resp.getBody());
         assertTrue(resp.getBody().isEmpty());
-        verify(service).getAllLeagues();
+        verify(service).getAllLeagues(null, null);
     }
 
     @Test
@@ -158,12 +161,36 @@ class LeagueControllerUnitTest {
         assertEquals("bad input", iie.getMessage());
     }
 
+    @Test
+    void updateLeague_preconditionFailed_throwsPreconditionFailed() {
+        HttpClientErrorException ex = HttpClientErrorException.create(
+                HttpStatus.PRECONDITION_FAILED, "412", null,
+                "{\"message\":\"league has changed\"}".getBytes(), null);
+        doThrow(ex).when(restTemplate).put(anyString(), any());
+
+        PreconditionFailedException pfe = assertThrows(PreconditionFailedException.class,
+                () -> client.updateLeague("abc", new LeagueRequestModel()));
+        assertEquals("league has changed", pfe.getMessage());
+    }
+
+    @Test
+    void updateLeague_conflict_throwsConflict() {
+        HttpClientErrorException ex = HttpClientErrorException.create(
+                HttpStatus.CONFLICT, "409", null,
+                "{\"message\":\"modified concurrently\"}".getBytes(), null);
+        doThrow(ex).when(restTemplate).put(anyString(), any());
+
+        assertThrows(ConflictException.class,
+                () -> client.updateLeague("abc", new LeagueRequestModel()));
+    }
+
     @Test
     void getAllLeagues_nullArray_returnsEmptyList() {
-        when(restTemplate.getForObject(anyString(), eq(LeagueResponseModel[].class)))
-                .thenReturn(null);
-        List<LeagueResponseModel> all = client.getAllLeagues();
-        assertTrue(all.isEmpty());
+        when(restTemplate.getForEntity(anyString(), eq(LeagueResponseModel[].class)))
+                .thenReturn(ResponseEntity.ok().build());
+        CursorPage<LeagueResponseModel> all = client.getAllLeagues(null, null);
+        assertTrue(all.getItems().isEmpty());
+        assertNull(all.getNextCursor());
     }
 
     @Test
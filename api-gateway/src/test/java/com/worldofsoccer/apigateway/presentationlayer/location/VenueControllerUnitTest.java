@@ -5,6 +5,7 @@ import com.worldofsoccer.apigateway.domainclientlayer.location.VenueServiceClien
 import com.worldofsoccer.apigateway.domainclientlayer.location.VenueStateEnum;
 import com.worldofsoccer.apigateway.presentationlayer.location.VenueRequestModel;
 import com.worldofsoccer.apigateway.presentationlayer.location.VenueResponseModel;
+import com.worldofsoccer.apigateway.utils.CursorPage;
 import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.apigateway.utils.exceptions.NotFoundException;
 import org.junit.jupiter.api.Test;
@@ -45,14 +46,14 @@ class VenueControllerUnitTest {
 
     @Test
     void whenGetAll_thenReturnEmptyList() {
-        when(service.getAllVenues()).thenReturn(Collections.emptyList());
+        when(service.getAllVenues(null, null)).thenReturn(new CursorPage<>(Collections.emptyList(), null));
 
-        ResponseEntity<List<VenueResponseModel>> resp = controller.getAllVenues();
+        ResponseEntity<List<VenueResponseModel>> resp = controller.getAllVenues(null, null);
 
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertNotNull(resp.getBody());
         assertTrue(resp.getBody().isEmpty());
-        verify(service).getAllVenues();
+        verify(service).getAllVenues(null, null);
     }
 
     @Test
@@ -162,10 +163,11 @@ class VenueControllerUnitTest {
 
     @Test
     void getAllVenues_nullArray_returnsEmptyList() {
-        when(restTemplate.getForObject(anyString(), eq(VenueResponseModel[].class)))
-                .thenReturn(null);
-        List<VenueResponseModel> all = client.getAllVenues();
-        assertTrue(all.isEmpty());
+        when(restTemplate.getForEntity(anyString(), eq(VenueResponseModel[].class)))
+                .thenReturn(ResponseEntity.ok().build());
+        CursorPage<VenueResponseModel> all = client.getAllVenues(null, null);
+        assertTrue(all.getItems().isEmpty());
+        assertNull(all.getNextCursor());
     }
 
     @Test
@@ -5,6 +5,7 @@ import com.worldofsoccer.apigateway.domainclientlayer.match.MatchServiceClient;
 import com.worldofsoccer.apigateway.domainclientlayer.match.MatchStatus;
 import com.worldofsoccer.apigateway.domainclientlayer.match.ResultsType;
 import com.worldofsoccer.apigateway.utils.HttpErrorInfo;
+import com.worldofsoccer.apigateway.utils.CursorPage;
 import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.apigateway.utils.exceptions.NotFoundException;
 import org.junit.jupiter.api.Test;
@@ -48,20 +49,20 @@ class MatchControllerUnitTest {
     @Test
     void whenGetAll_invalidLeague_thenThrow() {
         assertThrows(InvalidInputException.class,
-                () -> controller.getAll("short"));
+                () -> controller.getAll("short", null, null));
         verifyNoInteractions(service);
     }
 
     @Test
     void whenGetAll_thenReturnEmptyList() {
-        when(service.getAllMatches(VALID_LEAGUE)).thenReturn(Collections.emptyList());
+        when(service.getAllMatches(VALID_LEAGUE, null, null)).thenReturn(new CursorPage<>(Collections.emptyList(), null));
 
-        ResponseEntity<List<MatchResponseModel>> resp = controller.getAll(VALID_LEAGUE);
+        ResponseEntity<List<MatchResponseModel>> resp = controller.getAll(VALID_LEAGUE, null, null);
 
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertNotNull(resp.getBody());
         assertTrue(resp.getBody().isEmpty());
-        verify(service).getAllMatches(VALID_LEAGUE);
+        verify(service).getAllMatches(VALID_LEAGUE, null, null);
     }
 
     @Test
@@ -178,10 +179,11 @@ class MatchControllerUnitTest {
 
     @Test
     void getAllMatches_nullArray_returnsEmptyList() {
-        when(restTemplate.getForObject(anyString(), eq(MatchResponseModel[].class)))
-                .thenReturn(null);
-        List<MatchResponseModel> all = client.getAllMatches("L");
-        assertTrue(all.isEmpty());
+        when(restTemplate.getForEntity(anyString(), eq(MatchResponseModel[].class)))
+                .thenReturn(ResponseEntity.ok().build());
+        CursorPage<MatchResponseModel> all = client.getAllMatches("L", null, null);
+        assertTrue(all.getItems().isEmpty());
+        assertNull(all.getNextCursor());
     }
 
     @Test
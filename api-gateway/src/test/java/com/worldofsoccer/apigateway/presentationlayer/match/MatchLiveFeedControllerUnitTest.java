@@ -0,0 +1,67 @@
+package com.worldofsoccer.apigateway.presentationlayer.match;
+
+import com.worldofsoccer.apigateway.domainclientlayer.league.LeagueServiceClient;
+import com.worldofsoccer.apigateway.domainclientlayer.match.MatchLiveFeedClient;
+import com.worldofsoccer.apigateway.domainclientlayer.match.MatchServiceClient;
+import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
+import com.worldofsoccer.apigateway.utils.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MatchLiveFeedControllerUnitTest {
+
+    @Autowired
+    private MatchLiveFeedController controller;
+
+    @MockitoBean
+    private MatchLiveFeedClient liveFeedClient;
+    @MockitoBean
+    private MatchServiceClient matchServiceClient;
+    @MockitoBean
+    private LeagueServiceClient leagueServiceClient;
+
+    private static final String VALID_LEAGUE = "11111111-1111-1111-1111-111111111111";
+    private static final String VALID_MATCH  = "22222222-2222-2222-2222-222222222222";
+
+    @Test
+    void whenFollowMatch_invalidId_thenThrowWithoutOpeningFeed() {
+        assertThrows(InvalidInputException.class,
+                () -> controller.followMatch(VALID_LEAGUE, "bad", null, new MockHttpServletRequest()));
+        verifyNoInteractions(liveFeedClient);
+    }
+
+    @Test
+    void whenFollowMatch_unknownMatch_thenNotFoundWithoutOpeningFeed() {
+        when(matchServiceClient.getMatchById(VALID_LEAGUE, VALID_MATCH)).thenThrow(new NotFoundException("Match not found"));
+
+        assertThrows(NotFoundException.class,
+                () -> controller.followMatch(VALID_LEAGUE, VALID_MATCH, null, new MockHttpServletRequest()));
+        verify(liveFeedClient, never()).followMatch(any(), any(), any());
+    }
+
+    @Test
+    void whenFollowLeague_thenDownstreamEventsArePassedOnWithTheResumePoint() {
+        ServerSentEvent<String> event = ServerSentEvent.builder("{\"matchScore\":\"1-0\"}").id("8").event("match").build();
+        when(liveFeedClient.followLeague(VALID_LEAGUE, "7")).thenReturn(Flux.just(event));
+
+        ServerSentEvent<String> received = controller.followLeague(VALID_LEAGUE, "7", new MockHttpServletRequest())
+                .blockFirst(Duration.ofSeconds(1));
+
+        assertSame(event, received);
+        verify(leagueServiceClient).getLeagueById(VALID_LEAGUE);
+    }
+}
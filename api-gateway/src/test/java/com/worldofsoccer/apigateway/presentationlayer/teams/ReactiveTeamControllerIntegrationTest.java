@@ -0,0 +1,162 @@
+package com.worldofsoccer.apigateway.presentationlayer.teams;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.gateway.reactive=true")
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class ReactiveTeamControllerIntegrationTest {
+
+    private static final String API_BASE = "/api/v1/teams";
+    private static final String FOUND_ID   = "11111111-1111-1111-1111-111111111111";
+    private static final String MISSING_ID = "22222222-2222-2222-2222-222222222222";
+    private static final String CURRENT_VERSION = "\"3\"";
+
+    private static final AtomicReference<String> forwardedIfMatch = new AtomicReference<>();
+
+    // WebClient bypasses MockRestServiceServer, so stand in for teams-service with a real socket
+    private static final HttpServer downstream = startDownstream();
+
+    @Autowired private WebTestClient webClient;
+    @Autowired private ApplicationContext context;
+
+    @DynamicPropertySource
+    static void downstreamPort(DynamicPropertyRegistry registry) {
+        registry.add("app.teams-service.host", () -> "localhost");
+        registry.add("app.teams-service.port", () -> downstream.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopDownstream() {
+        downstream.stop(0);
+    }
+
+    @Test
+    void whenReactiveModeEnabled_thenOnlyReactiveControllerIsRegistered() {
+        assertTrue(context.getBeansOfType(TeamController.class).isEmpty());
+        assertEquals(1, context.getBeansOfType(ReactiveTeamController.class).size());
+    }
+
+    @Test
+    void whenGetById_exists_thenReturns200WithAbsoluteLinks() {
+        webClient.get()
+                .uri(API_BASE + "/" + FOUND_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.teamId").isEqualTo(FOUND_ID)
+                .jsonPath("$.name").isEqualTo("The FC")
+                .jsonPath("$._links.self.href").value(href ->
+                        assertTrue(href.toString().startsWith("http://") && href.toString().endsWith(API_BASE + "/" + FOUND_ID)));
+    }
+
+    @Test
+    void whenGetById_notFound_thenReturns404() {
+        webClient.get()
+                .uri(API_BASE + "/" + MISSING_ID)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void whenGetById_invalid_thenReturns422() {
+        webClient.get()
+                .uri(API_BASE + "/bad-id")
+                .exchange()
+                .expectStatus().isEqualTo(422);
+    }
+
+    @Test
+    void whenGetAll_thenRelaysNextCursor() {
+        webClient.get()
+                .uri(API_BASE + "?after=abc&limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", "def")
+                .expectBodyList(TeamResponseModel.class)
+                .hasSize(1);
+    }
+
+    @Test
+    void whenPutWithIfMatch_thenForwardedAndStaleVersionRefused() {
+        TeamRequestModel request = new TeamRequestModel();
+
+        webClient.put()
+                .uri(API_BASE + "/" + FOUND_ID)
+                .header(HttpHeaders.IF_MATCH, CURRENT_VERSION)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk();
+        assertEquals(CURRENT_VERSION, forwardedIfMatch.get());
+
+        webClient.put()
+                .uri(API_BASE + "/" + FOUND_ID)
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertEquals("\"2\"", forwardedIfMatch.get());
+    }
+
+    private static HttpServer startDownstream() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext(API_BASE, exchange -> {
+                String path = exchange.getRequestURI().getPath();
+                if (exchange.getRequestMethod().equals("PUT")) {
+                    String ifMatch = exchange.getRequestHeaders().getFirst(HttpHeaders.IF_MATCH);
+                    forwardedIfMatch.set(ifMatch);
+                    if (ifMatch != null && !ifMatch.equals(CURRENT_VERSION)) {
+                        respond(exchange, 412, "{\"message\":\"Team was modified since it was read\"}");
+                    } else {
+                        respond(exchange, 200, "{\"teamId\":\"" + FOUND_ID + "\",\"name\":\"The FC\"}");
+                    }
+                } else if (path.equals(API_BASE)) {
+                    exchange.getResponseHeaders().add("X-Next-Cursor", "def");
+                    respond(exchange, 200, "[{\"teamId\":\"" + FOUND_ID + "\",\"name\":\"The FC\"}]");
+                } else if (path.endsWith(FOUND_ID)) {
+                    respond(exchange, 200, "{\"teamId\":\"" + FOUND_ID + "\",\"name\":\"The FC\"}");
+                } else {
+                    respond(exchange, 404, "{\"message\":\"Unknown teamId: " + MISSING_ID + "\"}");
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", MediaType.APPLICATION_JSON_VALUE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -38,6 +38,32 @@ class TeamControllerIntegrationTest {
         mockServer = MockRestServiceServer.createServer(restTemplate);
     }
 
+    @Test
+    void whenGetAllWithCursor_thenForwardsParamsAndNextCursor() throws Exception {
+        TeamResponseModel a = TeamResponseModel.builder()
+                .teamId("aaa11111-1111-1111-1111-111111111111")
+                .name("Alpha")
+                .build();
+
+        mockServer.expect(ExpectedCount.once(),
+                        requestTo(new URI(DOWNSTREAM_URL + "?after=abc&limit=1")))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(
+                        mapper.writeValueAsString(new TeamResponseModel[]{a}),
+                        MediaType.APPLICATION_JSON
+                ).header("X-Next-Cursor", "def"));
+
+        webClient.get()
+                .uri(API_BASE + "?after=abc&limit=1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", "def")
+                .expectBodyList(TeamResponseModel.class)
+                .hasSize(1);
+
+        mockServer.verify();
+    }
+
     @Test
     void whenGetAll_thenReturns200List() throws Exception {
         TeamResponseModel a = TeamResponseModel.builder()
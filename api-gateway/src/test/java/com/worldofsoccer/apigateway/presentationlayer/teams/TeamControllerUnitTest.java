@@ -3,6 +3,7 @@ package com.worldofsoccer.apigateway.presentationlayer.teams;
 import com.worldofsoccer.apigateway.businesslayer.teams.TeamService;
 import com.worldofsoccer.apigateway.domainclientlayer.teams.TeamServiceClient;
 import com.worldofsoccer.apigateway.domainclientlayer.teams.TeamStatusEnum;
+import com.worldofsoccer.apigateway.utils.CursorPage;
 import com.worldofsoccer.apigateway.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.apigateway.utils.exceptions.NotFoundException;
 import org.junit.jupiter.api.Test;
@@ -42,14 +43,14 @@ class TeamControllerUnitTest {
 
     @Test
     void whenGetAll_thenReturnEmptyList() {
-        when(service.getAllTeams()).thenReturn(Collections.emptyList());
+        when(service.getAllTeams(null, null)).thenReturn(new CursorPage<>(Collections.emptyList(), null));
 
-        ResponseEntity<List<TeamResponseModel>> resp = controller.getAllTeams();
+        ResponseEntity<List<TeamResponseModel>> resp = controller.getAllTeams(null, null);
 
         assertEquals(HttpStatus.OK, resp.getStatusCode());
         assertNotNull(resp.getBody());
         assertTrue(resp.getBody().isEmpty());
-        verify(service).getAllTeams();
+        verify(service).getAllTeams(null, null);
     }
 
     @Test
@@ -155,10 +156,11 @@ class TeamControllerUnitTest {
 
     @Test
     void getAllTeams_nullArray_returnsEmptyList() {
-        when(restTemplate.getForObject(anyString(), eq(TeamResponseModel[].class)))
-                .thenReturn(null);
-        List<TeamResponseModel> all = client.getAllTeams();
-        assertTrue(all.isEmpty());
+        when(restTemplate.getForEntity(anyString(), eq(TeamResponseModel[].class)))
+                .thenReturn(ResponseEntity.ok().build());
+        CursorPage<TeamResponseModel> all = client.getAllTeams(null, null);
+        assertTrue(all.getItems().isEmpty());
+        assertNull(all.getNextCursor());
     }
 
     @Test
@@ -0,0 +1,103 @@
+package com.worldofsoccer.benchmarks;
+
+import com.worldofsoccer.location.dataaccesslayer.Venue;
+import com.worldofsoccer.location.dataaccesslayer.VenueState;
+import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.dataAccessLayer.MatchIdentifier;
+import com.worldofsoccer.match.dataAccessLayer.MatchResults;
+import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import com.worldofsoccer.match.dataAccessLayer.ResultsType;
+import com.worldofsoccer.match.domainclientLayer.league.LeagueModel;
+import com.worldofsoccer.match.domainclientLayer.location.VenueModel;
+import com.worldofsoccer.match.domainclientLayer.teams.TeamModel;
+import com.worldofsoccer.teams.dataaccesslayer.player.Player;
+import com.worldofsoccer.teams.dataaccesslayer.player.Position;
+import com.worldofsoccer.teams.dataaccesslayer.team.Team;
+import com.worldofsoccer.teams.dataaccesslayer.team.TeamIdentifier;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Representative entities shared by the benchmarks, built the way the services' loaders build them.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static Match match() {
+        return Match.builder()
+                .matchIdentifier(new MatchIdentifier())
+                .teamModel(TeamModel.builder()
+                        .teamId("3fa85f64-5717-4562-b3fc-2c963f66afa6")
+                        .teamName("Manchester United")
+                        .coach("Erik ten Hag")
+                        .teamFoundingYear(1878)
+                        .teamBudget(new BigDecimal("550000000.00"))
+                        .build())
+                .venueModel(VenueModel.builder()
+                        .venueId("12345678-1234-1234-1234-123456789012")
+                        .venueName("Old Trafford")
+                        .venueCity("Manchester")
+                        .venueCapacity(76000)
+                        .venueState("UPCOMING")
+                        .build())
+                .leagueModel(LeagueModel.builder()
+                        .leagueId("11111111-1111-1111-1111-111111111111")
+                        .leagueName("Premier League")
+                        .leagueFormat("LEAGUE")
+                        .build())
+                .matchScore("2-1")
+                .matchStatus(MatchStatus.SCHEDULED)
+                .matchTime(LocalTime.of(15, 0))
+                .matchDate(LocalDate.of(2025, 5, 10))
+                .matchDuration(LocalTime.of(1, 30))
+                .matchResults(new MatchResults(ResultsType.WINNER, 90))
+                .build();
+    }
+
+    static Team team() {
+        return new Team("Manchester United", "Erik ten Hag", 1878, new BigDecimal("550000000.00"));
+    }
+
+    static Player player(Team team) {
+        return new Player("Bruno", "Fernandes", 30, "Portugal", 8, Position.MIDFIELDER,
+                new TeamIdentifier(team.getTeamIdentifier().getTeamId()));
+    }
+
+    static Venue venue() {
+        return new Venue("Old Trafford", 76000, "Manchester", 1910, VenueState.UPCOMING);
+    }
+
+    /**
+     * Binds a request to the current thread, as during a real call, so link building resolves
+     * the base URI from it instead of falling back to a relative path.
+     */
+    static void bindRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/teams");
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    static void unbindRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    // the helpers under test are private to their services; reach them without changing visibility
+    static MethodHandle privateMethod(Class<?> owner, String name, Class<?>... parameterTypes) {
+        try {
+            var method = owner.getDeclaredMethod(name, parameterTypes);
+            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup()).unreflect(method);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Cannot access " + owner.getSimpleName() + "." + name, ex);
+        }
+    }
+}
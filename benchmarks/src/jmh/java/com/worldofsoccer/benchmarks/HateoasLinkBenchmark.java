@@ -0,0 +1,81 @@
+package com.worldofsoccer.benchmarks;
+
+import com.worldofsoccer.location.businesslayer.VenueServiceImpl;
+import com.worldofsoccer.location.dataaccesslayer.Venue;
+import com.worldofsoccer.location.mappinglayer.VenueResponseMapperImpl;
+import com.worldofsoccer.location.presentationlayer.VenueResponseModel;
+import com.worldofsoccer.teams.businesslayer.player.PlayerServiceImpl;
+import com.worldofsoccer.teams.businesslayer.team.TeamServiceImpl;
+import com.worldofsoccer.teams.dataaccesslayer.mappinglayer.PlayerResponseMapperImpl;
+import com.worldofsoccer.teams.dataaccesslayer.mappinglayer.TeamResponseMapperImpl;
+import com.worldofsoccer.teams.dataaccesslayer.player.Player;
+import com.worldofsoccer.teams.dataaccesslayer.team.Team;
+import com.worldofsoccer.teams.presentationlayer.player.PlayerResponseModel;
+import com.worldofsoccer.teams.presentationlayer.team.TeamResponseModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-item self/collection links that every list endpoint adds. Each invocation
+ * starts from a freshly mapped model so links do not accumulate between calls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HateoasLinkBenchmark {
+
+    private final TeamResponseMapperImpl teamMapper = new TeamResponseMapperImpl();
+    private final PlayerResponseMapperImpl playerMapper = new PlayerResponseMapperImpl();
+    private final VenueResponseMapperImpl venueMapper = new VenueResponseMapperImpl();
+
+    private final TeamServiceImpl teamService = new TeamServiceImpl(null, null, teamMapper, playerMapper);
+    private final PlayerServiceImpl playerService = new PlayerServiceImpl(null, null, null, playerMapper);
+    private final VenueServiceImpl venueService = new VenueServiceImpl(null, null, venueMapper, null);
+
+    private final MethodHandle teamAddLinks =
+            Fixtures.privateMethod(TeamServiceImpl.class, "addLinks", TeamResponseModel.class, Team.class);
+    private final MethodHandle playerAddLinks =
+            Fixtures.privateMethod(PlayerServiceImpl.class, "addLinks", PlayerResponseModel.class, Player.class);
+    private final MethodHandle venueAddLinks =
+            Fixtures.privateMethod(VenueServiceImpl.class, "addLinks", VenueResponseModel.class, Venue.class);
+
+    private Team team;
+    private Player player;
+    private Venue venue;
+
+    @Setup
+    public void setUp() {
+        Fixtures.bindRequest();
+        team = Fixtures.team();
+        player = Fixtures.player(team);
+        venue = Fixtures.venue();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Fixtures.unbindRequest();
+    }
+
+    @Benchmark
+    public TeamResponseModel teamAddLinks() throws Throwable {
+        TeamResponseModel model = teamMapper.entityToResponseModel(team);
+        teamAddLinks.invoke(teamService, model, team);
+        return model;
+    }
+
+    @Benchmark
+    public PlayerResponseModel playerAddLinks() throws Throwable {
+        PlayerResponseModel model = playerMapper.entityToResponseModel(player);
+        playerAddLinks.invoke(playerService, model, player);
+        return model;
+    }
+
+    @Benchmark
+    public VenueResponseModel venueAddLinks() throws Throwable {
+        VenueResponseModel model = venueMapper.entityToResponseModel(venue);
+        venueAddLinks.invoke(venueService, model, venue);
+        return model;
+    }
+}
@@ -0,0 +1,93 @@
+package com.worldofsoccer.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.worldofsoccer.location.mappinglayer.VenueResponseMapperImpl;
+import com.worldofsoccer.location.presentationlayer.VenueResponseModel;
+import com.worldofsoccer.match.domainclientLayer.location.VenueModel;
+import com.worldofsoccer.match.domainclientLayer.location.VenueServiceClient;
+import com.worldofsoccer.match.mappingLayer.MatchResponseMapperImpl;
+import com.worldofsoccer.match.presentationlayer.MatchResponseModel;
+import com.worldofsoccer.teams.dataaccesslayer.mappinglayer.TeamResponseMapperImpl;
+import com.worldofsoccer.teams.presentationlayer.team.TeamResponseModel;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.Link;
+import org.springframework.web.client.RestTemplate;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson round-trips of the response models as they cross service boundaries, plus the
+ * anti-corruption parse match-service applies to every venue it fetches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonBenchmark {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final VenueServiceClient venueServiceClient =
+            new VenueServiceClient(new RestTemplate(), mapper, "localhost", "7003");
+    private final MethodHandle aclVenueModelFromJson =
+            Fixtures.privateMethod(VenueServiceClient.class, "ACLVenueModelFromJson", String.class);
+
+    private MatchResponseModel match;
+    private TeamResponseModel team;
+    private VenueResponseModel venue;
+    private String matchJson;
+    private String teamJson;
+    private String venueJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        match = new MatchResponseMapperImpl().entityToResponseModel(Fixtures.match());
+        team = new TeamResponseMapperImpl().entityToResponseModel(Fixtures.team());
+        team.add(Link.of("http://localhost:8080/api/v1/teams/" + team.getTeamId()).withSelfRel());
+        venue = new VenueResponseMapperImpl().entityToResponseModel(Fixtures.venue());
+        venue.add(Link.of("http://localhost:8080/api/v1/venues/" + venue.getVenueId()).withSelfRel());
+
+        matchJson = mapper.writeValueAsString(match);
+        teamJson = mapper.writeValueAsString(team);
+        venueJson = mapper.writeValueAsString(venue);
+    }
+
+    @Benchmark
+    public String serializeMatch() throws Exception {
+        return mapper.writeValueAsString(match);
+    }
+
+    @Benchmark
+    public MatchResponseModel deserializeMatch() throws Exception {
+        return mapper.readValue(matchJson, MatchResponseModel.class);
+    }
+
+    @Benchmark
+    public String serializeTeam() throws Exception {
+        return mapper.writeValueAsString(team);
+    }
+
+    @Benchmark
+    public TeamResponseModel deserializeTeam() throws Exception {
+        return mapper.readValue(teamJson, TeamResponseModel.class);
+    }
+
+    @Benchmark
+    public String serializeVenue() throws Exception {
+        return mapper.writeValueAsString(venue);
+    }
+
+    @Benchmark
+    public VenueResponseModel deserializeVenue() throws Exception {
+        return mapper.readValue(venueJson, VenueResponseModel.class);
+    }
+
+    @Benchmark
+    public VenueModel aclVenueModelFromJson() throws Throwable {
+        return (VenueModel) aclVenueModelFromJson.invoke(venueServiceClient, venueJson);
+    }
+}
@@ -0,0 +1,72 @@
+package com.worldofsoccer.benchmarks;
+
+import com.worldofsoccer.teams.presentationlayer.player.PlayerController;
+import com.worldofsoccer.teams.utils.LinkTemplate;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.hateoas.IanaLinkRelations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * Links for one page of players, built the old way ({@code linkTo(methodOn(...))} per item)
+ * against {@link LinkTemplate}. Each invocation is a fresh request, so the template's one
+ * resolution per request is included in its cost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LinkTemplateBenchmark {
+
+    private static final LinkTemplate SELF_LINK =
+            LinkTemplate.of(p -> methodOn(PlayerController.class).getPlayerById(p[0], p[1]), 2);
+    private static final LinkTemplate ALL_PLAYERS_IN_TEAM_LINK =
+            LinkTemplate.of(p -> methodOn(PlayerController.class).getPlayersByTeamID(p[0], null, null), 1);
+
+    @Param({"50", "5000"})
+    public int players;
+
+    private final String teamId = UUID.randomUUID().toString();
+    private List<String> playerIds;
+
+    @Setup(Level.Trial)
+    public void createIds() {
+        playerIds = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            playerIds.add(UUID.randomUUID().toString());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void beginRequest() {
+        Fixtures.bindRequest();
+    }
+
+    @TearDown(Level.Invocation)
+    public void endRequest() {
+        Fixtures.unbindRequest();
+    }
+
+    @Benchmark
+    public void linkToMethodOn(Blackhole blackhole) {
+        for (String playerId : playerIds) {
+            blackhole.consume(linkTo(methodOn(PlayerController.class).getPlayerById(teamId, playerId)).withSelfRel());
+            blackhole.consume(linkTo(methodOn(PlayerController.class).getPlayersByTeamID(teamId, null, null))
+                    .withRel("allPlayersInTeam"));
+        }
+    }
+
+    @Benchmark
+    public void linkTemplate(Blackhole blackhole) {
+        for (String playerId : playerIds) {
+            blackhole.consume(SELF_LINK.expand(IanaLinkRelations.SELF, teamId, playerId));
+            blackhole.consume(ALL_PLAYERS_IN_TEAM_LINK.expand("allPlayersInTeam", teamId));
+        }
+    }
+}
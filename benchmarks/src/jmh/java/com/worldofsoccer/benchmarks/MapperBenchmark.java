@@ -0,0 +1,44 @@
+package com.worldofsoccer.benchmarks;
+
+import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.mappingLayer.MatchResponseMapper;
+import com.worldofsoccer.match.mappingLayer.MatchResponseMapperImpl;
+import com.worldofsoccer.match.presentationlayer.MatchResponseModel;
+import com.worldofsoccer.teams.dataaccesslayer.mappinglayer.TeamResponseMapper;
+import com.worldofsoccer.teams.dataaccesslayer.mappinglayer.TeamResponseMapperImpl;
+import com.worldofsoccer.teams.dataaccesslayer.team.Team;
+import com.worldofsoccer.teams.presentationlayer.team.TeamResponseModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response-model mapping, run once per element on every list endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private final MatchResponseMapper matchResponseMapper = new MatchResponseMapperImpl();
+    private final TeamResponseMapper teamResponseMapper = new TeamResponseMapperImpl();
+
+    private Match match;
+    private Team team;
+
+    @Setup
+    public void setUp() {
+        match = Fixtures.match();
+        team = Fixtures.team();
+    }
+
+    @Benchmark
+    public MatchResponseModel matchEntityToResponseModel() {
+        return matchResponseMapper.entityToResponseModel(match);
+    }
+
+    @Benchmark
+    public TeamResponseModel teamEntityToResponseModel() {
+        return teamResponseMapper.entityToResponseModel(team);
+    }
+}
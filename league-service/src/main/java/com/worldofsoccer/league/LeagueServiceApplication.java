@@ -2,10 +2,17 @@ package com.worldofsoccer.league;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 @SpringBootApplication
 public class LeagueServiceApplication {
 
+	@Bean
+	ShallowEtagHeaderFilter etagFilter() {
+		return new ShallowEtagHeaderFilter();
+	}
+
 	public static void main(String[] args) {
 		SpringApplication.run(LeagueServiceApplication.class, args);
 	}
@@ -3,13 +3,13 @@ package com.worldofsoccer.league.businesslayer;
 
 import com.worldofsoccer.league.presentationlayer.LeagueRequestModel;
 import com.worldofsoccer.league.presentationlayer.LeagueResponseModel;
-
-import java.util.List;
+import com.worldofsoccer.league.utils.CursorPage;
 
 public interface LeagueService {
-    List<LeagueResponseModel> getAllLeagues();
+    CursorPage<LeagueResponseModel> getAllLeagues(String after, Integer limit);
+    String getAllLeaguesEtag(String after, Integer limit);
     LeagueResponseModel getLeagueById(String leagueId);
     LeagueResponseModel createLeague(LeagueRequestModel leagueRequestModel);
-    LeagueResponseModel updateLeague(String leagueId, LeagueRequestModel leagueRequestModel);
+    LeagueResponseModel updateLeague(String leagueId, LeagueRequestModel leagueRequestModel, Long expectedVersion);
     void deleteLeague(String leagueId);
 }
@@ -9,16 +9,19 @@ import com.worldofsoccer.league.mappinglayer.LeagueRequestMapper;
 import com.worldofsoccer.league.presentationlayer.LeagueController;
 import com.worldofsoccer.league.presentationlayer.LeagueRequestModel;
 import com.worldofsoccer.league.presentationlayer.LeagueResponseModel;
+import com.worldofsoccer.league.utils.CursorPage;
+import com.worldofsoccer.league.utils.IfMatch;
+import com.worldofsoccer.league.utils.LinkTemplate;
+import com.worldofsoccer.league.utils.PageCursor;
 import com.worldofsoccer.league.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.league.utils.exceptions.InvalidNumberOfTeamsException;
 import com.worldofsoccer.league.utils.exceptions.NotFoundException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.hateoas.Link;
+import org.springframework.hateoas.IanaLinkRelations;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @Service
 public class LeagueServiceImpl implements LeagueService {
@@ -27,6 +30,11 @@ public class LeagueServiceImpl implements LeagueService {
     private final LeagueResponseMapper leagueResponseMapper;
     private final LeagueRequestMapper leagueRequestMapper;
 
+    private static final LinkTemplate SELF_LINK =
+            LinkTemplate.of(p -> methodOn(LeagueController.class).getLeagueById(p[0]), 1);
+    private static final LinkTemplate ALL_LEAGUES_LINK =
+            LinkTemplate.of(p -> methodOn(LeagueController.class).getAllLeagues(null, null, null), 0);
+
     public LeagueServiceImpl(LeagueRepository leagueRepository,
                              LeagueResponseMapper leagueResponseMapper,
                              LeagueRequestMapper leagueRequestMapper) {
@@ -36,15 +44,26 @@ public class LeagueServiceImpl implements LeagueService {
     }
 
     @Override
-    public List<LeagueResponseModel> getAllLeagues() {
-        List<League> leagues = leagueRepository.findAll();
-        List<LeagueResponseModel> leagueResponseList = new ArrayList<>();
-        for (League league : leagues) {
-            LeagueResponseModel response = leagueResponseMapper.entityToResponseModel(league);
-            addLinks(response, league);
-            leagueResponseList.add(response);
-        }
-        return leagueResponseList;
+    public CursorPage<LeagueResponseModel> getAllLeagues(String after, Integer limit) {
+        int pageSize = PageCursor.pageSize(limit);
+        String afterId = after == null || after.isBlank() ? "" : PageCursor.decode(after, 1)[0];
+
+        List<League> leagues = leagueRepository.findPageAfter(afterId, Limit.of(pageSize + 1));
+        return CursorPage.fromRows(leagues, pageSize,
+                last -> PageCursor.encode(last.getLeagueIdentifier().getLeagueId()),
+                league -> {
+                    LeagueResponseModel response = leagueResponseMapper.entityToResponseModel(league);
+                    addLinks(response, league);
+                    return response;
+                });
+    }
+
+    // the extra row is part of the window too, so a page that gains a next cursor is retagged
+    @Override
+    public String getAllLeaguesEtag(String after, Integer limit) {
+        int pageSize = PageCursor.pageSize(limit);
+        String afterId = after == null || after.isBlank() ? "" : PageCursor.decode(after, 1)[0];
+        return IfMatch.pageEtag(leagueRepository.findPageVersionsAfter(afterId, Limit.of(pageSize + 1)));
     }
 
     @Override
@@ -86,11 +105,12 @@ public class LeagueServiceImpl implements LeagueService {
     }
 
     @Override
-    public LeagueResponseModel updateLeague(String leagueId, LeagueRequestModel leagueRequestModel) {
+    public LeagueResponseModel updateLeague(String leagueId, LeagueRequestModel leagueRequestModel, Long expectedVersion) {
         League existingLeague = leagueRepository.findByLeagueIdentifier_LeagueId(leagueId);
         if (existingLeague == null) {
             throw new NotFoundException("League not found with ID: " + leagueId);
         }
+        IfMatch.check(expectedVersion, existingLeague.getVersion(), "League " + leagueId);
 
         if (leagueRequestModel.getName() == null) {
             throw new InvalidInputException("League name is required.");
@@ -110,10 +130,10 @@ public class LeagueServiceImpl implements LeagueService {
         }
 
         leagueRequestMapper.updateEntity(leagueRequestModel, existingLeague);
-        leagueRepository.save(existingLeague);
+        League updatedLeague = leagueRepository.save(existingLeague);
 
-        LeagueResponseModel response = leagueResponseMapper.entityToResponseModel(existingLeague);
-        addLinks(response, existingLeague);
+        LeagueResponseModel response = leagueResponseMapper.entityToResponseModel(updatedLeague);
+        addLinks(response, updatedLeague);
         return response;
     }
 
@@ -127,12 +147,7 @@ public class LeagueServiceImpl implements LeagueService {
     }
 
     private void addLinks(LeagueResponseModel responseModel, League league) {
-        Link selfLink = linkTo(methodOn(LeagueController.class)
-                .getLeagueById(responseModel.getLeagueId())).withSelfRel();
-        responseModel.add(selfLink);
-
-        Link allLeaguesLink = linkTo(methodOn(LeagueController.class)
-                .getAllLeagues()).withRel("allLeagues");
-        responseModel.add(allLeaguesLink);
+        responseModel.add(SELF_LINK.expand(IanaLinkRelations.SELF, responseModel.getLeagueId()));
+        responseModel.add(ALL_LEAGUES_LINK.expand("allLeagues"));
     }
 }
\ No newline at end of file
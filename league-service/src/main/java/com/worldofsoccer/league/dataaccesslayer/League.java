@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 
@@ -33,6 +34,12 @@ public class League {
     private Boolean competitionFormatGroupStage;
     private Boolean competitionFormatKnockout;
 
+    // same default as the schema scripts, so rows inserted without it are not taken for new entities
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     public League(@NotNull String name,@NotNull String country,@NotNull FormatType format,
                   @NotNull Integer numberOfTeams,@NotNull String leagueDifficulty) {
         this.leagueIdentifier = new LeagueIdentifier();
@@ -1,7 +1,20 @@
 package com.worldofsoccer.league.dataaccesslayer;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface LeagueRepository extends JpaRepository<League, Integer> {
     League findByLeagueIdentifier_LeagueId(String leagueId);
+
+    // keyset page on the primary key (league_id); an empty string starts at the first row
+    @Query("SELECT l FROM League l WHERE l.leagueIdentifier.leagueId > :afterId ORDER BY l.leagueIdentifier.leagueId")
+    List<League> findPageAfter(@Param("afterId") String afterId, Limit limit);
+
+    // the same window as findPageAfter, but only [leagueId, version] per row
+    @Query("SELECT l.leagueIdentifier.leagueId, l.version FROM League l WHERE l.leagueIdentifier.leagueId > :afterId ORDER BY l.leagueIdentifier.leagueId")
+    List<Object[]> findPageVersionsAfter(@Param("afterId") String afterId, Limit limit);
 }
@@ -18,7 +18,8 @@ public interface LeagueRequestMapper {
             @Mapping(target = "country", source = "requestModel.country"),
             @Mapping(target = "format", source = "requestModel.format"),
             @Mapping(target = "numberOfTeams", source = "requestModel.numberOfTeams"),
-            @Mapping(target = "leagueDifficulty", source = "requestModel.leagueDifficulty")
+            @Mapping(target = "leagueDifficulty", source = "requestModel.leagueDifficulty"),
+            @Mapping(target = "version", ignore = true)
     })
     League requestModelToEntity(LeagueRequestModel requestModel, LeagueIdentifier leagueIdentifier);
 
@@ -28,7 +29,8 @@ public interface LeagueRequestMapper {
             @Mapping(target = "country", source = "requestModel.country"),
             @Mapping(target = "format", source = "requestModel.format"),
             @Mapping(target = "numberOfTeams", source = "requestModel.numberOfTeams"),
-            @Mapping(target = "leagueDifficulty", source = "requestModel.leagueDifficulty")
+            @Mapping(target = "leagueDifficulty", source = "requestModel.leagueDifficulty"),
+            @Mapping(target = "version", ignore = true)
     })
     void updateEntity(LeagueRequestModel requestModel, @MappingTarget League existingLeague);
 }
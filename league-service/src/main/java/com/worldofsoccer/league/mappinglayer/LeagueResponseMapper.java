@@ -25,7 +25,8 @@ public interface LeagueResponseMapper {
             @Mapping(target = "seasonEndDate", source = "league.seasonEndDate"),
             @Mapping(target = "competitionFormatType", source = "league.competitionFormatType"),
             @Mapping(target = "competitionFormatGroupStage", source = "league.competitionFormatGroupStage"),
-            @Mapping(target = "competitionFormatKnockout", source = "league.competitionFormatKnockout")
+            @Mapping(target = "competitionFormatKnockout", source = "league.competitionFormatKnockout"),
+            @Mapping(target = "version", source = "league.version")
     })
     LeagueResponseModel entityToResponseModel(League league);
 
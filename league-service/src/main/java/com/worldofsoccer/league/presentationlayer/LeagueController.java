@@ -1,11 +1,15 @@
 package com.worldofsoccer.league.presentationlayer;
 
 import com.worldofsoccer.league.businesslayer.LeagueService;
+import com.worldofsoccer.league.utils.CursorPage;
+import com.worldofsoccer.league.utils.IfMatch;
 import com.worldofsoccer.league.utils.exceptions.InvalidInputException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,8 +22,20 @@ public class LeagueController {
     private static final int UUID_LENGTH = 36;
 
     @GetMapping
-    public ResponseEntity<List<LeagueResponseModel>> getAllLeagues() {
-        return ResponseEntity.ok(leagueService.getAllLeagues());
+    public ResponseEntity<List<LeagueResponseModel>> getAllLeagues(@RequestParam(required = false) String after,
+                                                                   @RequestParam(required = false) Integer limit,
+                                                                   WebRequest request) {
+        // tagged from ids and versions alone, so an unchanged page is answered before it is loaded
+        String etag = leagueService.getAllLeaguesEtag(after, limit);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        CursorPage<LeagueResponseModel> page = leagueService.getAllLeagues(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @GetMapping("/{leagueId}")
@@ -27,7 +43,8 @@ public class LeagueController {
         if (leagueId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid leagueId provided: " + leagueId);
         }
-        return ResponseEntity.ok(leagueService.getLeagueById(leagueId));
+        LeagueResponseModel league = leagueService.getLeagueById(leagueId);
+        return ResponseEntity.ok().eTag(IfMatch.etag(league.getVersion())).body(league);
     }
 
     @PostMapping
@@ -39,13 +56,14 @@ public class LeagueController {
     @PutMapping("/{leagueId}")
     public ResponseEntity<LeagueResponseModel> updateLeague(
             @PathVariable String leagueId,
-            @RequestBody LeagueRequestModel leagueRequestModel
+            @RequestBody LeagueRequestModel leagueRequestModel,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         if (leagueId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid leagueId provided: " + leagueId);
         }
-        LeagueResponseModel updatedLeague = leagueService.updateLeague(leagueId, leagueRequestModel);
-        return ResponseEntity.status(HttpStatus.OK).body(updatedLeague);
+        LeagueResponseModel updatedLeague = leagueService.updateLeague(leagueId, leagueRequestModel, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.status(HttpStatus.OK).eTag(IfMatch.etag(updatedLeague.getVersion())).body(updatedLeague);
     }
 
     @DeleteMapping("/{leagueId}")
@@ -25,4 +25,5 @@ public class LeagueResponseModel extends RepresentationModel<LeagueResponseModel
     private String competitionFormatType;
     private Boolean competitionFormatGroupStage;
     private Boolean competitionFormatKnockout;
+    private Long version;
 }
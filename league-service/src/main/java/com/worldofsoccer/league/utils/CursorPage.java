@@ -0,0 +1,40 @@
+package com.worldofsoccer.league.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset listing. {@code nextCursor} is null on the last page.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    /**
+     * Builds a page from rows fetched with {@code pageSize + 1} as the limit; the extra
+     * row only signals that another page exists and is not returned.
+     */
+    public static <E, T> CursorPage<T> fromRows(List<E> rows, int pageSize,
+                                                Function<E, String> cursorOf,
+                                                Function<E, T> mapper) {
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = cursorOf.apply(rows.get(pageSize - 1));
+        }
+        List<T> items = new ArrayList<>(rows.size());
+        for (E row : rows) {
+            items.add(mapper.apply(row));
+        }
+        return new CursorPage<>(items, nextCursor);
+    }
+}
@@ -0,0 +1,84 @@
+package com.worldofsoccer.league.utils;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+/**
+ * A controller route resolved through {@code linkTo(methodOn(...))} once per request and then
+ * stamped out per item by substituting path values, so list endpoints do not build a proxy
+ * and re-derive the base URI for every element.
+ *
+ * <pre>
+ * LinkTemplate SELF = LinkTemplate.of(p -> methodOn(TeamController.class).getTeamById(p[0]), 1);
+ * model.add(SELF.expand(IanaLinkRelations.SELF, teamId));
+ * </pre>
+ */
+public final class LinkTemplate {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final Function<String[], Object> invocation;
+    private final String[] markers;
+    private final String attributeName;
+
+    private LinkTemplate(Function<String[], Object> invocation, int parameterCount) {
+        int id = SEQUENCE.incrementAndGet();
+        this.invocation = invocation;
+        this.markers = new String[parameterCount];
+        for (int i = 0; i < parameterCount; i++) {
+            // plain alphanumerics survive URI encoding unchanged, so they can be found again in the href
+            markers[i] = "LINKTEMPLATE" + id + "X" + i + "X";
+        }
+        this.attributeName = LinkTemplate.class.getName() + "." + id;
+    }
+
+    /**
+     * @param invocation     the {@code methodOn(...)} call, given one placeholder per path value
+     * @param parameterCount how many path values {@link #expand} will substitute, in order
+     */
+    public static LinkTemplate of(Function<String[], Object> invocation, int parameterCount) {
+        return new LinkTemplate(invocation, parameterCount);
+    }
+
+    public Link expand(LinkRelation rel, String... values) {
+        if (values.length != markers.length) {
+            throw new IllegalArgumentException("Expected " + markers.length + " values but got " + values.length);
+        }
+        String href = href();
+        for (int i = 0; i < markers.length; i++) {
+            href = href.replace(markers[i], UriUtils.encodePathSegment(values[i], StandardCharsets.UTF_8));
+        }
+        return Link.of(href, rel);
+    }
+
+    public Link expand(String rel, String... values) {
+        return expand(LinkRelation.of(rel), values);
+    }
+
+    // the base URI depends on the current request (host, port, forwarded headers), so cache per request
+    private String href() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return resolve();
+        }
+        String href = (String) request.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+        if (href == null) {
+            href = resolve();
+            request.setAttribute(attributeName, href, RequestAttributes.SCOPE_REQUEST);
+        }
+        return href;
+    }
+
+    private String resolve() {
+        return linkTo(invocation.apply(markers.clone())).withSelfRel().getHref();
+    }
+}
@@ -13,5 +13,6 @@ CREATE TABLE leagues (
                          competition_format_type VARCHAR(20),
                          competition_format_group_stage BOOLEAN,
                          competition_format_knockout BOOLEAN,
+                         version BIGINT NOT NULL DEFAULT 0,
                          PRIMARY KEY (league_id)
 );
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -132,4 +133,20 @@ public class LeagueRepositoryIntegrationTest {
         InvalidNumberOfTeamsException e4 = new InvalidNumberOfTeamsException(cause);
         assertEquals(cause, e4.getCause());
     }
+
+    @Test
+    public void whenPagingLeaguesByLeagueId_thenEachPageStartsAfterCursor() {
+        leagueRepository.save(new League("Ligue 1", "France", FormatType.LEAGUE, 18, "Medium"));
+        leagueRepository.save(new League("Eredivisie", "Netherlands", FormatType.LEAGUE, 18, "Medium"));
+        leagueRepository.save(new League("Primeira Liga", "Portugal", FormatType.LEAGUE, 18, "Medium"));
+
+        List<League> page1 = leagueRepository.findPageAfter("", Limit.of(2));
+        String lastId = page1.get(1).getLeagueIdentifier().getLeagueId();
+        List<League> page2 = leagueRepository.findPageAfter(lastId, Limit.of(2));
+
+        assertEquals(2, page1.size());
+        assertEquals(1, page2.size());
+        assertTrue(page1.get(0).getLeagueIdentifier().getLeagueId().compareTo(lastId) < 0);
+        assertTrue(page2.get(0).getLeagueIdentifier().getLeagueId().compareTo(lastId) > 0);
+    }
 }
@@ -14,10 +14,12 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.context.request.ServletWebRequest;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -55,6 +57,69 @@ public class LeagueControllerIntegrationTest {
                 });
     }
 
+    @Test
+    public void whenLeaguesUnchangedSinceETag_thenReturnNotModified() {
+        String etag = webClient.get()
+                .uri(BASE_URI_LEAGUES)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+
+        webClient.get()
+                .uri(BASE_URI_LEAGUES)
+                .accept(MediaType.APPLICATION_JSON)
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", etag)
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    public void whenListedLeagueUpdated_thenListETagNoLongerMatches() {
+        EntityExchangeResult<List<LeagueResponseModel>> listed = webClient.get()
+                .uri(BASE_URI_LEAGUES)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(LeagueResponseModel.class)
+                .returnResult();
+        String etag = listed.getResponseHeaders().getETag();
+        LeagueResponseModel league = listed.getResponseBody().get(0);
+
+        LeagueRequestModel updateRequest = new LeagueRequestModel();
+        updateRequest.setName(league.getName() + " Renamed");
+        updateRequest.setCountry(league.getCountry());
+        updateRequest.setFormat(league.getFormat());
+        updateRequest.setNumberOfTeams(league.getNumberOfTeams());
+        updateRequest.setLeagueDifficulty(league.getLeagueDifficulty());
+        updateRequest.setSeasonYear(league.getSeasonYear());
+        updateRequest.setSeasonStartDate(league.getSeasonStartDate());
+        updateRequest.setSeasonEndDate(league.getSeasonEndDate());
+        updateRequest.setCompetitionFormatType(league.getCompetitionFormatType());
+        updateRequest.setCompetitionFormatGroupStage(league.getCompetitionFormatGroupStage());
+        updateRequest.setCompetitionFormatKnockout(league.getCompetitionFormatKnockout());
+        webClient.put()
+                .uri(BASE_URI_LEAGUES + "/" + league.getLeagueId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updateRequest)
+                .exchange()
+                .expectStatus().isOk();
+
+        String newEtag = webClient.get()
+                .uri(BASE_URI_LEAGUES)
+                .accept(MediaType.APPLICATION_JSON)
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+        assertNotEquals(etag, newEtag);
+    }
+
     @Test
     public void whenValidLeagueRequest_thenCreateAndReturnLeague(){
         LeagueRequestModel newLeague = new LeagueRequestModel();
@@ -0,0 +1,138 @@
+#!/usr/bin/env bash
+#
+# Compares the platform-thread and virtual-thread execution modes under the same load.
+# For each mode the whole stack is rebuilt and started with docker-compose, warmed up,
+# then driven with `hey` while peak thread count and heap are sampled.
+#
+# Sample usage:
+#   ./load_test.bash
+#   MODES="true" DURATION=120s CONCURRENCY=400 ./load_test.bash
+#
+# Requires: docker-compose, curl, jq, hey (https://github.com/rakyll/hey)
+#
+
+: ${HOST=localhost}
+: ${PORT=8080}
+: ${MATCH_PORT=8084}
+: ${MODES="false true"}
+: ${DURATION=60s}
+: ${WARMUP=15s}
+: ${CONCURRENCY=200}
+: ${RESULTS_DIR=load-test-results}
+
+CONTAINERS=(api-gateway teams-service league-service location-service match-service)
+
+function testUrl() {
+  url=$@
+  if curl -ks -f -o /dev/null $url; then
+    return 0
+  else
+    return 1
+  fi
+}
+
+function waitForService() {
+  local url=$@
+  echo -n "Waiting for $url ..."
+  until testUrl $url; do
+    echo -n "."
+    sleep 2
+  done
+  echo " ready"
+}
+
+function threadCount() {
+  docker exec $1 sh -c 'ls /proc/1/task | wc -l' 2>/dev/null || echo 0
+}
+
+function heapUsedMb() {
+  curl -s "http://$HOST:$1/actuator/metrics/jvm.memory.used?tag=area:heap" \
+    | jq -r '(.measurements[0].value // 0) / 1048576 | floor'
+}
+
+# writes "<container> <peak threads>" lines and "heap-<port> <peak MB>" lines to $1 until killed
+function sampleResources() {
+  local out=$1
+  declare -A peak
+  while true; do
+    for c in "${CONTAINERS[@]}"; do
+      local n=$(threadCount $c)
+      (( n > ${peak[$c]:-0} )) && peak[$c]=$n
+    done
+    for p in $PORT $MATCH_PORT; do
+      local mb=$(heapUsedMb $p)
+      (( mb > ${peak[heap-$p]:-0} )) && peak[heap-$p]=$mb
+    done
+    : > $out
+    for k in "${!peak[@]}"; do
+      echo "$k ${peak[$k]}" >> $out
+    done
+    sleep 2
+  done
+}
+
+function p99() {
+  awk '/99% in/ { printf "%.1f", $3 * 1000 }' $1
+}
+
+function rps() {
+  awk '/Requests\/sec/ { printf "%.0f", $2 }' $1
+}
+
+function runMode() {
+  local virtual=$1
+  local dir=$RESULTS_DIR/virtual-$virtual
+  mkdir -p $dir
+
+  echo
+  echo "=== spring.threads.virtual.enabled=$virtual ==="
+  docker-compose down
+  VIRTUAL_THREADS=$virtual docker-compose up -d --build
+  waitForService http://$HOST:$PORT/api/v1/leagues
+  waitForService http://$HOST:$MATCH_PORT/actuator/health
+
+  local leagueId=$(curl -s "http://$HOST:$PORT/api/v1/leagues?limit=1" | jq -r '.[0].leagueId')
+  local teamsUrl="http://$HOST:$PORT/api/v1/teams?limit=50"
+  local matchesUrl="http://$HOST:$PORT/api/v1/leagues/$leagueId/matches?limit=50"
+
+  echo "Warming up for $WARMUP ..."
+  hey -z $WARMUP -c $CONCURRENCY $teamsUrl > /dev/null
+  hey -z $WARMUP -c $CONCURRENCY $matchesUrl > /dev/null
+
+  sampleResources $dir/peaks.txt &
+  local sampler=$!
+
+  echo "Driving $teamsUrl and $matchesUrl for $DURATION at concurrency $CONCURRENCY each ..."
+  hey -z $DURATION -c $CONCURRENCY $teamsUrl > $dir/teams.txt &
+  local teams=$!
+  hey -z $DURATION -c $CONCURRENCY $matchesUrl > $dir/matches.txt
+  wait $teams
+
+  kill $sampler
+  wait $sampler 2>/dev/null
+
+  local row="| $virtual | $(rps $dir/teams.txt) | $(p99 $dir/teams.txt) | $(rps $dir/matches.txt) | $(p99 $dir/matches.txt)"
+  for c in "${CONTAINERS[@]}"; do
+    row="$row | $(awk -v k=$c '$1 == k { print $2 }' $dir/peaks.txt)"
+  done
+  row="$row | $(awk -v k=heap-$PORT '$1 == k { print $2 }' $dir/peaks.txt)"
+  row="$row | $(awk -v k=heap-$MATCH_PORT '$1 == k { print $2 }' $dir/peaks.txt) |"
+  echo "$row" >> $RESULTS_DIR/summary.md
+}
+
+mkdir -p $RESULTS_DIR
+{
+  echo "# Load test $(date -u +%Y-%m-%dT%H:%MZ): $DURATION at concurrency $CONCURRENCY per endpoint"
+  echo
+  echo "| virtual | teams rps | teams p99 ms | matches rps | matches p99 ms | gateway threads | teams threads | league threads | location threads | match threads | gateway heap MB | match heap MB |"
+  echo "|---|---|---|---|---|---|---|---|---|---|---|---|"
+} > $RESULTS_DIR/summary.md
+
+for mode in $MODES; do
+  runMode $mode
+done
+
+docker-compose down
+
+echo
+cat $RESULTS_DIR/summary.md
@@ -2,10 +2,19 @@ package com.worldofsoccer.location;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 @SpringBootApplication
+@EnableScheduling
 public class LocationServiceApplication {
 
+	@Bean
+	ShallowEtagHeaderFilter etagFilter() {
+		return new ShallowEtagHeaderFilter();
+	}
+
 	public static void main(String[] args) {
 		SpringApplication.run(LocationServiceApplication.class, args);
 	}
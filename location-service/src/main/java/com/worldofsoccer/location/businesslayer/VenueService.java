@@ -4,15 +4,18 @@ package com.worldofsoccer.location.businesslayer;
 import com.worldofsoccer.location.dataaccesslayer.MatchStatus;
 import com.worldofsoccer.location.presentationlayer.VenueRequestModel;
 import com.worldofsoccer.location.presentationlayer.VenueResponseModel;
+import com.worldofsoccer.location.utils.CursorPage;
 
 import java.util.List;
 
 public interface VenueService {
-    List<VenueResponseModel> getAllVenues();
+    CursorPage<VenueResponseModel> getAllVenues(String after, Integer limit);
+    String getAllVenuesEtag(String after, Integer limit);
     VenueResponseModel getVenueById(String venueId);
     VenueResponseModel createVenue(VenueRequestModel venueRequestModel);
-    VenueResponseModel updateVenue(String venueId, VenueRequestModel venueRequestModel);
+    VenueResponseModel updateVenue(String venueId, VenueRequestModel venueRequestModel, Long expectedVersion);
     void deleteVenue(String venueId);
-    Boolean updateVenueStateBasedOnMatchStatus(String venueId, MatchStatus matchStatus);
+    VenueResponseModel updateVenueStateBasedOnMatchStatus(String venueId, MatchStatus matchStatus);
+    List<VenueResponseModel> updateVenueStatesBasedOnMatchStatus(List<String> venueIds, MatchStatus matchStatus, String idempotencyKey);
 
 }
@@ -4,23 +4,35 @@ import com.worldofsoccer.location.dataaccesslayer.Venue;
 import com.worldofsoccer.location.dataaccesslayer.VenueIdentifier;
 import com.worldofsoccer.location.dataaccesslayer.VenueRepository;
 import com.worldofsoccer.location.dataaccesslayer.VenueState;
+import com.worldofsoccer.location.dataaccesslayer.VenueStateRequest;
+import com.worldofsoccer.location.dataaccesslayer.VenueStateRequestRepository;
 import com.worldofsoccer.location.mappinglayer.VenueRequestMapper;
 import com.worldofsoccer.location.mappinglayer.VenueResponseMapper;
 import com.worldofsoccer.location.presentationlayer.VenueController;
 import com.worldofsoccer.location.presentationlayer.VenueRequestModel;
 import com.worldofsoccer.location.presentationlayer.VenueResponseModel;
 import com.worldofsoccer.location.dataaccesslayer.MatchStatus;
+import com.worldofsoccer.location.utils.CursorPage;
+import com.worldofsoccer.location.utils.IfMatch;
+import com.worldofsoccer.location.utils.LinkTemplate;
+import com.worldofsoccer.location.utils.PageCursor;
 import com.worldofsoccer.location.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.location.utils.exceptions.InvalidVenueCapacityException;
 import com.worldofsoccer.location.utils.exceptions.NotFoundException;
+import com.worldofsoccer.location.utils.exceptions.VenueStateConflictException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.hateoas.Link;
+import org.springframework.data.domain.Limit;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Service
@@ -30,17 +42,35 @@ public class VenueServiceImpl implements VenueService {
     private final VenueRepository venueRepository;
     private final VenueRequestMapper requestMapper;
     private final VenueResponseMapper responseMapper;
+    private final VenueStateRequestRepository stateRequestRepository;
+
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+
+    private static final LinkTemplate SELF_LINK =
+            LinkTemplate.of(p -> methodOn(VenueController.class).getVenueById(p[0]), 1);
+    private static final LinkTemplate ALL_VENUES_LINK =
+            LinkTemplate.of(p -> methodOn(VenueController.class).getAllVenues(null, null, null), 0);
 
     @Override
-    public List<VenueResponseModel> getAllVenues() {
-        List<Venue> venues = venueRepository.findAll();
-        List<VenueResponseModel> responseList = new ArrayList<>();
-        for (Venue venue : venues) {
-            VenueResponseModel model = responseMapper.entityToResponseModel(venue);
-            addLinks(model, venue);
-            responseList.add(model);
-        }
-        return responseList;
+    public CursorPage<VenueResponseModel> getAllVenues(String after, Integer limit) {
+        int pageSize = PageCursor.pageSize(limit);
+        int afterId = after == null || after.isBlank() ? 0 : PageCursor.decodeId(after);
+
+        List<Venue> venues = venueRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1));
+        return CursorPage.fromRows(venues, pageSize,
+                last -> PageCursor.encode(String.valueOf(last.getId())),
+                venue -> {
+                    VenueResponseModel model = responseMapper.entityToResponseModel(venue);
+                    addLinks(model, venue);
+                    return model;
+                });
+    }
+
+    @Override
+    public String getAllVenuesEtag(String after, Integer limit) {
+        int pageSize = PageCursor.pageSize(limit);
+        int afterId = after == null || after.isBlank() ? 0 : PageCursor.decodeId(after);
+        return IfMatch.pageEtag(venueRepository.findPageVersionsAfter(afterId, Limit.of(pageSize + 1)));
     }
 
     @Override
@@ -73,11 +103,12 @@ public class VenueServiceImpl implements VenueService {
     }
 
     @Override
-    public VenueResponseModel updateVenue(String venueId, VenueRequestModel venueRequestModel) {
+    public VenueResponseModel updateVenue(String venueId, VenueRequestModel venueRequestModel, Long expectedVersion) {
         Venue existing = venueRepository.findByVenueIdentifier_VenueId(venueId);
         if (existing == null) {
             throw new NotFoundException("Venue not found with ID: " + venueId);
         }
+        IfMatch.check(expectedVersion, existing.getVersion(), "Venue " + venueId);
 
         if (venueRequestModel.getName() == null) {
             throw new InvalidInputException("Venue name is required.");
@@ -105,41 +136,90 @@ public class VenueServiceImpl implements VenueService {
         venueRepository.delete(existing);
     }
 
+    // one conditional UPDATE, no read first: the affected-row count says whether this call won
     @Override
-    public Boolean updateVenueStateBasedOnMatchStatus(String venueId, MatchStatus matchStatus) {
-        Venue venue = venueRepository.findByVenueIdentifier_VenueId(venueId);
-        if (venue == null) {
+    @Transactional
+    public VenueResponseModel updateVenueStateBasedOnMatchStatus(String venueId, MatchStatus matchStatus) {
+        VenueState newState = VenueStateMachine.targetFor(matchStatus);
+        if (newState == null) {
+            throw new InvalidInputException("A match status is required.");
+        }
+        if (venueRepository.transitionState(venueId, newState, VenueStateMachine.sourcesOf(newState)) == 1) {
+            // built from what the UPDATE already knows; the self link has the rest of the venue
+            VenueResponseModel moved = new VenueResponseModel();
+            moved.setVenueId(venueId);
+            moved.setVenueState(newState);
+            moved.add(SELF_LINK.expand(IanaLinkRelations.SELF, venueId));
+            return moved;
+        }
+        // refused: a missing venue is a 404, otherwise report the state it is in
+        Venue current = venueRepository.findByVenueIdentifier_VenueId(venueId);
+        if (current == null) {
             throw new NotFoundException("Venue not found with ID: " + venueId);
         }
-        VenueState newState;
-        if (matchStatus == MatchStatus.SCHEDULED) {
-            newState = VenueState.UPCOMING;
-        } else if (matchStatus == MatchStatus.IN_PROGRESS) {
-            newState = VenueState.LIVE;
-        } else if (matchStatus == MatchStatus.COMPLETED) {
-            newState = VenueState.PAST;
+        throw new VenueStateConflictException("Venue " + venueId + " cannot move to " + newState
+                + " from state " + current.getVenueState());
+    }
+
+    @Override
+    @Transactional
+    public List<VenueResponseModel> updateVenueStatesBasedOnMatchStatus(List<String> venueIds, MatchStatus matchStatus,
+                                                                        String idempotencyKey) {
+        VenueState newState = VenueStateMachine.targetFor(matchStatus);
+        if (newState == null) {
+            throw new InvalidInputException("A match status is required.");
+        }
+        if (idempotencyKey != null) {
+            if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+                throw new InvalidInputException("Invalid Idempotency-Key provided: " + idempotencyKey);
+            }
+            // a resend, e.g. after the caller lost the response: report what the first call changed
+            VenueStateRequest seen = stateRequestRepository.findById(idempotencyKey).orElse(null);
+            if (seen != null) {
+                return replay(seen);
+            }
+        }
+        if (venueIds == null || venueIds.isEmpty()) {
+            return List.of();
+        }
+
+        // one compare-and-set UPDATE per venue and no row locks: a venue is reported only if its own
+        // UPDATE moved it; those already in the target state, or in one it may not follow, are left alone
+        Set<VenueState> fromStates = VenueStateMachine.changingSourcesOf(newState);
+        List<String> changedIds = new ArrayList<>();
+        for (String venueId : new LinkedHashSet<>(venueIds)) {
+            if (venueRepository.transitionState(venueId, newState, fromStates) == 1) {
+                changedIds.add(venueId);
+            }
+        }
+        if (idempotencyKey != null) {
+            stateRequestRepository.save(new VenueStateRequest(idempotencyKey, String.join(",", changedIds), Instant.now()));
         }
+        return changedIds.isEmpty() ? List.of() : toModels(venueRepository.findByVenueIdentifier_VenueIdIn(changedIds));
+    }
 
-        else if(matchStatus == MatchStatus.CANCELED){
-            newState = VenueState.CANCELED;
+    // the venues as they are now; a later request may have moved them on since
+    private List<VenueResponseModel> replay(VenueStateRequest seen) {
+        if (seen.getChangedVenueIds() == null || seen.getChangedVenueIds().isEmpty()) {
+            return List.of();
         }
-        else {
-            newState = venue.getVenueState();
+        return toModels(venueRepository.findByVenueIdentifier_VenueIdIn(
+                Arrays.asList(seen.getChangedVenueIds().split(","))));
+    }
+
+    private List<VenueResponseModel> toModels(List<Venue> venues) {
+        List<VenueResponseModel> models = new ArrayList<>(venues.size());
+        for (Venue venue : venues) {
+            VenueResponseModel model = responseMapper.entityToResponseModel(venue);
+            addLinks(model, venue);
+            models.add(model);
         }
-        venue.setVenueState(newState);
-        venueRepository.save(venue);
-        return true;
+        return models;
     }
+
     private void addLinks(VenueResponseModel model, Venue venue) {
-        Link self = linkTo(methodOn(VenueController.class)
-                .getVenueById(model.getVenueId()))
-                .withSelfRel();
-        model.add(self);
-
-        Link all = linkTo(methodOn(VenueController.class)
-                .getAllVenues())
-                .withRel("allVenues");
-        model.add(all);
+        model.add(SELF_LINK.expand(IanaLinkRelations.SELF, model.getVenueId()));
+        model.add(ALL_VENUES_LINK.expand("allVenues"));
     }
 }
 
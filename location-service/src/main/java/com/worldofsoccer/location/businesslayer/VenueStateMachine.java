@@ -0,0 +1,62 @@
+package com.worldofsoccer.location.businesslayer;
+
+import com.worldofsoccer.location.dataaccesslayer.MatchStatus;
+import com.worldofsoccer.location.dataaccesslayer.VenueState;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.worldofsoccer.location.dataaccesslayer.VenueState.*;
+
+/**
+ * Which states a venue may be moved out of to reach each target state. The table becomes the
+ * {@code venue_state IN (...)} guard of a single conditional UPDATE, so a move the venue's
+ * current state does not allow, including one made stale by a concurrent writer, changes no row.
+ * <pre>
+ *   target     allowed from
+ *   UPCOMING   UPCOMING, PAST, CANCELED   (a free venue can take another booking)
+ *   LIVE       UPCOMING
+ *   PAST       UPCOMING, LIVE
+ *   CANCELED   any state
+ * </pre>
+ */
+final class VenueStateMachine {
+
+    private static final Map<VenueState, Set<VenueState>> SOURCES = new EnumMap<>(VenueState.class);
+
+    static {
+        SOURCES.put(UPCOMING, Collections.unmodifiableSet(EnumSet.of(UPCOMING, PAST, CANCELED)));
+        SOURCES.put(LIVE, Collections.unmodifiableSet(EnumSet.of(UPCOMING)));
+        SOURCES.put(PAST, Collections.unmodifiableSet(EnumSet.of(UPCOMING, LIVE)));
+        SOURCES.put(CANCELED, Collections.unmodifiableSet(EnumSet.allOf(VenueState.class)));
+    }
+
+    private VenueStateMachine() {
+    }
+
+    static Set<VenueState> sourcesOf(VenueState target) {
+        return SOURCES.get(target);
+    }
+
+    // the states a move to target would actually change, i.e. the sources other than target itself
+    static Set<VenueState> changingSourcesOf(VenueState target) {
+        Set<VenueState> sources = EnumSet.copyOf(SOURCES.get(target));
+        sources.remove(target);
+        return sources;
+    }
+
+    static VenueState targetFor(MatchStatus matchStatus) {
+        if (matchStatus == null) {
+            return null;
+        }
+        return switch (matchStatus) {
+            case SCHEDULED -> VenueState.UPCOMING;
+            case IN_PROGRESS -> VenueState.LIVE;
+            case COMPLETED -> VenueState.PAST;
+            case CANCELED -> VenueState.CANCELED;
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.worldofsoccer.location.businesslayer;
+
+import com.worldofsoccer.location.dataaccesslayer.VenueStateRequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Forgets idempotency keys once no caller can still be retrying them.
+ */
+@Slf4j
+@Component
+public class VenueStateRequestPurgeJob {
+
+    private final VenueStateRequestRepository stateRequestRepository;
+    private final Duration retention;
+
+    public VenueStateRequestPurgeJob(VenueStateRequestRepository stateRequestRepository,
+                                     @Value("${app.idempotency.retention:24h}") Duration retention) {
+        this.stateRequestRepository = stateRequestRepository;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:1h}")
+    @Transactional
+    public int purge() {
+        int purged = stateRequestRepository.deleteCreatedBefore(Instant.now().minus(retention));
+        if (purged > 0) {
+            log.debug("Purged {} idempotency keys older than {}", purged, retention);
+        }
+        return purged;
+    }
+}
@@ -3,6 +3,7 @@ package com.worldofsoccer.location.dataaccesslayer;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "venues")
@@ -26,6 +27,12 @@ public class Venue {
     private String city;
     private Integer yearBuilt;
 
+    // same default as the schema scripts, so rows inserted without it are not taken for new entities
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     public Venue( String name, Integer capacity, String city, Integer yearBuilt,VenueState venueState) {
         this.venueIdentifier = new VenueIdentifier();
         this.name = name;
@@ -1,8 +1,31 @@
 package com.worldofsoccer.location.dataaccesslayer;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface VenueRepository extends JpaRepository<Venue, Integer> {
     Venue findByVenueIdentifier_VenueId (String id);
 
+    List<Venue> findByVenueIdentifier_VenueIdIn(Collection<String> venueIds);
+
+    // keyset page on the primary key: WHERE id > :afterId ORDER BY id LIMIT n
+    List<Venue> findByIdGreaterThanOrderByIdAsc(Integer afterId, Limit limit);
+
+    // the same window, but only [id, version] per row
+    @Query("select v.id, v.version from Venue v where v.id > :afterId order by v.id")
+    List<Object[]> findPageVersionsAfter(@Param("afterId") Integer afterId, Limit limit);
+
+    // compare-and-set: the venue moves only if its current state is one of fromStates; returns rows changed
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Venue v set v.venueState = :state, v.version = v.version + 1 where v.venueIdentifier.venueId = :venueId and v.venueState in :fromStates")
+    int transitionState(@Param("venueId") String venueId,
+                        @Param("state") VenueState state,
+                        @Param("fromStates") Collection<VenueState> fromStates);
+
 }
@@ -0,0 +1,31 @@
+package com.worldofsoccer.location.dataaccesslayer;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A batch state change already applied under an {@code Idempotency-Key}, kept so a resent
+ * request gets the original outcome instead of being applied again.
+ */
+@Entity
+@Table(name = "venue_state_requests")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueStateRequest {
+
+    @Id
+    @Column(name = "idempotency_key", length = 64)
+    private String idempotencyKey;
+
+    // comma-separated ids of the venues the original request changed
+    @Lob
+    private String changedVenueIds;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,15 @@
+package com.worldofsoccer.location.dataaccesslayer;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface VenueStateRequestRepository extends JpaRepository<VenueStateRequest, String> {
+
+    @Modifying
+    @Query("delete from VenueStateRequest r where r.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") Instant cutoff);
+}
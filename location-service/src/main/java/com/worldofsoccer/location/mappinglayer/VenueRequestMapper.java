@@ -18,8 +18,8 @@ public interface VenueRequestMapper {
             @Mapping(target = "capacity", source = "requestModel.capacity"),
             @Mapping(target = "city", source = "requestModel.city"),
             @Mapping(target = "yearBuilt", source = "requestModel.yearBuilt"),
-            @Mapping(target = "venueState", source = "requestModel.venueState")
-
+            @Mapping(target = "venueState", source = "requestModel.venueState"),
+            @Mapping(target = "version", ignore = true)
     })
     Venue requestModelToEntity(VenueRequestModel requestModel, VenueIdentifier venueIdentifier);
 
@@ -29,7 +29,8 @@ public interface VenueRequestMapper {
             @Mapping(target = "capacity", source = "requestModel.capacity"),
             @Mapping(target = "city", source = "requestModel.city"),
             @Mapping(target = "yearBuilt", source = "requestModel.yearBuilt"),
-            @Mapping(target = "venueState", source = "requestModel.venueState")
+            @Mapping(target = "venueState", source = "requestModel.venueState"),
+            @Mapping(target = "version", ignore = true)
     })
     void updateEntity(VenueRequestModel requestModel, @MappingTarget Venue existingVenue);
 }
@@ -15,7 +15,8 @@ public interface VenueResponseMapper {
             @Mapping(source = "venue.capacity", target = "capacity"),
             @Mapping(source = "venue.city", target = "city"),
             @Mapping(source = "venue.yearBuilt", target = "yearBuilt"),
-            @Mapping(source = "venue.venueState", target = "venueState")
+            @Mapping(source = "venue.venueState", target = "venueState"),
+            @Mapping(source = "venue.version", target = "version")
     })
     VenueResponseModel entityToResponseModel(Venue venue);
 }
\ No newline at end of file
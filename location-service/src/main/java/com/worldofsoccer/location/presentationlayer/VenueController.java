@@ -2,11 +2,15 @@ package com.worldofsoccer.location.presentationlayer;
 
 import com.worldofsoccer.location.businesslayer.VenueService;
 import com.worldofsoccer.location.dataaccesslayer.MatchStatus;
+import com.worldofsoccer.location.utils.CursorPage;
+import com.worldofsoccer.location.utils.IfMatch;
 import com.worldofsoccer.location.utils.exceptions.InvalidInputException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 @RestController
@@ -15,14 +19,27 @@ public class VenueController {
 
     private final VenueService venueService;
     private static final int UUID_LENGTH = 36;
+    private static final int MAX_STATE_BATCH = 1000;
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 
     public VenueController(VenueService venueService) {
         this.venueService = venueService;
     }
 
     @GetMapping
-    public ResponseEntity<List<VenueResponseModel>> getAllVenues() {
-        return ResponseEntity.ok(venueService.getAllVenues());
+    public ResponseEntity<List<VenueResponseModel>> getAllVenues(@RequestParam(required = false) String after,
+                                                                 @RequestParam(required = false) Integer limit,
+                                                                 WebRequest request) {
+        String etag = venueService.getAllVenuesEtag(after, limit);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        CursorPage<VenueResponseModel> page = venueService.getAllVenues(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @GetMapping("/{venueId}")
@@ -30,7 +47,8 @@ public class VenueController {
         if (venueId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid venueId provided: " + venueId);
         }
-        return ResponseEntity.ok(venueService.getVenueById(venueId));
+        VenueResponseModel venue = venueService.getVenueById(venueId);
+        return ResponseEntity.ok().eTag(IfMatch.etag(venue.getVersion())).body(venue);
     }
 
     @PostMapping
@@ -41,16 +59,18 @@ public class VenueController {
     @PutMapping("/{venueId}")
     public ResponseEntity<VenueResponseModel> updateVenue(
             @PathVariable String venueId,
-            @RequestBody VenueRequestModel venueRequestModel
+            @RequestBody VenueRequestModel venueRequestModel,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
         if (venueId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid venueId provided: " + venueId);
         }
-        VenueResponseModel updated = venueService.updateVenue(venueId, venueRequestModel);
-        return ResponseEntity.ok(updated);  // <-- 200 OK, not CREATED
+        VenueResponseModel updated = venueService.updateVenue(venueId, venueRequestModel, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(IfMatch.etag(updated.getVersion())).body(updated);  // <-- 200 OK, not CREATED
     }
 
 
+    // 200 with the venue's id, new state and self link; 409 when its current state does not allow the move
     @PatchMapping("/{venueId}/state")
     public ResponseEntity<VenueResponseModel> updateVenueState(
             @PathVariable String venueId,
@@ -60,18 +80,34 @@ public class VenueController {
             throw new InvalidInputException("Invalid venueId provided: " + venueId);
         }
 
-        Boolean updated = venueService.updateVenueStateBasedOnMatchStatus(
+        return ResponseEntity.ok(venueService.updateVenueStateBasedOnMatchStatus(
                 venueId,
                 MatchStatus.valueOf(matchStatus.toUpperCase())
-        );
-
-        return updated
-                ? ResponseEntity.ok(venueService.getVenueById(venueId))
-                : ResponseEntity.badRequest().build();
+        ));
     }
 
 
 
+    // one set-based UPDATE for many venues; the body lists only the venues that changed.
+    // A resend with the same Idempotency-Key is not applied again and gets the first call's venues back
+    @PatchMapping("/state")
+    public ResponseEntity<List<VenueResponseModel>> updateVenueStates(
+            @RequestBody VenueStateBatchRequestModel request,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
+    ) {
+        List<String> venueIds = request.getVenueIds() == null ? List.of() : request.getVenueIds();
+        if (venueIds.size() > MAX_STATE_BATCH) {
+            throw new InvalidInputException("At most " + MAX_STATE_BATCH + " venues can be updated per call");
+        }
+        for (String venueId : venueIds) {
+            if (venueId == null || venueId.length() != UUID_LENGTH) {
+                throw new InvalidInputException("Invalid venueId provided: " + venueId);
+            }
+        }
+        return ResponseEntity.ok(venueService.updateVenueStatesBasedOnMatchStatus(
+                venueIds, request.getMatchStatus(), idempotencyKey));
+    }
+
     @DeleteMapping("/{venueId}")
     public ResponseEntity<Void> deleteVenue(@PathVariable String venueId) {
         if (venueId.length() != UUID_LENGTH) {
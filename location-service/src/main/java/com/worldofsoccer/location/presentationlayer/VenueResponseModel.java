@@ -17,4 +17,5 @@ public class VenueResponseModel extends RepresentationModel<VenueResponseModel>
     private String city;
     private Integer yearBuilt;
     private VenueState venueState;
+    private Long version;
 }
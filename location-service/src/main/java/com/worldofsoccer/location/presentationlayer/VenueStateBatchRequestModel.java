@@ -0,0 +1,18 @@
+package com.worldofsoccer.location.presentationlayer;
+
+import com.worldofsoccer.location.dataaccesslayer.MatchStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class VenueStateBatchRequestModel {
+    private List<String> venueIds;
+    private MatchStatus matchStatus;
+}
@@ -3,13 +3,18 @@ package com.worldofsoccer.location.utils;
 import com.worldofsoccer.location.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.location.utils.exceptions.NotFoundException;
 import com.worldofsoccer.location.utils.exceptions.InvalidVenueCapacityException;
+import com.worldofsoccer.location.utils.exceptions.PreconditionFailedException;
+import com.worldofsoccer.location.utils.exceptions.VenueStateConflictException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
@@ -35,6 +40,28 @@ public class GlobalControllerExceptionHandler {
         return createHttpErrorInfo(UNPROCESSABLE_ENTITY, request, ex);
     }
 
+    // a concurrent writer committed between our read and our write; the client re-reads and retries
+    @ResponseStatus(CONFLICT)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public HttpErrorInfo handleOptimisticLockingFailureException(WebRequest request, Exception ex) {
+        log.debug("Optimistic lock failure: {}", ex.getMessage());
+        return new HttpErrorInfo(CONFLICT, request.getDescription(false),
+                "The resource was modified concurrently. Re-read it and retry.");
+    }
+
+    // a venue state move its current state does not allow, e.g. another writer got there first
+    @ResponseStatus(CONFLICT)
+    @ExceptionHandler(VenueStateConflictException.class)
+    public HttpErrorInfo handleVenueStateConflictException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(CONFLICT, request, ex);
+    }
+
+    @ResponseStatus(PRECONDITION_FAILED)
+    @ExceptionHandler(PreconditionFailedException.class)
+    public HttpErrorInfo handlePreconditionFailedException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(PRECONDITION_FAILED, request, ex);
+    }
+
     private HttpErrorInfo createHttpErrorInfo(HttpStatus httpStatus, WebRequest request, Exception ex) {
         final String path = request.getDescription(false);
         final String message = ex.getMessage();
@@ -0,0 +1,60 @@
+package com.worldofsoccer.location.utils;
+
+import com.worldofsoccer.location.utils.exceptions.PreconditionFailedException;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Entity tags for versioned resources: a single resource's ETag is its {@code @Version}, so
+ * a client can send back what it read as {@code If-Match} and have a stale write refused.
+ */
+public final class IfMatch {
+
+    private IfMatch() {
+    }
+
+    public static String etag(Long version) {
+        return "\"" + (version == null ? 0 : version) + "\"";
+    }
+
+    /**
+     * The ETag of a listing page, from the {@code [id, version]} of each row in its window.
+     * Any write to one of those rows, or a row entering or leaving the window, changes it.
+     */
+    public static String pageEtag(List<Object[]> idsAndVersions) {
+        StringBuilder key = new StringBuilder();
+        for (Object[] row : idsAndVersions) {
+            key.append(row[0]).append(':').append(row[1]).append(',');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * The version an {@code If-Match} header asks for, or null when there is no header or it
+     * is {@code *}. A tag that is not one of ours can never match, so it fails right away.
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        // If-Match compares strongly, so a weak W/ tag falls through to the failure below
+        String tag = ifMatch.trim();
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("If-Match " + ifMatch + " does not match the current version");
+        }
+    }
+
+    public static void check(Long expectedVersion, Long currentVersion, String resource) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException(resource + " has changed: expected version "
+                    + expectedVersion + ", current version " + currentVersion);
+        }
+    }
+}
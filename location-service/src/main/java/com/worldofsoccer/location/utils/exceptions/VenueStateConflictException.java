@@ -0,0 +1,12 @@
+package com.worldofsoccer.location.utils.exceptions;
+
+public class VenueStateConflictException extends RuntimeException{
+
+    public VenueStateConflictException() {}
+
+    public VenueStateConflictException(String message) { super(message); }
+
+    public VenueStateConflictException(Throwable cause) { super(cause); }
+
+    public VenueStateConflictException(String message, Throwable cause) { super(message, cause); }
+}
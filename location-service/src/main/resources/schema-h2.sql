@@ -1,4 +1,5 @@
 DROP TABLE IF EXISTS venues;
+DROP TABLE IF EXISTS venue_state_requests;
 
 CREATE TABLE venues (
                         id  AUTO_INCREMENT PRIMARY KEY,
@@ -8,5 +9,14 @@ CREATE TABLE venues (
                         city VARCHAR(255),
                         year_built INT,
                         venue_state VARCHAR(255),
+                        version BIGINT NOT NULL DEFAULT 0,
                         UNIQUE (venue_id)
 );
+
+-- idempotency keys of applied batch state changes; purged after app.idempotency.retention
+CREATE TABLE venue_state_requests (
+                        idempotency_key VARCHAR(64) PRIMARY KEY,
+                        changed_venue_ids CLOB,
+                        created_at TIMESTAMP NOT NULL
+);
+CREATE INDEX venue_state_requests_created_idx ON venue_state_requests (created_at);
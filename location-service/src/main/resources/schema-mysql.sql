@@ -1,5 +1,6 @@
 USE `location-db`;
 DROP TABLE IF EXISTS venues;
+DROP TABLE IF EXISTS venue_state_requests;
 
 
 CREATE TABLE venues (
@@ -10,5 +11,14 @@ CREATE TABLE venues (
                         city VARCHAR(255),
                         year_built INT,
                         venue_state VARCHAR(255),
+                        version BIGINT NOT NULL DEFAULT 0,
                         UNIQUE (venue_id)
 );
+
+-- idempotency keys of applied batch state changes; purged after app.idempotency.retention
+CREATE TABLE venue_state_requests (
+                        idempotency_key VARCHAR(64) PRIMARY KEY,
+                        changed_venue_ids TEXT,
+                        created_at TIMESTAMP(6) NOT NULL,
+                        INDEX venue_state_requests_created_idx (created_at)
+);
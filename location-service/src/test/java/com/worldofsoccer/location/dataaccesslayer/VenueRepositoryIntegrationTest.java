@@ -4,8 +4,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -66,4 +69,43 @@ public class VenueRepositoryIntegrationTest {
         assertNotNull(vid.getVenueId());
         assertEquals(36, vid.getVenueId().length());
     }
+
+    @Test
+    public void whenPagingVenuesById_thenEachPageStartsAfterCursor() {
+        Venue first = venueRepository.save(new Venue("Page A", 100, "City", 2000, VenueState.UPCOMING));
+        Venue second = venueRepository.save(new Venue("Page B", 100, "City", 2000, VenueState.UPCOMING));
+        Venue third = venueRepository.save(new Venue("Page C", 100, "City", 2000, VenueState.UPCOMING));
+
+        List<Venue> page1 = venueRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(2));
+        List<Venue> page2 = venueRepository.findByIdGreaterThanOrderByIdAsc(page1.get(1).getId(), Limit.of(2));
+
+        assertEquals(List.of(first.getId(), second.getId()), page1.stream().map(Venue::getId).toList());
+        assertEquals(List.of(third.getId()), page2.stream().map(Venue::getId).toList());
+    }
+
+    @Test
+    public void whenTransitioningFromOtherStatesOnly_thenVenuesAlreadyThereAreNotWritten() {
+        Venue upcoming = venueRepository.save(new Venue("Batch A", 100, "City", 2000, VenueState.UPCOMING));
+        Venue live = venueRepository.save(new Venue("Batch B", 100, "City", 2000, VenueState.LIVE));
+        Set<VenueState> fromStates = EnumSet.of(VenueState.UPCOMING);
+
+        assertEquals(1, venueRepository.transitionState(upcoming.getVenueIdentifier().getVenueId(), VenueState.LIVE, fromStates));
+        assertEquals(0, venueRepository.transitionState(live.getVenueIdentifier().getVenueId(), VenueState.LIVE, fromStates));
+
+        assertEquals(VenueState.LIVE, venueRepository.findByVenueIdentifier_VenueId(upcoming.getVenueIdentifier().getVenueId()).getVenueState());
+        assertEquals(live.getVersion(), venueRepository.findByVenueIdentifier_VenueId(live.getVenueIdentifier().getVenueId()).getVersion());
+    }
+
+    @Test
+    public void whenTwoWritersMakeTheSameTransition_thenOnlyTheFirstChangesTheRow() {
+        Venue venue = venueRepository.save(new Venue("CAS", 100, "City", 2000, VenueState.UPCOMING));
+        String venueId = venue.getVenueIdentifier().getVenueId();
+
+        assertEquals(1, venueRepository.transitionState(venueId, VenueState.LIVE, EnumSet.of(VenueState.UPCOMING)));
+        assertEquals(0, venueRepository.transitionState(venueId, VenueState.LIVE, EnumSet.of(VenueState.UPCOMING)));
+
+        Venue reloaded = venueRepository.findByVenueIdentifier_VenueId(venueId);
+        assertEquals(VenueState.LIVE, reloaded.getVenueState());
+        assertEquals(venue.getVersion() + 1, reloaded.getVersion());
+    }
 }
@@ -8,12 +8,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -69,6 +71,27 @@ public class VenueControllerIntegrationTest {
                 });
     }
 
+    @Test
+    public void whenVenueUnchangedSinceETag_thenReturnNotModified() {
+        String etag = webClient.get()
+                .uri(BASE_URI + "/" + validVenueId)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+
+        webClient.get()
+                .uri(BASE_URI + "/" + validVenueId)
+                .accept(MediaType.APPLICATION_JSON)
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", etag)
+                .expectBody().isEmpty();
+    }
+
     @Test
     public void whenGetVenueWithInvalidIdLength_thenReturnUnprocessableEntity() {
         webClient.get().uri(BASE_URI + "/" + invalidVenueId)
@@ -143,6 +166,31 @@ public class VenueControllerIntegrationTest {
                 });
     }
 
+    @Test
+    public void whenStateChangedSinceRead_thenUpdateWithIfMatchReturnsPreconditionFailed() {
+        String etag = webClient.get().uri(BASE_URI + "/" + validVenueId)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+
+        webClient.patch().uri(BASE_URI + "/" + validVenueId + "/state")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(MatchStatus.IN_PROGRESS.toString())
+                .exchange()
+                .expectStatus().isOk();
+
+        VenueRequestModel update = new VenueRequestModel(null, "Updated", 1500, "CityZ", 2022, null);
+        webClient.put().uri(BASE_URI + "/" + validVenueId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .bodyValue(update)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        assertEquals(VenueState.LIVE, venueRepository.findByVenueIdentifier_VenueId(validVenueId).getVenueState());
+    }
+
     @Test
     public void whenUpdateInvalidId_thenReturnUnprocessableEntity() {
         VenueRequestModel update = new VenueRequestModel(null, "X", 200, "City", 2000, null);
@@ -251,6 +299,33 @@ public class VenueControllerIntegrationTest {
                     assertEquals(testVenueId, vr.getVenueId());
                 });
     }
+
+    @Test
+    public void whenSameTransitionIsSentTwice_thenSecondIsRefusedWithConflict() {
+        Venue venue = venueRepository.save(new Venue("TestVenue", 1000, "TestCity", 2000, VenueState.UPCOMING));
+        String testVenueId = venue.getVenueIdentifier().getVenueId();
+
+        webClient.patch()
+                .uri(BASE_URI + "/" + testVenueId + "/state")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(MatchStatus.IN_PROGRESS.toString())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(VenueResponseModel.class)
+                .value(vr -> assertEquals(VenueState.LIVE, vr.getVenueState()));
+
+        webClient.patch()
+                .uri(BASE_URI + "/" + testVenueId + "/state")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(MatchStatus.IN_PROGRESS.toString())
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Venue " + testVenueId + " cannot move to LIVE from state LIVE");
+
+        assertEquals(1L, venueRepository.findByVenueIdentifier_VenueId(testVenueId).getVersion());
+    }
+
     @Test
     public void whenUpdateStateWithInvalidIdFormat_thenReturnUnprocessableEntity() {
         webClient.patch().uri(BASE_URI + "/" + invalidVenueId + "/state")
@@ -261,4 +336,85 @@ public class VenueControllerIntegrationTest {
                 .expectBody()
                 .jsonPath("$.message").isEqualTo("Invalid venueId provided: " + invalidVenueId);
     }
+
+    @Test
+    public void whenBatchUpdateStates_thenReturnOnlyChangedVenues() {
+        Venue live = venueRepository.save(new Venue("LiveVenue", 1000, "TestCity", 2000, VenueState.LIVE));
+        String liveVenueId = live.getVenueIdentifier().getVenueId();
+
+        VenueStateBatchRequestModel request = VenueStateBatchRequestModel.builder()
+                .venueIds(List.of(validVenueId, liveVenueId))
+                .matchStatus(MatchStatus.IN_PROGRESS)
+                .build();
+
+        webClient.patch()
+                .uri(BASE_URI + "/state")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(VenueResponseModel.class)
+                .value(list -> {
+                    assertEquals(1, list.size());
+                    assertEquals(validVenueId, list.get(0).getVenueId());
+                    assertEquals(VenueState.LIVE, list.get(0).getVenueState());
+                });
+
+        assertEquals(VenueState.LIVE, venueRepository.findByVenueIdentifier_VenueId(validVenueId).getVenueState());
+    }
+
+    @Test
+    public void whenBatchResentWithSameIdempotencyKey_thenNotAppliedAgainAndFirstResultReturned() {
+        VenueStateBatchRequestModel request = VenueStateBatchRequestModel.builder()
+                .venueIds(List.of(validVenueId))
+                .matchStatus(MatchStatus.IN_PROGRESS)
+                .build();
+        String key = UUID.randomUUID().toString();
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            webClient.patch()
+                    .uri(BASE_URI + "/state")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("Idempotency-Key", key)
+                    .bodyValue(request)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBodyList(VenueResponseModel.class)
+                    .value(list -> {
+                        assertEquals(1, list.size());
+                        assertEquals(validVenueId, list.get(0).getVenueId());
+                    });
+        }
+
+        // a new key is a new request: the venue is already LIVE, so nothing changes
+        webClient.patch()
+                .uri(BASE_URI + "/state")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(VenueResponseModel.class)
+                .hasSize(0);
+
+        assertEquals(1L, venueRepository.findByVenueIdentifier_VenueId(validVenueId).getVersion());
+    }
+
+    @Test
+    public void whenBatchUpdateStatesWithInvalidId_thenReturnUnprocessableEntity() {
+        VenueStateBatchRequestModel request = VenueStateBatchRequestModel.builder()
+                .venueIds(List.of(validVenueId, invalidVenueId))
+                .matchStatus(MatchStatus.IN_PROGRESS)
+                .build();
+
+        webClient.patch()
+                .uri(BASE_URI + "/state")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid venueId provided: " + invalidVenueId);
+    }
 }
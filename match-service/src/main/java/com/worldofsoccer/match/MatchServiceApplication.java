@@ -1,25 +1,92 @@
 package com.worldofsoccer.match;
 
+import com.worldofsoccer.match.domainclientLayer.cache.UpstreamCallCounter;
+import com.worldofsoccer.match.domainclientLayer.cache.UpstreamContext;
 import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+import java.time.Duration;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class MatchServiceApplication {
 
 	@Bean
-	RestTemplate restTemplate() {
+	ShallowEtagHeaderFilter etagFilter() {
+		return new ShallowEtagHeaderFilter();
+	}
+
+	// every call, including the wait for a pooled connection, ends within the fan-out deadline,
+	// which is what frees a lookup's thread once its batch has given up on it
+	@Bean
+	RestTemplate restTemplate(@Value("${app.upstream.fan-out-threads:32}") int threads,
+							  @Value("${app.upstream.fan-out-timeout:3s}") Duration fanOutTimeout) {
+		Timeout timeout = Timeout.ofMilliseconds(fanOutTimeout.toMillis());
 		RestTemplate restTemplate = new RestTemplate();
-		HttpClient httpClient = HttpClientBuilder.create().build();
+		HttpClient httpClient = HttpClientBuilder.create()
+				.setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+						// one window of lookups against a single service must not queue for connections
+						.setMaxConnPerRoute(threads)
+						.setMaxConnTotal(threads * 2)
+						.setDefaultConnectionConfig(ConnectionConfig.custom()
+								.setConnectTimeout(timeout)
+								.setSocketTimeout(timeout)
+								.build())
+						.build())
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectionRequestTimeout(timeout)
+						.setResponseTimeout(timeout)
+						.build())
+				.build();
 		HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
 		restTemplate.setRequestFactory(requestFactory);
+		restTemplate.getInterceptors().add(new UpstreamCallCounter());
 		return restTemplate;
 	}
 
+	// runs the blocking league/team/venue lookups of one request in parallel
+	@Bean
+	@ConditionalOnThreading(Threading.PLATFORM)
+	AsyncTaskExecutor upstreamExecutor(@Value("${app.upstream.fan-out-threads:32}") int threads) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(threads * 16);
+		executor.setThreadNamePrefix("upstream-");
+		executor.setTaskDecorator(UpstreamContext.taskDecorator());
+		executor.initialize();
+		return executor;
+	}
+
+	// spring.threads.virtual.enabled: one virtual thread per lookup, bounded only by the fan-out timeout
+	@Bean("upstreamExecutor")
+	@ConditionalOnThreading(Threading.VIRTUAL)
+	AsyncTaskExecutor virtualUpstreamExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("upstream-");
+		executor.setVirtualThreads(true);
+		executor.setTaskDecorator(UpstreamContext.taskDecorator());
+		return executor;
+	}
+
 	public static void main(String[] args) {
 		SpringApplication.run(MatchServiceApplication.class, args);
 	}
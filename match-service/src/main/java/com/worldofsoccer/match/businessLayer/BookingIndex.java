@@ -0,0 +1,222 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.dataAccessLayer.MatchRepository;
+import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import com.worldofsoccer.match.domainclientLayer.teams.TeamModel;
+import com.worldofsoccer.match.presentationlayer.FreeSlot;
+import com.worldofsoccer.match.utils.exceptions.BookingConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Which venue and which teams are busy when, as one {@link IntervalTree} per venue and per team,
+ * so a double booking is found without scanning the venue's or team's matches. Times are
+ * minutes since the epoch, so a match that runs past midnight blocks the next day as well.
+ * <p>
+ * Loaded from Mongo before the web server starts, so no write is checked against a partial
+ * index, and kept current by every match write: a write reserves its slot before saving and
+ * gives it back if the save fails. The index is local to the instance, which is the only
+ * writer of its matches.
+ */
+@Slf4j
+@Component
+public class BookingIndex implements SmartInitializingSingleton {
+
+    private static final long MINUTES_PER_DAY = 24 * 60;
+    // the longest match allowed; a slot starting late in the day may need this much of the next
+    private static final long MAX_DURATION = 3 * 60;
+
+    private record Booking(String venueId, List<String> teamIds, long start, long end) {
+    }
+
+    private final MatchRepository matchRepository;
+    private final Map<String, IntervalTree> venues = new HashMap<>();
+    private final Map<String, IntervalTree> teams = new HashMap<>();
+    private final Map<String, Booking> bookings = new HashMap<>();
+
+    public BookingIndex(MatchRepository matchRepository) {
+        this.matchRepository = matchRepository;
+    }
+
+    // runs once every singleton is built, which is before the embedded server accepts requests
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    public synchronized void load() {
+        int loaded = 0;
+        try (Stream<Match> matches = matchRepository.streamBookings()) {
+            for (Match match : (Iterable<Match>) matches::iterator) {
+                Booking booking = bookingOf(match);
+                if (booking != null) {
+                    add(match.getMatchIdentifier().getMatchId(), booking);
+                    loaded++;
+                }
+            }
+        }
+        log.info("Booking index loaded {} matches over {} venues and {} teams", loaded, venues.size(), teams.size());
+    }
+
+    /**
+     * Takes the match's slot, replacing whatever the same match held before. Refused with
+     * {@link BookingConflictException} if another match holds its venue or one of its teams at
+     * an overlapping time; an unchanged slot is never refused, so old overlaps do not block
+     * a result correction. A canceled match, or one without a kickoff time, gives its slot up.
+     */
+    public synchronized void reserve(Match match) {
+        String matchId = match.getMatchIdentifier().getMatchId();
+        Booking booking = bookingOf(match);
+        if (booking == null) {
+            remove(matchId);
+            return;
+        }
+        if (!booking.equals(bookings.get(matchId))) {
+            String clash = firstOverlap(venues.get(booking.venueId()), booking, matchId);
+            if (clash != null) {
+                throw new BookingConflictException("Venue " + booking.venueId()
+                        + " is already booked by match " + clash + " at that time");
+            }
+            for (String teamId : booking.teamIds()) {
+                clash = firstOverlap(teams.get(teamId), booking, matchId);
+                if (clash != null) {
+                    throw new BookingConflictException("Team " + teamId
+                            + " already plays match " + clash + " at that time");
+                }
+            }
+        }
+        remove(matchId);
+        add(matchId, booking);
+    }
+
+    // puts a match back as it was stored, without checking; used to undo a reservation whose write failed
+    public synchronized void restore(Match match) {
+        String matchId = match.getMatchIdentifier().getMatchId();
+        remove(matchId);
+        Booking booking = bookingOf(match);
+        if (booking != null) {
+            add(matchId, booking);
+        }
+    }
+
+    public synchronized void release(String matchId) {
+        remove(matchId);
+    }
+
+    /**
+     * The windows on {@code date} in which the venue and all given teams are free for at least
+     * {@code duration}. Either side may be omitted.
+     */
+    public synchronized List<FreeSlot> freeSlots(String venueId, Collection<String> teamIds,
+                                                 LocalDate date, LocalTime duration) {
+        long dayStart = date.toEpochDay() * MINUTES_PER_DAY;
+        long dayEnd = dayStart + MINUTES_PER_DAY;
+        long windowEnd = dayEnd + MAX_DURATION;
+
+        List<long[]> busy = new ArrayList<>();
+        if (venueId != null && venues.containsKey(venueId)) {
+            busy.addAll(venues.get(venueId).overlapping(dayStart, windowEnd));
+        }
+        for (String teamId : teamIds) {
+            if (teams.containsKey(teamId)) {
+                busy.addAll(teams.get(teamId).overlapping(dayStart, windowEnd));
+            }
+        }
+        busy.sort(Comparator.comparingLong(interval -> interval[0]));
+
+        long needed = minutes(duration);
+        List<FreeSlot> free = new ArrayList<>();
+        long gapStart = dayStart;
+        for (long[] interval : busy) {
+            if (interval[0] > gapStart) {
+                addSlot(free, gapStart, interval[0], dayEnd, needed);
+            }
+            gapStart = Math.max(gapStart, interval[1]);
+        }
+        addSlot(free, gapStart, windowEnd, dayEnd, needed);
+        return free;
+    }
+
+    private static void addSlot(List<FreeSlot> free, long start, long end, long dayEnd, long needed) {
+        if (start >= dayEnd || end - start < needed) {
+            return;
+        }
+        // the kickoff has to be on the requested day
+        long latestKickoff = Math.min(end - needed, dayEnd - 1);
+        free.add(FreeSlot.builder()
+                .start(toDateTime(start))
+                .end(toDateTime(end))
+                .latestKickoff(toDateTime(latestKickoff))
+                .build());
+    }
+
+    private static String firstOverlap(IntervalTree tree, Booking booking, String matchId) {
+        return tree == null ? null : tree.firstOverlap(booking.start(), booking.end(), matchId);
+    }
+
+    private void add(String matchId, Booking booking) {
+        bookings.put(matchId, booking);
+        venues.computeIfAbsent(booking.venueId(), id -> new IntervalTree()).put(matchId, booking.start(), booking.end());
+        for (String teamId : booking.teamIds()) {
+            teams.computeIfAbsent(teamId, id -> new IntervalTree()).put(matchId, booking.start(), booking.end());
+        }
+    }
+
+    private void remove(String matchId) {
+        Booking booking = bookings.remove(matchId);
+        if (booking == null) {
+            return;
+        }
+        removeFrom(venues, booking.venueId(), matchId);
+        booking.teamIds().forEach(teamId -> removeFrom(teams, teamId, matchId));
+    }
+
+    private static void removeFrom(Map<String, IntervalTree> trees, String key, String matchId) {
+        IntervalTree tree = trees.get(key);
+        if (tree != null) {
+            tree.remove(matchId);
+            if (tree.isEmpty()) {
+                trees.remove(key);
+            }
+        }
+    }
+
+    private static Booking bookingOf(Match match) {
+        if (match.getMatchStatus() == MatchStatus.CANCELED || match.getMatchDate() == null
+                || match.getMatchTime() == null || match.getVenueModel() == null
+                || match.getVenueModel().getVenueId() == null) {
+            return null;
+        }
+        long start = match.getMatchDate().toEpochDay() * MINUTES_PER_DAY + match.getMatchTime().toSecondOfDay() / 60;
+        List<String> teamIds = Stream.of(match.getTeamModel(), match.getOpponentModel())
+                .filter(Objects::nonNull)
+                .map(TeamModel::getTeamId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        return new Booking(match.getVenueModel().getVenueId(), teamIds, start, start + Math.max(1, minutes(match.getMatchDuration())));
+    }
+
+    private static long minutes(LocalTime duration) {
+        return duration == null ? 0 : duration.getHour() * 60L + duration.getMinute();
+    }
+
+    private static LocalDateTime toDateTime(long epochMinute) {
+        return LocalDate.ofEpochDay(Math.floorDiv(epochMinute, MINUTES_PER_DAY))
+                .atTime(LocalTime.ofSecondOfDay(Math.floorMod(epochMinute, MINUTES_PER_DAY) * 60));
+    }
+}
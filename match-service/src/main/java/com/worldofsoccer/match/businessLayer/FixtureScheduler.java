@@ -0,0 +1,164 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pairs teams into rounds and places every pairing on a date, kickoff time and venue.
+ * <p>
+ * Each team plays at most once per round, and a round is spread over as few days as the venues
+ * allow, so consecutive rounds keep the minimum rest between any team's two matches. Venues are
+ * filled greedily, least used first, around the slots already taken. No I/O; a 27-team double
+ * round-robin takes a few milliseconds.
+ */
+final class FixtureScheduler {
+
+    // a side is null in later knockout rounds, where it is the winner of an earlier tie
+    record Pairing(String home, String away) {
+
+        Pairing swapped() {
+            return new Pairing(away, home);
+        }
+    }
+
+    record Fixture(int round, int index, Pairing pairing, String venueId, LocalDate date, LocalTime time) {
+    }
+
+    private final Map<String, List<LocalTime[]>> booked = new HashMap<>();
+    private final Map<String, Integer> venueUse = new HashMap<>();
+
+    /**
+     * Circle method: one team stays put while the others rotate, giving n - 1 rounds in which
+     * every pair meets once (n rounded up to even; the extra slot is a bye). The second half
+     * repeats the first with home and away swapped.
+     */
+    static List<List<Pairing>> doubleRoundRobin(List<String> teamIds) {
+        List<String> slots = new ArrayList<>(teamIds);
+        if (slots.size() % 2 == 1) {
+            slots.add(null);
+        }
+        int n = slots.size();
+        List<List<Pairing>> firstLeg = new ArrayList<>(n - 1);
+        for (int round = 0; round < n - 1; round++) {
+            List<Pairing> pairings = new ArrayList<>(n / 2);
+            for (int i = 0; i < n / 2; i++) {
+                String a = slots.get(i);
+                String b = slots.get(n - 1 - i);
+                if (a == null || b == null) {
+                    continue;
+                }
+                // the fixed team alternates by round, the rest by position, so home games stay balanced
+                boolean swap = i == 0 ? round % 2 == 1 : i % 2 == 1;
+                pairings.add(swap ? new Pairing(b, a) : new Pairing(a, b));
+            }
+            firstLeg.add(pairings);
+            slots.add(1, slots.remove(n - 1));
+        }
+
+        List<List<Pairing>> rounds = new ArrayList<>(firstLeg);
+        for (List<Pairing> round : firstLeg) {
+            rounds.add(round.stream().map(Pairing::swapped).toList());
+        }
+        return rounds;
+    }
+
+    /**
+     * A single-elimination bracket over a power-of-two field: first-round ties pair the i-th
+     * team with the i-th from the end, and tie k of each later round is played by the winners
+     * of ties 2k and 2k + 1 of the round before.
+     */
+    static List<List<Pairing>> knockout(List<String> teamIds) {
+        int n = teamIds.size();
+        if (n < 2 || Integer.bitCount(n) != 1) {
+            throw new InvalidInputException("A knockout bracket needs a power-of-two number of teams, got " + n);
+        }
+        List<List<Pairing>> rounds = new ArrayList<>();
+        List<Pairing> first = new ArrayList<>(n / 2);
+        for (int i = 0; i < n / 2; i++) {
+            first.add(new Pairing(teamIds.get(i), teamIds.get(n - 1 - i)));
+        }
+        rounds.add(first);
+        for (int ties = n / 4; ties >= 1; ties /= 2) {
+            rounds.add(Collections.nCopies(ties, new Pairing(null, null)));
+        }
+        return rounds;
+    }
+
+    /**
+     * Marks a venue as busy for {@code duration} from {@code time} on {@code date}, e.g. for a
+     * match that already exists.
+     */
+    void book(String venueId, LocalDate date, LocalTime time, LocalTime duration) {
+        booked.computeIfAbsent(venueId + "|" + date, k -> new ArrayList<>()).add(interval(time, duration));
+    }
+
+    /**
+     * Places every round in the window. Rounds start evenly spaced from {@code from}; round r may
+     * spill over the days up to the next round's start minus the rest days, so a team playing
+     * on the last day of one round and the first of the next still rests {@code minRestDays}.
+     */
+    List<Fixture> schedule(List<List<Pairing>> rounds, List<String> venueIds, LocalDate from, LocalDate to,
+                           int minRestDays, List<LocalTime> kickoffs, LocalTime duration) {
+        int roundCount = rounds.size();
+        long windowDays = ChronoUnit.DAYS.between(from, to);
+        int gap = minRestDays + 1;
+        long spacing = roundCount == 1 ? windowDays + 1 : windowDays / (roundCount - 1);
+        if (roundCount > 1 && spacing < gap) {
+            throw new InvalidInputException(roundCount + " rounds with " + minRestDays + " rest days need at least "
+                    + ((long) (roundCount - 1) * gap + 1) + " days, the window has " + (windowDays + 1));
+        }
+        long roundDays = roundCount == 1 ? spacing : spacing - minRestDays;
+
+        List<Fixture> fixtures = new ArrayList<>();
+        for (int round = 0; round < roundCount; round++) {
+            LocalDate roundStart = from.plusDays(round * spacing);
+            List<Pairing> pairings = rounds.get(round);
+            for (int index = 0; index < pairings.size(); index++) {
+                fixtures.add(place(round + 1, index, pairings.get(index), roundStart, roundDays, to,
+                        venueIds, kickoffs, duration));
+            }
+        }
+        return fixtures;
+    }
+
+    private Fixture place(int round, int index, Pairing pairing, LocalDate roundStart, long roundDays, LocalDate to,
+                          List<String> venueIds, List<LocalTime> kickoffs, LocalTime duration) {
+        List<String> leastUsed = new ArrayList<>(venueIds);
+        leastUsed.sort((a, b) -> Integer.compare(venueUse.getOrDefault(a, 0), venueUse.getOrDefault(b, 0)));
+        for (int day = 0; day < roundDays && !roundStart.plusDays(day).isAfter(to); day++) {
+            LocalDate date = roundStart.plusDays(day);
+            for (LocalTime kickoff : kickoffs) {
+                LocalTime[] slot = interval(kickoff, duration);
+                for (String venueId : leastUsed) {
+                    List<LocalTime[]> taken = booked.computeIfAbsent(venueId + "|" + date, k -> new ArrayList<>());
+                    if (taken.stream().noneMatch(other -> overlaps(slot, other))) {
+                        taken.add(slot);
+                        venueUse.merge(venueId, 1, Integer::sum);
+                        return new Fixture(round, index, pairing, venueId, date, kickoff);
+                    }
+                }
+            }
+        }
+        throw new InvalidInputException("Not enough free venue slots for round " + round + " starting "
+                + roundStart + ": add venues or kickoff times, or widen the window");
+    }
+
+    private static LocalTime[] interval(LocalTime start, LocalTime duration) {
+        long minutes = duration == null ? 0 : duration.getHour() * 60L + duration.getMinute();
+        LocalTime end = start.plusMinutes(minutes);
+        // past midnight: busy for the rest of the day
+        return new LocalTime[]{start, end.isBefore(start) ? LocalTime.MAX : end};
+    }
+
+    private static boolean overlaps(LocalTime[] a, LocalTime[] b) {
+        return a[0].isBefore(b[1]) && b[0].isBefore(a[1]);
+    }
+}
@@ -0,0 +1,8 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.presentationlayer.FixtureReport;
+import com.worldofsoccer.match.presentationlayer.FixtureRequestModel;
+
+public interface FixtureService {
+    FixtureReport generateFixtures(String leagueId, FixtureRequestModel request);
+}
@@ -0,0 +1,235 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.dataAccessLayer.MatchIdentifier;
+import com.worldofsoccer.match.dataAccessLayer.MatchRepository;
+import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import com.worldofsoccer.match.dataAccessLayer.VenueStateChange;
+import com.worldofsoccer.match.domainclientLayer.league.LeagueModel;
+import com.worldofsoccer.match.domainclientLayer.league.LeagueServiceClient;
+import com.worldofsoccer.match.domainclientLayer.location.VenueModel;
+import com.worldofsoccer.match.domainclientLayer.location.VenueServiceClient;
+import com.worldofsoccer.match.domainclientLayer.teams.TeamModel;
+import com.worldofsoccer.match.domainclientLayer.teams.TeamServiceClient;
+import com.worldofsoccer.match.presentationlayer.FixtureModel;
+import com.worldofsoccer.match.presentationlayer.FixtureReport;
+import com.worldofsoccer.match.presentationlayer.FixtureRequestModel;
+import com.worldofsoccer.match.utils.exceptions.BookingConflictException;
+import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
+import com.worldofsoccer.match.utils.exceptions.InvalidMatchDurationException;
+import com.worldofsoccer.match.utils.exceptions.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Generates a season's fixtures for a league: pairs the teams ({@link FixtureScheduler}), places
+ * each pairing around what the venues already host, and stores the matches with unordered bulk
+ * inserts. A generated match holds the home team as its team and the away team as its opponent.
+ */
+@Service
+@Slf4j
+public class FixtureServiceImpl implements FixtureService {
+
+    static final String LEAGUE = "LEAGUE";
+    static final String CUP = "CUP";
+
+    private static final int DEFAULT_REST_DAYS = 2;
+    private static final List<LocalTime> DEFAULT_KICKOFFS =
+            List.of(LocalTime.of(12, 0), LocalTime.of(15, 0), LocalTime.of(18, 0));
+    private static final LocalTime DEFAULT_DURATION = LocalTime.of(1, 30);
+
+    private final MatchRepository matchRepository;
+    private final LeagueServiceClient leagueServiceClient;
+    private final TeamServiceClient teamServiceClient;
+    private final VenueServiceClient venueServiceClient;
+    private final UpstreamFanOut upstreamFanOut;
+    private final BookingIndex bookingIndex;
+    private final int bulkChunkSize;
+
+    public FixtureServiceImpl(MatchRepository matchRepository,
+                              LeagueServiceClient leagueServiceClient,
+                              TeamServiceClient teamServiceClient,
+                              VenueServiceClient venueServiceClient,
+                              UpstreamFanOut upstreamFanOut,
+                              BookingIndex bookingIndex,
+                              @Value("${app.bulk.chunk-size:500}") int bulkChunkSize) {
+        this.matchRepository = matchRepository;
+        this.leagueServiceClient = leagueServiceClient;
+        this.teamServiceClient = teamServiceClient;
+        this.venueServiceClient = venueServiceClient;
+        this.upstreamFanOut = upstreamFanOut;
+        this.bookingIndex = bookingIndex;
+        this.bulkChunkSize = bulkChunkSize;
+    }
+
+    @Override
+    public FixtureReport generateFixtures(String leagueId, FixtureRequestModel request) {
+        LeagueModel league = leagueServiceClient.getLeagueById(leagueId);
+        if (league == null) {
+            throw new NotFoundException("League not found with ID: " + leagueId);
+        }
+
+        String format = request.getFormat() == null || request.getFormat().isBlank()
+                ? league.getLeagueFormat() : request.getFormat();
+        format = format == null ? null : format.trim().toUpperCase();
+        if (!LEAGUE.equals(format) && !CUP.equals(format)) {
+            throw new InvalidInputException("Fixture format must be LEAGUE or CUP, got: " + format);
+        }
+        List<String> teamIds = distinct(request.getTeamIds(), "team");
+        if (teamIds.size() < 2) {
+            throw new InvalidInputException("At least two teams are needed to generate fixtures");
+        }
+        List<String> venueIds = distinct(request.getVenueIds(), "venue");
+        if (venueIds.isEmpty()) {
+            throw new InvalidInputException("At least one venue is needed to generate fixtures");
+        }
+        LocalDate from = request.getStartDate();
+        LocalDate to = request.getEndDate();
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new InvalidInputException("A start date on or before the end date is required");
+        }
+        int minRestDays = request.getMinRestDays() == null ? DEFAULT_REST_DAYS : request.getMinRestDays();
+        if (minRestDays < 0) {
+            throw new InvalidInputException("minRestDays must not be negative");
+        }
+        LocalTime duration = request.getMatchDuration() == null ? DEFAULT_DURATION : request.getMatchDuration();
+        if (!MatchServiceImpl.isValidDuration(duration)) {
+            throw new InvalidMatchDurationException("Match duration must be between 1:30 and 3:00 hours");
+        }
+        List<LocalTime> kickoffs = request.getKickoffTimes() == null || request.getKickoffTimes().isEmpty()
+                ? DEFAULT_KICKOFFS
+                : request.getKickoffTimes().stream().filter(Objects::nonNull).distinct().sorted().toList();
+
+        // generating twice would double the season; the caller clears the window first
+        if (matchRepository.existsInLeagueBetween(leagueId, from, to)) {
+            throw new InvalidInputException("League " + leagueId + " already has matches between " + from + " and " + to);
+        }
+
+        Map<String, TeamModel> teams = upstreamFanOut.lookupDistinct(teamIds, teamServiceClient::getTeamById);
+        List<String> unknownTeams = teamIds.stream().filter(id -> !teams.containsKey(id)).toList();
+        if (!unknownTeams.isEmpty()) {
+            throw new InvalidInputException("Teams not found: " + String.join(", ", unknownTeams));
+        }
+        Map<String, VenueModel> venues = upstreamFanOut.lookupDistinct(venueIds, venueServiceClient::getVenueById);
+        List<String> usableVenues = venueIds.stream()
+                .filter(id -> venues.containsKey(id) && MatchServiceImpl.isSchedulable(venues.get(id)))
+                .toList();
+        if (usableVenues.isEmpty()) {
+            throw new InvalidInputException("None of the venues is available for scheduling");
+        }
+
+        FixtureScheduler scheduler = new FixtureScheduler();
+        for (Match booking : matchRepository.findVenueBookings(usableVenues, from, to)) {
+            if (booking.getMatchTime() != null) {
+                scheduler.book(booking.getVenueModel().getVenueId(), booking.getMatchDate(),
+                        booking.getMatchTime(), booking.getMatchDuration());
+            }
+        }
+        List<List<FixtureScheduler.Pairing>> rounds = LEAGUE.equals(format)
+                ? FixtureScheduler.doubleRoundRobin(teamIds)
+                : FixtureScheduler.knockout(teamIds);
+        List<FixtureScheduler.Fixture> placed =
+                scheduler.schedule(rounds, usableVenues, from, to, minRestDays, kickoffs, duration);
+
+        List<FixtureModel> fixtures = new ArrayList<>(placed.size());
+        List<Match> chunk = new ArrayList<>(bulkChunkSize);
+        List<FixtureModel> chunkFixtures = new ArrayList<>(bulkChunkSize);
+        int failed = 0;
+        for (FixtureScheduler.Fixture fixture : placed) {
+            FixtureScheduler.Pairing pairing = fixture.pairing();
+            FixtureModel model = FixtureModel.builder()
+                    .round(fixture.round())
+                    .index(fixture.index())
+                    .homeTeamId(pairing.home())
+                    .awayTeamId(pairing.away())
+                    .venueId(fixture.venueId())
+                    .matchDate(fixture.date())
+                    .matchTime(fixture.time())
+                    .build();
+            fixtures.add(model);
+            if (pairing.home() == null || pairing.away() == null) {
+                continue;
+            }
+
+            MatchIdentifier matchIdentifier = new MatchIdentifier();
+            Match match = Match.builder()
+                    .matchIdentifier(matchIdentifier)
+                    .leagueModel(league)
+                    .teamModel(teams.get(pairing.home()))
+                    .opponentModel(teams.get(pairing.away()))
+                    .venueModel(venues.get(fixture.venueId()))
+                    .matchScore("0-0")
+                    .matchStatus(MatchStatus.SCHEDULED)
+                    .matchDate(fixture.date())
+                    .matchTime(fixture.time())
+                    .matchDuration(duration)
+                    // delivered by the VenueStateRelay, which sends each venue's latest change once
+                    .pendingVenueStates(new ArrayList<>(List.of(VenueStateChange.of(
+                            matchIdentifier.getMatchId(), fixture.venueId(), MatchStatus.SCHEDULED))))
+                    .build();
+            // the venues are already free here; a team may still play another competition at that time
+            try {
+                bookingIndex.reserve(match);
+            } catch (BookingConflictException ex) {
+                model.setError(ex.getMessage());
+                failed++;
+                continue;
+            }
+            model.setMatchId(matchIdentifier.getMatchId());
+            chunk.add(match);
+            chunkFixtures.add(model);
+            if (chunk.size() == bulkChunkSize) {
+                failed += flush(chunk, chunkFixtures);
+            }
+        }
+        failed += flush(chunk, chunkFixtures);
+
+        int stored = (int) fixtures.stream().filter(f -> f.getMatchId() != null).count();
+        log.info("Generated {} fixtures in {} rounds for league {}, {} stored, {} failed",
+                fixtures.size(), rounds.size(), leagueId, stored, failed);
+        return FixtureReport.builder()
+                .leagueId(leagueId)
+                .format(format)
+                .rounds(rounds.size())
+                .created(stored)
+                .failed(failed)
+                .planned(fixtures.size() - stored - failed)
+                .fixtures(fixtures)
+                .build();
+    }
+
+    private int flush(List<Match> chunk, List<FixtureModel> chunkFixtures) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Map<Integer, String> failures = matchRepository.insertUnordered(chunk);
+        failures.forEach((position, message) -> {
+            bookingIndex.release(chunk.get(position).getMatchIdentifier().getMatchId());
+            FixtureModel fixture = chunkFixtures.get(position);
+            fixture.setMatchId(null);
+            fixture.setError(message);
+        });
+        chunk.clear();
+        chunkFixtures.clear();
+        return failures.size();
+    }
+
+    private static List<String> distinct(List<String> ids, String kind) {
+        if (ids == null) {
+            return List.of();
+        }
+        List<String> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.size() != ids.size()) {
+            throw new InvalidInputException("Each " + kind + " id must be given once");
+        }
+        return distinct;
+    }
+}
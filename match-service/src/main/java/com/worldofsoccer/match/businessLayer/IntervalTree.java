@@ -0,0 +1,191 @@
+package com.worldofsoccer.match.businessLayer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Half-open intervals {@code [start, end)} keyed by an id, in a treap ordered by start and
+ * augmented with the largest end in each subtree. Insert, remove and an overlap probe take
+ * O(log n) expected; listing the k intervals that overlap a window takes O(log n + k).
+ * Not thread-safe; {@link BookingIndex} guards every tree with its own lock.
+ */
+final class IntervalTree {
+
+    private static final class Node {
+        final String id;
+        final long start;
+        final long end;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        long maxEnd;
+        Node left;
+        Node right;
+
+        Node(String id, long start, long end) {
+            this.id = id;
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+    }
+
+    private final Map<String, Node> byId = new HashMap<>();
+    private Node root;
+
+    int size() {
+        return byId.size();
+    }
+
+    boolean isEmpty() {
+        return byId.isEmpty();
+    }
+
+    void put(String id, long start, long end) {
+        remove(id);
+        Node node = new Node(id, start, end);
+        byId.put(id, node);
+        root = insert(root, node);
+    }
+
+    void remove(String id) {
+        Node node = byId.remove(id);
+        if (node != null) {
+            root = delete(root, node);
+        }
+    }
+
+    /**
+     * Returns the id of an interval overlapping {@code [start, end)}, ignoring the one stored
+     * under {@code ignoredId}, or null when there is none.
+     */
+    String firstOverlap(long start, long end, String ignoredId) {
+        return firstOverlap(root, start, end, ignoredId);
+    }
+
+    // every interval overlapping [start, end), ordered by start
+    List<long[]> overlapping(long start, long end) {
+        List<long[]> found = new ArrayList<>();
+        collect(root, start, end, found);
+        return found;
+    }
+
+    private static String firstOverlap(Node node, long start, long end, String ignoredId) {
+        if (node == null || node.maxEnd <= start) {
+            return null;
+        }
+        String found = firstOverlap(node.left, start, end, ignoredId);
+        if (found != null) {
+            return found;
+        }
+        if (node.start >= end) {
+            // everything to the right starts later still
+            return null;
+        }
+        if (start < node.end && !node.id.equals(ignoredId)) {
+            return node.id;
+        }
+        return firstOverlap(node.right, start, end, ignoredId);
+    }
+
+    private static void collect(Node node, long start, long end, List<long[]> found) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, found);
+        if (node.start >= end) {
+            return;
+        }
+        if (start < node.end) {
+            found.add(new long[]{node.start, node.end});
+        }
+        collect(node.right, start, end, found);
+    }
+
+    private static int compare(Node a, Node b) {
+        int byStart = Long.compare(a.start, b.start);
+        return byStart != 0 ? byStart : a.id.compareTo(b.id);
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added, node) < 0) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node delete(Node node, Node removed) {
+        if (node == null) {
+            return null;
+        }
+        if (node == removed) {
+            return merge(node.left, node.right);
+        }
+        if (compare(removed, node) < 0) {
+            node.left = delete(node.left, removed);
+        } else {
+            node.right = delete(node.right, removed);
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+}
@@ -0,0 +1,180 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.dataAccessLayer.ResultsType;
+import com.worldofsoccer.match.domainclientLayer.teams.TeamModel;
+import com.worldofsoccer.match.presentationlayer.LiveMatchEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes score, minute and status changes to live feed subscribers, one channel per league.
+ * <p>
+ * An event is serialized once when published and the same {@link ServerSentEvent} goes to every
+ * subscriber; subscribers are Reactor subscriptions, not threads. Each channel numbers its events
+ * and keeps the last {@code history} of them, so a client reconnecting with {@code Last-Event-ID}
+ * is sent what it missed before the live events. A subscriber that falls more than
+ * {@code subscriber-buffer} events behind is disconnected and resumes the same way.
+ * <p>
+ * Event ids are {@code <epoch>-<sequence>}, the epoch being drawn when the feed starts. An id
+ * from an earlier run or another instance says nothing about this feed's numbering, so such a
+ * client is sent all the history kept here: events carry the whole state of a match, so any it
+ * had already seen are repeated rather than missed.
+ */
+@Slf4j
+@Component
+public class LiveMatchFeed {
+
+    public static final String MATCH_EVENT = "match";
+    public static final String REMOVED_EVENT = "match-removed";
+
+    private record Entry(long id, String matchId, ServerSentEvent<String> event) {
+    }
+
+    private static final class Channel {
+        private final Sinks.Many<Entry> sink;
+        private long sequence;
+
+        Channel(int history) {
+            this.sink = Sinks.many().replay().limit(history);
+        }
+    }
+
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final ObjectMapper mapper;
+    private final int history;
+    private final int subscriberBuffer;
+    private final Flux<ServerSentEvent<String>> heartbeats;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    public LiveMatchFeed(ObjectMapper mapper,
+                         @Value("${app.live-feed.history:256}") int history,
+                         @Value("${app.live-feed.subscriber-buffer:256}") int subscriberBuffer,
+                         @Value("${app.live-feed.heartbeat:15s}") Duration heartbeat) {
+        this.mapper = mapper;
+        this.history = history;
+        this.subscriberBuffer = subscriberBuffer;
+        // one timer for all subscribers; the comment keeps idle connections and proxies open
+        this.heartbeats = Flux.interval(heartbeat)
+                .map(tick -> ServerSentEvent.<String>builder().comment("heartbeat").build())
+                .share();
+    }
+
+    public void publish(String leagueId, Match match, String eventName) {
+        String matchId = match.getMatchIdentifier().getMatchId();
+        String data;
+        try {
+            data = mapper.writeValueAsString(eventOf(leagueId, match));
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not serialize live event for match {}: {}", matchId, ex.getMessage());
+            return;
+        }
+
+        Channel channel = channel(leagueId);
+        // numbering and emitting together keeps ids in order and lets a subscriber start exactly after one
+        synchronized (channel) {
+            long id = ++channel.sequence;
+            ServerSentEvent<String> event = ServerSentEvent.builder(data)
+                    .id(idOf(id))
+                    .event(eventName)
+                    .build();
+            Sinks.EmitResult result = channel.sink.tryEmitNext(new Entry(id, matchId, event));
+            if (result.isFailure()) {
+                log.warn("Live event {} for match {} not emitted: {}", id, matchId, result);
+            }
+        }
+    }
+
+    /**
+     * The league's events, or one match's when {@code matchId} is given, after
+     * {@code lastEventId} if the client is resuming, interleaved with heartbeat comments.
+     */
+    public Flux<ServerSentEvent<String>> subscribe(String leagueId, String matchId, String lastEventId) {
+        Channel channel = channel(leagueId);
+        Flux<ServerSentEvent<String>> events = Flux.defer(() -> {
+                    long after;
+                    synchronized (channel) {
+                        after = resumeAfter(lastEventId, channel.sequence);
+                    }
+                    // the replay sink sends its history first; anything up to 'after' was seen already
+                    return channel.sink.asFlux().filter(entry -> entry.id() > after);
+                })
+                .filter(entry -> matchId == null || matchId.equals(entry.matchId()))
+                .map(Entry::event)
+                .onBackpressureBuffer(subscriberBuffer);
+        return Flux.merge(events, heartbeats.onBackpressureDrop());
+    }
+
+    String idOf(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    // the sequence a subscriber has seen up to; 0 replays the whole history
+    private long resumeAfter(String lastEventId, long current) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return current;
+        }
+        String prefix = epoch + "-";
+        String id = lastEventId.trim();
+        if (!id.startsWith(prefix)) {
+            return 0;
+        }
+        try {
+            long seen = Long.parseLong(id.substring(prefix.length()));
+            return seen <= current ? seen : 0;
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    private Channel channel(String leagueId) {
+        return channels.computeIfAbsent(leagueId, id -> new Channel(history));
+    }
+
+    private static LiveMatchEvent eventOf(String leagueId, Match match) {
+        return LiveMatchEvent.builder()
+                .matchId(match.getMatchIdentifier().getMatchId())
+                .leagueId(leagueId)
+                .teamId(teamIdOf(match.getTeamModel()))
+                .opponentTeamId(teamIdOf(match.getOpponentModel()))
+                .matchScore(match.getMatchScore())
+                .matchMinute(minuteOf(match))
+                .matchStatus(match.getMatchStatus())
+                .resultsType(resultOf(match))
+                .occurredAt(Instant.now())
+                .build();
+    }
+
+    private static String teamIdOf(TeamModel team) {
+        return team == null ? null : team.getTeamId();
+    }
+
+    // true when a follower of the match would see a difference
+    static boolean changed(Match before, Match after) {
+        return !Objects.equals(before.getMatchScore(), after.getMatchScore())
+                || before.getMatchStatus() != after.getMatchStatus()
+                || !Objects.equals(minuteOf(before), minuteOf(after))
+                || !Objects.equals(resultOf(before), resultOf(after));
+    }
+
+    private static Integer minuteOf(Match match) {
+        return match.getMatchResults() == null ? null : match.getMatchResults().getMatchMinute();
+    }
+
+    private static ResultsType resultOf(Match match) {
+        return match.getMatchResults() == null ? null : match.getMatchResults().getResultsType();
+    }
+}
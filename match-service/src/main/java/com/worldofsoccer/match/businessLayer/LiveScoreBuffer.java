@@ -0,0 +1,147 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.worldofsoccer.match.dataAccessLayer.LiveUpdate;
+import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.dataAccessLayer.MatchRepository;
+import com.worldofsoccer.match.dataAccessLayer.MatchResults;
+import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import com.worldofsoccer.match.presentationlayer.LiveUpdateRequestModel;
+import com.worldofsoccer.match.presentationlayer.LiveUpdateResponseModel;
+import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
+import com.worldofsoccer.match.utils.exceptions.NotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind for the score and minute of matches being played.
+ * <p>
+ * An update is checked against a cached copy of the match, which is read from Mongo on the first
+ * update and needs no call to another service; it is published to the live feed straight away and
+ * kept as the match's pending write, replacing any earlier one. Each flush writes the pending
+ * updates of all matches as one unordered bulk {@code $set}. Updates are held in memory until then,
+ * so a crash loses at most one interval; as every update carries the whole live state, the next
+ * one repairs it. A full update or delete of the match discards what is pending.
+ */
+@Slf4j
+@Component
+public class LiveScoreBuffer {
+
+    private static final int MAX_MINUTE = 150;
+
+    private final MatchRepository matchRepository;
+    private final LiveMatchFeed liveMatchFeed;
+    // the last accepted state of each live match, by matchId
+    private final Cache<String, Match> liveMatches;
+    private final Map<String, LiveUpdate> pending = new ConcurrentHashMap<>();
+
+    public LiveScoreBuffer(MatchRepository matchRepository,
+                           LiveMatchFeed liveMatchFeed,
+                           @Value("${app.live-updates.idle-timeout:10m}") Duration idleTimeout,
+                           @Value("${app.live-updates.max-matches:10000}") long maxMatches) {
+        this.matchRepository = matchRepository;
+        this.liveMatchFeed = liveMatchFeed;
+        this.liveMatches = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(maxMatches)
+                .build();
+    }
+
+    public LiveUpdateResponseModel accept(String leagueId, String matchId, LiveUpdateRequestModel request) {
+        String score = request.getMatchScore();
+        Integer minute = request.getMatchMinute();
+        if (score == null || !StandingsServiceImpl.SCORE.matcher(score).matches()) {
+            throw new InvalidInputException("Invalid matchScore: " + score);
+        }
+        if (minute == null || minute < 0 || minute > MAX_MINUTE) {
+            throw new InvalidInputException("matchMinute must be between 0 and " + MAX_MINUTE);
+        }
+
+        Match live = liveMatches.get(matchId, id -> load(leagueId, id));
+        if (!leagueId.equals(live.getLeagueModel().getLeagueId())) {
+            throw new NotFoundException("Match not found with ID: " + matchId);
+        }
+
+        // per match, updates are applied, queued and published in the order they are accepted
+        synchronized (live) {
+            Integer current = live.getMatchResults() == null ? null : live.getMatchResults().getMatchMinute();
+            if (current != null && minute < current) {
+                // arrived after a later one; the clock never runs backwards
+                return responseOf(matchId, live, false);
+            }
+            if (Objects.equals(current, minute) && score.equals(live.getMatchScore())) {
+                return responseOf(matchId, live, true);
+            }
+            live.setMatchScore(score);
+            live.setMatchResults(new MatchResults(
+                    live.getMatchResults() == null ? null : live.getMatchResults().getResultsType(), minute));
+            pending.put(matchId, new LiveUpdate(leagueId, matchId, score, minute));
+            liveMatchFeed.publish(leagueId, live, LiveMatchFeed.MATCH_EVENT);
+            return responseOf(matchId, live, true);
+        }
+    }
+
+    /**
+     * Forgets the match's pending update and cached state, so a full update or delete is not
+     * overwritten by an older live one.
+     */
+    public void discard(String matchId) {
+        liveMatches.invalidate(matchId);
+        pending.remove(matchId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.live-updates.flush-interval:500ms}")
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<LiveUpdate> batch = List.copyOf(pending.values());
+        try {
+            long applied = matchRepository.applyLiveUpdates(batch);
+            log.debug("Flushed {} live updates, {} to matches still in progress", batch.size(), applied);
+        } catch (RuntimeException ex) {
+            // still pending unless replaced by a newer update; retried on the next run
+            log.warn("Flushing {} live updates failed, will retry: {}", batch.size(), ex.getMessage());
+            return 0;
+        }
+        // an update accepted during the write replaced its entry and stays for the next run
+        batch.forEach(update -> pending.remove(update.matchId(), update));
+        return batch.size();
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private Match load(String leagueId, String matchId) {
+        Match match = matchRepository.findByLeagueModel_LeagueIdAndMatchIdentifier_MatchId(leagueId, matchId);
+        if (match == null) {
+            throw new NotFoundException("Match not found with ID: " + matchId);
+        }
+        if (match.getMatchStatus() != MatchStatus.IN_PROGRESS) {
+            throw new InvalidInputException("Live updates are only accepted for matches in progress, match "
+                    + matchId + " is " + match.getMatchStatus());
+        }
+        return match;
+    }
+
+    private static LiveUpdateResponseModel responseOf(String matchId, Match live, boolean applied) {
+        return LiveUpdateResponseModel.builder()
+                .matchId(matchId)
+                .matchScore(live.getMatchScore())
+                .matchMinute(live.getMatchResults() == null ? null : live.getMatchResults().getMatchMinute())
+                .applied(applied)
+                .build();
+    }
+}
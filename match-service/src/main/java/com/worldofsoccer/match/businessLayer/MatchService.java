@@ -1,15 +1,18 @@
 package com.worldofsoccer.match.businessLayer;
 
 
+import com.worldofsoccer.match.presentationlayer.BulkImportReport;
 import com.worldofsoccer.match.presentationlayer.MatchRequestModel;
 import com.worldofsoccer.match.presentationlayer.MatchResponseModel;
+import com.worldofsoccer.match.utils.CursorPage;
 
 import java.util.List;
 
 public interface MatchService {
-    List<MatchResponseModel> getAllMatches(String leagueId);
+    CursorPage<MatchResponseModel> getAllMatches(String leagueId, String after, Integer limit);
     MatchResponseModel getMatchByMatchId( String leagueId, String matchId);
     MatchResponseModel createMatch(MatchRequestModel request, String leagueId);
+    BulkImportReport importMatches(String leagueId, List<MatchRequestModel> requests);
     MatchResponseModel updateMatch(String matchId, MatchRequestModel request, String leagueId);
     void deleteMatch(String matchId, String leagueId);
 }
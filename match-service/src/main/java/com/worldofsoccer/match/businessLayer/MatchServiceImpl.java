@@ -4,6 +4,8 @@ import com.worldofsoccer.match.dataAccessLayer.Match;
 import com.worldofsoccer.match.dataAccessLayer.MatchIdentifier;
 import com.worldofsoccer.match.dataAccessLayer.MatchRepository;
 import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import com.worldofsoccer.match.dataAccessLayer.VenueStateChange;
+import com.worldofsoccer.match.dataAccessLayer.VenueStateOutboxRepository;
 import com.worldofsoccer.match.domainclientLayer.league.LeagueModel;
 import com.worldofsoccer.match.domainclientLayer.league.LeagueServiceClient;
 import com.worldofsoccer.match.domainclientLayer.location.VenueModel;
@@ -13,17 +15,29 @@ import com.worldofsoccer.match.domainclientLayer.teams.TeamServiceClient;
 import com.worldofsoccer.match.domainclientLayer.location.VenueServiceClient;
 import com.worldofsoccer.match.mappingLayer.MatchRequestMapper;
 import com.worldofsoccer.match.mappingLayer.MatchResponseMapper;
+import com.worldofsoccer.match.presentationlayer.BulkImportReport;
+import com.worldofsoccer.match.presentationlayer.BulkImportRowResult;
 import com.worldofsoccer.match.presentationlayer.MatchRequestModel;
 import com.worldofsoccer.match.presentationlayer.MatchResponseModel;
+import com.worldofsoccer.match.utils.CursorPage;
+import com.worldofsoccer.match.utils.PageCursor;
+import com.worldofsoccer.match.utils.exceptions.BookingConflictException;
 import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.match.utils.exceptions.InvalidMatchDurationException;
 import com.worldofsoccer.match.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Slf4j
@@ -35,27 +49,65 @@ public class MatchServiceImpl implements MatchService {
     private final VenueServiceClient venueServiceClient;
     private final MatchRequestMapper matchRequestMapper;
     private final MatchResponseMapper matchResponseMapper;
+    private final UpstreamFanOut upstreamFanOut;
+    private final VenueStateOutboxRepository venueStateOutboxRepository;
+    private final StandingsService standingsService;
+    private final BookingIndex bookingIndex;
+    private final LiveMatchFeed liveMatchFeed;
+    private final LiveScoreBuffer liveScoreBuffer;
+    private final int bulkChunkSize;
 
     public MatchServiceImpl(MatchRepository matchRepository,
                             TeamServiceClient teamServiceClient,
                             LeagueServiceClient leagueServiceClient,
                             VenueServiceClient venueServiceClient,
                             MatchRequestMapper matchRequestMapper,
-                            MatchResponseMapper matchResponseMapper) {
+                            MatchResponseMapper matchResponseMapper,
+                            UpstreamFanOut upstreamFanOut,
+                            VenueStateOutboxRepository venueStateOutboxRepository,
+                            StandingsService standingsService,
+                            BookingIndex bookingIndex,
+                            LiveMatchFeed liveMatchFeed,
+                            LiveScoreBuffer liveScoreBuffer,
+                            @Value("${app.bulk.chunk-size:500}") int bulkChunkSize) {
         this.matchRepository = matchRepository;
         this.teamServiceClient = teamServiceClient;
         this.leagueServiceClient = leagueServiceClient;
         this.venueServiceClient = venueServiceClient;
         this.matchRequestMapper = matchRequestMapper;
         this.matchResponseMapper = matchResponseMapper;
+        this.upstreamFanOut = upstreamFanOut;
+        this.venueStateOutboxRepository = venueStateOutboxRepository;
+        this.standingsService = standingsService;
+        this.bookingIndex = bookingIndex;
+        this.liveMatchFeed = liveMatchFeed;
+        this.liveScoreBuffer = liveScoreBuffer;
+        this.bulkChunkSize = bulkChunkSize;
     }
 
     @Override
-    public List<MatchResponseModel> getAllMatches(String leagueId) {
-        List<MatchResponseModel> matches = new ArrayList<>();
-        matchRepository.findAll().forEach(match ->
-                matches.add(matchResponseMapper.entityToResponseModel(match)));
-        return matches;
+    public CursorPage<MatchResponseModel> getAllMatches(String leagueId, String after, Integer limit) {
+        int pageSize = PageCursor.pageSize(limit);
+
+        // fetch one extra row to know whether another page exists
+        Limit fetch = Limit.of(pageSize + 1);
+        List<Match> rows;
+        if (after == null || after.isBlank()) {
+            rows = matchRepository.findLeaguePage(leagueId, fetch);
+        } else {
+            String[] keys = PageCursor.decode(after, 2);
+            LocalDate afterDate;
+            try {
+                afterDate = LocalDate.parse(keys[0]);
+            } catch (DateTimeParseException ex) {
+                throw new InvalidInputException("Invalid cursor provided: " + after, ex);
+            }
+            rows = matchRepository.findLeaguePageAfter(leagueId, afterDate, keys[1], fetch);
+        }
+
+        return CursorPage.fromRows(rows, pageSize,
+                last -> PageCursor.encode(last.getMatchDate().toString(), last.getMatchIdentifier().getMatchId()),
+                matchResponseMapper::entityToResponseModel);
     }
 
     @Override
@@ -76,32 +128,33 @@ public class MatchServiceImpl implements MatchService {
     @Override
     public MatchResponseModel createMatch(MatchRequestModel request,String leagueId) {
 
-        LeagueModel league = leagueServiceClient.getLeagueById(leagueId);
+        // the three lookups are independent, so issue them together and check in the usual order
+        UpstreamFanOut.Batch lookups = upstreamFanOut.start();
+        CompletableFuture<LeagueModel> leagueCall = lookups.submit(() -> leagueServiceClient.getLeagueById(leagueId));
+        CompletableFuture<TeamModel> teamCall = lookups.submit(() -> teamServiceClient.getTeamById(request.getTeamId()));
+        CompletableFuture<VenueModel> venueCall = lookups.submit(() -> venueServiceClient.getVenueById(request.getVenueId()));
+
+        LeagueModel league = lookups.join(leagueCall);
         if (league == null) {
             throw new NotFoundException("League not found with ID: " + leagueId);
         }
 
-
-
-        TeamModel team = teamServiceClient.getTeamById(request.getTeamId());
+        TeamModel team = lookups.join(teamCall);
         if (team == null) {
             throw new InvalidInputException("Team not found with ID: " + request.getTeamId());
         }
 
-        if (request.getMatchDuration() == null ||
-                request.getMatchDuration().isBefore(LocalTime.of(1, 30)) ||
-                request.getMatchDuration().isAfter(LocalTime.of(3, 0))) {
+        if (!isValidDuration(request.getMatchDuration())) {
             throw new InvalidMatchDurationException("Match duration must be between 1:30 and 3:00 hours");
         }
 
-        VenueModel venue = venueServiceClient.getVenueById(request.getVenueId());
+        VenueModel venue = lookups.join(venueCall);
         if (venue == null) {
             throw new InvalidInputException("Venue not found with ID: " + request.getVenueId());
         }
 
         // Aggregate invariant - check venue availability
-        VenueState venueState = VenueState.valueOf(venue.getVenueState());
-        if (venueState != VenueState.UPCOMING && venueState != VenueState.PAST) {
+        if (!isSchedulable(venue)) {
             throw new InvalidInputException("Venue " + venue.getVenueId() + " is not available for scheduling");
         }
 
@@ -112,14 +165,130 @@ public class MatchServiceImpl implements MatchService {
 
 
         match.setMatchStatus(MatchStatus.SCHEDULED);
-        Match savedMatch = matchRepository.save(match);
 
+        // the venue update is saved with the match and delivered by the VenueStateRelay
+        match.setPendingVenueStates(new ArrayList<>(List.of(
+                VenueStateChange.of(match.getMatchIdentifier().getMatchId(), venue.getVenueId(), MatchStatus.SCHEDULED))));
+
+        // refuses a venue or team double booking before anything is written
+        bookingIndex.reserve(match);
+        Match savedMatch;
+        try {
+            savedMatch = matchRepository.save(match);
+        } catch (RuntimeException ex) {
+            bookingIndex.release(match.getMatchIdentifier().getMatchId());
+            throw ex;
+        }
+
+        return matchResponseMapper.entityToResponseModel(savedMatch);
+    }
 
+    @Override
+    public BulkImportReport importMatches(String leagueId, List<MatchRequestModel> requests) {
+        LeagueModel league = leagueServiceClient.getLeagueById(leagueId);
+        if (league == null) {
+            throw new NotFoundException("League not found with ID: " + leagueId);
+        }
 
-        // Update venue state through venue service
-        venueServiceClient.patchVenueState(venue.getVenueId(), MatchStatus.SCHEDULED);
+        // a season references few teams and venues many times over: look each up once
+        Map<String, TeamModel> teams = upstreamFanOut.lookupDistinct(
+                requests.stream().map(MatchRequestModel::getTeamId).toList(), teamServiceClient::getTeamById);
+        Map<String, VenueModel> venues = upstreamFanOut.lookupDistinct(
+                requests.stream().map(MatchRequestModel::getVenueId).toList(), venueServiceClient::getVenueById);
+
+        List<BulkImportRowResult> rows = new ArrayList<>(requests.size());
+        List<Match> chunk = new ArrayList<>(bulkChunkSize);
+        List<BulkImportRowResult> chunkRows = new ArrayList<>(bulkChunkSize);
+        for (int i = 0; i < requests.size(); i++) {
+            MatchRequestModel request = requests.get(i);
+            String error = validateImportRow(request, teams, venues);
+            if (error != null) {
+                rows.add(BulkImportRowResult.builder().index(i).status(BulkImportRowResult.FAILED).error(error).build());
+                continue;
+            }
 
-        return matchResponseMapper.entityToResponseModel(savedMatch);
+            request.setLeagueId(leagueId);
+            Match match = matchRequestMapper.requestModelToEntity(request, new MatchIdentifier(),
+                    venues.get(request.getVenueId()), teams.get(request.getTeamId()), league);
+            match.setMatchStatus(MatchStatus.SCHEDULED);
+            // inserted with the match and delivered by the VenueStateRelay, like a single create
+            match.setPendingVenueStates(new ArrayList<>(List.of(VenueStateChange.of(
+                    match.getMatchIdentifier().getMatchId(), request.getVenueId(), MatchStatus.SCHEDULED))));
+            try {
+                bookingIndex.reserve(match);
+            } catch (BookingConflictException ex) {
+                rows.add(BulkImportRowResult.builder().index(i).status(BulkImportRowResult.FAILED).error(ex.getMessage()).build());
+                continue;
+            }
+
+            BulkImportRowResult row = BulkImportRowResult.builder()
+                    .index(i)
+                    .status(BulkImportRowResult.CREATED)
+                    .matchId(match.getMatchIdentifier().getMatchId())
+                    .build();
+            rows.add(row);
+            chunk.add(match);
+            chunkRows.add(row);
+            if (chunk.size() == bulkChunkSize) {
+                flushImportChunk(chunk, chunkRows);
+            }
+        }
+        flushImportChunk(chunk, chunkRows);
+
+        int created = (int) rows.stream().filter(r -> BulkImportRowResult.CREATED.equals(r.getStatus())).count();
+        return BulkImportReport.builder()
+                .received(requests.size())
+                .created(created)
+                .failed(requests.size() - created)
+                .rows(rows)
+                .build();
+    }
+
+    private void flushImportChunk(List<Match> chunk, List<BulkImportRowResult> chunkRows) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        Map<Integer, String> failures = matchRepository.insertUnordered(chunk);
+        failures.forEach((position, message) -> {
+            bookingIndex.release(chunk.get(position).getMatchIdentifier().getMatchId());
+            BulkImportRowResult row = chunkRows.get(position);
+            row.setStatus(BulkImportRowResult.FAILED);
+            row.setMatchId(null);
+            row.setError(message);
+        });
+        log.debug("Inserted {} of {} imported matches", chunk.size() - failures.size(), chunk.size());
+        chunk.clear();
+        chunkRows.clear();
+    }
+
+    private String validateImportRow(MatchRequestModel request,
+                                     Map<String, TeamModel> teams,
+                                     Map<String, VenueModel> venues) {
+        if (!teams.containsKey(request.getTeamId())) {
+            return "Team not found with ID: " + request.getTeamId();
+        }
+        if (!isValidDuration(request.getMatchDuration())) {
+            return "Match duration must be between 1:30 and 3:00 hours";
+        }
+        VenueModel venue = venues.get(request.getVenueId());
+        if (venue == null) {
+            return "Venue not found with ID: " + request.getVenueId();
+        }
+        if (!isSchedulable(venue)) {
+            return "Venue " + venue.getVenueId() + " is not available for scheduling";
+        }
+        return null;
+    }
+
+    static boolean isValidDuration(LocalTime duration) {
+        return duration != null
+                && !duration.isBefore(LocalTime.of(1, 30))
+                && !duration.isAfter(LocalTime.of(3, 0));
+    }
+
+    static boolean isSchedulable(VenueModel venue) {
+        VenueState venueState = VenueState.valueOf(venue.getVenueState());
+        return venueState == VenueState.UPCOMING || venueState == VenueState.PAST;
     }
 
     @Override
@@ -146,19 +315,22 @@ public class MatchServiceImpl implements MatchService {
                     "Match duration must be between 1:30 and 3:00 hours");
         }
 
-        // Prevent updates to completed matches
-        if (existingMatch.getMatchStatus() == MatchStatus.COMPLETED) {
+        // A completed match can only have its result corrected, not be reopened
+        if (existingMatch.getMatchStatus() == MatchStatus.COMPLETED
+                && request.getMatchStatus() != MatchStatus.COMPLETED) {
             throw new InvalidInputException("Cannot update completed match");
         }
 
+        // venue updates are saved with the match, after any not yet delivered, and sent by the VenueStateRelay
+        List<VenueStateChange> venueStates = existingMatch.getPendingVenueStates() == null
+                ? new ArrayList<>()
+                : new ArrayList<>(existingMatch.getPendingVenueStates());
+
         // Aggregate invariant: if status changed, update venue state
         MatchStatus oldStatus = existingMatch.getMatchStatus();
         MatchStatus newStatus = request.getMatchStatus();
         if (newStatus != null && newStatus != oldStatus) {
-            venueServiceClient.patchVenueState(
-                    existingMatch.getVenueModel().getVenueId(),
-                    newStatus
-            );
+            venueStates.add(VenueStateChange.of(matchId, existingMatch.getVenueModel().getVenueId(), newStatus));
         }
 
         // If venue changed, update old and new venue states
@@ -175,20 +347,17 @@ public class MatchServiceImpl implements MatchService {
             }
 
             // Cancel old venue
-            venueServiceClient.patchVenueState(
-                    existingMatch.getVenueModel().getVenueId(),
-                    MatchStatus.CANCELED
-            );
+            venueStates.add(VenueStateChange.of(matchId, existingMatch.getVenueModel().getVenueId(), MatchStatus.CANCELED));
             // Set correct state for new venue (use updated status if provided)
-            venueServiceClient.patchVenueState(
-                    newVenue.getVenueId(),
-                    newStatus != null ? newStatus : oldStatus
-            );
+            venueStates.add(VenueStateChange.of(matchId, newVenue.getVenueId(), newStatus != null ? newStatus : oldStatus));
         }
 
         // Pull fresh team & venue
-        TeamModel team = teamServiceClient.getTeamById(request.getTeamId());
-        VenueModel venue = venueServiceClient.getVenueById(request.getVenueId());
+        UpstreamFanOut.Batch refresh = upstreamFanOut.start();
+        CompletableFuture<TeamModel> teamCall = refresh.submit(() -> teamServiceClient.getTeamById(request.getTeamId()));
+        CompletableFuture<VenueModel> venueCall = refresh.submit(() -> venueServiceClient.getVenueById(request.getVenueId()));
+        TeamModel team = refresh.join(teamCall);
+        VenueModel venue = refresh.join(venueCall);
 
         // Map request to entity
         Match updatedMatch = matchRequestMapper.requestModelToEntity(
@@ -199,9 +368,24 @@ public class MatchServiceImpl implements MatchService {
                 league
         );
         updatedMatch.setId(existingMatch.getId());
-
-        // Save and return
-        Match saved = matchRepository.save(updatedMatch);
+        updatedMatch.setOpponentModel(existingMatch.getOpponentModel());
+        updatedMatch.setPendingVenueStates(venueStates);
+
+        // a moved match must not land on a booked venue or team; its old slot is not a conflict
+        bookingIndex.reserve(updatedMatch);
+        Match saved;
+        try {
+            saved = matchRepository.save(updatedMatch);
+        } catch (RuntimeException ex) {
+            bookingIndex.restore(existingMatch);
+            throw ex;
+        }
+        // the stored update supersedes live score updates not yet written; a refused one keeps them
+        liveScoreBuffer.discard(matchId);
+        if (LiveMatchFeed.changed(existingMatch, updatedMatch)) {
+            liveMatchFeed.publish(leagueId, updatedMatch, LiveMatchFeed.MATCH_EVENT);
+        }
+        updateStandings(existingMatch, saved);
         return matchResponseMapper.entityToResponseModel(saved);
     }
 
@@ -224,11 +408,45 @@ public class MatchServiceImpl implements MatchService {
             throw new InvalidInputException("Cannot delete match that is in progress");
         }
 
-        // Update venue state before deleting match
-        venueServiceClient.patchVenueState(match.getVenueModel().getVenueId(), MatchStatus.CANCELED);
+        // The match document cannot carry the change past its own deletion, so the venue update and
+        // any still undelivered go to the outbox first; a failed delete then leaves a spare cancel, never a lost one
+        List<VenueStateChange> venueStates = match.getPendingVenueStates() == null
+                ? new ArrayList<>()
+                : new ArrayList<>(match.getPendingVenueStates());
+        venueStates.add(VenueStateChange.of(matchId, match.getVenueModel().getVenueId(), MatchStatus.CANCELED));
+        venueStateOutboxRepository.insertIfAbsent(venueStates);
 
         matchRepository.delete(match);
+        liveScoreBuffer.discard(matchId);
+        bookingIndex.release(matchId);
+        liveMatchFeed.publish(leagueId, match, LiveMatchFeed.REMOVED_EVENT);
         log.debug("Deleted match with ID: {}", matchId);
+        updateStandings(match, null);
+    }
+
+    private static String teamIdOf(TeamModel team) {
+        return team == null ? null : team.getTeamId();
+    }
+
+    // the match is already stored; the standings are idempotent, so a rebuild repairs a failure here
+    private void updateStandings(Match before, Match after) {
+        try {
+            boolean sameTeams = after != null
+                    && Objects.equals(teamIdOf(before.getTeamModel()), teamIdOf(after.getTeamModel()))
+                    && Objects.equals(teamIdOf(before.getOpponentModel()), teamIdOf(after.getOpponentModel()));
+            if (before.getMatchStatus() == MatchStatus.COMPLETED && !sameTeams) {
+                standingsService.removeMatch(before);
+            }
+            if (after != null && (after.getMatchStatus() == MatchStatus.COMPLETED
+                    || before.getMatchStatus() == MatchStatus.COMPLETED)) {
+                standingsService.recordMatch(after);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Standings of league {} not updated for match {}, rebuild them: {}",
+                    before.getLeagueModel() != null ? before.getLeagueModel().getLeagueId() : null,
+                    before.getMatchIdentifier() != null ? before.getMatchIdentifier().getMatchId() : null,
+                    ex.getMessage());
+        }
     }
 
 
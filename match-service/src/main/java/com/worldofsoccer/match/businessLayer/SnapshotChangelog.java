@@ -0,0 +1,38 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.dataAccessLayer.SnapshotChange;
+import com.worldofsoccer.match.dataAccessLayer.SnapshotChangeRepository;
+import com.worldofsoccer.match.dataAccessLayer.SnapshotType;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Records that an upstream league, team or venue changed, so that {@link SnapshotRefreshJob}
+ * can refresh the copies embedded in matches.
+ */
+@Service
+public class SnapshotChangelog {
+
+    private final SnapshotChangeRepository changeRepository;
+
+    public SnapshotChangelog(SnapshotChangeRepository changeRepository) {
+        this.changeRepository = changeRepository;
+    }
+
+    public void record(SnapshotType type, String entityId) {
+        record(type, List.of(entityId));
+    }
+
+    public void record(SnapshotType type, Collection<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        changeRepository.saveAll(entityIds.stream()
+                .map(id -> SnapshotChange.builder().type(type).entityId(id).recordedAt(now).build())
+                .toList());
+    }
+}
@@ -0,0 +1,116 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.dataAccessLayer.MatchRepository;
+import com.worldofsoccer.match.dataAccessLayer.SnapshotChange;
+import com.worldofsoccer.match.dataAccessLayer.SnapshotChangeRepository;
+import com.worldofsoccer.match.dataAccessLayer.SnapshotType;
+import com.worldofsoccer.match.domainclientLayer.cache.UpstreamCaches;
+import com.worldofsoccer.match.domainclientLayer.league.LeagueServiceClient;
+import com.worldofsoccer.match.domainclientLayer.location.VenueServiceClient;
+import com.worldofsoccer.match.domainclientLayer.teams.TeamServiceClient;
+import com.worldofsoccer.match.utils.exceptions.NotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drains the snapshot changelog: every changed entity is fetched once, fresh, and written
+ * into all matches that embed it with one updateMany, so match reads stay single-document.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.snapshot-refresh", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SnapshotRefreshJob {
+
+    private final SnapshotChangeRepository changeRepository;
+    private final MatchRepository matchRepository;
+    private final LeagueServiceClient leagueServiceClient;
+    private final TeamServiceClient teamServiceClient;
+    private final VenueServiceClient venueServiceClient;
+    private final UpstreamCaches upstreamCaches;
+    private final int batchSize;
+
+    public SnapshotRefreshJob(SnapshotChangeRepository changeRepository,
+                              MatchRepository matchRepository,
+                              LeagueServiceClient leagueServiceClient,
+                              TeamServiceClient teamServiceClient,
+                              VenueServiceClient venueServiceClient,
+                              UpstreamCaches upstreamCaches,
+                              @Value("${app.snapshot-refresh.batch-size:500}") int batchSize) {
+        this.changeRepository = changeRepository;
+        this.matchRepository = matchRepository;
+        this.leagueServiceClient = leagueServiceClient;
+        this.teamServiceClient = teamServiceClient;
+        this.venueServiceClient = venueServiceClient;
+        this.upstreamCaches = upstreamCaches;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${app.snapshot-refresh.interval:30s}")
+    public int drain() {
+        List<SnapshotChange> pending = changeRepository.findByProcessedAtIsNullOrderByRecordedAtAsc(Limit.of(batchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // a burst of edits to one entity collapses into a single refresh
+        Map<String, List<SnapshotChange>> byEntity = new LinkedHashMap<>();
+        for (SnapshotChange change : pending) {
+            byEntity.computeIfAbsent(change.getType() + ":" + change.getEntityId(), k -> new ArrayList<>()).add(change);
+        }
+
+        List<SnapshotChange> processed = new ArrayList<>(pending.size());
+        int refreshed = 0;
+        for (List<SnapshotChange> changes : byEntity.values()) {
+            SnapshotChange change = changes.get(0);
+            try {
+                long modified = refresh(change.getType(), change.getEntityId());
+                log.debug("Refreshed {} {} in {} matches", change.getType(), change.getEntityId(), modified);
+                refreshed++;
+                processed.addAll(changes);
+            } catch (NotFoundException ex) {
+                // deleted upstream: keep the last known copy rather than blanking history
+                log.info("{} {} no longer exists upstream; snapshot left as is", change.getType(), change.getEntityId());
+                processed.addAll(changes);
+            } catch (RuntimeException ex) {
+                log.warn("Snapshot refresh of {} {} failed, will retry: {}",
+                        change.getType(), change.getEntityId(), ex.getMessage());
+            }
+        }
+
+        Instant now = Instant.now();
+        processed.forEach(change -> change.setProcessedAt(now));
+        changeRepository.saveAll(processed);
+        return refreshed;
+    }
+
+    private long refresh(SnapshotType type, String entityId) {
+        Object snapshot = switch (type) {
+            case LEAGUE -> {
+                upstreamCaches.leagues().invalidate(entityId);
+                yield leagueServiceClient.getLeagueById(entityId);
+            }
+            case TEAM -> {
+                upstreamCaches.teams().invalidate(entityId);
+                yield teamServiceClient.getTeamById(entityId);
+            }
+            case VENUE -> {
+                upstreamCaches.venues().invalidate(entityId);
+                yield venueServiceClient.getVenueById(entityId);
+            }
+        };
+        if (snapshot == null) {
+            throw new NotFoundException(type + " not found with ID: " + entityId);
+        }
+        return matchRepository.replaceSnapshot(type, entityId, snapshot);
+    }
+}
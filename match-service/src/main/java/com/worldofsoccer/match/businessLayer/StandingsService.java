@@ -0,0 +1,13 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.presentationlayer.StandingResponseModel;
+
+import java.util.List;
+
+public interface StandingsService {
+    List<StandingResponseModel> getStandings(String leagueId);
+    List<StandingResponseModel> rebuildStandings(String leagueId);
+    void recordMatch(Match match);
+    void removeMatch(Match match);
+}
@@ -0,0 +1,198 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.dataAccessLayer.MatchRepository;
+import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import com.worldofsoccer.match.dataAccessLayer.ResultsType;
+import com.worldofsoccer.match.dataAccessLayer.StandingResult;
+import com.worldofsoccer.match.dataAccessLayer.TeamStanding;
+import com.worldofsoccer.match.dataAccessLayer.TeamStandingRepository;
+import com.worldofsoccer.match.domainclientLayer.teams.TeamModel;
+import com.worldofsoccer.match.presentationlayer.StandingResponseModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * League tables maintained from completed matches. Every match write moves one team's row by
+ * that match's contribution; the row remembers each contribution by match id, so a replayed
+ * write is a no-op and a corrected result only applies the difference. Rows are versioned, so
+ * two matches of the same team completing at once retry instead of losing an update.
+ */
+@Service
+@Slf4j
+public class StandingsServiceImpl implements StandingsService {
+
+    private static final int MAX_ATTEMPTS = 5;
+    static final Pattern SCORE = Pattern.compile("\\s*(\\d+)\\s*[-:]\\s*(\\d+)\\s*");
+
+    private final TeamStandingRepository standingRepository;
+    private final MatchRepository matchRepository;
+
+    public StandingsServiceImpl(TeamStandingRepository standingRepository, MatchRepository matchRepository) {
+        this.standingRepository = standingRepository;
+        this.matchRepository = matchRepository;
+    }
+
+    @Override
+    public List<StandingResponseModel> getStandings(String leagueId) {
+        return toTable(standingRepository.findLeagueTable(leagueId));
+    }
+
+    @Override
+    public List<StandingResponseModel> rebuildStandings(String leagueId) {
+        Map<String, TeamStanding> rebuilt = new HashMap<>();
+        for (Match match : matchRepository.findByLeagueModel_LeagueIdAndMatchStatus(leagueId, MatchStatus.COMPLETED)) {
+            StandingResult result = resultOf(match);
+            if (result == null) {
+                continue;
+            }
+            String matchId = match.getMatchIdentifier().getMatchId();
+            TeamModel team = match.getTeamModel();
+            rebuilt.computeIfAbsent(team.getTeamId(), id -> TeamStanding.empty(leagueId, id, team.getTeamName()))
+                    .apply(matchId, result);
+            TeamModel opponent = match.getOpponentModel();
+            if (opponent != null) {
+                rebuilt.computeIfAbsent(opponent.getTeamId(), id -> TeamStanding.empty(leagueId, id, opponent.getTeamName()))
+                        .apply(matchId, result.mirrored());
+            }
+        }
+
+        // overwrite the stored rows in place, keeping their versions, so a concurrent match write is not lost silently
+        List<TeamStanding> stale = new ArrayList<>();
+        for (TeamStanding existing : standingRepository.findByLeagueId(leagueId)) {
+            TeamStanding replacement = rebuilt.get(existing.getTeamId());
+            if (replacement == null) {
+                stale.add(existing);
+            } else {
+                replacement.setVersion(existing.getVersion());
+            }
+        }
+        standingRepository.deleteAll(stale);
+        standingRepository.saveAll(rebuilt.values());
+        log.info("Rebuilt standings of league {} for {} teams", leagueId, rebuilt.size());
+
+        List<TeamStanding> table = new ArrayList<>(rebuilt.values());
+        table.sort(Comparator.comparingInt(TeamStanding::getPoints).reversed()
+                .thenComparing(Comparator.comparingInt(TeamStanding::getGoalDifference).reversed())
+                .thenComparing(Comparator.comparingInt(TeamStanding::getGoalsFor).reversed())
+                .thenComparing(TeamStanding::getTeamName, Comparator.nullsLast(Comparator.<String>naturalOrder())));
+        return toTable(table);
+    }
+
+    // a match that is not (or no longer) completed contributes nothing, which removes any earlier contribution
+    @Override
+    public void recordMatch(Match match) {
+        update(match, match.getMatchStatus() == MatchStatus.COMPLETED ? resultOf(match) : null);
+    }
+
+    @Override
+    public void removeMatch(Match match) {
+        update(match, null);
+    }
+
+    // a generated fixture also moves the opponent's row, by the same result seen from the other side
+    private void update(Match match, StandingResult result) {
+        if (match.getLeagueModel() == null || match.getTeamModel() == null || match.getMatchIdentifier() == null) {
+            return;
+        }
+        String leagueId = match.getLeagueModel().getLeagueId();
+        String matchId = match.getMatchIdentifier().getMatchId();
+        update(leagueId, match.getTeamModel(), matchId, result);
+        if (match.getOpponentModel() != null) {
+            update(leagueId, match.getOpponentModel(), matchId, result == null ? null : result.mirrored());
+        }
+    }
+
+    private void update(String leagueId, TeamModel team, String matchId, StandingResult result) {
+        String teamId = team.getTeamId();
+        for (int attempt = 1; ; attempt++) {
+            TeamStanding standing = standingRepository.findById(TeamStanding.idOf(leagueId, teamId)).orElse(null);
+            if (standing == null) {
+                if (result == null) {
+                    return;
+                }
+                standing = TeamStanding.empty(leagueId, teamId, team.getTeamName());
+            }
+            if (!standing.apply(matchId, result)) {
+                return;
+            }
+            standing.setTeamName(team.getTeamName());
+            try {
+                standingRepository.save(standing);
+                return;
+            } catch (OptimisticLockingFailureException | DuplicateKeyException ex) {
+                if (attempt == MAX_ATTEMPTS) {
+                    throw ex;
+                }
+                log.debug("Standing {} changed concurrently, retrying", standing.getId());
+            }
+        }
+    }
+
+    /**
+     * The match's contribution to its team's row, or null when it has no usable result. The
+     * score is read from the team's side first ("2-1" is two scored, one conceded); the
+     * recorded result type wins over the score when both are present. For a fixture the team
+     * is the home side.
+     */
+    static StandingResult resultOf(Match match) {
+        int goalsFor = 0;
+        int goalsAgainst = 0;
+        boolean scored = false;
+        if (match.getMatchScore() != null) {
+            Matcher score = SCORE.matcher(match.getMatchScore());
+            if (score.matches()) {
+                goalsFor = Integer.parseInt(score.group(1));
+                goalsAgainst = Integer.parseInt(score.group(2));
+                scored = true;
+            }
+        }
+
+        ResultsType outcome = match.getMatchResults() != null ? match.getMatchResults().getResultsType() : null;
+        if (outcome == null) {
+            if (!scored) {
+                return null;
+            }
+            outcome = goalsFor > goalsAgainst ? ResultsType.WINNER
+                    : goalsFor < goalsAgainst ? ResultsType.LOSER
+                    : ResultsType.DRAW;
+        }
+        return StandingResult.builder()
+                .outcome(outcome)
+                .goalsFor(goalsFor)
+                .goalsAgainst(goalsAgainst)
+                .matchDate(match.getMatchDate())
+                .build();
+    }
+
+    private static List<StandingResponseModel> toTable(List<TeamStanding> rows) {
+        List<StandingResponseModel> table = new ArrayList<>(rows.size());
+        for (TeamStanding row : rows) {
+            table.add(StandingResponseModel.builder()
+                    .position(table.size() + 1)
+                    .teamId(row.getTeamId())
+                    .teamName(row.getTeamName())
+                    .played(row.getPlayed())
+                    .won(row.getWon())
+                    .drawn(row.getDrawn())
+                    .lost(row.getLost())
+                    .goalsFor(row.getGoalsFor())
+                    .goalsAgainst(row.getGoalsAgainst())
+                    .goalDifference(row.getGoalDifference())
+                    .points(row.getPoints())
+                    .form(row.getForm())
+                    .build());
+        }
+        return table;
+    }
+}
@@ -0,0 +1,125 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
+import com.worldofsoccer.match.utils.exceptions.NotFoundException;
+import com.worldofsoccer.match.utils.exceptions.UpstreamTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent downstream lookups concurrently under one shared deadline, so a
+ * request waits for the slowest call instead of the sum of all of them.
+ */
+@Slf4j
+@Component
+public class UpstreamFanOut {
+
+    private static final int LOOKUP_WINDOW = 16;
+
+    private final AsyncTaskExecutor executor;
+    private final Duration timeout;
+
+    public UpstreamFanOut(@Qualifier("upstreamExecutor") AsyncTaskExecutor executor,
+                          @Value("${app.upstream.fan-out-timeout:3s}") Duration timeout) {
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+
+    public Batch start() {
+        return new Batch(System.nanoTime() + timeout.toNanos());
+    }
+
+    /**
+     * Resolves every distinct non-null id once, a bounded window at a time. Ids the
+     * downstream service does not know are simply absent from the result.
+     */
+    public <T> Map<String, T> lookupDistinct(Collection<String> ids, Function<String, T> lookup) {
+        List<String> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        Map<String, T> found = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += LOOKUP_WINDOW) {
+            List<String> window = distinct.subList(from, Math.min(from + LOOKUP_WINDOW, distinct.size()));
+            Batch batch = start();
+            Map<String, CompletableFuture<T>> calls = new LinkedHashMap<>();
+            for (String id : window) {
+                calls.put(id, batch.submit(() -> lookup.apply(id)));
+            }
+            calls.forEach((id, call) -> {
+                try {
+                    T value = batch.join(call);
+                    if (value != null) {
+                        found.put(id, value);
+                    }
+                } catch (NotFoundException | InvalidInputException ex) {
+                    log.debug("Reference {} rejected: {}", id, ex.getMessage());
+                }
+            });
+        }
+        return found;
+    }
+
+    public class Batch {
+
+        private final long deadline;
+        private final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        private Batch(long deadline) {
+            this.deadline = deadline;
+        }
+
+        public <T> CompletableFuture<T> submit(Supplier<T> call) {
+            CompletableFuture<T> future = CompletableFuture.supplyAsync(call, executor);
+            futures.add(future);
+            return future;
+        }
+
+        /**
+         * Waits for one result within what is left of the batch deadline and rethrows the
+         * call's own exception, so callers can check results in whatever order they choose.
+         */
+        public <T> T join(CompletableFuture<T> future) {
+            try {
+                return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException ex) {
+                cancelAll();
+                throw new UpstreamTimeoutException("Downstream services did not respond within " + timeout.toMillis() + " ms", ex);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                cancelAll();
+                throw new UpstreamTimeoutException("Interrupted while waiting for downstream services", ex);
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        // only completes the futures: CompletableFuture never interrupts its task, so a call
+        // already running holds its thread until the HTTP client's own timeouts end it
+        private void cancelAll() {
+            futures.forEach(f -> f.cancel(true));
+        }
+    }
+}
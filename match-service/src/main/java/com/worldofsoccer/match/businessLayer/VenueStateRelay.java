@@ -0,0 +1,177 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.dataAccessLayer.MatchRepository;
+import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import com.worldofsoccer.match.dataAccessLayer.SnapshotType;
+import com.worldofsoccer.match.dataAccessLayer.VenueStateChange;
+import com.worldofsoccer.match.dataAccessLayer.VenueStateOutboxRepository;
+import com.worldofsoccer.match.domainclientLayer.location.VenueModel;
+import com.worldofsoccer.match.domainclientLayer.location.VenueServiceClient;
+import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
+import com.worldofsoccer.match.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Delivers the venue state changes that match writes leave behind. Each run first moves the
+ * changes still embedded in matches into the outbox, then sends the outbox to location-service:
+ * only the latest change per venue, one batch PATCH per target status, each with an
+ * {@code Idempotency-Key} derived from the changes it carries. A failed batch is retried with
+ * exponential backoff, while changes that are due go ahead of it; after {@code max-attempts} a
+ * change is dead-lettered, as is one the location service rejects outright: marked dispatched
+ * with its {@code lastError} and counted in {@code venue.state.relay.dead.letters}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.venue-state-relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class VenueStateRelay {
+
+    private final MatchRepository matchRepository;
+    private final VenueStateOutboxRepository outboxRepository;
+    private final VenueServiceClient venueServiceClient;
+    private final SnapshotChangelog snapshotChangelog;
+    private final int batchSize;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final Counter deadLetters;
+
+    public VenueStateRelay(MatchRepository matchRepository,
+                           VenueStateOutboxRepository outboxRepository,
+                           VenueServiceClient venueServiceClient,
+                           SnapshotChangelog snapshotChangelog,
+                           @Value("${app.venue-state-relay.batch-size:500}") int batchSize,
+                           @Value("${app.venue-state-relay.initial-backoff:1s}") Duration initialBackoff,
+                           @Value("${app.venue-state-relay.max-backoff:5m}") Duration maxBackoff,
+                           @Value("${app.venue-state-relay.max-attempts:20}") int maxAttempts,
+                           MeterRegistry meterRegistry) {
+        this.matchRepository = matchRepository;
+        this.outboxRepository = outboxRepository;
+        this.venueServiceClient = venueServiceClient;
+        this.snapshotChangelog = snapshotChangelog;
+        this.batchSize = batchSize;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.deadLetters = Counter.builder("venue.state.relay.dead.letters")
+                .description("Venue state changes given up on")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.venue-state-relay.interval:1s}")
+    public int drain() {
+        collect();
+        return dispatch();
+    }
+
+    // copy first, then pull: a crash in between only re-copies entries the outbox already holds
+    int collect() {
+        int moved = 0;
+        for (Match match : matchRepository.findWithPendingVenueStates(Limit.of(batchSize))) {
+            List<VenueStateChange> pending = match.getPendingVenueStates();
+            if (pending == null || pending.isEmpty()) {
+                continue;
+            }
+            outboxRepository.insertIfAbsent(pending);
+            matchRepository.pullPendingVenueStates(match.getId(), pending.stream().map(VenueStateChange::getId).toList());
+            moved += pending.size();
+        }
+        return moved;
+    }
+
+    int dispatch() {
+        Instant now = Instant.now();
+        List<VenueStateChange> pending = outboxRepository.findDue(now, Limit.of(batchSize));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // pending is oldest first, so the last change seen per venue is the one that counts;
+        // the ones it supersedes are settled by delivering it
+        Map<String, VenueStateChange> latest = new LinkedHashMap<>();
+        List<VenueStateChange> settled = new ArrayList<>();
+        for (VenueStateChange change : pending) {
+            VenueStateChange superseded = latest.put(change.getVenueId(), change);
+            if (superseded != null) {
+                superseded.setDispatchedAt(now);
+                settled.add(superseded);
+            }
+        }
+
+        Map<MatchStatus, List<VenueStateChange>> byStatus = new EnumMap<>(MatchStatus.class);
+        for (VenueStateChange change : latest.values()) {
+            byStatus.computeIfAbsent(change.getMatchStatus(), s -> new ArrayList<>()).add(change);
+        }
+
+        List<VenueStateChange> delivered = new ArrayList<>();
+        for (Map.Entry<MatchStatus, List<VenueStateChange>> batch : byStatus.entrySet()) {
+            List<VenueStateChange> changes = batch.getValue();
+            List<String> venueIds = changes.stream().map(VenueStateChange::getVenueId).toList();
+            try {
+                List<VenueModel> changed = venueServiceClient.patchVenueStates(venueIds, batch.getKey(), idempotencyKey(changes));
+                // other matches at these venues embed the old state; queue them for a snapshot refresh
+                snapshotChangelog.record(SnapshotType.VENUE, changed.stream().map(VenueModel::getVenueId).toList());
+                changes.forEach(change -> change.setDispatchedAt(now));
+                delivered.addAll(changes);
+            } catch (NotFoundException | InvalidInputException ex) {
+                log.warn("Location service rejected {} venue state changes to {}, dropping them: {}",
+                        changes.size(), batch.getKey(), ex.getMessage());
+                changes.forEach(change -> deadLetter(change, now, ex.getMessage()));
+            } catch (RuntimeException ex) {
+                log.warn("Delivery of {} venue state changes to {} failed, will retry: {}",
+                        changes.size(), batch.getKey(), ex.getMessage());
+                for (VenueStateChange change : changes) {
+                    change.setAttempts(change.getAttempts() + 1);
+                    if (change.getAttempts() >= maxAttempts) {
+                        log.error("Giving up on venue {} -> {} after {} attempts", change.getVenueId(),
+                                change.getMatchStatus(), change.getAttempts());
+                        deadLetter(change, now, ex.getMessage());
+                    } else {
+                        change.setNextAttemptAt(now.plus(backoff(change.getAttempts())));
+                        change.setLastError(ex.getMessage());
+                    }
+                }
+            }
+            settled.addAll(changes);
+        }
+
+        outboxRepository.saveAll(settled);
+        // older changes of these venues that were backing off, and so not fetched, must not follow them
+        outboxRepository.settleSuperseded(delivered, now);
+        return delivered.size();
+    }
+
+    private void deadLetter(VenueStateChange change, Instant now, String error) {
+        change.setDispatchedAt(now);
+        change.setLastError(error);
+        deadLetters.increment();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    // the same changes always map to the same key, so a resend after a lost response is recognised
+    private static String idempotencyKey(List<VenueStateChange> changes) {
+        String ids = String.join(",", changes.stream().map(VenueStateChange::getId).sorted().toList());
+        return UUID.nameUUIDFromBytes(ids.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+}
@@ -0,0 +1,5 @@
+package com.worldofsoccer.match.dataAccessLayer;
+
+// the latest score and minute accepted for a live match, not yet written
+public record LiveUpdate(String leagueId, String matchId, String matchScore, Integer matchMinute) {
+}
@@ -5,12 +5,25 @@ import com.worldofsoccer.match.domainclientLayer.location.VenueModel;
 import com.worldofsoccer.match.domainclientLayer.teams.TeamModel;
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 
 @Document(collection = "matches")
+@CompoundIndexes({
+        @CompoundIndex(name = "league_date_match_idx",
+                def = "{'leagueModel.leagueId': 1, 'matchDate': 1, 'matchIdentifier.matchId': 1}"),
+        // snapshot refresh updates every match of one team or venue
+        @CompoundIndex(name = "team_idx", def = "{'teamModel.teamId': 1}"),
+        @CompoundIndex(name = "opponent_idx", def = "{'opponentModel.teamId': 1}", sparse = true),
+        @CompoundIndex(name = "venue_idx", def = "{'venueModel.venueId': 1}"),
+        // only matches with undelivered venue state changes carry this field
+        @CompoundIndex(name = "pending_venue_states_idx", def = "{'pendingVenueStates.recordedAt': 1}", sparse = true)
+})
 @Data
 @Builder
 @AllArgsConstructor
@@ -26,6 +39,8 @@ public class Match {
 
     private LeagueModel leagueModel;
     private TeamModel teamModel;
+    // the away side of a generated fixture; absent on matches created for a single team
+    private TeamModel opponentModel;
     private VenueModel venueModel;
 
 
@@ -39,5 +54,8 @@ public class Match {
 
     private MatchResults matchResults;
 
+    // venue state changes saved with this match and not yet moved to the outbox
+    private List<VenueStateChange> pendingVenueStates;
+
 
 }
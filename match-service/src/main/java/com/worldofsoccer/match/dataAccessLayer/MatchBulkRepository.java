@@ -0,0 +1,35 @@
+package com.worldofsoccer.match.dataAccessLayer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Write path for imports that would otherwise cost one round-trip per match.
+ */
+public interface MatchBulkRepository {
+
+    /**
+     * Inserts the matches in one unordered bulk write and returns, keyed by position in
+     * {@code matches}, the error message of every document the server rejected.
+     */
+    Map<Integer, String> insertUnordered(List<Match> matches);
+
+    /**
+     * Overwrites the embedded copy of one upstream entity in every match that references it,
+     * with a single multi-document update. Returns the number of matches modified.
+     */
+    long replaceSnapshot(SnapshotType type, String entityId, Object snapshot);
+
+    /**
+     * Removes the given venue state changes from one match's pending list, leaving any added
+     * since they were read. Returns the number of matches modified.
+     */
+    long pullPendingVenueStates(String id, Collection<String> changeIds);
+
+    /**
+     * Sets score and minute on each match in one unordered bulk write, skipping matches that are
+     * no longer in progress. Returns the number of matches the updates applied to.
+     */
+    long applyLiveUpdates(List<LiveUpdate> updates);
+}
@@ -0,0 +1,84 @@
+package com.worldofsoccer.match.dataAccessLayer;
+
+import com.mongodb.bulk.BulkWriteError;
+import org.bson.Document;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class MatchBulkRepositoryImpl implements MatchBulkRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    MatchBulkRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<Match> matches) {
+        Map<Integer, String> failures = new HashMap<>();
+        if (matches.isEmpty()) {
+            return failures;
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Match.class)
+                    .insert(matches)
+                    .execute();
+        } catch (BulkOperationException ex) {
+            // unordered: everything not listed here was written
+            for (BulkWriteError error : ex.getErrors()) {
+                failures.put(error.getIndex(), error.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public long replaceSnapshot(SnapshotType type, String entityId, Object snapshot) {
+        Query query = Query.query(Criteria.where(type.idPath()).is(entityId));
+        Update update = new Update().set(type.getField(), snapshot);
+        long modified = mongoTemplate.updateMulti(query, update, Match.class).getModifiedCount();
+        if (type == SnapshotType.TEAM) {
+            // generated fixtures embed the away team a second time
+            Query opponent = Query.query(Criteria.where("opponentModel." + type.getIdField()).is(entityId));
+            modified += mongoTemplate.updateMulti(opponent, new Update().set("opponentModel", snapshot), Match.class)
+                    .getModifiedCount();
+        }
+        return modified;
+    }
+
+    @Override
+    public long pullPendingVenueStates(String id, Collection<String> changeIds) {
+        Query query = Query.query(Criteria.where("_id").is(id));
+        Update update = new Update().pull("pendingVenueStates",
+                new Document("_id", new Document("$in", changeIds)));
+        return mongoTemplate.updateFirst(query, update, Match.class).getModifiedCount();
+    }
+
+    @Override
+    public long applyLiveUpdates(List<LiveUpdate> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Match.class);
+        for (LiveUpdate live : updates) {
+            // a full update that ended or moved the match in the meantime wins
+            Query query = Query.query(Criteria.where("matchIdentifier.matchId").is(live.matchId())
+                    .and("leagueModel.leagueId").is(live.leagueId())
+                    .and("matchStatus").is(MatchStatus.IN_PROGRESS));
+            Update update = new Update()
+                    .set("matchScore", live.matchScore())
+                    .set("matchResults.matchMinute", live.matchMinute());
+            bulk.updateOne(query, update);
+        }
+        return bulk.execute().getMatchedCount();
+    }
+}
@@ -1,14 +1,50 @@
 package com.worldofsoccer.match.dataAccessLayer;
 
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface MatchRepository extends MongoRepository<Match, String> {
+public interface MatchRepository extends MongoRepository<Match, String>, MatchBulkRepository {
 
     Match findByMatchIdentifier_MatchId(String matchId);
     Match findByLeagueModel_LeagueIdAndMatchIdentifier_MatchId(String leagueId, String matchId);
 
+    // Keyset paging over the league_date_match_idx compound index, ordered by (matchDate, matchId)
+    @Query(value = "{ 'leagueModel.leagueId': ?0 }",
+            sort = "{ 'matchDate': 1, 'matchIdentifier.matchId': 1 }")
+    List<Match> findLeaguePage(String leagueId, Limit limit);
+
+    @Query(value = "{ 'leagueModel.leagueId': ?0, '$or': [ "
+            + "{ 'matchDate': { '$gt': ?1 } }, "
+            + "{ 'matchDate': ?1, 'matchIdentifier.matchId': { '$gt': ?2 } } ] }",
+            sort = "{ 'matchDate': 1, 'matchIdentifier.matchId': 1 }")
+    List<Match> findLeaguePageAfter(String leagueId, LocalDate matchDate, String matchId, Limit limit);
+
+    // fixture generation: what the venues already host in the window, read through venue_idx
+    @Query(value = "{ 'venueModel.venueId': { '$in': ?0 }, 'matchDate': { '$gte': ?1, '$lte': ?2 } }",
+            fields = "{ 'venueModel.venueId': 1, 'matchDate': 1, 'matchTime': 1, 'matchDuration': 1 }")
+    List<Match> findVenueBookings(Collection<String> venueIds, LocalDate from, LocalDate to);
+
+    @Query(value = "{ 'leagueModel.leagueId': ?0, 'matchDate': { '$gte': ?1, '$lte': ?2 } }", exists = true)
+    boolean existsInLeagueBetween(String leagueId, LocalDate from, LocalDate to);
+
+    // standings rebuild: league_date_match_idx narrows to the league
+    List<Match> findByLeagueModel_LeagueIdAndMatchStatus(String leagueId, MatchStatus matchStatus);
+
+    // booking index load: every match that may hold a slot, with only the fields the index reads
+    @Query(value = "{ 'matchStatus': { '$ne': 'CANCELED' } }",
+            fields = "{ 'matchIdentifier': 1, 'venueModel.venueId': 1, 'teamModel.teamId': 1, "
+                    + "'opponentModel.teamId': 1, 'matchStatus': 1, 'matchDate': 1, 'matchTime': 1, 'matchDuration': 1 }")
+    Stream<Match> streamBookings();
+
+    @Query(value = "{ 'pendingVenueStates.recordedAt': { '$exists': true } }",
+            fields = "{ 'matchIdentifier': 1, 'pendingVenueStates': 1 }")
+    List<Match> findWithPendingVenueStates(Limit limit);
 
 }
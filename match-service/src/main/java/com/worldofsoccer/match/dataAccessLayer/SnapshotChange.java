@@ -0,0 +1,35 @@
+package com.worldofsoccer.match.dataAccessLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * One "this upstream entity changed" entry. Entries are drained in order, and processed
+ * ones are expired by Mongo a week later.
+ */
+@Document(collection = "snapshot_changelog")
+@CompoundIndex(name = "pending_idx", def = "{'processedAt': 1, 'recordedAt': 1}")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SnapshotChange {
+
+    @Id
+    private String id;
+
+    private SnapshotType type;
+    private String entityId;
+    private Instant recordedAt;
+
+    @Indexed(name = "processed_ttl_idx", expireAfter = "7d")
+    private Instant processedAt;
+}
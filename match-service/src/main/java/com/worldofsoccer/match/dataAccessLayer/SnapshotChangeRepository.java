@@ -0,0 +1,11 @@
+package com.worldofsoccer.match.dataAccessLayer;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface SnapshotChangeRepository extends MongoRepository<SnapshotChange, String> {
+
+    List<SnapshotChange> findByProcessedAtIsNullOrderByRecordedAtAsc(Limit limit);
+}
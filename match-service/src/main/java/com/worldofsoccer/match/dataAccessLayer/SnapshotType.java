@@ -0,0 +1,25 @@
+package com.worldofsoccer.match.dataAccessLayer;
+
+import lombok.Getter;
+
+/**
+ * The upstream entities copied into every {@link Match}, with the embedded field that holds each copy.
+ */
+@Getter
+public enum SnapshotType {
+    LEAGUE("leagueModel", "leagueId"),
+    TEAM("teamModel", "teamId"),
+    VENUE("venueModel", "venueId");
+
+    private final String field;
+    private final String idField;
+
+    SnapshotType(String field, String idField) {
+        this.field = field;
+        this.idField = idField;
+    }
+
+    public String idPath() {
+        return field + "." + idField;
+    }
+}
@@ -0,0 +1,49 @@
+package com.worldofsoccer.match.dataAccessLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * What one completed match adds to a team's standing. Kept per match id so applying the same
+ * match again changes nothing and a corrected result only moves the totals by the difference.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StandingResult {
+    private ResultsType outcome;
+    private int goalsFor;
+    private int goalsAgainst;
+    private LocalDate matchDate;
+
+    // the same match from the opponent's side
+    public StandingResult mirrored() {
+        ResultsType opposite = switch (outcome) {
+            case WINNER -> ResultsType.LOSER;
+            case DRAW -> ResultsType.DRAW;
+            case LOSER -> ResultsType.WINNER;
+        };
+        return new StandingResult(opposite, goalsAgainst, goalsFor, matchDate);
+    }
+
+    public int points() {
+        return switch (outcome) {
+            case WINNER -> 3;
+            case DRAW -> 1;
+            case LOSER -> 0;
+        };
+    }
+
+    public String formLetter() {
+        return switch (outcome) {
+            case WINNER -> "W";
+            case DRAW -> "D";
+            case LOSER -> "L";
+        };
+    }
+}
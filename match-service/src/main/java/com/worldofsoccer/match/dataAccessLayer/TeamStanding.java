@@ -0,0 +1,114 @@
+package com.worldofsoccer.match.dataAccessLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One row of a league table, kept up to date from completed matches. The index matches the
+ * table order, so a league's standings are one indexed read with no in-memory sort.
+ */
+@Document(collection = "standings")
+@CompoundIndex(name = "league_table_idx",
+        def = "{'leagueId': 1, 'points': -1, 'goalDifference': -1, 'goalsFor': -1, 'teamName': 1}")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TeamStanding {
+
+    public static final int FORM_LENGTH = 5;
+
+    // leagueId:teamId
+    @Id
+    private String id;
+
+    private String leagueId;
+    private String teamId;
+    private String teamName;
+
+    private int played;
+    private int won;
+    private int drawn;
+    private int lost;
+    private int goalsFor;
+    private int goalsAgainst;
+    private int goalDifference;
+    private int points;
+
+    // newest first
+    private List<String> form;
+
+    // by match id; not returned by table reads
+    private Map<String, StandingResult> results;
+
+    @Version
+    private Long version;
+
+    public static String idOf(String leagueId, String teamId) {
+        return leagueId + ":" + teamId;
+    }
+
+    public static TeamStanding empty(String leagueId, String teamId, String teamName) {
+        return TeamStanding.builder()
+                .id(idOf(leagueId, teamId))
+                .leagueId(leagueId)
+                .teamId(teamId)
+                .teamName(teamName)
+                .form(new ArrayList<>())
+                .results(new HashMap<>())
+                .build();
+    }
+
+    /**
+     * Records {@code result} for {@code matchId}, or removes it when null, moving the totals by
+     * the difference to what was recorded before. Returns false when nothing changed.
+     */
+    public boolean apply(String matchId, StandingResult result) {
+        if (results == null) {
+            results = new HashMap<>();
+        }
+        StandingResult previous = result == null ? results.remove(matchId) : results.put(matchId, result);
+        if (result == null ? previous == null : result.equals(previous)) {
+            return false;
+        }
+        if (previous != null) {
+            add(previous, -1);
+        }
+        if (result != null) {
+            add(result, 1);
+        }
+        form = results.values().stream()
+                .sorted(Comparator.comparing(StandingResult::getMatchDate,
+                        Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder())).reversed())
+                .limit(FORM_LENGTH)
+                .map(StandingResult::formLetter)
+                .toList();
+        return true;
+    }
+
+    private void add(StandingResult result, int sign) {
+        played += sign;
+        switch (result.getOutcome()) {
+            case WINNER -> won += sign;
+            case DRAW -> drawn += sign;
+            case LOSER -> lost += sign;
+        }
+        goalsFor += sign * result.getGoalsFor();
+        goalsAgainst += sign * result.getGoalsAgainst();
+        goalDifference = goalsFor - goalsAgainst;
+        points += sign * result.points();
+    }
+}
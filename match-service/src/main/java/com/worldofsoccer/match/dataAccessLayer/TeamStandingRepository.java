@@ -0,0 +1,17 @@
+package com.worldofsoccer.match.dataAccessLayer;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.List;
+
+public interface TeamStandingRepository extends MongoRepository<TeamStanding, String> {
+
+    // served in table order straight from league_table_idx; the per-match results stay behind
+    @Query(value = "{ 'leagueId': ?0 }",
+            fields = "{ 'results': 0 }",
+            sort = "{ 'points': -1, 'goalDifference': -1, 'goalsFor': -1, 'teamName': 1 }")
+    List<TeamStanding> findLeagueTable(String leagueId);
+
+    List<TeamStanding> findByLeagueId(String leagueId);
+}
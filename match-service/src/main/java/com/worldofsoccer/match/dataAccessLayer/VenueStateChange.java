@@ -0,0 +1,53 @@
+package com.worldofsoccer.match.dataAccessLayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A venue state change a match write requires. It is first embedded in the match it belongs
+ * to, so it is stored by the same single-document write, then moved to this outbox collection
+ * by {@code VenueStateRelay}, which delivers it. Delivered entries are expired a week later.
+ */
+@Document(collection = "venue_state_outbox")
+@CompoundIndex(name = "pending_idx", def = "{'dispatchedAt': 1, 'recordedAt': 1}")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class VenueStateChange {
+
+    // assigned on creation, so copying the entry into the outbox twice still stores it once
+    @Id
+    private String id;
+
+    private String matchId;
+    private String venueId;
+    private MatchStatus matchStatus;
+    private Instant recordedAt;
+
+    private int attempts;
+    private Instant nextAttemptAt;
+    private String lastError;
+
+    @Indexed(name = "dispatched_ttl_idx", expireAfter = "7d")
+    private Instant dispatchedAt;
+
+    public static VenueStateChange of(String matchId, String venueId, MatchStatus matchStatus) {
+        return VenueStateChange.builder()
+                .id(UUID.randomUUID().toString())
+                .matchId(matchId)
+                .venueId(venueId)
+                .matchStatus(matchStatus)
+                .recordedAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.worldofsoccer.match.dataAccessLayer;
+
+import java.time.Instant;
+import java.util.Collection;
+
+public interface VenueStateOutboxBulkRepository {
+
+    /**
+     * Inserts the changes in one unordered bulk write, skipping any whose id is already in the
+     * outbox. Returns the number actually inserted.
+     */
+    int insertIfAbsent(Collection<VenueStateChange> changes);
+
+    /**
+     * Settles the undelivered changes of each delivered change's venue that were recorded before
+     * it, including any still backing off, so a late retry cannot undo a newer state. Returns the
+     * number settled.
+     */
+    long settleSuperseded(Collection<VenueStateChange> delivered, Instant dispatchedAt);
+}
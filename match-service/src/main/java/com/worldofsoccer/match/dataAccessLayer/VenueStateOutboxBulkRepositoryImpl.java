@@ -0,0 +1,59 @@
+package com.worldofsoccer.match.dataAccessLayer;
+
+import com.mongodb.bulk.BulkWriteError;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Collection;
+
+class VenueStateOutboxBulkRepositoryImpl implements VenueStateOutboxBulkRepository {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+
+    VenueStateOutboxBulkRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public int insertIfAbsent(Collection<VenueStateChange> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        try {
+            return mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, VenueStateChange.class)
+                    .insert(changes.stream().toList())
+                    .execute()
+                    .getInsertedCount();
+        } catch (BulkOperationException ex) {
+            // a duplicate id means the entry was copied before; anything else is a real failure
+            for (BulkWriteError error : ex.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw ex;
+                }
+            }
+            return ex.getResult().getInsertedCount();
+        }
+    }
+
+    @Override
+    public long settleSuperseded(Collection<VenueStateChange> delivered, Instant dispatchedAt) {
+        if (delivered.isEmpty()) {
+            return 0;
+        }
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, VenueStateChange.class);
+        for (VenueStateChange change : delivered) {
+            ops.updateMulti(Query.query(Criteria.where("venueId").is(change.getVenueId())
+                            .and("dispatchedAt").is(null)
+                            .and("recordedAt").lt(change.getRecordedAt())),
+                    Update.update("dispatchedAt", dispatchedAt));
+        }
+        return ops.execute().getModifiedCount();
+    }
+}
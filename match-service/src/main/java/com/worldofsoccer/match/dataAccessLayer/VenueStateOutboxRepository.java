@@ -0,0 +1,16 @@
+package com.worldofsoccer.match.dataAccessLayer;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface VenueStateOutboxRepository extends MongoRepository<VenueStateChange, String>, VenueStateOutboxBulkRepository {
+
+    // undelivered and not backing off, oldest first: changes waiting for a retry never hold up newer ones
+    @Query(value = "{ 'dispatchedAt': null, '$or': [ { 'nextAttemptAt': null }, { 'nextAttemptAt': { '$lte': ?0 } } ] }",
+            sort = "{ 'recordedAt': 1 }")
+    List<VenueStateChange> findDue(Instant now, Limit limit);
+}
@@ -0,0 +1,35 @@
+package com.worldofsoccer.match.domainclientLayer.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "app.client-cache")
+public class ClientCacheProperties {
+
+    private boolean enabled = true;
+
+    // leagues change roughly once a season
+    private Spec league = new Spec(Duration.ofHours(6), Duration.ofMinutes(1), 1_000);
+    private Spec team = new Spec(Duration.ofMinutes(10), Duration.ofSeconds(30), 5_000);
+    // venue state is flipped by match writes, so keep it short
+    private Spec venue = new Spec(Duration.ofSeconds(30), Duration.ofSeconds(30), 5_000);
+
+    @Data
+    public static class Spec {
+        private Duration ttl;
+        private Duration negativeTtl;
+        private long maxSize;
+
+        public Spec() {
+        }
+
+        public Spec(Duration ttl, Duration negativeTtl, long maxSize) {
+            this.ttl = ttl;
+            this.negativeTtl = negativeTtl;
+            this.maxSize = maxSize;
+        }
+    }
+}
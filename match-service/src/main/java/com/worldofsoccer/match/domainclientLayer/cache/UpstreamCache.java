@@ -0,0 +1,130 @@
+package com.worldofsoccer.match.domainclientLayer.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.worldofsoccer.match.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Bounded read-through cache for lookups against another service.
+ * <p>
+ * Successful lookups live for {@code ttl}; a {@link NotFoundException} from the loader
+ * is remembered for {@code negativeTtl} and rethrown on later reads, so a missing id
+ * does not cost a round-trip on every request. Concurrent misses for the same key
+ * share a single load.
+ * <p>
+ * Within a request, lookups first go through the {@link UpstreamContext}, so an id resolved
+ * once is not fetched again by another layer even when the cache itself is disabled.
+ */
+public class UpstreamCache<V> {
+
+    private final String name;
+    private final Cache<String, Entry<V>> cache;
+
+    private UpstreamCache(String name, Cache<String, Entry<V>> cache) {
+        this.name = name;
+        this.cache = cache;
+    }
+
+    public static <V> UpstreamCache<V> create(String name, ClientCacheProperties.Spec spec, MeterRegistry registry) {
+        Cache<String, Entry<V>> cache = Caffeine.newBuilder()
+                .maximumSize(spec.getMaxSize())
+                .expireAfter(new EntryExpiry<V>(spec.getTtl(), spec.getNegativeTtl()))
+                .recordStats()
+                .build();
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, name);
+        }
+        return new UpstreamCache<>(name, cache);
+    }
+
+    public static <V> UpstreamCache<V> disabled(String name) {
+        return new UpstreamCache<>(name, null);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V get(String key, Supplier<V> loader) {
+        UpstreamContext context = UpstreamContext.current();
+        if (context == null) {
+            return load(key, loader);
+        }
+        return context.resolve(name, key, () -> load(key, loader));
+    }
+
+    private V load(String key, Supplier<V> loader) {
+        if (cache == null) {
+            return loader.get();
+        }
+        Entry<V> entry = cache.get(key, k -> {
+            try {
+                V value = loader.get();
+                return value != null ? new Entry<>(value, null) : null;
+            } catch (NotFoundException ex) {
+                return new Entry<>(null, ex.getMessage());
+            }
+        });
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isNegative()) {
+            throw new NotFoundException(entry.notFoundMessage());
+        }
+        return entry.value();
+    }
+
+    public void invalidate(String key) {
+        UpstreamContext context = UpstreamContext.current();
+        if (context != null) {
+            context.forget(name, key);
+        }
+        if (cache != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    private record Entry<V>(V value, String notFoundMessage) {
+        boolean isNegative() {
+            return value == null;
+        }
+    }
+
+    private static final class EntryExpiry<V> implements Expiry<String, Entry<V>> {
+
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        EntryExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Entry<V> entry, long currentTime) {
+            return entry.isNegative() ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry<V> entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry<V> entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
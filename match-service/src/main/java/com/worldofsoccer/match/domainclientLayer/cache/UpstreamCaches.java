@@ -0,0 +1,75 @@
+package com.worldofsoccer.match.domainclientLayer.cache;
+
+import com.worldofsoccer.match.domainclientLayer.league.LeagueModel;
+import com.worldofsoccer.match.domainclientLayer.location.VenueModel;
+import com.worldofsoccer.match.domainclientLayer.teams.TeamModel;
+import com.worldofsoccer.match.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * The league, team and venue caches used by the clients in {@code domainclientLayer}.
+ */
+@Slf4j
+@Component
+public class UpstreamCaches {
+
+    public static final String LEAGUE = "league";
+    public static final String TEAM = "team";
+    public static final String VENUE = "venue";
+
+    private final UpstreamCache<LeagueModel> leagues;
+    private final UpstreamCache<TeamModel> teams;
+    private final UpstreamCache<VenueModel> venues;
+
+    @Autowired
+    public UpstreamCaches(ClientCacheProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        if (properties.isEnabled()) {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            this.leagues = UpstreamCache.create(LEAGUE, properties.getLeague(), registry);
+            this.teams = UpstreamCache.create(TEAM, properties.getTeam(), registry);
+            this.venues = UpstreamCache.create(VENUE, properties.getVenue(), registry);
+        } else {
+            log.info("Upstream client caches are disabled");
+            this.leagues = UpstreamCache.disabled(LEAGUE);
+            this.teams = UpstreamCache.disabled(TEAM);
+            this.venues = UpstreamCache.disabled(VENUE);
+        }
+    }
+
+    private UpstreamCaches() {
+        this.leagues = UpstreamCache.disabled(LEAGUE);
+        this.teams = UpstreamCache.disabled(TEAM);
+        this.venues = UpstreamCache.disabled(VENUE);
+    }
+
+    public static UpstreamCaches disabled() {
+        return new UpstreamCaches();
+    }
+
+    public UpstreamCache<LeagueModel> leagues() {
+        return leagues;
+    }
+
+    public UpstreamCache<TeamModel> teams() {
+        return teams;
+    }
+
+    public UpstreamCache<VenueModel> venues() {
+        return venues;
+    }
+
+    public UpstreamCache<?> byName(String name) {
+        for (UpstreamCache<?> cache : List.of(leagues, teams, venues)) {
+            if (cache.getName().equals(name)) {
+                return cache;
+            }
+        }
+        throw new NotFoundException("Unknown cache: " + name);
+    }
+}
@@ -0,0 +1,31 @@
+package com.worldofsoccer.match.domainclientLayer.cache;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Counts every outbound HTTP call against the {@link UpstreamContext} of the request that made
+ * it, keyed by the resource it targets ({@code leagues}, {@code teams}, {@code venues}).
+ */
+public class UpstreamCallCounter implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        UpstreamContext context = UpstreamContext.current();
+        if (context != null) {
+            context.recordCall(downstream(request.getURI().getPath()));
+        }
+        return execution.execute(request, body);
+    }
+
+    // /api/v1/leagues/{id} -> leagues
+    static String downstream(String path) {
+        String[] segments = path.split("/");
+        return segments.length > 3 ? segments[3] : path;
+    }
+}
@@ -0,0 +1,53 @@
+package com.worldofsoccer.match.domainclientLayer.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Opens the {@link UpstreamContext} for each request and, once it completes, records how many
+ * downstream calls it made as {@code upstream.calls.per.request}, tagged by method and route.
+ */
+@Slf4j
+@Component
+public class UpstreamCallMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+
+    public UpstreamCallMetricsFilter(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.registry = meterRegistry.getIfAvailable();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        UpstreamContext context = new UpstreamContext();
+        request.setAttribute(UpstreamContext.ATTRIBUTE, context);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = route != null ? route.toString() : "UNKNOWN";
+            int total = context.totalCalls();
+            log.debug("{} {} made {} downstream calls {}", request.getMethod(), uri, total, context.callsByDownstream());
+            if (registry != null) {
+                DistributionSummary.builder("upstream.calls.per.request")
+                        .description("Downstream HTTP calls made while handling one request")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uri)
+                        .register(registry)
+                        .record(total);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.worldofsoccer.match.domainclientLayer.cache;
+
+import com.worldofsoccer.match.utils.exceptions.NotFoundException;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The leagues, teams and venues already resolved while handling the current request, so the
+ * controller, the service and any fan-out worker that ask for the same id share one call.
+ * <p>
+ * Lives in a request attribute; {@link #taskDecorator()} carries it onto executor threads.
+ * Outside a request {@link #current()} is null and lookups go straight to the
+ * {@link UpstreamCache}. Unlike that cache nothing here outlives the request, so it stays on
+ * even when the client caches are disabled.
+ */
+public final class UpstreamContext {
+
+    static final String ATTRIBUTE = UpstreamContext.class.getName();
+
+    private static final ThreadLocal<UpstreamContext> BOUND = new ThreadLocal<>();
+
+    private final Map<String, CompletableFuture<Object>> resolved = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+
+    public static UpstreamContext current() {
+        UpstreamContext bound = BOUND.get();
+        if (bound != null) {
+            return bound;
+        }
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return null;
+        }
+        UpstreamContext context = (UpstreamContext) request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (context == null) {
+            context = new UpstreamContext();
+            request.setAttribute(ATTRIBUTE, context, RequestAttributes.SCOPE_REQUEST);
+        }
+        return context;
+    }
+
+    // binds the submitting thread's context, not the request itself, so late tasks never touch a recycled request
+    public static TaskDecorator taskDecorator() {
+        return task -> {
+            UpstreamContext context = current();
+            if (context == null) {
+                return task;
+            }
+            return () -> {
+                UpstreamContext previous = BOUND.get();
+                BOUND.set(context);
+                try {
+                    task.run();
+                } finally {
+                    if (previous == null) {
+                        BOUND.remove();
+                    } else {
+                        BOUND.set(previous);
+                    }
+                }
+            };
+        };
+    }
+
+    /**
+     * Returns the value already resolved for {@code cache}/{@code key} in this request, or runs
+     * {@code loader} once and remembers it. Concurrent callers wait for the first load.
+     * A {@link NotFoundException} is remembered too; any other failure is not.
+     */
+    @SuppressWarnings("unchecked")
+    <V> V resolve(String cache, String key, Supplier<V> loader) {
+        String id = cache + ":" + key;
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = resolved.putIfAbsent(id, mine);
+        if (existing != null) {
+            try {
+                return (V) existing.join();
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+            }
+        }
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            if (!(ex instanceof NotFoundException)) {
+                resolved.remove(id, mine);
+            }
+            mine.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    void forget(String cache, String key) {
+        resolved.remove(cache + ":" + key);
+    }
+
+    public void recordCall(String downstream) {
+        calls.computeIfAbsent(downstream, d -> new AtomicInteger()).incrementAndGet();
+    }
+
+    public int totalCalls() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    public Map<String, Integer> callsByDownstream() {
+        Map<String, Integer> snapshot = new TreeMap<>();
+        calls.forEach((downstream, count) -> snapshot.put(downstream, count.get()));
+        return snapshot;
+    }
+}
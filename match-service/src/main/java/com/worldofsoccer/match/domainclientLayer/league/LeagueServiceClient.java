@@ -1,10 +1,13 @@
 package com.worldofsoccer.match.domainclientLayer.league;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worldofsoccer.match.domainclientLayer.cache.UpstreamCache;
+import com.worldofsoccer.match.domainclientLayer.cache.UpstreamCaches;
 import com.worldofsoccer.match.utils.HttpErrorInfo;
 import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.match.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
@@ -23,17 +26,32 @@ public class LeagueServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String LEAGUE_SERVICE_BASE_URL;
+    private final UpstreamCache<LeagueModel> leagueCache;
 
+    @Autowired
     public LeagueServiceClient(RestTemplate restTemplate,
                                ObjectMapper mapper,
                                @Value("${app.league-service.host}") String leagueServiceHost,
-                               @Value("${app.league-service.port}") String leagueServicePort) {
+                               @Value("${app.league-service.port}") String leagueServicePort,
+                               UpstreamCaches upstreamCaches) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
         LEAGUE_SERVICE_BASE_URL = "http://" + leagueServiceHost + ":" + leagueServicePort + "/api/v1/leagues";
+        this.leagueCache = upstreamCaches.leagues();
+    }
+
+    public LeagueServiceClient(RestTemplate restTemplate,
+                               ObjectMapper mapper,
+                               String leagueServiceHost,
+                               String leagueServicePort) {
+        this(restTemplate, mapper, leagueServiceHost, leagueServicePort, UpstreamCaches.disabled());
     }
 
     public LeagueModel getLeagueById(String leagueId) {
+        return leagueCache.get(leagueId, () -> fetchLeagueById(leagueId));
+    }
+
+    private LeagueModel fetchLeagueById(String leagueId) {
         try {
             String url = LEAGUE_SERVICE_BASE_URL + "/" + leagueId;
             log.debug("League-Service GET URL is: {}", url);
@@ -4,20 +4,29 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import com.worldofsoccer.match.domainclientLayer.cache.UpstreamCache;
+import com.worldofsoccer.match.domainclientLayer.cache.UpstreamCaches;
 import com.worldofsoccer.match.utils.HttpErrorInfo;
 import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.match.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
@@ -29,17 +38,34 @@ public class VenueServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String VENUE_SERVICE_BASE_URL;
+    private final UpstreamCache<VenueModel> venueCache;
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    @Autowired
     public VenueServiceClient(RestTemplate restTemplate,
                               ObjectMapper mapper,
                               @Value("${app.location-service.host}") String host,
-                              @Value("${app.location-service.port}") String port) {
+                              @Value("${app.location-service.port}") String port,
+                              UpstreamCaches upstreamCaches) {
         this.restTemplate = restTemplate;
         this.mapper       = mapper;
         this.VENUE_SERVICE_BASE_URL = "http://" + host + ":" + port + "/api/v1/venues";
+        this.venueCache   = upstreamCaches.venues();
+    }
+
+    public VenueServiceClient(RestTemplate restTemplate,
+                              ObjectMapper mapper,
+                              String host,
+                              String port) {
+        this(restTemplate, mapper, host, port, UpstreamCaches.disabled());
     }
 
     public VenueModel getVenueById(String venueId) {
+        return venueCache.get(venueId, () -> fetchVenueById(venueId));
+    }
+
+    private VenueModel fetchVenueById(String venueId) {
         log.debug("Calling Location-Service GET /venues/{}", venueId);
         try {
             // pull raw JSON so we can re-map it
@@ -69,30 +95,56 @@ public class VenueServiceClient {
 
 
 
-    public VenueModel patchVenueState(String venueId, MatchStatus newStatus) {
-        String url = VENUE_SERVICE_BASE_URL + "/" + venueId + "/state";
-        log.debug("PATCHing venue state to {} at {}", newStatus, url);
+    /**
+     * Moves every listed venue to the state matching {@code newStatus} in one call and
+     * returns only the venues whose state actually changed.
+     */
+    public List<VenueModel> patchVenueStates(Collection<String> venueIds, MatchStatus newStatus) {
+        return patchVenueStates(venueIds, newStatus, null);
+    }
 
+    /**
+     * As {@link #patchVenueStates(Collection, MatchStatus)}, sent with an {@code Idempotency-Key}:
+     * resending the same key after a lost response is not applied again, and returns the venues
+     * the first call changed.
+     */
+    public List<VenueModel> patchVenueStates(Collection<String> venueIds, MatchStatus newStatus, String idempotencyKey) {
+        if (venueIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String url = VENUE_SERVICE_BASE_URL + "/state";
+        log.debug("PATCHing {} venue states to {} at {}", venueIds.size(), newStatus, url);
+        venueIds.forEach(venueCache::invalidate);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("venueIds", venueIds);
+        body.put("matchStatus", newStatus.name());
         try {
-            // send the text body "SCHEDULED", "IN_PROGRESS", etc.
-            String json = restTemplate.patchForObject(url, newStatus.name(), String.class);
-            // now json is the JSON of the updated VenueResponseModel
-            return mapper.readValue(json, VenueModel.class);
+            HttpHeaders headers = new HttpHeaders();
+            if (idempotencyKey != null) {
+                headers.set(IDEMPOTENCY_KEY, idempotencyKey);
+            }
+            String json = restTemplate.patchForObject(url, new HttpEntity<>(body, headers), String.class);
+            List<VenueModel> changed = new ArrayList<>();
+            for (JsonNode node : mapper.readTree(json)) {
+                changed.add(ACLVenueModelFromJson(node));
+            }
+            return changed;
 
         } catch (HttpClientErrorException ex) {
-            // wrap 404 → NotFoundException, 422 → InvalidInputException, etc.
             throw handleHttpClientException(ex);
 
         } catch (IOException e) {
-            // malformed JSON → bubble as 500
-            throw new RuntimeException("Unable to parse updated VenueModel", e);
+            throw new RuntimeException("Unable to parse updated VenueModels", e);
         }
     }
 
 
     private VenueModel ACLVenueModelFromJson(String response) throws JsonProcessingException {
-        JsonNode n = mapper.readTree(response);
+        return ACLVenueModelFromJson(mapper.readTree(response));
+    }
 
+    private VenueModel ACLVenueModelFromJson(JsonNode n) {
         // these must exactly match your Location-service’s JSON property names:
         String id       = n.get("venueId").asText();
         String name     = n.get("name").asText();
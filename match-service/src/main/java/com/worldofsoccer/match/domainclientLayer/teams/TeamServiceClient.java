@@ -2,10 +2,13 @@ package com.worldofsoccer.match.domainclientLayer.teams;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worldofsoccer.match.domainclientLayer.cache.UpstreamCache;
+import com.worldofsoccer.match.domainclientLayer.cache.UpstreamCaches;
 import com.worldofsoccer.match.utils.HttpErrorInfo;
 import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.match.utils.exceptions.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
@@ -24,17 +27,32 @@ public class TeamServiceClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper mapper;
     private final String TEAM_SERVICE_BASE_URL;
+    private final UpstreamCache<TeamModel> teamCache;
 
+    @Autowired
     public TeamServiceClient(RestTemplate restTemplate,
                              ObjectMapper mapper,
                              @Value("${app.teams-service.host}") String teamsServiceHost,
-                             @Value("${app.teams-service.port}") String teamsServicePort) {
+                             @Value("${app.teams-service.port}") String teamsServicePort,
+                             UpstreamCaches upstreamCaches) {
         this.restTemplate = restTemplate;
         this.mapper = mapper;
         TEAM_SERVICE_BASE_URL = "http://" + teamsServiceHost + ":" + teamsServicePort + "/api/v1/teams";
+        this.teamCache = upstreamCaches.teams();
+    }
+
+    public TeamServiceClient(RestTemplate restTemplate,
+                             ObjectMapper mapper,
+                             String teamsServiceHost,
+                             String teamsServicePort) {
+        this(restTemplate, mapper, teamsServiceHost, teamsServicePort, UpstreamCaches.disabled());
     }
 
     public TeamModel getTeamById(String teamId) {
+        return teamCache.get(teamId, () -> fetchTeamById(teamId));
+    }
+
+    private TeamModel fetchTeamById(String teamId) {
         try {
             String url = TEAM_SERVICE_BASE_URL + "/" + teamId;
             log.debug("Team-Service GET URL is: " + url);
@@ -19,7 +19,9 @@ public interface MatchRequestMapper {
             @Mapping(source = "requestModel.matchDate", target = "matchDate"),
             @Mapping(source = "requestModel.matchDuration", target = "matchDuration"),
             @Mapping(source = "requestModel.resultsType", target = "matchResults.resultsType"),
-            @Mapping(source = "requestModel.matchMinute", target = "matchResults.matchMinute")
+            @Mapping(source = "requestModel.matchMinute", target = "matchResults.matchMinute"),
+            @Mapping(target = "pendingVenueStates", ignore = true),
+            @Mapping(target = "opponentModel", ignore = true)
     })
     Match requestModelToEntity(MatchRequestModel requestModel,
                                MatchIdentifier matchIdentifier,
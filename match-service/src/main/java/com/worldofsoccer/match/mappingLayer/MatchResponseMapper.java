@@ -35,6 +35,11 @@ public interface MatchResponseMapper {
     @Mapping(expression = "java(match.getTeamModel().getTeamFoundingYear())", target = "teamFoundingYear")
     @Mapping(expression = "java(match.getTeamModel().getTeamBudget())", target = "teamBudget")
 
+    @Mapping(expression = "java(match.getOpponentModel() != null ? match.getOpponentModel().getTeamId() : null)",
+            target = "opponentTeamId")
+    @Mapping(expression = "java(match.getOpponentModel() != null ? match.getOpponentModel().getTeamName() : null)",
+            target = "opponentTeamName")
+
     // League mappings
     @Mapping(expression = "java(match.getLeagueModel().getLeagueId())", target = "leagueId")
     @Mapping(expression = "java(match.getLeagueModel().getLeagueName())", target = "leagueName")
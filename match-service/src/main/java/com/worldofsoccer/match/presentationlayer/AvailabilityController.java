@@ -0,0 +1,54 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import com.worldofsoccer.match.businessLayer.BookingIndex;
+import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
+import com.worldofsoccer.match.utils.exceptions.InvalidMatchDurationException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Free time on a day for a venue, a set of teams, or both, answered from the in-memory booking
+ * index rather than by reading matches.
+ */
+@RestController
+@RequestMapping("/api/v1/availability")
+public class AvailabilityController {
+
+    private final BookingIndex bookingIndex;
+    private static final LocalTime DEFAULT_DURATION = LocalTime.of(1, 30);
+
+    public AvailabilityController(BookingIndex bookingIndex) {
+        this.bookingIndex = bookingIndex;
+    }
+
+    @GetMapping
+    public ResponseEntity<AvailabilityResponseModel> getAvailability(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String venueId,
+            @RequestParam(name = "teamId", required = false) List<String> teamIds,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime matchDuration) {
+
+        List<String> teams = teamIds == null ? List.of() : teamIds.stream().distinct().toList();
+        if ((venueId == null || venueId.isBlank()) && teams.isEmpty()) {
+            throw new InvalidInputException("A venueId or at least one teamId is required");
+        }
+        LocalTime duration = matchDuration == null ? DEFAULT_DURATION : matchDuration;
+        if (duration.isBefore(LocalTime.of(1, 30)) || duration.isAfter(LocalTime.of(3, 0))) {
+            throw new InvalidMatchDurationException("Match duration must be between 1:30 and 3:00 hours");
+        }
+
+        return ResponseEntity.ok(AvailabilityResponseModel.builder()
+                .date(date)
+                .venueId(venueId)
+                .teamIds(teams)
+                .matchDuration(duration)
+                .freeSlots(bookingIndex.freeSlots(venueId, teams, date, duration))
+                .build());
+    }
+}
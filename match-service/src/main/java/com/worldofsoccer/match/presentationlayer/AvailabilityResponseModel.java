@@ -0,0 +1,22 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AvailabilityResponseModel {
+    private LocalDate date;
+    private String venueId;
+    private List<String> teamIds;
+    private LocalTime matchDuration;
+    private List<FreeSlot> freeSlots;
+}
@@ -0,0 +1,19 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkImportReport {
+    private int received;
+    private int created;
+    private int failed;
+    private List<BulkImportRowResult> rows;
+}
@@ -0,0 +1,33 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import com.worldofsoccer.match.domainclientLayer.cache.UpstreamCaches;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Manual invalidation of the upstream lookup caches, e.g. after a league or team
+ * is edited directly in its own service.
+ */
+@RestController
+@RequestMapping("/api/v1/client-cache")
+public class ClientCacheController {
+
+    private final UpstreamCaches upstreamCaches;
+
+    public ClientCacheController(UpstreamCaches upstreamCaches) {
+        this.upstreamCaches = upstreamCaches;
+    }
+
+    @DeleteMapping("/{cacheName}")
+    public ResponseEntity<Void> invalidateAll(@PathVariable String cacheName) {
+        upstreamCaches.byName(cacheName).invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{cacheName}/{id}")
+    public ResponseEntity<Void> invalidate(@PathVariable String cacheName,
+                                           @PathVariable String id) {
+        upstreamCaches.byName(cacheName).invalidate(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import com.worldofsoccer.match.businessLayer.FixtureService;
+import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/leagues/{leagueId}/fixtures")
+public class FixtureController {
+
+    private final FixtureService fixtureService;
+    private static final int UUID_LENGTH = 36;
+
+    public FixtureController(FixtureService fixtureService) {
+        this.fixtureService = fixtureService;
+    }
+
+    @PostMapping
+    public ResponseEntity<FixtureReport> generateFixtures(@PathVariable String leagueId,
+                                                          @RequestBody FixtureRequestModel request) {
+        if (leagueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid leagueId provided: " + leagueId);
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(fixtureService.generateFixtures(leagueId, request));
+    }
+}
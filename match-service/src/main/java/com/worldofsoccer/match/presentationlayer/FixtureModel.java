@@ -0,0 +1,27 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FixtureModel {
+    private int round;
+    // position within the round; in a knockout, tie k is played by the winners of ties 2k and 2k + 1 before it
+    private int index;
+    // null until the tie's teams are known; such fixtures are planned but not stored
+    private String matchId;
+    private String homeTeamId;
+    private String awayTeamId;
+    private String venueId;
+    private LocalDate matchDate;
+    private LocalTime matchTime;
+    private String error;
+}
@@ -0,0 +1,22 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FixtureReport {
+    private String leagueId;
+    private String format;
+    private int rounds;
+    private int created;
+    private int failed;
+    private int planned;
+    private List<FixtureModel> fixtures;
+}
@@ -0,0 +1,26 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FixtureRequestModel {
+    // LEAGUE (double round-robin) or CUP (knockout); defaults to the league's own format
+    private String format;
+    private List<String> teamIds;
+    private List<String> venueIds;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Integer minRestDays;
+    private List<LocalTime> kickoffTimes;
+    private LocalTime matchDuration;
+}
@@ -0,0 +1,19 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// a free window, end exclusive; it may run past midnight when the next day starts free
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class FreeSlot {
+    private LocalDateTime start;
+    private LocalDateTime end;
+    private LocalDateTime latestKickoff;
+}
@@ -0,0 +1,84 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import com.worldofsoccer.match.businessLayer.LiveMatchFeed;
+import com.worldofsoccer.match.businessLayer.LiveScoreBuffer;
+import com.worldofsoccer.match.businessLayer.MatchService;
+import com.worldofsoccer.match.domainclientLayer.league.LeagueServiceClient;
+import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
+import com.worldofsoccer.match.utils.exceptions.NotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import reactor.core.publisher.Flux;
+
+/**
+ * Server-Sent Events for clients following matches as they are played, instead of polling
+ * the match resource. The response is released from the request thread; see {@link LiveMatchFeed}.
+ * Score and minute updates from the pitch come in through the same resource; see {@link LiveScoreBuffer}.
+ */
+@RestController
+@RequestMapping("/api/v1/leagues/{leagueId}")
+public class LiveFeedController {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+    private static final int UUID_LENGTH = 36;
+
+    private final LiveMatchFeed liveMatchFeed;
+    private final LiveScoreBuffer liveScoreBuffer;
+    private final MatchService matchService;
+    private final LeagueServiceClient leagueServiceClient;
+
+    public LiveFeedController(LiveMatchFeed liveMatchFeed,
+                              LiveScoreBuffer liveScoreBuffer,
+                              MatchService matchService,
+                              LeagueServiceClient leagueServiceClient) {
+        this.liveMatchFeed = liveMatchFeed;
+        this.liveScoreBuffer = liveScoreBuffer;
+        this.matchService = matchService;
+        this.leagueServiceClient = leagueServiceClient;
+    }
+
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> followLeague(@PathVariable String leagueId,
+                                                      @RequestHeader(name = LAST_EVENT_ID, required = false) String lastEventId,
+                                                      HttpServletRequest request) {
+        if (leagueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid leagueId provided: " + leagueId);
+        }
+        if (leagueServiceClient.getLeagueById(leagueId) == null) {
+            throw new NotFoundException("League not found with ID: " + leagueId);
+        }
+        // an endless body cannot be buffered for an ETag
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        return liveMatchFeed.subscribe(leagueId, null, lastEventId);
+    }
+
+    @GetMapping(value = "/matches/{matchId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> followMatch(@PathVariable String leagueId,
+                                                     @PathVariable String matchId,
+                                                     @RequestHeader(name = LAST_EVENT_ID, required = false) String lastEventId,
+                                                     HttpServletRequest request) {
+        if (leagueId.length() != UUID_LENGTH || matchId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid ID length");
+        }
+        // 404 for an unknown league or match
+        matchService.getMatchByMatchId(leagueId, matchId);
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        return liveMatchFeed.subscribe(leagueId, matchId, lastEventId);
+    }
+
+    // 202: accepted and published, written to the match with the next flush
+    @PatchMapping("/matches/{matchId}/live")
+    public ResponseEntity<LiveUpdateResponseModel> updateLive(@PathVariable String leagueId,
+                                                              @PathVariable String matchId,
+                                                              @RequestBody LiveUpdateRequestModel request) {
+        if (leagueId.length() != UUID_LENGTH || matchId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid ID length");
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(liveScoreBuffer.accept(leagueId, matchId, request));
+    }
+}
@@ -0,0 +1,27 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import com.worldofsoccer.match.dataAccessLayer.ResultsType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// the data of one live feed event: only what changes while a match is played
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LiveMatchEvent {
+    private String matchId;
+    private String leagueId;
+    private String teamId;
+    private String opponentTeamId;
+    private String matchScore;
+    private Integer matchMinute;
+    private MatchStatus matchStatus;
+    private ResultsType resultsType;
+    private Instant occurredAt;
+}
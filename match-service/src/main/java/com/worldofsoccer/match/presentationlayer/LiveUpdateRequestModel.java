@@ -0,0 +1,16 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// the whole live state, not a delta, so a lost or superseded update needs no repair
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LiveUpdateRequestModel {
+    private String matchScore;
+    private Integer matchMinute;
+}
@@ -0,0 +1,18 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// the state that will be written; applied is false when the update was older than it
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LiveUpdateResponseModel {
+    private String matchId;
+    private String matchScore;
+    private Integer matchMinute;
+    private boolean applied;
+}
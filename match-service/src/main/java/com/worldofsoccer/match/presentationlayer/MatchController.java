@@ -1,13 +1,20 @@
 package com.worldofsoccer.match.presentationlayer;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.worldofsoccer.match.businessLayer.MatchService;
 import com.worldofsoccer.match.domainclientLayer.league.LeagueModel;
 import com.worldofsoccer.match.domainclientLayer.league.LeagueServiceClient;
+import com.worldofsoccer.match.utils.CursorPage;
 import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -16,17 +23,23 @@ public class MatchController {
 
     private final MatchService matchService;
     private final LeagueServiceClient leagueServiceClient;
+    private final ObjectMapper mapper;
     private static final int UUID_LENGTH = 36;
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
 
     public MatchController(MatchService matchService,
-                           LeagueServiceClient leagueServiceClient) {
+                           LeagueServiceClient leagueServiceClient,
+                           ObjectMapper mapper) {
         this.matchService = matchService;
         this.leagueServiceClient = leagueServiceClient;
+        this.mapper = mapper;
     }
 
     @GetMapping
     public ResponseEntity<List<MatchResponseModel>> getAllLeagueMatches(
-            @PathVariable String leagueId) {
+            @PathVariable String leagueId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
 
         if (leagueId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid leagueId provided: " + leagueId);
@@ -37,8 +50,12 @@ public class MatchController {
             return ResponseEntity.notFound().build();
         }
 
-        List<MatchResponseModel> matches = matchService.getAllMatches(leagueId);
-        return ResponseEntity.ok(matches);
+        CursorPage<MatchResponseModel> page = matchService.getAllMatches(leagueId, after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @GetMapping("/{matchId}")
@@ -78,6 +95,34 @@ public class MatchController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    // accepts either a JSON array or newline-delimited JSON, one MatchRequestModel per row
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_NDJSON})
+    public ResponseEntity<BulkImportReport> importMatches(
+            @PathVariable String leagueId,
+            InputStream body) {
+
+        if (leagueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid leagueId provided: " + leagueId);
+        }
+
+        LeagueModel league = leagueServiceClient.getLeagueById(leagueId);
+        if (league == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        List<MatchRequestModel> requests = new ArrayList<>();
+        try (MappingIterator<MatchRequestModel> rows = mapper.readerFor(MatchRequestModel.class).readValues(body)) {
+            while (rows.hasNextValue()) {
+                requests.add(rows.nextValue());
+            }
+        } catch (IOException ex) {
+            throw new InvalidInputException("Malformed import body at row " + requests.size() + ": " + ex.getMessage(), ex);
+        }
+
+        BulkImportReport report = matchService.importMatches(leagueId, requests);
+        return ResponseEntity.ok(report);
+    }
+
     @PutMapping("/{matchId}")
     public ResponseEntity<MatchResponseModel> updateLeagueMatch(
             @RequestBody MatchRequestModel request,
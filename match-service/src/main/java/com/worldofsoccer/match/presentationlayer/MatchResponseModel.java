@@ -40,6 +40,9 @@ public class MatchResponseModel  {
     private Integer  teamFoundingYear;
     private BigDecimal teamBudget;
 
+    private String opponentTeamId;
+    private String opponentTeamName;
+
     private String leagueName;
     private String leagueFormat;
 }
@@ -0,0 +1,34 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import com.worldofsoccer.match.businessLayer.SnapshotChangelog;
+import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Lets the owning service (or an operator) report that a league, team or venue changed.
+ * The embedded copies in matches are refreshed asynchronously.
+ */
+@RestController
+@RequestMapping("/api/v1/snapshot-changes")
+public class SnapshotChangeController {
+
+    private final SnapshotChangelog snapshotChangelog;
+    private static final int UUID_LENGTH = 36;
+
+    public SnapshotChangeController(SnapshotChangelog snapshotChangelog) {
+        this.snapshotChangelog = snapshotChangelog;
+    }
+
+    @PostMapping
+    public ResponseEntity<Void> recordChange(@RequestBody SnapshotChangeRequestModel request) {
+        if (request.getType() == null) {
+            throw new InvalidInputException("Snapshot type is required");
+        }
+        if (request.getEntityId() == null || request.getEntityId().length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid entityId provided: " + request.getEntityId());
+        }
+        snapshotChangelog.record(request.getType(), request.getEntityId());
+        return ResponseEntity.accepted().build();
+    }
+}
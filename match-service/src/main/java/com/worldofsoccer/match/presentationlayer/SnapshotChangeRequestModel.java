@@ -0,0 +1,16 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import com.worldofsoccer.match.dataAccessLayer.SnapshotType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SnapshotChangeRequestModel {
+    private SnapshotType type;
+    private String entityId;
+}
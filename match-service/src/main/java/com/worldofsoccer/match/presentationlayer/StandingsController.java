@@ -0,0 +1,37 @@
+package com.worldofsoccer.match.presentationlayer;
+
+import com.worldofsoccer.match.businessLayer.StandingsService;
+import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/leagues/{leagueId}/standings")
+public class StandingsController {
+
+    private final StandingsService standingsService;
+    private static final int UUID_LENGTH = 36;
+
+    public StandingsController(StandingsService standingsService) {
+        this.standingsService = standingsService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<StandingResponseModel>> getStandings(@PathVariable String leagueId) {
+        if (leagueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid leagueId provided: " + leagueId);
+        }
+        return ResponseEntity.ok(standingsService.getStandings(leagueId));
+    }
+
+    // recovery: recomputes the league's table from its completed matches
+    @PostMapping("/rebuild")
+    public ResponseEntity<List<StandingResponseModel>> rebuildStandings(@PathVariable String leagueId) {
+        if (leagueId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid leagueId provided: " + leagueId);
+        }
+        return ResponseEntity.ok(standingsService.rebuildStandings(leagueId));
+    }
+}
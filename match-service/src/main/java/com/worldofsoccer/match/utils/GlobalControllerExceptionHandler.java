@@ -1,9 +1,11 @@
 package com.worldofsoccer.match.utils;
 
 
+import com.worldofsoccer.match.utils.exceptions.BookingConflictException;
 import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.match.utils.exceptions.InvalidMatchDurationException;
 import com.worldofsoccer.match.utils.exceptions.NotFoundException;
+import com.worldofsoccer.match.utils.exceptions.UpstreamTimeoutException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -11,6 +13,8 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.GATEWAY_TIMEOUT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
@@ -30,6 +34,18 @@ public class GlobalControllerExceptionHandler {
         return createHttpErrorInfo(UNPROCESSABLE_ENTITY, request, ex);
     }
 
+    @ResponseStatus(CONFLICT)
+    @ExceptionHandler(BookingConflictException.class)
+    public HttpErrorInfo handleBookingConflictException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(CONFLICT, request, ex);
+    }
+
+    @ResponseStatus(GATEWAY_TIMEOUT)
+    @ExceptionHandler(UpstreamTimeoutException.class)
+    public HttpErrorInfo handleUpstreamTimeoutException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(GATEWAY_TIMEOUT, request, ex);
+    }
+
     @ResponseStatus(UNPROCESSABLE_ENTITY)
     @ExceptionHandler(InvalidMatchDurationException.class)
     public HttpErrorInfo handleInvalidMatchDurationException(WebRequest request, Exception ex) {
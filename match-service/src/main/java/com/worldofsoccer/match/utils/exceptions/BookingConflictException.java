@@ -0,0 +1,12 @@
+package com.worldofsoccer.match.utils.exceptions;
+
+public class BookingConflictException extends RuntimeException{
+
+    public BookingConflictException() {}
+
+    public BookingConflictException(String message) { super(message); }
+
+    public BookingConflictException(Throwable cause) { super(cause); }
+
+    public BookingConflictException(String message, Throwable cause) { super(message, cause); }
+}
@@ -0,0 +1,12 @@
+package com.worldofsoccer.match.utils.exceptions;
+
+public class UpstreamTimeoutException extends RuntimeException{
+
+    public UpstreamTimeoutException() {}
+
+    public UpstreamTimeoutException(String message) { super(message); }
+
+    public UpstreamTimeoutException(Throwable cause) { super(cause); }
+
+    public UpstreamTimeoutException(String message, Throwable cause) { super(message, cause); }
+}
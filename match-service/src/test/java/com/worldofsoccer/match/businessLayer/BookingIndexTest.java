@@ -0,0 +1,105 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.dataAccessLayer.MatchIdentifier;
+import com.worldofsoccer.match.dataAccessLayer.MatchRepository;
+import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import com.worldofsoccer.match.domainclientLayer.location.VenueModel;
+import com.worldofsoccer.match.domainclientLayer.teams.TeamModel;
+import com.worldofsoccer.match.presentationlayer.FreeSlot;
+import com.worldofsoccer.match.utils.exceptions.BookingConflictException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BookingIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 8, 16);
+
+    private final MatchRepository matchRepository = mock(MatchRepository.class);
+    private final BookingIndex bookingIndex = new BookingIndex(matchRepository);
+
+    @Test
+    void whenVenueOverlaps_thenRefusedButBackToBackIsFine() {
+        bookingIndex.reserve(match("V1", "A", null, LocalTime.of(15, 0)));
+
+        BookingConflictException conflict = assertThrows(BookingConflictException.class,
+                () -> bookingIndex.reserve(match("V1", "B", null, LocalTime.of(16, 0))));
+        assertTrue(conflict.getMessage().contains("V1"));
+
+        // ends at 16:30, so 16:30 is free
+        assertDoesNotThrow(() -> bookingIndex.reserve(match("V1", "B", null, LocalTime.of(16, 30))));
+    }
+
+    @Test
+    void whenOpponentAlreadyPlaysElsewhere_thenRefused() {
+        bookingIndex.reserve(match("V1", "A", "B", LocalTime.of(15, 0)));
+
+        BookingConflictException conflict = assertThrows(BookingConflictException.class,
+                () -> bookingIndex.reserve(match("V2", "B", null, LocalTime.of(14, 0))));
+        assertTrue(conflict.getMessage().contains("Team B"));
+    }
+
+    @Test
+    void whenMatchMovedOrCanceled_thenItsOldSlotIsFreed() {
+        Match match = match("V1", "A", null, LocalTime.of(15, 0));
+        bookingIndex.reserve(match);
+
+        // moving over its own slot is not a conflict
+        match.setMatchTime(LocalTime.of(15, 30));
+        bookingIndex.reserve(match);
+        assertDoesNotThrow(() -> bookingIndex.reserve(match("V1", "B", null, LocalTime.of(14, 0))));
+
+        match.setMatchStatus(MatchStatus.CANCELED);
+        bookingIndex.reserve(match);
+        assertDoesNotThrow(() -> bookingIndex.reserve(match("V1", "C", null, LocalTime.of(16, 0))));
+    }
+
+    @Test
+    void whenLoaded_thenStoredMatchesBlockTheirSlots() {
+        when(matchRepository.streamBookings()).thenReturn(Stream.of(match("V1", "A", null, LocalTime.of(20, 0))));
+
+        bookingIndex.load();
+
+        assertThrows(BookingConflictException.class,
+                () -> bookingIndex.reserve(match("V1", "B", null, LocalTime.of(21, 0))));
+    }
+
+    @Test
+    void whenVenueAndTeamHaveMatches_thenFreeSlotsAreTheCommonGaps() {
+        bookingIndex.reserve(match("V1", "X", null, LocalTime.of(12, 0)));
+        bookingIndex.reserve(match("V2", "A", null, LocalTime.of(18, 0)));
+        // 23:00 to 00:30 the next day
+        bookingIndex.reserve(match("V1", "Y", null, LocalTime.of(23, 0)));
+
+        List<FreeSlot> free = bookingIndex.freeSlots("V1", List.of("A"), DAY, LocalTime.of(1, 30));
+
+        assertEquals(List.of(
+                DAY.atTime(0, 0), DAY.atTime(13, 30), DAY.atTime(19, 30)),
+                free.stream().map(FreeSlot::getStart).toList());
+        assertEquals(DAY.atTime(12, 0), free.get(0).getEnd());
+        assertEquals(DAY.atTime(16, 30), free.get(1).getLatestKickoff());
+        assertEquals(DAY.atTime(23, 0), free.get(2).getEnd());
+        assertEquals(LocalDateTime.of(DAY, LocalTime.of(21, 30)), free.get(2).getLatestKickoff());
+    }
+
+    private static Match match(String venueId, String teamId, String opponentId, LocalTime kickoff) {
+        return Match.builder()
+                .matchIdentifier(new MatchIdentifier())
+                .venueModel(VenueModel.builder().venueId(venueId).build())
+                .teamModel(TeamModel.builder().teamId(teamId).build())
+                .opponentModel(opponentId == null ? null : TeamModel.builder().teamId(opponentId).build())
+                .matchStatus(MatchStatus.SCHEDULED)
+                .matchDate(DAY)
+                .matchTime(kickoff)
+                .matchDuration(LocalTime.of(1, 30))
+                .build();
+    }
+}
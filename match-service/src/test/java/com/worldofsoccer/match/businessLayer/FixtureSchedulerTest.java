@@ -0,0 +1,111 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FixtureSchedulerTest {
+
+    private static final List<LocalTime> KICKOFFS =
+            List.of(LocalTime.of(12, 0), LocalTime.of(15, 0), LocalTime.of(18, 0));
+    private static final LocalTime DURATION = LocalTime.of(1, 30);
+
+    @Test
+    void whenOddLeagueScheduled_thenEveryPairMeetsHomeAndAwayWithRestAndNoVenueClash() {
+        List<String> teams = ids("T", 27);
+        List<String> venues = ids("V", 6);
+        LocalDate from = LocalDate.of(2025, 8, 1);
+        LocalDate to = LocalDate.of(2026, 5, 31);
+
+        long started = System.nanoTime();
+        List<List<FixtureScheduler.Pairing>> rounds = FixtureScheduler.doubleRoundRobin(teams);
+        List<FixtureScheduler.Fixture> fixtures =
+                new FixtureScheduler().schedule(rounds, venues, from, to, 2, KICKOFFS, DURATION);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertEquals(54, rounds.size());
+        assertEquals(27 * 26, fixtures.size());
+        assertTrue(elapsedMillis < 1000, "scheduling took " + elapsedMillis + "ms");
+
+        Set<String> ordered = new HashSet<>();
+        Map<String, List<LocalDate>> datesByTeam = new HashMap<>();
+        Set<String> venueSlots = new HashSet<>();
+        Map<Integer, Set<String>> teamsByRound = new HashMap<>();
+        for (FixtureScheduler.Fixture fixture : fixtures) {
+            String home = fixture.pairing().home();
+            String away = fixture.pairing().away();
+            assertTrue(ordered.add(home + ">" + away), "duplicate fixture " + home + " v " + away);
+            Set<String> inRound = teamsByRound.computeIfAbsent(fixture.round(), r -> new HashSet<>());
+            assertTrue(inRound.add(home) && inRound.add(away), "team twice in round " + fixture.round());
+            datesByTeam.computeIfAbsent(home, t -> new ArrayList<>()).add(fixture.date());
+            datesByTeam.computeIfAbsent(away, t -> new ArrayList<>()).add(fixture.date());
+            // kickoffs are further apart than a match lasts, so a clash means the same venue, day and kickoff
+            assertTrue(venueSlots.add(fixture.venueId() + "|" + fixture.date() + "|" + fixture.time()));
+            assertFalse(fixture.date().isBefore(from) || fixture.date().isAfter(to));
+        }
+
+        datesByTeam.values().forEach(dates -> {
+            List<LocalDate> sorted = dates.stream().sorted().toList();
+            for (int i = 1; i < sorted.size(); i++) {
+                assertTrue(ChronoUnit.DAYS.between(sorted.get(i - 1), sorted.get(i)) >= 3,
+                        "rest violated between " + sorted.get(i - 1) + " and " + sorted.get(i));
+            }
+        });
+    }
+
+    @Test
+    void whenCupDrawn_thenFirstRoundPairsEveryTeamAndLaterRoundsArePlaceholders() {
+        List<List<FixtureScheduler.Pairing>> rounds = FixtureScheduler.knockout(ids("T", 32));
+
+        assertEquals(List.of(16, 8, 4, 2, 1), rounds.stream().map(List::size).toList());
+        Set<String> drawn = new HashSet<>();
+        rounds.get(0).forEach(pairing -> {
+            drawn.add(pairing.home());
+            drawn.add(pairing.away());
+        });
+        assertEquals(32, drawn.size());
+        assertTrue(rounds.get(1).stream().allMatch(p -> p.home() == null && p.away() == null));
+    }
+
+    @Test
+    void whenCupFieldIsNotPowerOfTwo_thenInvalidInputException() {
+        assertThrows(InvalidInputException.class, () -> FixtureScheduler.knockout(ids("T", 20)));
+    }
+
+    @Test
+    void whenWindowTooShortForRest_thenInvalidInputException() {
+        List<List<FixtureScheduler.Pairing>> rounds = FixtureScheduler.doubleRoundRobin(ids("T", 20));
+        LocalDate from = LocalDate.of(2025, 8, 1);
+
+        assertThrows(InvalidInputException.class, () -> new FixtureScheduler()
+                .schedule(rounds, List.of("V1"), from, from.plusDays(60), 2, KICKOFFS, DURATION));
+    }
+
+    @Test
+    void whenVenueAlreadyBooked_thenFixtureAvoidsThatSlot() {
+        LocalDate day = LocalDate.of(2025, 8, 1);
+        FixtureScheduler scheduler = new FixtureScheduler();
+        scheduler.book("V1", day, LocalTime.of(11, 0), LocalTime.of(3, 0));
+
+        List<FixtureScheduler.Fixture> fixtures = scheduler.schedule(FixtureScheduler.knockout(ids("T", 2)),
+                List.of("V1"), day, day, 0, KICKOFFS, DURATION);
+
+        assertEquals(LocalTime.of(15, 0), fixtures.get(0).time());
+    }
+
+    private static List<String> ids(String prefix, int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(i -> prefix + i).toList();
+    }
+}
@@ -0,0 +1,113 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.dataAccessLayer.MatchIdentifier;
+import com.worldofsoccer.match.dataAccessLayer.MatchResults;
+import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveMatchFeedTest {
+
+    private static final String LEAGUE = "11111111-1111-1111-1111-111111111111";
+    private static final Duration WAIT = Duration.ofSeconds(2);
+
+    private final LiveMatchFeed feed = new LiveMatchFeed(new ObjectMapper().findAndRegisterModules(), 16, 16, Duration.ofHours(1));
+
+    @Test
+    void whenSubscribedWithoutLastEventId_thenOnlyLaterEventsArrive() throws Exception {
+        Match match = match("2-1", 60);
+        feed.publish(LEAGUE, match, LiveMatchFeed.MATCH_EVENT);
+
+        CompletableFuture<ServerSentEvent<String>> next = feed.subscribe(LEAGUE, null, null).next().toFuture();
+        match.setMatchScore("3-1");
+        feed.publish(LEAGUE, match, LiveMatchFeed.MATCH_EVENT);
+
+        ServerSentEvent<String> event = next.get(WAIT.toMillis(), TimeUnit.MILLISECONDS);
+        assertEquals(feed.idOf(2), event.id());
+        assertEquals(LiveMatchFeed.MATCH_EVENT, event.event());
+        assertTrue(event.data().contains("\"matchScore\":\"3-1\""));
+        assertTrue(event.data().contains("\"matchMinute\":60"));
+    }
+
+    @Test
+    void whenResumingFromLastEventId_thenMissedEventsOfThatMatchAreReplayedInOrder() {
+        Match followed = match("0-0", 10);
+        Match other = match("1-0", 10);
+        feed.publish(LEAGUE, followed, LiveMatchFeed.MATCH_EVENT);
+        feed.publish(LEAGUE, other, LiveMatchFeed.MATCH_EVENT);
+        followed.setMatchScore("1-0");
+        feed.publish(LEAGUE, followed, LiveMatchFeed.MATCH_EVENT);
+        feed.publish(LEAGUE, followed, LiveMatchFeed.REMOVED_EVENT);
+
+        List<ServerSentEvent<String>> missed = feed.subscribe(LEAGUE, followed.getMatchIdentifier().getMatchId(), feed.idOf(1))
+                .take(2)
+                .collectList()
+                .block(WAIT);
+
+        assertEquals(List.of(feed.idOf(3), feed.idOf(4)), missed.stream().map(ServerSentEvent::id).toList());
+        assertEquals(LiveMatchFeed.REMOVED_EVENT, missed.get(1).event());
+    }
+
+    @Test
+    void whenResumingWithAnIdFromBeforeARestart_thenTheNewHistoryIsReplayed() {
+        Match match = match("0-0", 10);
+        for (int minute = 10; minute < 15; minute++) {
+            match.setMatchResults(new MatchResults(null, minute));
+            feed.publish(LEAGUE, match, LiveMatchFeed.MATCH_EVENT);
+        }
+        String seenBeforeRestart = feed.idOf(5);
+
+        LiveMatchFeed restarted = new LiveMatchFeed(new ObjectMapper().findAndRegisterModules(), 16, 16, Duration.ofHours(1));
+        restarted.publish(LEAGUE, match, LiveMatchFeed.MATCH_EVENT);
+        match.setMatchScore("1-0");
+        restarted.publish(LEAGUE, match, LiveMatchFeed.MATCH_EVENT);
+
+        // the new numbering starts again at 1, below the 5 the client saw; nothing may be skipped
+        for (String lastEventId : List.of(seenBeforeRestart, "5")) {
+            List<ServerSentEvent<String>> missed = restarted.subscribe(LEAGUE, null, lastEventId)
+                    .take(2)
+                    .collectList()
+                    .block(WAIT);
+            assertEquals(List.of(restarted.idOf(1), restarted.idOf(2)), missed.stream().map(ServerSentEvent::id).toList());
+        }
+    }
+
+    @Test
+    void whenIdle_thenHeartbeatCommentsAreSent() {
+        LiveMatchFeed quiet = new LiveMatchFeed(new ObjectMapper().findAndRegisterModules(), 16, 16, Duration.ofMillis(20));
+
+        ServerSentEvent<String> heartbeat = quiet.subscribe(LEAGUE, null, null).blockFirst(WAIT);
+
+        assertNotNull(heartbeat);
+        assertNull(heartbeat.data());
+        assertEquals("heartbeat", heartbeat.comment());
+    }
+
+    @Test
+    void whenOnlyTheMinuteMoves_thenItCountsAsAChange() {
+        Match before = match("0-0", 10);
+        Match after = match("0-0", 11);
+        after.setMatchIdentifier(before.getMatchIdentifier());
+
+        assertTrue(LiveMatchFeed.changed(before, after));
+        assertFalse(LiveMatchFeed.changed(before, before));
+    }
+
+    private static Match match(String score, int minute) {
+        return Match.builder()
+                .matchIdentifier(new MatchIdentifier())
+                .matchScore(score)
+                .matchStatus(MatchStatus.IN_PROGRESS)
+                .matchResults(new MatchResults(null, minute))
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.dataAccessLayer.LiveUpdate;
+import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.dataAccessLayer.MatchIdentifier;
+import com.worldofsoccer.match.dataAccessLayer.MatchRepository;
+import com.worldofsoccer.match.dataAccessLayer.MatchResults;
+import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import com.worldofsoccer.match.domainclientLayer.league.LeagueModel;
+import com.worldofsoccer.match.presentationlayer.LiveUpdateRequestModel;
+import com.worldofsoccer.match.presentationlayer.LiveUpdateResponseModel;
+import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class LiveScoreBufferTest {
+
+    private static final String LEAGUE = "11111111-1111-1111-1111-111111111111";
+
+    private final MatchRepository matchRepository = mock(MatchRepository.class);
+    private final LiveMatchFeed liveMatchFeed = mock(LiveMatchFeed.class);
+
+    private final LiveScoreBuffer buffer = new LiveScoreBuffer(matchRepository, liveMatchFeed, Duration.ofMinutes(10), 100);
+
+    @Test
+    void whenUpdatedSeveralTimesBetweenFlushes_thenOneWriteWithTheLatestState() {
+        String matchId = live(MatchStatus.IN_PROGRESS);
+
+        buffer.accept(LEAGUE, matchId, update("0-0", 10));
+        buffer.accept(LEAGUE, matchId, update("1-0", 11));
+        buffer.accept(LEAGUE, matchId, update("1-0", 12));
+
+        assertEquals(1, buffer.flush());
+        verify(matchRepository).applyLiveUpdates(List.of(new LiveUpdate(LEAGUE, matchId, "1-0", 12)));
+        // read once, with no call to another service, and every accepted update published
+        verify(matchRepository, times(1)).findByLeagueModel_LeagueIdAndMatchIdentifier_MatchId(LEAGUE, matchId);
+        verify(liveMatchFeed, times(3)).publish(eq(LEAGUE), any(), eq(LiveMatchFeed.MATCH_EVENT));
+
+        assertEquals(0, buffer.flush());
+        verify(matchRepository, times(1)).applyLiveUpdates(any());
+    }
+
+    @Test
+    void whenUpdateArrivesAfterALaterOne_thenIgnored() {
+        String matchId = live(MatchStatus.IN_PROGRESS);
+
+        buffer.accept(LEAGUE, matchId, update("2-1", 70));
+        LiveUpdateResponseModel stale = buffer.accept(LEAGUE, matchId, update("1-1", 65));
+
+        assertFalse(stale.isApplied());
+        assertEquals("2-1", stale.getMatchScore());
+        assertEquals(70, stale.getMatchMinute());
+        buffer.flush();
+        verify(matchRepository).applyLiveUpdates(List.of(new LiveUpdate(LEAGUE, matchId, "2-1", 70)));
+        verify(liveMatchFeed, times(1)).publish(any(), any(), any());
+    }
+
+    @Test
+    void whenMatchNotInProgressOrUpdateMalformed_thenRefused() {
+        String matchId = live(MatchStatus.SCHEDULED);
+
+        assertThrows(InvalidInputException.class, () -> buffer.accept(LEAGUE, matchId, update("1-0", 5)));
+        assertThrows(InvalidInputException.class, () -> buffer.accept(LEAGUE, matchId, update("one-nil", 5)));
+        assertThrows(InvalidInputException.class, () -> buffer.accept(LEAGUE, matchId, update("1-0", -1)));
+
+        assertEquals(0, buffer.flush());
+        verifyNoInteractions(liveMatchFeed);
+    }
+
+    @Test
+    void whenFlushFails_thenKeptAndRetriedWithWhateverIsNewest() {
+        String matchId = live(MatchStatus.IN_PROGRESS);
+        when(matchRepository.applyLiveUpdates(any()))
+                .thenThrow(new IllegalStateException("connection refused"))
+                .thenReturn(1L);
+
+        buffer.accept(LEAGUE, matchId, update("0-0", 30));
+        assertEquals(0, buffer.flush());
+
+        buffer.accept(LEAGUE, matchId, update("0-1", 31));
+        assertEquals(1, buffer.flush());
+        verify(matchRepository).applyLiveUpdates(List.of(new LiveUpdate(LEAGUE, matchId, "0-1", 31)));
+    }
+
+    @Test
+    void whenUpdatedDuringAFlush_thenTheNewerStateIsWrittenNextTime() {
+        String matchId = live(MatchStatus.IN_PROGRESS);
+        buffer.accept(LEAGUE, matchId, update("0-0", 40));
+        when(matchRepository.applyLiveUpdates(any())).thenAnswer(invocation -> {
+            buffer.accept(LEAGUE, matchId, update("1-0", 41));
+            return 1L;
+        }).thenReturn(1L);
+
+        buffer.flush();
+        buffer.flush();
+
+        var order = inOrder(matchRepository);
+        order.verify(matchRepository).applyLiveUpdates(List.of(new LiveUpdate(LEAGUE, matchId, "0-0", 40)));
+        order.verify(matchRepository).applyLiveUpdates(List.of(new LiveUpdate(LEAGUE, matchId, "1-0", 41)));
+    }
+
+    @Test
+    void whenDiscarded_thenNothingIsWrittenAndTheMatchIsReadAgain() {
+        String matchId = live(MatchStatus.IN_PROGRESS);
+        buffer.accept(LEAGUE, matchId, update("3-3", 88));
+
+        buffer.discard(matchId);
+
+        assertEquals(0, buffer.flush());
+        buffer.accept(LEAGUE, matchId, update("3-3", 89));
+        verify(matchRepository, times(2)).findByLeagueModel_LeagueIdAndMatchIdentifier_MatchId(LEAGUE, matchId);
+    }
+
+    private String live(MatchStatus status) {
+        Match match = Match.builder()
+                .matchIdentifier(new MatchIdentifier())
+                .leagueModel(LeagueModel.builder().leagueId(LEAGUE).build())
+                .matchStatus(status)
+                .matchScore("0-0")
+                .matchResults(new MatchResults(null, 0))
+                .build();
+        String matchId = match.getMatchIdentifier().getMatchId();
+        when(matchRepository.findByLeagueModel_LeagueIdAndMatchIdentifier_MatchId(LEAGUE, matchId)).thenReturn(match);
+        return matchId;
+    }
+
+    private static LiveUpdateRequestModel update(String score, int minute) {
+        return LiveUpdateRequestModel.builder().matchScore(score).matchMinute(minute).build();
+    }
+}
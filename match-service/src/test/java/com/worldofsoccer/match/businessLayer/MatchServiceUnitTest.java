@@ -4,6 +4,8 @@ import com.worldofsoccer.match.dataAccessLayer.Match;
 import com.worldofsoccer.match.dataAccessLayer.MatchIdentifier;
 import com.worldofsoccer.match.dataAccessLayer.MatchRepository;
 import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import com.worldofsoccer.match.dataAccessLayer.SnapshotChangeRepository;
+import com.worldofsoccer.match.dataAccessLayer.VenueStateOutboxRepository;
 import com.worldofsoccer.match.domainclientLayer.league.LeagueModel;
 import com.worldofsoccer.match.domainclientLayer.league.LeagueServiceClient;
 import com.worldofsoccer.match.domainclientLayer.location.VenueModel;
@@ -13,26 +15,44 @@ import com.worldofsoccer.match.domainclientLayer.teams.TeamModel;
 import com.worldofsoccer.match.domainclientLayer.teams.TeamServiceClient;
 import com.worldofsoccer.match.mappingLayer.MatchRequestMapper;
 import com.worldofsoccer.match.mappingLayer.MatchResponseMapper;
+import com.worldofsoccer.match.presentationlayer.BulkImportReport;
+import com.worldofsoccer.match.presentationlayer.BulkImportRowResult;
 import com.worldofsoccer.match.presentationlayer.MatchRequestModel;
 import com.worldofsoccer.match.presentationlayer.MatchResponseModel;
+import com.worldofsoccer.match.utils.CursorPage;
+import com.worldofsoccer.match.utils.PageCursor;
+import com.worldofsoccer.match.utils.exceptions.BookingConflictException;
 import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.match.utils.exceptions.InvalidMatchDurationException;
 import com.worldofsoccer.match.utils.exceptions.NotFoundException;
+import com.worldofsoccer.match.utils.exceptions.UpstreamTimeoutException;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
@@ -51,6 +71,18 @@ class MatchServiceUnitTest {
     private VenueServiceClient venueServiceClient;
     @MockitoBean
     private LeagueServiceClient leagueServiceClient;
+    @MockitoBean
+    private SnapshotChangeRepository snapshotChangeRepository;
+    @MockitoBean
+    private VenueStateOutboxRepository venueStateOutboxRepository;
+    @MockitoBean
+    private StandingsService standingsService;
+    @MockitoBean
+    private BookingIndex bookingIndex;
+    @MockitoBean
+    private LiveMatchFeed liveMatchFeed;
+    @MockitoBean
+    private LiveScoreBuffer liveScoreBuffer;
 
     @MockitoSpyBean
     private MatchResponseMapper matchResponseMapper;
@@ -112,6 +144,35 @@ class MatchServiceUnitTest {
         assertEquals(leagueId, res.getLeagueId());
         assertEquals("1-0", res.getMatchScore());
         verify(matchResponseMapper, times(1)).entityToResponseModel(any(Match.class));
+        // the venue is updated by the relay, from the change saved with the match
+        verify(matchRepository).save(argThat(m -> m.getPendingVenueStates().size() == 1
+                && m.getPendingVenueStates().get(0).getVenueId().equals(venue.getVenueId())
+                && m.getPendingVenueStates().get(0).getMatchStatus() == MatchStatus.SCHEDULED));
+        verify(venueServiceClient, never()).patchVenueStates(any(), any());
+    }
+
+    @Test
+    void whenSlotAlreadyBooked_thenCreateRefusedBeforeAnythingIsSaved() {
+        String leagueId = "11111111-1111-1111-1111-111111111111";
+        TeamModel team = TeamModel.builder().teamId("team-1").teamName("MUFC").build();
+        VenueModel venue = VenueModel.builder().venueId("venue-1").venueState(VenueState.UPCOMING.name()).build();
+        MatchRequestModel req = MatchRequestModel.builder()
+                .teamId(team.getTeamId())
+                .venueId(venue.getVenueId())
+                .leagueId(leagueId)
+                .matchStatus(MatchStatus.SCHEDULED)
+                .matchTime(LocalTime.of(15, 0))
+                .matchDate(LocalDate.of(2025, 5, 10))
+                .matchDuration(LocalTime.of(1, 30))
+                .build();
+        when(teamServiceClient.getTeamById(team.getTeamId())).thenReturn(team);
+        when(venueServiceClient.getVenueById(venue.getVenueId())).thenReturn(venue);
+        when(leagueServiceClient.getLeagueById(leagueId)).thenReturn(LeagueModel.builder().leagueId(leagueId).build());
+        doThrow(new BookingConflictException("Venue venue-1 is already booked"))
+                .when(bookingIndex).reserve(any(Match.class));
+
+        assertThrows(BookingConflictException.class, () -> matchService.createMatch(req, leagueId));
+        verify(matchRepository, never()).save(any(Match.class));
     }
 
     @Test
@@ -273,7 +334,7 @@ class MatchServiceUnitTest {
 
 
     @Test
-    void whenVenueChanged_updateMatch_patchesOldAndNewVenue() {
+    void whenVenueChanged_updateMatch_queuesOldAndNewVenueStates() {
         String L = "11111111-1111-1111-1111-111111111111";
 
         // existing match with old venue and scheduled status
@@ -312,8 +373,11 @@ class MatchServiceUnitTest {
 
         matchService.updateMatch(M, req, L);
 
-        verify(venueServiceClient).patchVenueState("oldV", MatchStatus.CANCELED);
-        verify(venueServiceClient).patchVenueState("newV", MatchStatus.IN_PROGRESS);
+        verify(matchRepository).save(argThat(m -> m.getPendingVenueStates().stream()
+                .map(change -> change.getVenueId() + ":" + change.getMatchStatus())
+                .toList()
+                .equals(List.of("oldV:IN_PROGRESS", "oldV:CANCELED", "newV:IN_PROGRESS"))));
+        verify(venueServiceClient, never()).patchVenueStates(any(), any());
     }
     @Test
     void whenValid_updateMatch_returnsResponse() {
@@ -389,7 +453,7 @@ class MatchServiceUnitTest {
     }
 
     @Test
-    void whenValid_deleteMatch_patchesVenueAndDeletes() {
+    void whenValid_deleteMatch_queuesVenueCancelAndDeletes() {
         Match toDelete = new Match();
         toDelete.setMatchStatus(MatchStatus.SCHEDULED);
         toDelete.setVenueModel(VenueModel.builder().venueId("V1").build());
@@ -401,8 +465,109 @@ class MatchServiceUnitTest {
 
         matchService.deleteMatch("M", "L");
 
-        verify(venueServiceClient).patchVenueState("V1", MatchStatus.CANCELED);
-        verify(matchRepository).delete(toDelete);
+        InOrder order = inOrder(venueStateOutboxRepository, matchRepository);
+        order.verify(venueStateOutboxRepository).insertIfAbsent(argThat(changes -> changes.size() == 1
+                && changes.iterator().next().getVenueId().equals("V1")
+                && changes.iterator().next().getMatchStatus() == MatchStatus.CANCELED));
+        order.verify(matchRepository).delete(toDelete);
+        verify(venueServiceClient, never()).patchVenueStates(any(), any());
+    }
+
+    @Test
+    void whenCompletedResultCorrected_updateMatch_recordsItInStandings() {
+        String L = "11111111-1111-1111-1111-111111111111";
+        TeamModel team = TeamModel.builder().teamId("t").build();
+
+        Match existing = Match.builder()
+                .matchIdentifier(new MatchIdentifier())
+                .teamModel(team)
+                .venueModel(VenueModel.builder().venueId("v").build())
+                .matchStatus(MatchStatus.COMPLETED)
+                .matchScore("1-0")
+                .build();
+        String M = existing.getMatchIdentifier().getMatchId();
+        Match corrected = Match.builder()
+                .matchIdentifier(existing.getMatchIdentifier())
+                .teamModel(team)
+                .venueModel(existing.getVenueModel())
+                .matchStatus(MatchStatus.COMPLETED)
+                .matchScore("1-1")
+                .build();
+
+        MatchRequestModel req = new MatchRequestModel();
+        req.setMatchDuration(LocalTime.of(1, 45));
+        req.setMatchStatus(MatchStatus.COMPLETED);
+        req.setVenueId("v");
+        req.setTeamId("t");
+
+        when(leagueServiceClient.getLeagueById(L)).thenReturn(new LeagueModel());
+        when(matchRepository.findByLeagueModel_LeagueIdAndMatchIdentifier_MatchId(L, M)).thenReturn(existing);
+        when(teamServiceClient.getTeamById("t")).thenReturn(team);
+        when(venueServiceClient.getVenueById("v")).thenReturn(existing.getVenueModel());
+        when(matchRequestMapper.requestModelToEntity(any(), eq(existing.getMatchIdentifier()), any(), any(), any()))
+                .thenReturn(corrected);
+        when(matchRepository.save(corrected)).thenReturn(corrected);
+        doReturn(new MatchResponseModel()).when(matchResponseMapper).entityToResponseModel(corrected);
+
+        matchService.updateMatch(M, req, L);
+
+        verify(standingsService).recordMatch(corrected);
+        verify(standingsService, never()).removeMatch(any());
+        // the score changed, so followers of the match are told
+        verify(liveMatchFeed).publish(L, corrected, LiveMatchFeed.MATCH_EVENT);
+        // and a live score update still waiting to be written is dropped once the correction is stored
+        InOrder order = inOrder(matchRepository, liveScoreBuffer);
+        order.verify(matchRepository).save(corrected);
+        order.verify(liveScoreBuffer).discard(M);
+    }
+
+    @Test
+    void whenUpdateRefusedByBookingIndex_thenPendingLiveUpdateIsKept() {
+        String L = "11111111-1111-1111-1111-111111111111";
+        TeamModel team = TeamModel.builder().teamId("t").build();
+        Match existing = Match.builder()
+                .matchIdentifier(new MatchIdentifier())
+                .teamModel(team)
+                .venueModel(VenueModel.builder().venueId("v").build())
+                .matchStatus(MatchStatus.IN_PROGRESS)
+                .matchScore("2-1")
+                .build();
+        String M = existing.getMatchIdentifier().getMatchId();
+
+        MatchRequestModel req = new MatchRequestModel();
+        req.setMatchDuration(LocalTime.of(1, 45));
+        req.setMatchStatus(MatchStatus.IN_PROGRESS);
+        req.setVenueId("v");
+        req.setTeamId("t");
+
+        when(leagueServiceClient.getLeagueById(L)).thenReturn(new LeagueModel());
+        when(matchRepository.findByLeagueModel_LeagueIdAndMatchIdentifier_MatchId(L, M)).thenReturn(existing);
+        when(teamServiceClient.getTeamById("t")).thenReturn(team);
+        when(venueServiceClient.getVenueById("v")).thenReturn(existing.getVenueModel());
+        doThrow(new BookingConflictException("Team t is already playing"))
+                .when(bookingIndex).reserve(any(Match.class));
+
+        assertThrows(BookingConflictException.class, () -> matchService.updateMatch(M, req, L));
+
+        verify(matchRepository, never()).save(any(Match.class));
+        verify(liveScoreBuffer, never()).discard(any());
+        verify(liveMatchFeed, never()).publish(any(), any(), any());
+    }
+
+    @Test
+    void whenCompletedMatchDeleted_thenRemovedFromStandings() {
+        Match toDelete = new Match();
+        toDelete.setMatchStatus(MatchStatus.COMPLETED);
+        toDelete.setVenueModel(VenueModel.builder().venueId("V1").build());
+
+        when(leagueServiceClient.getLeagueById("L")).thenReturn(new LeagueModel());
+        when(matchRepository.findByLeagueModel_LeagueIdAndMatchIdentifier_MatchId("L", "M")).thenReturn(toDelete);
+
+        matchService.deleteMatch("M", "L");
+
+        InOrder order = inOrder(matchRepository, standingsService);
+        order.verify(matchRepository).delete(toDelete);
+        order.verify(standingsService).removeMatch(toDelete);
     }
 
     @Test
@@ -470,5 +635,128 @@ class MatchServiceUnitTest {
         assertEquals("New venue busyV is not available", ex.getMessage());
     }
 
+    @Test
+    void whenMoreRowsThanLimit_getAllMatches_returnsNextCursor() {
+        String L = "11111111-1111-1111-1111-111111111111";
+        Match m1 = Match.builder().matchIdentifier(new MatchIdentifier()).matchDate(LocalDate.of(2025, 1, 1)).build();
+        Match m2 = Match.builder().matchIdentifier(new MatchIdentifier()).matchDate(LocalDate.of(2025, 1, 2)).build();
+        when(matchRepository.findLeaguePage(L, Limit.of(2))).thenReturn(List.of(m1, m2));
+
+        CursorPage<MatchResponseModel> page = matchService.getAllMatches(L, null, 1);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals(PageCursor.encode("2025-01-01", m1.getMatchIdentifier().getMatchId()), page.getNextCursor());
+        verify(matchRepository, never()).findAll();
+    }
+
+    @Test
+    void whenCursorGiven_getAllMatches_resumesAfterKey() {
+        String L = "11111111-1111-1111-1111-111111111111";
+        String cursor = PageCursor.encode("2025-01-01", "M");
+        when(matchRepository.findLeaguePageAfter(L, LocalDate.of(2025, 1, 1), "M", Limit.of(51)))
+                .thenReturn(List.of());
+
+        CursorPage<MatchResponseModel> page = matchService.getAllMatches(L, cursor, null);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void whenCursorMalformed_getAllMatches_throwsInvalidInput() {
+        assertThrows(InvalidInputException.class,
+                () -> matchService.getAllMatches("L", "not-a-cursor", null));
+        assertThrows(InvalidInputException.class,
+                () -> matchService.getAllMatches("L", null, 0));
+    }
+
+    @Test
+    void whenCreateMatch_lookupsRunConcurrently() {
+        String leagueId = UUID.randomUUID().toString();
+        MatchRequestModel req = new MatchRequestModel();
+        req.setTeamId("t");
+        req.setVenueId("v");
+        req.setMatchDuration(LocalTime.of(2, 0));
+
+        // each lookup only returns once all three are in flight
+        CountDownLatch inFlight = new CountDownLatch(3);
+        when(leagueServiceClient.getLeagueById(leagueId)).thenAnswer(inv -> {
+            inFlight.countDown();
+            inFlight.await(2, TimeUnit.SECONDS);
+            return null;
+        });
+        when(teamServiceClient.getTeamById("t")).thenAnswer(inv -> {
+            inFlight.countDown();
+            return new TeamModel();
+        });
+        when(venueServiceClient.getVenueById("v")).thenAnswer(inv -> {
+            inFlight.countDown();
+            return new VenueModel();
+        });
+
+        assertThrows(NotFoundException.class, () -> matchService.createMatch(req, leagueId));
+        assertEquals(0, inFlight.getCount());
+    }
+
+    @Test
+    void whenLookupExceedsDeadline_fanOutThrowsUpstreamTimeout() {
+        UpstreamFanOut fanOut = new UpstreamFanOut(new SimpleAsyncTaskExecutor(), Duration.ofMillis(50));
+        UpstreamFanOut.Batch batch = fanOut.start();
+        CompletableFuture<String> slow = batch.submit(() -> {
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return "late";
+        });
+
+        assertThrows(UpstreamTimeoutException.class, () -> batch.join(slow));
+        assertTrue(slow.isCancelled());
+    }
+
+    @Test
+    void whenImportingMatches_lookupsOncePerDistinctIdAndReportsEachRow() {
+        String L = "11111111-1111-1111-1111-111111111111";
+        VenueModel venue = VenueModel.builder().venueId("v").venueState(VenueState.UPCOMING.name()).build();
+        when(leagueServiceClient.getLeagueById(L)).thenReturn(LeagueModel.builder().leagueId(L).build());
+        when(teamServiceClient.getTeamById("t")).thenReturn(TeamModel.builder().teamId("t").build());
+        when(teamServiceClient.getTeamById("missing")).thenThrow(new NotFoundException("no team"));
+        when(venueServiceClient.getVenueById("v")).thenReturn(venue);
+        // the second insert of the chunk is rejected by the server
+        List<Match> inserted = new ArrayList<>();
+        when(matchRepository.insertUnordered(anyList())).thenAnswer(invocation -> {
+            inserted.addAll(invocation.getArgument(0));
+            return Map.of(1, "duplicate key");
+        });
 
+        List<MatchRequestModel> rows = List.of(
+                MatchRequestModel.builder().teamId("t").venueId("v").matchDuration(LocalTime.of(2, 0)).build(),
+                MatchRequestModel.builder().teamId("missing").venueId("v").matchDuration(LocalTime.of(2, 0)).build(),
+                MatchRequestModel.builder().teamId("t").venueId("v").matchDuration(LocalTime.of(0, 30)).build(),
+                MatchRequestModel.builder().teamId("t").venueId("v").matchDuration(LocalTime.of(2, 0)).build(),
+                MatchRequestModel.builder().teamId("t").venueId("v").matchDuration(LocalTime.of(2, 0)).build());
+
+        BulkImportReport report = matchService.importMatches(L, rows);
+
+        assertEquals(5, report.getReceived());
+        assertEquals(2, report.getCreated());
+        assertEquals(3, report.getFailed());
+        assertEquals(List.of(BulkImportRowResult.CREATED, BulkImportRowResult.FAILED, BulkImportRowResult.FAILED,
+                        BulkImportRowResult.FAILED, BulkImportRowResult.CREATED),
+                report.getRows().stream().map(BulkImportRowResult::getStatus).toList());
+        assertEquals("duplicate key", report.getRows().get(3).getError());
+        assertNotNull(report.getRows().get(4).getMatchId());
+
+        verify(teamServiceClient, times(1)).getTeamById("t");
+        verify(venueServiceClient, times(1)).getVenueById("v");
+        verify(matchRepository, times(1)).insertUnordered(anyList());
+        verify(matchRepository, never()).save(any(Match.class));
+        // the venue changes ride along with the inserted matches, for the VenueStateRelay to deliver
+        assertEquals(3, inserted.size());
+        assertTrue(inserted.stream().allMatch(m -> m.getPendingVenueStates().size() == 1
+                && m.getPendingVenueStates().get(0).getVenueId().equals("v")
+                && m.getPendingVenueStates().get(0).getMatchStatus() == MatchStatus.SCHEDULED));
+        verifyNoMoreInteractions(venueServiceClient);
+    }
 }
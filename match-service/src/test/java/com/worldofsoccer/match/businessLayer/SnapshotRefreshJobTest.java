@@ -0,0 +1,71 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.dataAccessLayer.MatchRepository;
+import com.worldofsoccer.match.dataAccessLayer.SnapshotChange;
+import com.worldofsoccer.match.dataAccessLayer.SnapshotChangeRepository;
+import com.worldofsoccer.match.dataAccessLayer.SnapshotType;
+import com.worldofsoccer.match.domainclientLayer.cache.UpstreamCaches;
+import com.worldofsoccer.match.domainclientLayer.league.LeagueServiceClient;
+import com.worldofsoccer.match.domainclientLayer.location.VenueModel;
+import com.worldofsoccer.match.domainclientLayer.location.VenueServiceClient;
+import com.worldofsoccer.match.domainclientLayer.teams.TeamServiceClient;
+import com.worldofsoccer.match.utils.exceptions.NotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class SnapshotRefreshJobTest {
+
+    private final SnapshotChangeRepository changeRepository = mock(SnapshotChangeRepository.class);
+    private final MatchRepository matchRepository = mock(MatchRepository.class);
+    private final LeagueServiceClient leagueServiceClient = mock(LeagueServiceClient.class);
+    private final TeamServiceClient teamServiceClient = mock(TeamServiceClient.class);
+    private final VenueServiceClient venueServiceClient = mock(VenueServiceClient.class);
+
+    private final SnapshotRefreshJob job = new SnapshotRefreshJob(changeRepository, matchRepository,
+            leagueServiceClient, teamServiceClient, venueServiceClient, UpstreamCaches.disabled(), 100);
+
+    @Test
+    void whenSameEntityChangedTwice_thenRefreshedOnceAndBothMarkedProcessed() {
+        SnapshotChange first = change(SnapshotType.VENUE, "V1");
+        SnapshotChange second = change(SnapshotType.VENUE, "V1");
+        VenueModel venue = VenueModel.builder().venueId("V1").venueState("LIVE").build();
+        when(changeRepository.findByProcessedAtIsNullOrderByRecordedAtAsc(Limit.of(100))).thenReturn(List.of(first, second));
+        when(venueServiceClient.getVenueById("V1")).thenReturn(venue);
+        when(matchRepository.replaceSnapshot(SnapshotType.VENUE, "V1", venue)).thenReturn(3L);
+
+        assertEquals(1, job.drain());
+
+        verify(venueServiceClient, times(1)).getVenueById("V1");
+        verify(matchRepository, times(1)).replaceSnapshot(SnapshotType.VENUE, "V1", venue);
+        assertNotNull(first.getProcessedAt());
+        assertNotNull(second.getProcessedAt());
+    }
+
+    @Test
+    void whenUpstreamFails_thenChangeStaysPendingButDeletedEntityIsDropped() {
+        SnapshotChange failing = change(SnapshotType.TEAM, "T1");
+        SnapshotChange deleted = change(SnapshotType.LEAGUE, "L1");
+        when(changeRepository.findByProcessedAtIsNullOrderByRecordedAtAsc(any())).thenReturn(List.of(failing, deleted));
+        when(teamServiceClient.getTeamById("T1")).thenThrow(new IllegalStateException("connection reset"));
+        when(leagueServiceClient.getLeagueById("L1")).thenThrow(new NotFoundException("gone"));
+
+        assertEquals(0, job.drain());
+
+        assertNull(failing.getProcessedAt());
+        assertNotNull(deleted.getProcessedAt());
+        verify(matchRepository, never()).replaceSnapshot(any(), anyString(), any());
+        verify(changeRepository).saveAll(List.of(deleted));
+    }
+
+    private static SnapshotChange change(SnapshotType type, String id) {
+        return SnapshotChange.builder().type(type).entityId(id).recordedAt(Instant.now()).build();
+    }
+}
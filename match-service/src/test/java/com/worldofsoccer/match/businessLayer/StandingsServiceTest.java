@@ -0,0 +1,157 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.dataAccessLayer.MatchIdentifier;
+import com.worldofsoccer.match.dataAccessLayer.MatchRepository;
+import com.worldofsoccer.match.dataAccessLayer.MatchResults;
+import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import com.worldofsoccer.match.dataAccessLayer.ResultsType;
+import com.worldofsoccer.match.dataAccessLayer.TeamStanding;
+import com.worldofsoccer.match.dataAccessLayer.TeamStandingRepository;
+import com.worldofsoccer.match.domainclientLayer.league.LeagueModel;
+import com.worldofsoccer.match.domainclientLayer.teams.TeamModel;
+import com.worldofsoccer.match.presentationlayer.StandingResponseModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataMongoTest
+@ActiveProfiles("test")
+@Import(StandingsServiceImpl.class)
+class StandingsServiceTest {
+
+    private static final String LEAGUE = "11111111-1111-1111-1111-111111111111";
+
+    @Autowired
+    private StandingsService standingsService;
+    @Autowired
+    private TeamStandingRepository standingRepository;
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @BeforeEach
+    void setup() {
+        standingRepository.deleteAll();
+        matchRepository.deleteAll();
+    }
+
+    @Test
+    void whenSameCompletedMatchRecordedTwice_thenCountedOnce() {
+        Match match = completed("A", "2-1", ResultsType.WINNER, 1);
+
+        standingsService.recordMatch(match);
+        standingsService.recordMatch(match);
+
+        StandingResponseModel row = standingsService.getStandings(LEAGUE).get(0);
+        assertEquals(1, row.getPlayed());
+        assertEquals(1, row.getWon());
+        assertEquals(3, row.getPoints());
+        assertEquals(2, row.getGoalsFor());
+        assertEquals(1, row.getGoalsAgainst());
+        assertEquals(List.of("W"), row.getForm());
+    }
+
+    @Test
+    void whenResultCorrected_thenOnlyTheDifferenceIsApplied() {
+        Match match = completed("A", "2-1", ResultsType.WINNER, 1);
+        standingsService.recordMatch(match);
+
+        match.setMatchScore("1-1");
+        match.setMatchResults(new MatchResults(ResultsType.DRAW, 90));
+        standingsService.recordMatch(match);
+
+        StandingResponseModel row = standingsService.getStandings(LEAGUE).get(0);
+        assertEquals(1, row.getPlayed());
+        assertEquals(0, row.getWon());
+        assertEquals(1, row.getDrawn());
+        assertEquals(1, row.getPoints());
+        assertEquals(0, row.getGoalDifference());
+        assertEquals(List.of("D"), row.getForm());
+    }
+
+    @Test
+    void whenMatchRemoved_thenItsContributionIsTakenBack() {
+        Match win = completed("A", "3-0", ResultsType.WINNER, 1);
+        Match loss = completed("A", "0-1", ResultsType.LOSER, 2);
+        standingsService.recordMatch(win);
+        standingsService.recordMatch(loss);
+
+        standingsService.removeMatch(win);
+
+        StandingResponseModel row = standingsService.getStandings(LEAGUE).get(0);
+        assertEquals(1, row.getPlayed());
+        assertEquals(0, row.getPoints());
+        assertEquals(-1, row.getGoalDifference());
+        assertEquals(List.of("L"), row.getForm());
+    }
+
+    @Test
+    void whenSeveralTeamsPlayed_thenTableIsOrderedAndFormKeepsTheLastFive() {
+        for (int day = 1; day <= 6; day++) {
+            standingsService.recordMatch(completed("A", day == 6 ? "0-2" : "1-0", null, day));
+        }
+        standingsService.recordMatch(completed("B", "4-0", ResultsType.WINNER, 1));
+
+        List<StandingResponseModel> table = standingsService.getStandings(LEAGUE);
+        assertEquals(List.of("team-A", "team-B"), table.stream().map(StandingResponseModel::getTeamId).toList());
+        assertEquals(1, table.get(0).getPosition());
+        assertEquals(15, table.get(0).getPoints());
+        assertEquals(List.of("L", "W", "W", "W", "W"), table.get(0).getForm());
+        assertEquals(TeamStanding.FORM_LENGTH, table.get(0).getForm().size());
+    }
+
+    @Test
+    void whenFixtureHasOpponent_thenOpponentGetsTheMirroredResult() {
+        Match fixture = completed("A", "2-1", ResultsType.WINNER, 1);
+        fixture.setOpponentModel(TeamModel.builder().teamId("team-B").teamName("Team B").build());
+
+        standingsService.recordMatch(fixture);
+
+        List<StandingResponseModel> table = standingsService.getStandings(LEAGUE);
+        assertEquals(List.of("team-A", "team-B"), table.stream().map(StandingResponseModel::getTeamId).toList());
+        assertEquals(0, table.get(1).getPoints());
+        assertEquals(1, table.get(1).getGoalsFor());
+        assertEquals(2, table.get(1).getGoalsAgainst());
+        assertEquals(List.of("L"), table.get(1).getForm());
+    }
+
+    @Test
+    void whenRebuilt_thenTableMatchesTheCompletedMatches() {
+        matchRepository.save(completed("A", "2-0", ResultsType.WINNER, 1));
+        Match scheduled = completed("A", "0-0", null, 2);
+        scheduled.setMatchStatus(MatchStatus.SCHEDULED);
+        matchRepository.save(scheduled);
+
+        // drifted rows: a stale count for A and a team with no completed match left
+        standingsService.recordMatch(completed("A", "0-5", ResultsType.LOSER, 3));
+        standingsService.recordMatch(completed("C", "1-0", ResultsType.WINNER, 1));
+
+        List<StandingResponseModel> table = standingsService.rebuildStandings(LEAGUE);
+
+        assertEquals(1, table.size());
+        assertEquals(1, table.get(0).getPlayed());
+        assertEquals(3, table.get(0).getPoints());
+        assertEquals(table, standingsService.getStandings(LEAGUE));
+        assertTrue(standingRepository.findById(TeamStanding.idOf(LEAGUE, "team-C")).isEmpty());
+    }
+
+    private static Match completed(String team, String score, ResultsType outcome, int day) {
+        return Match.builder()
+                .matchIdentifier(new MatchIdentifier())
+                .leagueModel(LeagueModel.builder().leagueId(LEAGUE).build())
+                .teamModel(TeamModel.builder().teamId("team-" + team).teamName("Team " + team).build())
+                .matchScore(score)
+                .matchStatus(MatchStatus.COMPLETED)
+                .matchDate(LocalDate.of(2025, 3, day))
+                .matchResults(new MatchResults(outcome, 90))
+                .build();
+    }
+}
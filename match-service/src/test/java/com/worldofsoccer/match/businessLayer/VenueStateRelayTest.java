@@ -0,0 +1,154 @@
+package com.worldofsoccer.match.businessLayer;
+
+import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.dataAccessLayer.MatchRepository;
+import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
+import com.worldofsoccer.match.dataAccessLayer.SnapshotChangeRepository;
+import com.worldofsoccer.match.dataAccessLayer.VenueStateChange;
+import com.worldofsoccer.match.dataAccessLayer.VenueStateOutboxRepository;
+import com.worldofsoccer.match.domainclientLayer.location.VenueModel;
+import com.worldofsoccer.match.domainclientLayer.location.VenueServiceClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class VenueStateRelayTest {
+
+    private final MatchRepository matchRepository = mock(MatchRepository.class);
+    private final VenueStateOutboxRepository outboxRepository = mock(VenueStateOutboxRepository.class);
+    private final VenueServiceClient venueServiceClient = mock(VenueServiceClient.class);
+    private final SnapshotChangeRepository changeRepository = mock(SnapshotChangeRepository.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final VenueStateRelay relay = new VenueStateRelay(matchRepository, outboxRepository, venueServiceClient,
+            new SnapshotChangelog(changeRepository), 100, Duration.ofSeconds(1), Duration.ofMinutes(5), 3, meterRegistry);
+
+    @Test
+    void whenMatchHasPendingChanges_thenCopiedToOutboxBeforeBeingPulled() {
+        VenueStateChange change = VenueStateChange.of("M1", "V1", MatchStatus.SCHEDULED);
+        Match match = Match.builder().id("doc-1").pendingVenueStates(List.of(change)).build();
+        when(matchRepository.findWithPendingVenueStates(any())).thenReturn(List.of(match));
+
+        assertEquals(1, relay.collect());
+
+        var order = inOrder(outboxRepository, matchRepository);
+        order.verify(outboxRepository).insertIfAbsent(List.of(change));
+        order.verify(matchRepository).pullPendingVenueStates("doc-1", List.of(change.getId()));
+    }
+
+    @Test
+    void whenVenueChangedTwice_thenOnlyLatestIsSentAndBothAreSettled() {
+        VenueStateChange scheduled = change("V1", MatchStatus.SCHEDULED, 2);
+        VenueStateChange started = change("V1", MatchStatus.IN_PROGRESS, 1);
+        VenueStateChange other = change("V2", MatchStatus.IN_PROGRESS, 0);
+        outbox(scheduled, started, other);
+        when(venueServiceClient.patchVenueStates(eq(List.of("V1", "V2")), eq(MatchStatus.IN_PROGRESS), anyString()))
+                .thenReturn(List.of(VenueModel.builder().venueId("V1").build()));
+
+        assertEquals(2, relay.dispatch());
+
+        verify(venueServiceClient, never()).patchVenueStates(any(), eq(MatchStatus.SCHEDULED), any());
+        assertNotNull(scheduled.getDispatchedAt());
+        assertNotNull(started.getDispatchedAt());
+        assertNotNull(other.getDispatchedAt());
+        // only the venue whose state actually changed is queued for a snapshot refresh
+        verify(changeRepository).saveAll(argThat(changes -> {
+            var iterator = changes.iterator();
+            return iterator.next().getEntityId().equals("V1") && !iterator.hasNext();
+        }));
+    }
+
+    @Test
+    void whenDeliveryFails_thenRetriedLaterWithTheSameIdempotencyKey() {
+        VenueStateChange change = change("V1", MatchStatus.CANCELED, 0);
+        outbox(change);
+        when(venueServiceClient.patchVenueStates(any(), any(), anyString()))
+                .thenThrow(new IllegalStateException("connection refused"))
+                .thenReturn(List.of());
+
+        assertEquals(0, relay.dispatch());
+        assertNull(change.getDispatchedAt());
+        assertEquals(1, change.getAttempts());
+        assertTrue(change.getNextAttemptAt().isAfter(Instant.now()));
+
+        // still backing off: not sent again
+        assertEquals(0, relay.dispatch());
+        verify(venueServiceClient, times(1)).patchVenueStates(any(), any(), anyString());
+
+        change.setNextAttemptAt(Instant.now().minusSeconds(1));
+        assertEquals(1, relay.dispatch());
+        assertNotNull(change.getDispatchedAt());
+
+        ArgumentCaptor<String> keys = ArgumentCaptor.forClass(String.class);
+        verify(venueServiceClient, times(2)).patchVenueStates(eq(List.of("V1")), eq(MatchStatus.CANCELED), keys.capture());
+        assertEquals(keys.getAllValues().get(0), keys.getAllValues().get(1));
+    }
+
+    @Test
+    void whenDeliveryKeepsFailing_thenDeadLetteredAfterMaxAttempts() {
+        VenueStateChange change = change("V1", MatchStatus.SCHEDULED, 0);
+        outbox(change);
+        when(venueServiceClient.patchVenueStates(any(), any(), anyString()))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            change.setNextAttemptAt(null);
+            relay.dispatch();
+        }
+
+        assertEquals(3, change.getAttempts());
+        assertNotNull(change.getDispatchedAt());
+        assertEquals("connection refused", change.getLastError());
+        assertEquals(1.0, meterRegistry.counter("venue.state.relay.dead.letters").count());
+
+        // dead letters are not due any more
+        assertEquals(0, relay.dispatch());
+        verify(venueServiceClient, times(3)).patchVenueStates(any(), any(), anyString());
+    }
+
+    @Test
+    void whenAnOlderChangeIsBackingOff_thenANewerOneIsSentAndSettlesIt() {
+        VenueStateChange stuck = change("V1", MatchStatus.SCHEDULED, 60);
+        stuck.setAttempts(2);
+        stuck.setNextAttemptAt(Instant.now().plusSeconds(300));
+        VenueStateChange newer = change("V1", MatchStatus.CANCELED, 0);
+        outbox(stuck, newer);
+        when(venueServiceClient.patchVenueStates(any(), any(), anyString())).thenReturn(List.of());
+
+        assertEquals(1, relay.dispatch());
+
+        verify(venueServiceClient).patchVenueStates(eq(List.of("V1")), eq(MatchStatus.CANCELED), anyString());
+        verify(outboxRepository).settleSuperseded(eq(List.of(newer)), any());
+    }
+
+    // stands in for findDue: undelivered and not backing off, oldest first
+    private void outbox(VenueStateChange... changes) {
+        when(outboxRepository.findDue(any(), any())).thenAnswer(invocation -> {
+            Instant now = invocation.getArgument(0);
+            return Stream.of(changes)
+                    .filter(change -> change.getDispatchedAt() == null)
+                    .filter(change -> change.getNextAttemptAt() == null || !change.getNextAttemptAt().isAfter(now))
+                    .sorted(Comparator.comparing(VenueStateChange::getRecordedAt))
+                    .toList();
+        });
+    }
+
+    private static VenueStateChange change(String venueId, MatchStatus status, int secondsAgo) {
+        VenueStateChange change = VenueStateChange.of("M1", venueId, status);
+        change.setRecordedAt(Instant.now().minusSeconds(secondsAgo));
+        return change;
+    }
+}
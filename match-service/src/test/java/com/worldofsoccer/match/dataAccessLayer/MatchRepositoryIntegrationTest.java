@@ -7,12 +7,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -67,4 +69,94 @@ class MatchRepositoryIntegrationTest {
         );
         assertNotNull(found);
     }
+
+    @Test
+    void whenPagingLeague_thenOnlyLeagueMatchesInKeyOrder() {
+        for (int day = 1; day <= 3; day++) {
+            matchRepository.save(Match.builder()
+                    .matchIdentifier(new MatchIdentifier())
+                    .leagueModel(match.getLeagueModel())
+                    .matchDate(match.getMatchDate().plusDays(day))
+                    .build());
+        }
+        matchRepository.save(Match.builder()
+                .matchIdentifier(new MatchIdentifier())
+                .leagueModel(LeagueModel.builder().leagueId("L-2").build())
+                .matchDate(match.getMatchDate())
+                .build());
+
+        List<Match> first = matchRepository.findLeaguePage("L-1", Limit.of(2));
+        assertEquals(2, first.size());
+        assertEquals(match.getMatchIdentifier().getMatchId(), first.get(0).getMatchIdentifier().getMatchId());
+
+        Match last = first.get(1);
+        List<Match> rest = matchRepository.findLeaguePageAfter(
+                "L-1", last.getMatchDate(), last.getMatchIdentifier().getMatchId(), Limit.of(10));
+        assertEquals(2, rest.size());
+        assertTrue(rest.stream().allMatch(m -> "L-1".equals(m.getLeagueModel().getLeagueId())));
+        assertTrue(rest.get(0).getMatchDate().isAfter(last.getMatchDate()));
+    }
+
+    @Test
+    void whenInsertUnordered_thenWritesAllButRejectedRows() {
+        Match fresh = Match.builder()
+                .matchIdentifier(new MatchIdentifier())
+                .leagueModel(match.getLeagueModel())
+                .matchDate(match.getMatchDate())
+                .build();
+        Match clash = Match.builder()
+                .id(match.getId())
+                .matchIdentifier(new MatchIdentifier())
+                .leagueModel(match.getLeagueModel())
+                .build();
+
+        Map<Integer, String> failures = matchRepository.insertUnordered(List.of(clash, fresh));
+
+        assertEquals(1, failures.size());
+        assertTrue(failures.containsKey(0));
+        assertNotNull(matchRepository.findByMatchIdentifier_MatchId(fresh.getMatchIdentifier().getMatchId()));
+        assertEquals(2, matchRepository.count());
+    }
+
+    @Test
+    void whenReplaceSnapshot_thenEveryMatchOfThatVenueIsUpdated() {
+        matchRepository.save(Match.builder()
+                .matchIdentifier(new MatchIdentifier())
+                .leagueModel(match.getLeagueModel())
+                .venueModel(match.getVenueModel())
+                .build());
+        VenueModel fresh = VenueModel.builder()
+                .venueId("V-1").venueName("Venue").venueCity("City").venueCapacity(100).venueState("LIVE").build();
+
+        long modified = matchRepository.replaceSnapshot(SnapshotType.VENUE, "V-1", fresh);
+
+        assertEquals(2, modified);
+        matchRepository.findAll().forEach(m -> assertEquals("LIVE", m.getVenueModel().getVenueState()));
+    }
+
+    @Test
+    void whenApplyLiveUpdates_thenOnlyMatchesStillInProgressAreSet() {
+        match.setMatchStatus(MatchStatus.IN_PROGRESS);
+        matchRepository.save(match);
+        Match finished = matchRepository.save(Match.builder()
+                .matchIdentifier(new MatchIdentifier())
+                .leagueModel(match.getLeagueModel())
+                .matchStatus(MatchStatus.COMPLETED)
+                .matchScore("2-2")
+                .build());
+        String matchId = match.getMatchIdentifier().getMatchId();
+        String finishedId = finished.getMatchIdentifier().getMatchId();
+
+        long applied = matchRepository.applyLiveUpdates(List.of(
+                new LiveUpdate("L-1", matchId, "1-0", 23),
+                new LiveUpdate("L-1", finishedId, "3-2", 95)));
+
+        assertEquals(1, applied);
+        Match live = matchRepository.findByMatchIdentifier_MatchId(matchId);
+        assertEquals("1-0", live.getMatchScore());
+        assertEquals(23, live.getMatchResults().getMatchMinute());
+        // the rest of the document is left as it was
+        assertEquals("V-1", live.getVenueModel().getVenueId());
+        assertEquals("2-2", matchRepository.findByMatchIdentifier_MatchId(finishedId).getMatchScore());
+    }
 }
@@ -0,0 +1,74 @@
+package com.worldofsoccer.match.domainclientLayer.cache;
+
+import com.worldofsoccer.match.utils.exceptions.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UpstreamCache<String> cache = UpstreamCache.create("league",
+            new ClientCacheProperties.Spec(Duration.ofMinutes(5), Duration.ofMinutes(1), 10), registry);
+
+    @Test
+    void whenLoadedTwice_thenLoaderCalledOnce() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("L1", cache.get("1", () -> "L" + calls.incrementAndGet()));
+        assertEquals("L1", cache.get("1", () -> "L" + calls.incrementAndGet()));
+
+        assertEquals(1, calls.get());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "league").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void whenLoaderThrowsNotFound_thenNotFoundIsCached() {
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            NotFoundException ex = assertThrows(NotFoundException.class, () -> cache.get("missing", () -> {
+                calls.incrementAndGet();
+                throw new NotFoundException("League not found");
+            }));
+            assertEquals("League not found", ex.getMessage());
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void whenInvalidated_thenReloaded() {
+        AtomicInteger calls = new AtomicInteger();
+        cache.get("1", () -> "L" + calls.incrementAndGet());
+
+        cache.invalidate("1");
+
+        assertEquals("L2", cache.get("1", () -> "L" + calls.incrementAndGet()));
+    }
+
+    @Test
+    void whenLoaderReturnsNull_thenNothingIsCached() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertNull(cache.get("1", () -> { calls.incrementAndGet(); return null; }));
+        assertNull(cache.get("1", () -> { calls.incrementAndGet(); return null; }));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void whenDisabled_thenAlwaysLoads() {
+        UpstreamCache<String> disabled = UpstreamCache.disabled("league");
+        AtomicInteger calls = new AtomicInteger();
+
+        disabled.get("1", () -> "L" + calls.incrementAndGet());
+        disabled.get("1", () -> "L" + calls.incrementAndGet());
+
+        assertEquals(2, calls.get());
+    }
+}
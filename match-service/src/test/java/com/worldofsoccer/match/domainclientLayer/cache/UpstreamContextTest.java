@@ -0,0 +1,105 @@
+package com.worldofsoccer.match.domainclientLayer.cache;
+
+import com.worldofsoccer.match.utils.exceptions.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamContextTest {
+
+    // disabled: every lookup would otherwise reach the loader
+    private final UpstreamCache<String> leagues = UpstreamCache.disabled(UpstreamCaches.LEAGUE);
+
+    @BeforeEach
+    void bindRequest() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void unbindRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void whenSameIdResolvedTwiceInOneRequest_thenLoaderCalledOnce() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("L1", leagues.get("1", () -> "L" + calls.incrementAndGet()));
+        assertEquals("L1", leagues.get("1", () -> "L" + calls.incrementAndGet()));
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void whenResolvedOnDecoratedWorker_thenRequestThreadReusesIt() {
+        AtomicInteger calls = new AtomicInteger();
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+        executor.setTaskDecorator(UpstreamContext.taskDecorator());
+
+        String fromWorker = CompletableFuture
+                .supplyAsync(() -> leagues.get("1", () -> "L" + calls.incrementAndGet()), executor)
+                .join();
+
+        assertEquals("L1", fromWorker);
+        assertEquals("L1", leagues.get("1", () -> "L" + calls.incrementAndGet()));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void whenNotFound_thenRememberedForTheRequest() {
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(NotFoundException.class, () -> leagues.get("missing", () -> {
+                calls.incrementAndGet();
+                throw new NotFoundException("League not found");
+            }));
+        }
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void whenInvalidated_thenReloadedWithinTheRequest() {
+        AtomicInteger calls = new AtomicInteger();
+        leagues.get("1", () -> "L" + calls.incrementAndGet());
+
+        leagues.invalidate("1");
+
+        assertEquals("L2", leagues.get("1", () -> "L" + calls.incrementAndGet()));
+    }
+
+    @Test
+    void whenNoRequestBound_thenEveryLookupLoads() {
+        RequestContextHolder.resetRequestAttributes();
+        AtomicInteger calls = new AtomicInteger();
+
+        leagues.get("1", () -> "L" + calls.incrementAndGet());
+        leagues.get("1", () -> "L" + calls.incrementAndGet());
+
+        assertNull(UpstreamContext.current());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void whenCallsRecorded_thenCountedPerDownstream() {
+        UpstreamContext context = UpstreamContext.current();
+
+        context.recordCall(UpstreamCallCounter.downstream("/api/v1/leagues/1"));
+        context.recordCall(UpstreamCallCounter.downstream("/api/v1/venues/2/state"));
+        context.recordCall(UpstreamCallCounter.downstream("/api/v1/venues/3"));
+
+        assertEquals(3, context.totalCalls());
+        assertEquals(Map.of("leagues", 1, "venues", 2), context.callsByDownstream());
+    }
+}
@@ -3,7 +3,9 @@ package com.worldofsoccer.match.presentationlayer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.worldofsoccer.match.businessLayer.LiveScoreBuffer;
 import com.worldofsoccer.match.dataAccessLayer.Match;
+import com.worldofsoccer.match.dataAccessLayer.MatchIdentifier;
 import com.worldofsoccer.match.dataAccessLayer.MatchRepository;
 import com.worldofsoccer.match.dataAccessLayer.MatchStatus;
 import com.worldofsoccer.match.dataAccessLayer.ResultsType;
@@ -57,6 +59,9 @@ class MatchControllerIntegrationTest {
     @Autowired
     private MatchRepository  matchRepository;
 
+    @Autowired
+    private LiveScoreBuffer  liveScoreBuffer;
+
     private MockRestServiceServer mockServer;
     private ObjectMapper          mapper = new ObjectMapper();
 
@@ -109,6 +114,65 @@ class MatchControllerIntegrationTest {
                 });
     }
 
+    @Test
+    void whenGetMatchById_thenLeagueFetchedExactlyOncePerRequest() throws Exception {
+        Match existing = matchRepository.findAll().get(0);
+        String leagueId = existing.getLeagueModel().getLeagueId();
+        String matchId = existing.getMatchIdentifier().getMatchId();
+        var league = LeagueModel.builder()
+                .leagueId(leagueId)
+                .leagueName("Premier League")
+                .leagueFormat("LEAGUE")
+                .build();
+
+        // controller and service both resolve the league; the request context serves the second
+        mockServer.expect(ExpectedCount.times(2),
+                        requestTo(new URI(LEAGUE_BASE + "/" + leagueId)))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(mapper.writeValueAsString(league), MediaType.APPLICATION_JSON));
+
+        for (int i = 0; i < 2; i++) {
+            webClient.get()
+                    .uri(API_PREFIX + "/" + leagueId + "/matches/" + matchId)
+                    .exchange()
+                    .expectStatus().isOk();
+        }
+
+        // one call per request, nothing carried over between the two
+        mockServer.verify();
+    }
+
+    @Test
+    void whenLiveUpdate_thenAcceptedWithoutUpstreamCallsAndWrittenOnFlush() {
+        Match existing = matchRepository.findAll().get(0);
+        Match live = matchRepository.save(Match.builder()
+                .matchIdentifier(new MatchIdentifier())
+                .leagueModel(existing.getLeagueModel())
+                .matchStatus(MatchStatus.IN_PROGRESS)
+                .matchScore("0-0")
+                .build());
+        String leagueId = live.getLeagueModel().getLeagueId();
+        String matchId = live.getMatchIdentifier().getMatchId();
+
+        webClient.patch()
+                .uri(API_PREFIX + "/" + leagueId + "/matches/" + matchId + "/live")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new LiveUpdateRequestModel("1-0", 17))
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectBody(LiveUpdateResponseModel.class)
+                .value(response -> assertTrue(response.isApplied()));
+
+        // no league, team or venue lookups
+        mockServer.verify();
+
+        liveScoreBuffer.flush();
+        Match stored = matchRepository.findByMatchIdentifier_MatchId(matchId);
+        assertEquals("1-0", stored.getMatchScore());
+        assertEquals(17, stored.getMatchResults().getMatchMinute());
+        matchRepository.delete(stored);
+    }
+
     @Test
     void whenLeagueNotFound_thenReturnNotFound() throws Exception {
         mockServer.expect(once(),
@@ -129,7 +193,7 @@ class MatchControllerIntegrationTest {
                 .leagueName("Premier League")
                 .leagueFormat("LEAGUE")
                 .build();
-        mockServer.expect(ExpectedCount.times(2),
+        mockServer.expect(once(),
                         requestTo(new URI(LEAGUE_BASE + "/" + FOUND_LEAGUE_ID)))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(mapper.writeValueAsString(league), MediaType.APPLICATION_JSON));
@@ -161,11 +225,7 @@ class MatchControllerIntegrationTest {
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(venueJson, MediaType.APPLICATION_JSON));
 
-        mockServer.expect(once(),
-                        requestTo(new URI(VENUES_BASE + "/" + venue.getVenueId() + "/state")))
-                .andExpect(method(HttpMethod.PATCH))
-                .andRespond(withSuccess(venueJson, MediaType.APPLICATION_JSON));
-
+        // no PATCH expected: the venue update is left for the relay
         var req = MatchRequestModel.builder()
                 .leagueId(FOUND_LEAGUE_ID)
                 .teamId(team.getTeamId())
@@ -191,6 +251,14 @@ class MatchControllerIntegrationTest {
                 .jsonPath("$.teamId").isEqualTo(req.getTeamId())
                 .jsonPath("$.venueId").isEqualTo(req.getVenueId())
                 .jsonPath("$.matchScore").isEqualTo("0-0");
+
+        mockServer.verify();
+        Match saved = matchRepository.findAll().stream()
+                .filter(m -> venue.getVenueId().equals(m.getVenueModel().getVenueId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, saved.getPendingVenueStates().size());
+        assertEquals(MatchStatus.SCHEDULED, saved.getPendingVenueStates().get(0).getMatchStatus());
     }
 
     @Test
@@ -217,7 +285,7 @@ class MatchControllerIntegrationTest {
                 .leagueName("Premier League")
                 .leagueFormat("LEAGUE")
                 .build();
-        mockServer.expect(ExpectedCount.times(2),
+        mockServer.expect(once(),
                         requestTo(new URI(LEAGUE_BASE + "/" + FOUND_LEAGUE_ID)))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(mapper.writeValueAsString(league), MediaType.APPLICATION_JSON));
@@ -273,7 +341,7 @@ class MatchControllerIntegrationTest {
     }
 
     @Test
-    void whenVenuePatchReturnsBadJson_thenPutUpdateReturns500() throws Exception {
+    void whenPutUpdate_thenVenueStatesAreSavedWithTheMatchInsteadOfPatched() throws Exception {
         String M = matchRepository.findAll().get(0).getMatchIdentifier().getMatchId();
 
         var league = LeagueModel.builder()
@@ -281,7 +349,7 @@ class MatchControllerIntegrationTest {
                 .leagueName("Premier League")
                 .leagueFormat("LEAGUE")
                 .build();
-        mockServer.expect(ExpectedCount.times(2),
+        mockServer.expect(once(),
                         requestTo(new URI(LEAGUE_BASE + "/" + FOUND_LEAGUE_ID)))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(mapper.writeValueAsString(league), MediaType.APPLICATION_JSON));
@@ -309,13 +377,7 @@ class MatchControllerIntegrationTest {
                         requestTo(new URI(VENUES_BASE + "/" + venue.getVenueId())))
                 .andExpect(method(HttpMethod.GET))
                 .andRespond(withSuccess(mapper.writeValueAsString(venue), MediaType.APPLICATION_JSON));
-
-        mockServer.expect(once(),
-                        requestTo(new URI(VENUES_BASE + "/" + venue.getVenueId() + "/state")))
-                .andExpect(method(HttpMethod.PATCH))
-                .andRespond(withStatus(HttpStatus.OK)
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .body("{ invalid json"));
+        // a PATCH would hit the mock server unexpected and fail the request
 
         var req = MatchRequestModel.builder()
                 .leagueId(FOUND_LEAGUE_ID)
@@ -335,7 +397,12 @@ class MatchControllerIntegrationTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .bodyValue(req)
                 .exchange()
-                .expectStatus().is5xxServerError();
+                .expectStatus().isOk();
+
+        Match updated = matchRepository.findByMatchIdentifier_MatchId(M);
+        assertFalse(updated.getPendingVenueStates().isEmpty());
+        assertTrue(updated.getPendingVenueStates().stream()
+                .anyMatch(change -> change.getVenueId().equals(venue.getVenueId())));
     }
     @Test
     void whenGetAllLeaguesClient_thenReturnsList() throws Exception {
@@ -446,17 +513,16 @@ class MatchControllerIntegrationTest {
     }
 
     @Test
-    void whenPatchVenueStateNotFound_thenThrowsNotFoundException() throws Exception {
-        String vid = "V1";
+    void whenPatchVenueStatesUnprocessable_thenThrowsInvalidInputException() throws Exception {
         mockServer.expect(once(),
-                        requestTo(new URI(VENUES_BASE + "/" + vid + "/state")))
+                        requestTo(new URI(VENUES_BASE + "/state")))
                 .andExpect(method(HttpMethod.PATCH))
-                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                .andRespond(withStatus(HttpStatus.UNPROCESSABLE_ENTITY)
                         .contentType(MediaType.APPLICATION_JSON)
-                        .body("{\"message\":\"no venue\"}"));
+                        .body("{\"message\":\"Invalid venueId provided: V1\"}"));
 
         VenueServiceClient client = new VenueServiceClient(restTemplate, mapper, "localhost", "7003");
-        assertThrows(NotFoundException.class, () -> client.patchVenueState(vid, MatchStatus.SCHEDULED));
+        assertThrows(InvalidInputException.class, () -> client.patchVenueStates(List.of("V1"), MatchStatus.SCHEDULED));
 
         mockServer.verify();
     }
@@ -3,6 +3,7 @@ package com.worldofsoccer.match.presentationlayer;
 import com.worldofsoccer.match.businessLayer.MatchService;
 import com.worldofsoccer.match.domainclientLayer.league.LeagueModel;
 import com.worldofsoccer.match.domainclientLayer.league.LeagueServiceClient;
+import com.worldofsoccer.match.utils.CursorPage;
 import com.worldofsoccer.match.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.match.utils.exceptions.NotFoundException;
 import org.junit.jupiter.api.Test;
@@ -40,22 +41,38 @@ class MatchControllerUnitTest {
     void whenGetAll_thenReturnEmpty() {
         // stub league exists
         when(leagueServiceClient.getLeagueById(FOUND_LEAGUE_ID)).thenReturn(new LeagueModel());
-        when(matchService.getAllMatches(FOUND_LEAGUE_ID)).thenReturn(Collections.emptyList());
+        when(matchService.getAllMatches(FOUND_LEAGUE_ID, null, null))
+                .thenReturn(new CursorPage<>(Collections.emptyList(), null));
 
         ResponseEntity<List<MatchResponseModel>> response =
-                matchController.getAllLeagueMatches(FOUND_LEAGUE_ID);
+                matchController.getAllLeagueMatches(FOUND_LEAGUE_ID, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertTrue(response.getBody().isEmpty());
-        verify(matchService).getAllMatches(FOUND_LEAGUE_ID);
+        assertNull(response.getHeaders().getFirst(CursorPage.NEXT_CURSOR_HEADER));
+        verify(matchService).getAllMatches(FOUND_LEAGUE_ID, null, null);
+    }
+
+    @Test
+    void whenGetAll_withMorePages_thenReturnNextCursorHeader() {
+        when(leagueServiceClient.getLeagueById(FOUND_LEAGUE_ID)).thenReturn(new LeagueModel());
+        when(matchService.getAllMatches(FOUND_LEAGUE_ID, null, 1))
+                .thenReturn(new CursorPage<>(List.of(new MatchResponseModel()), "abc"));
+
+        ResponseEntity<List<MatchResponseModel>> response =
+                matchController.getAllLeagueMatches(FOUND_LEAGUE_ID, null, 1);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals("abc", response.getHeaders().getFirst(CursorPage.NEXT_CURSOR_HEADER));
     }
 
     @Test
     void whenGetAll_withInvalidLeagueId_thenThrow() {
         InvalidInputException ex = assertThrows(
                 InvalidInputException.class,
-                () -> matchController.getAllLeagueMatches(INVALID_LEAGUE_ID)
+                () -> matchController.getAllLeagueMatches(INVALID_LEAGUE_ID, null, null)
         );
         assertEquals("Invalid leagueId provided: " + INVALID_LEAGUE_ID, ex.getMessage());
         verifyNoInteractions(matchService);
@@ -2,10 +2,17 @@ package com.worldofsoccer.teams;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 @SpringBootApplication
 public class TeamsServiceApplication {
 
+	@Bean
+	ShallowEtagHeaderFilter etagFilter() {
+		return new ShallowEtagHeaderFilter();
+	}
+
 	public static void main(String[] args) {
 		SpringApplication.run(TeamsServiceApplication.class, args);
 	}
@@ -3,14 +3,16 @@ package com.worldofsoccer.teams.businesslayer.player;
 
 import com.worldofsoccer.teams.presentationlayer.player.PlayerRequestModel;
 import com.worldofsoccer.teams.presentationlayer.player.PlayerResponseModel;
-
-import java.util.List;
+import com.worldofsoccer.teams.presentationlayer.player.PlayerSearchRequestModel;
+import com.worldofsoccer.teams.utils.CursorPage;
 
 public interface PlayerService {
 
-    List<PlayerResponseModel> getPlayersByTeamId(String teamId);
+    CursorPage<PlayerResponseModel> getPlayersByTeamId(String teamId, String after, Integer limit);
+    String getPlayersByTeamIdEtag(String teamId, String after, Integer limit);
+    CursorPage<PlayerResponseModel> searchPlayers(PlayerSearchRequestModel criteria, String after, Integer limit);
     PlayerResponseModel getPlayerById(String teamId, String playerId);
     PlayerResponseModel createPlayerInTeam(String teamId, PlayerRequestModel playerRequestModel);
-    PlayerResponseModel updatePlayerInTeam(String teamId, String playerId, PlayerRequestModel playerRequestModel);
+    PlayerResponseModel updatePlayerInTeam(String teamId, String playerId, PlayerRequestModel playerRequestModel, Long expectedVersion);
     void deletePlayerFromTeam(String teamId, String playerId);
 }
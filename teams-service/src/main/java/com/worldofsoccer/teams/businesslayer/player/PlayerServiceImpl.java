@@ -5,20 +5,30 @@ import com.worldofsoccer.teams.dataaccesslayer.mappinglayer.PlayerResponseMapper
 import com.worldofsoccer.teams.dataaccesslayer.player.Player;
 import com.worldofsoccer.teams.dataaccesslayer.player.PlayerIdentifier;
 import com.worldofsoccer.teams.dataaccesslayer.player.PlayerRepository;
-import com.worldofsoccer.teams.dataaccesslayer.team.Team;
+import com.worldofsoccer.teams.dataaccesslayer.player.PlayerSpecifications;
+import com.worldofsoccer.teams.dataaccesslayer.player.Position;
+import com.worldofsoccer.teams.dataaccesslayer.team.TeamIdentifier;
 import com.worldofsoccer.teams.dataaccesslayer.team.TeamRepository;
+import com.worldofsoccer.teams.dataaccesslayer.team.TeamStatus;
 import com.worldofsoccer.teams.presentationlayer.player.PlayerRequestModel;
 import com.worldofsoccer.teams.presentationlayer.player.PlayerResponseModel;
 import com.worldofsoccer.teams.presentationlayer.player.PlayerController;
+import com.worldofsoccer.teams.presentationlayer.player.PlayerSearchRequestModel;
+import com.worldofsoccer.teams.utils.CursorPage;
+import com.worldofsoccer.teams.utils.IfMatch;
+import com.worldofsoccer.teams.utils.LinkTemplate;
+import com.worldofsoccer.teams.utils.PageCursor;
+import com.worldofsoccer.teams.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.teams.utils.exceptions.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import org.springframework.hateoas.Link;
+import org.springframework.hateoas.IanaLinkRelations;
 
-import java.util.ArrayList;
 import java.util.List;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Service
@@ -30,16 +40,57 @@ public class PlayerServiceImpl implements PlayerService {
     private final PlayerRequestMapper playerRequestMapper;
     private final PlayerResponseMapper playerResponseMapper;
 
+    private static final LinkTemplate SELF_LINK =
+            LinkTemplate.of(p -> methodOn(PlayerController.class).getPlayerById(p[0], p[1]), 2);
+    private static final LinkTemplate ALL_PLAYERS_IN_TEAM_LINK =
+            LinkTemplate.of(p -> methodOn(PlayerController.class).getPlayersByTeamID(p[0], null, null, null), 1);
+
     @Override
-    public List<PlayerResponseModel> getPlayersByTeamId(String teamId) {
-        List<Player> players = playerRepository.findAllByTeamIdentifier_TeamId(teamId);
-        List<PlayerResponseModel> responseList = new ArrayList<>();
-        for (Player player : players) {
-            PlayerResponseModel response = playerResponseMapper.entityToResponseModel(player);
-            addLinks(response, player);
-            responseList.add(response);
-        }
-        return responseList;
+    public CursorPage<PlayerResponseModel> getPlayersByTeamId(String teamId, String after, Integer limit) {
+        int pageSize = PageCursor.pageSize(limit);
+        int afterId = after == null || after.isBlank() ? 0 : PageCursor.decodeId(after);
+
+        List<Player> players = playerRepository
+                .findAllByTeamIdentifier_TeamIdAndIdGreaterThanOrderByIdAsc(teamId, afterId, Limit.of(pageSize + 1));
+        return CursorPage.fromRows(players, pageSize,
+                last -> PageCursor.encode(String.valueOf(last.getId())),
+                player -> {
+                    PlayerResponseModel response = playerResponseMapper.entityToResponseModel(player);
+                    addLinks(response, player);
+                    return response;
+                });
+    }
+
+    @Override
+    public String getPlayersByTeamIdEtag(String teamId, String after, Integer limit) {
+        int pageSize = PageCursor.pageSize(limit);
+        int afterId = after == null || after.isBlank() ? 0 : PageCursor.decodeId(after);
+        return IfMatch.pageEtag(playerRepository.findPageVersionsAfter(teamId, afterId, Limit.of(pageSize + 1)));
+    }
+
+    @Override
+    public CursorPage<PlayerResponseModel> searchPlayers(PlayerSearchRequestModel criteria, String after, Integer limit) {
+        int pageSize = PageCursor.pageSize(limit);
+        int afterId = after == null || after.isBlank() ? 0 : PageCursor.decodeId(after);
+        checkRange("minAge", criteria.getMinAge(), "maxAge", criteria.getMaxAge());
+        checkRange("minBudget", criteria.getMinBudget(), "maxBudget", criteria.getMaxBudget());
+
+        Specification<Player> spec = Specification.where(PlayerSpecifications.idAfter(afterId))
+                .and(PlayerSpecifications.positionIs(parse(Position.class, "position", criteria.getPosition())))
+                .and(PlayerSpecifications.nationalityIs(blankToNull(criteria.getNationality())))
+                .and(PlayerSpecifications.ageBetween(criteria.getMinAge(), criteria.getMaxAge()))
+                .and(PlayerSpecifications.jerseyNumberIs(criteria.getJerseyNumber()))
+                .and(PlayerSpecifications.teamMatches(parse(TeamStatus.class, "teamStatus", criteria.getTeamStatus()),
+                        criteria.getMinBudget(), criteria.getMaxBudget()));
+
+        List<Player> players = playerRepository.findBy(spec, query -> query.sortBy(Sort.by("id")).limit(pageSize + 1).all());
+        return CursorPage.fromRows(players, pageSize,
+                last -> PageCursor.encode(String.valueOf(last.getId())),
+                player -> {
+                    PlayerResponseModel response = playerResponseMapper.entityToResponseModel(player);
+                    addLinks(response, player);
+                    return response;
+                });
     }
 
     @Override
@@ -55,12 +106,12 @@ public class PlayerServiceImpl implements PlayerService {
 
     @Override
     public PlayerResponseModel createPlayerInTeam(String teamId, PlayerRequestModel playerRequestModel) {
-        Team team = teamRepository.findByTeamIdentifier_TeamId(teamId);
-        if (team == null) {
+        // only the id is needed from the team: an index-only existence check instead of loading it
+        if (!teamRepository.existsByTeamIdentifier_TeamId(teamId)) {
             throw new NotFoundException("Team not found with ID: " + teamId);
         }
         Player player = playerRequestMapper.requestModelToEntity(playerRequestModel, new PlayerIdentifier());
-        player.setTeamIdentifier(team.getTeamIdentifier());
+        player.setTeamIdentifier(new TeamIdentifier(teamId));
         playerRepository.save(player);
         PlayerResponseModel response = playerResponseMapper.entityToResponseModel(player);
         addLinks(response, player);
@@ -68,20 +119,21 @@ public class PlayerServiceImpl implements PlayerService {
     }
 
     @Override
-    public PlayerResponseModel updatePlayerInTeam(String teamId, String playerId, PlayerRequestModel playerRequestModel) {
-        Team team = teamRepository.findByTeamIdentifier_TeamId(teamId);
-        if (team == null) {
-            throw new NotFoundException("Team not found with ID: " + teamId);
-        }
+    public PlayerResponseModel updatePlayerInTeam(String teamId, String playerId, PlayerRequestModel playerRequestModel,
+                                                  Long expectedVersion) {
+        // the player lookup is scoped to the team, so the team is only looked up to word a miss
         Player player = playerRepository.findByPlayerIdentifier_PlayerIdAndTeamIdentifier_TeamId(playerId, teamId);
         if (player == null) {
+            if (!teamRepository.existsByTeamIdentifier_TeamId(teamId)) {
+                throw new NotFoundException("Team not found with ID: " + teamId);
+            }
             throw new NotFoundException("Player not found with ID: " + playerId + " in Team: " + teamId);
         }
+        IfMatch.check(expectedVersion, player.getVersion(), "Player " + playerId);
         playerRequestMapper.updateEntity(playerRequestModel, player);
-        player.setTeamIdentifier(team.getTeamIdentifier());
-        playerRepository.save(player);
-        PlayerResponseModel response = playerResponseMapper.entityToResponseModel(player);
-        addLinks(response, player);
+        Player updatedPlayer = playerRepository.save(player);
+        PlayerResponseModel response = playerResponseMapper.entityToResponseModel(updatedPlayer);
+        addLinks(response, updatedPlayer);
         return response;
     }
 
@@ -94,18 +146,32 @@ public class PlayerServiceImpl implements PlayerService {
         playerRepository.delete(player);
     }
 
+    private static <E extends Enum<E>> E parse(Class<E> type, String name, String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidInputException("Invalid " + name + " provided: " + value, ex);
+        }
+    }
+
+    private static <T extends Comparable<T>> void checkRange(String minName, T min, String maxName, T max) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new InvalidInputException(minName + " must not be greater than " + maxName);
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
     private void addLinks(PlayerResponseModel responseModel, Player player) {
         String teamId = player.getTeamIdentifier().getTeamId();
         String playerId = responseModel.getPlayerId();
 
-        Link selfLink = linkTo(methodOn(PlayerController.class)
-                .getPlayerById(teamId, playerId))
-                .withSelfRel();
-        responseModel.add(selfLink);
-
-        Link allPlayersInTeamLink = linkTo(methodOn(PlayerController.class)
-                .getPlayersByTeamID(teamId))
-                .withRel("allPlayersInTeam");
-        responseModel.add(allPlayersInTeamLink);
+        responseModel.add(SELF_LINK.expand(IanaLinkRelations.SELF, teamId, playerId));
+        responseModel.add(ALL_PLAYERS_IN_TEAM_LINK.expand("allPlayersInTeam", teamId));
     }
 }
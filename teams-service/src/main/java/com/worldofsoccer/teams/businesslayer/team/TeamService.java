@@ -3,14 +3,19 @@ package com.worldofsoccer.teams.businesslayer.team;
 
 import com.worldofsoccer.teams.presentationlayer.team.TeamRequestModel;
 import com.worldofsoccer.teams.presentationlayer.team.TeamResponseModel;
+import com.worldofsoccer.teams.presentationlayer.team.TeamRosterResponseModel;
+import com.worldofsoccer.teams.utils.CursorPage;
 
-import java.util.List;
+import java.math.BigDecimal;
 import java.util.UUID;
 
 public interface TeamService {
-    List<TeamResponseModel> getAllTeams();
+    CursorPage<TeamResponseModel> getAllTeams(String after, Integer limit);
+    String getAllTeamsEtag(String after, Integer limit);
+    CursorPage<TeamResponseModel> searchTeams(String teamStatus, BigDecimal minBudget, BigDecimal maxBudget, String after, Integer limit);
     TeamResponseModel getTeamById(UUID teamId);
+    TeamRosterResponseModel getTeamRoster(UUID teamId);
     TeamResponseModel createTeam(TeamRequestModel teamRequestModel);
-    TeamResponseModel updateTeam(UUID teamId, TeamRequestModel teamRequestModel);
+    TeamResponseModel updateTeam(UUID teamId, TeamRequestModel teamRequestModel, Long expectedVersion);
     void deleteTeam(UUID teamId);
 }
@@ -1,25 +1,39 @@
 package com.worldofsoccer.teams.businesslayer.team;
 
+import com.worldofsoccer.teams.dataaccesslayer.mappinglayer.PlayerResponseMapper;
 import com.worldofsoccer.teams.dataaccesslayer.mappinglayer.TeamRequestMapper;
 import com.worldofsoccer.teams.dataaccesslayer.mappinglayer.TeamResponseMapper;
+import com.worldofsoccer.teams.dataaccesslayer.player.Player;
 import com.worldofsoccer.teams.dataaccesslayer.team.Team;
 import com.worldofsoccer.teams.dataaccesslayer.team.TeamIdentifier;
 import com.worldofsoccer.teams.dataaccesslayer.team.TeamRepository;
+import com.worldofsoccer.teams.dataaccesslayer.team.TeamSpecifications;
+import com.worldofsoccer.teams.dataaccesslayer.team.TeamStatus;
+import com.worldofsoccer.teams.presentationlayer.player.PlayerController;
+import com.worldofsoccer.teams.presentationlayer.player.PlayerResponseModel;
 import com.worldofsoccer.teams.presentationlayer.team.TeamController;
 import com.worldofsoccer.teams.presentationlayer.team.TeamRequestModel;
 import com.worldofsoccer.teams.presentationlayer.team.TeamResponseModel;
+import com.worldofsoccer.teams.presentationlayer.team.TeamRosterResponseModel;
+import com.worldofsoccer.teams.utils.CursorPage;
+import com.worldofsoccer.teams.utils.IfMatch;
+import com.worldofsoccer.teams.utils.LinkTemplate;
+import com.worldofsoccer.teams.utils.PageCursor;
 import com.worldofsoccer.teams.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.teams.utils.exceptions.NotFoundException;
 import com.worldofsoccer.teams.utils.exceptions.TeamAlreadyExistsException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
-import org.springframework.hateoas.Link;
+import org.springframework.hateoas.IanaLinkRelations;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Service
@@ -29,17 +43,67 @@ public class TeamServiceImpl implements TeamService {
     private final TeamRepository teamRepository;
     private final TeamRequestMapper teamRequestMapper;
     private final TeamResponseMapper teamResponseMapper;
+    private final PlayerResponseMapper playerResponseMapper;
+
+    private static final LinkTemplate SELF_LINK =
+            LinkTemplate.of(p -> methodOn(TeamController.class).getTeamById(p[0]), 1);
+    private static final LinkTemplate ALL_TEAMS_LINK =
+            LinkTemplate.of(p -> methodOn(TeamController.class).getAllTeams(null, null, null), 0);
+    private static final LinkTemplate ROSTER_LINK =
+            LinkTemplate.of(p -> methodOn(TeamController.class).getTeamRoster(p[0]), 1);
+    private static final LinkTemplate PLAYER_LINK =
+            LinkTemplate.of(p -> methodOn(PlayerController.class).getPlayerById(p[0], p[1]), 2);
+
+    @Override
+    public CursorPage<TeamResponseModel> getAllTeams(String after, Integer limit) {
+        int pageSize = PageCursor.pageSize(limit);
+        int afterId = after == null || after.isBlank() ? 0 : PageCursor.decodeId(after);
+
+        List<Team> teams = teamRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize + 1));
+        return CursorPage.fromRows(teams, pageSize,
+                last -> PageCursor.encode(String.valueOf(last.getId())),
+                team -> {
+                    TeamResponseModel response = teamResponseMapper.entityToResponseModel(team);
+                    addLinks(response, team);
+                    return response;
+                });
+    }
 
     @Override
-    public List<TeamResponseModel> getAllTeams() {
-        List<Team> teams = teamRepository.findAll();
-        List<TeamResponseModel> responseList = new ArrayList<>();
-        for (Team team : teams) {
-            TeamResponseModel response = teamResponseMapper.entityToResponseModel(team);
-            addLinks(response, team);
-            responseList.add(response);
+    public String getAllTeamsEtag(String after, Integer limit) {
+        int pageSize = PageCursor.pageSize(limit);
+        int afterId = after == null || after.isBlank() ? 0 : PageCursor.decodeId(after);
+        return IfMatch.pageEtag(teamRepository.findPageVersionsAfter(afterId, Limit.of(pageSize + 1)));
+    }
+
+    @Override
+    public CursorPage<TeamResponseModel> searchTeams(String teamStatus, BigDecimal minBudget, BigDecimal maxBudget,
+                                                     String after, Integer limit) {
+        int pageSize = PageCursor.pageSize(limit);
+        int afterId = after == null || after.isBlank() ? 0 : PageCursor.decodeId(after);
+        if (minBudget != null && maxBudget != null && minBudget.compareTo(maxBudget) > 0) {
+            throw new InvalidInputException("minBudget must not be greater than maxBudget");
+        }
+        TeamStatus status = null;
+        if (teamStatus != null && !teamStatus.isBlank()) {
+            try {
+                status = TeamStatus.valueOf(teamStatus.trim().toUpperCase());
+            } catch (IllegalArgumentException ex) {
+                throw new InvalidInputException("Invalid teamStatus provided: " + teamStatus, ex);
+            }
         }
-        return responseList;
+
+        Specification<Team> spec = Specification.where(TeamSpecifications.idAfter(afterId))
+                .and(TeamSpecifications.statusIs(status))
+                .and(TeamSpecifications.budgetBetween(minBudget, maxBudget));
+        List<Team> teams = teamRepository.findBy(spec, query -> query.sortBy(Sort.by("id")).limit(pageSize + 1).all());
+        return CursorPage.fromRows(teams, pageSize,
+                last -> PageCursor.encode(String.valueOf(last.getId())),
+                team -> {
+                    TeamResponseModel response = teamResponseMapper.entityToResponseModel(team);
+                    addLinks(response, team);
+                    return response;
+                });
     }
 
     @Override
@@ -53,6 +117,29 @@ public class TeamServiceImpl implements TeamService {
         return response;
     }
 
+    @Override
+    public TeamRosterResponseModel getTeamRoster(UUID teamId) {
+        List<Object[]> rows = teamRepository.findRosterRows(teamId.toString());
+        if (rows.isEmpty()) {
+            throw new NotFoundException("Team not found with ID: " + teamId);
+        }
+        Team team = (Team) rows.get(0)[0];
+        TeamResponseModel teamResponse = teamResponseMapper.entityToResponseModel(team);
+        addLinks(teamResponse, team);
+
+        List<PlayerResponseModel> players = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (row[1] instanceof Player player) {
+                PlayerResponseModel playerResponse = playerResponseMapper.entityToResponseModel(player);
+                playerResponse.add(PLAYER_LINK.expand(IanaLinkRelations.SELF, teamResponse.getTeamId(), playerResponse.getPlayerId()));
+                players.add(playerResponse);
+            }
+        }
+        TeamRosterResponseModel roster = new TeamRosterResponseModel(teamResponse, players);
+        roster.add(ROSTER_LINK.expand(IanaLinkRelations.SELF, teamResponse.getTeamId()));
+        return roster;
+    }
+
     @Override
     public TeamResponseModel createTeam(TeamRequestModel teamRequestModel) {
         if (teamRequestModel.getTeamName() == null) {
@@ -72,11 +159,12 @@ public class TeamServiceImpl implements TeamService {
     }
 
     @Override
-    public TeamResponseModel updateTeam(UUID teamId, TeamRequestModel teamRequestModel) {
+    public TeamResponseModel updateTeam(UUID teamId, TeamRequestModel teamRequestModel, Long expectedVersion) {
         Team team = teamRepository.findByTeamIdentifier_TeamId(teamId.toString());
         if (team == null) {
             throw new NotFoundException("Team not found with ID: " + teamId);
         }
+        IfMatch.check(expectedVersion, team.getVersion(), "Team " + teamId);
 
         if (teamRequestModel.getTeamName() != null) {
             Team existingTeam = teamRepository.findByTeamName(teamRequestModel.getTeamName());
@@ -101,12 +189,7 @@ public class TeamServiceImpl implements TeamService {
     }
 
     private void addLinks(TeamResponseModel responseModel, Team team) {
-        Link selfLink = linkTo(methodOn(TeamController.class)
-                .getTeamById(responseModel.getTeamId())).withSelfRel();
-        responseModel.add(selfLink);
-
-        Link allTeamsLink = linkTo(methodOn(TeamController.class)
-                .getAllTeams()).withRel("allTeams");
-        responseModel.add(allTeamsLink);
+        responseModel.add(SELF_LINK.expand(IanaLinkRelations.SELF, responseModel.getTeamId()));
+        responseModel.add(ALL_TEAMS_LINK.expand("allTeams"));
     }
 }
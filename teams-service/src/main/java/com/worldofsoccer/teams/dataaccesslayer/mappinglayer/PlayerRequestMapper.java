@@ -13,12 +13,14 @@ public interface PlayerRequestMapper {
 
     @Mappings({
             @Mapping(target = "id", ignore = true),
-            @Mapping(target = "playerIdentifier", source = "playerIdentifier")
+            @Mapping(target = "playerIdentifier", source = "playerIdentifier"),
+            @Mapping(target = "version", ignore = true)
     })
     Player requestModelToEntity(PlayerRequestModel requestModel, PlayerIdentifier playerIdentifier);
 
     @Mappings({
-            @Mapping(target = "playerIdentifier", ignore = true)
+            @Mapping(target = "playerIdentifier", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     void updateEntity(PlayerRequestModel requestModel, @MappingTarget Player existingPlayer);
 }
@@ -13,12 +13,14 @@ public interface TeamRequestMapper {
 
     @Mappings({
             @Mapping(target = "id", ignore = true),
-            @Mapping(target = "teamIdentifier", source = "teamIdentifier")
+            @Mapping(target = "teamIdentifier", source = "teamIdentifier"),
+            @Mapping(target = "version", ignore = true)
     })
     Team requestModelToEntity(TeamRequestModel requestModel, TeamIdentifier teamIdentifier);
 
     @Mappings({
-            @Mapping(target = "teamIdentifier", ignore = true)
+            @Mapping(target = "teamIdentifier", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     void updateEntity(TeamRequestModel requestModel, @MappingTarget Team existingTeam);
 }
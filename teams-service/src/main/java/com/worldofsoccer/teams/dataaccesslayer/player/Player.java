@@ -5,9 +5,17 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.antlr.v4.runtime.misc.NotNull;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "players")
+@Table(name = "players", indexes = {
+        // roster and per-team listing: WHERE team_id = ? ORDER BY id
+        @Index(name = "players_team_id_idx", columnList = "team_id, id"),
+        // search: equality filters first, the age range last; see schema-*.sql
+        @Index(name = "players_position_nationality_age_idx", columnList = "position, nationality, age"),
+        @Index(name = "players_nationality_age_idx", columnList = "nationality, age"),
+        @Index(name = "players_jersey_number_idx", columnList = "jersey_number")
+})
 @Data
 @NoArgsConstructor
 public class Player {
@@ -31,6 +39,12 @@ public class Player {
     @Embedded
     private TeamIdentifier teamIdentifier;
 
+    // same default as the schema scripts, so rows inserted without it are not taken for new entities
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
 
     public Player(@NotNull String firstName, @NotNull String lastName, @NotNull Integer age,
                   @NotNull String nationality, @NotNull Integer jerseyNumber, @NotNull Position position,
@@ -1,12 +1,22 @@
 package com.worldofsoccer.teams.dataaccesslayer.player;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface PlayerRepository extends JpaRepository<Player, Integer> {
+public interface PlayerRepository extends JpaRepository<Player, Integer>, JpaSpecificationExecutor<Player> {
 
     List<Player> findAllByTeamIdentifier_TeamId(String teamId);
 
+    List<Player> findAllByTeamIdentifier_TeamIdAndIdGreaterThanOrderByIdAsc(String teamId, Integer afterId, Limit limit);
+
+    // the same window, but only [id, version] per row
+    @Query("SELECT p.id, p.version FROM Player p WHERE p.teamIdentifier.teamId = :teamId AND p.id > :afterId ORDER BY p.id")
+    List<Object[]> findPageVersionsAfter(@Param("teamId") String teamId, @Param("afterId") Integer afterId, Limit limit);
+
     Player findByPlayerIdentifier_PlayerIdAndTeamIdentifier_TeamId(String playerId, String teamId);
 }
@@ -0,0 +1,78 @@
+package com.worldofsoccer.teams.dataaccesslayer.player;
+
+import com.worldofsoccer.teams.dataaccesslayer.team.Team;
+import com.worldofsoccer.teams.dataaccesslayer.team.TeamStatus;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Search filters over players. Each returns null when its value is absent, so
+ * {@link Specification#and} skips it. Equality filters come first in the composite indexes
+ * and the age range last, so one index range scan serves each combination.
+ */
+public final class PlayerSpecifications {
+
+    private PlayerSpecifications() {
+    }
+
+    public static Specification<Player> positionIs(Position position) {
+        return position == null ? null : (root, query, cb) -> cb.equal(root.get("position"), position);
+    }
+
+    public static Specification<Player> nationalityIs(String nationality) {
+        return nationality == null ? null : (root, query, cb) -> cb.equal(root.get("nationality"), nationality);
+    }
+
+    public static Specification<Player> jerseyNumberIs(Integer jerseyNumber) {
+        return jerseyNumber == null ? null : (root, query, cb) -> cb.equal(root.get("jerseyNumber"), jerseyNumber);
+    }
+
+    public static Specification<Player> ageBetween(Integer minAge, Integer maxAge) {
+        if (minAge == null && maxAge == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (minAge == null) {
+                return cb.lessThanOrEqualTo(root.get("age"), maxAge);
+            }
+            if (maxAge == null) {
+                return cb.greaterThanOrEqualTo(root.get("age"), minAge);
+            }
+            return cb.between(root.get("age"), minAge, maxAge);
+        };
+    }
+
+    // players have no association to their team, only its id: filter with an IN subquery over teams
+    public static Specification<Player> teamMatches(TeamStatus status, BigDecimal minBudget, BigDecimal maxBudget) {
+        if (status == null && minBudget == null && maxBudget == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<String> teamIds = query.subquery(String.class);
+            Root<Team> team = teamIds.from(Team.class);
+            List<Predicate> predicates = new ArrayList<>(3);
+            if (status != null) {
+                predicates.add(cb.equal(team.get("teamStatus"), status));
+            }
+            if (minBudget != null) {
+                predicates.add(cb.greaterThanOrEqualTo(team.get("budget"), minBudget));
+            }
+            if (maxBudget != null) {
+                predicates.add(cb.lessThanOrEqualTo(team.get("budget"), maxBudget));
+            }
+            teamIds.select(team.get("teamIdentifier").get("teamId")).where(predicates.toArray(Predicate[]::new));
+            return root.get("teamIdentifier").get("teamId").in(teamIds);
+        };
+    }
+
+    // keyset position: rows after the last one of the previous page, in primary-key order
+    public static Specification<Player> idAfter(int afterId) {
+        return afterId <= 0 ? null : (root, query, cb) -> cb.greaterThan(root.get("id"), afterId);
+    }
+}
@@ -4,11 +4,14 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.antlr.v4.runtime.misc.NotNull;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "teams")
+@Table(name = "teams", indexes = {
+        @Index(name = "teams_status_budget_idx", columnList = "team_status, budget")
+})
 @Data
 @NoArgsConstructor
 public class Team {
@@ -30,6 +33,12 @@ public class Team {
     @Enumerated(EnumType.STRING)
     private TeamStatus teamStatus = TeamStatus.IS_PLAYING;
 
+    // same default as the schema scripts, so rows inserted without it are not taken for new entities
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     public Team(@NotNull String teamName, @NotNull String coach, @NotNull Integer foundingYear, @NotNull BigDecimal budget) {
         this.teamIdentifier = new TeamIdentifier();
         this.teamName = teamName;
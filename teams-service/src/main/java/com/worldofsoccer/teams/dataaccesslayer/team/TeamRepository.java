@@ -1,9 +1,29 @@
 package com.worldofsoccer.teams.dataaccesslayer.team;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface TeamRepository extends JpaRepository<Team, Integer> {
+import java.util.List;
+
+public interface TeamRepository extends JpaRepository<Team, Integer>, JpaSpecificationExecutor<Team> {
     Team findByTeamIdentifier_TeamId(String teamId);
 
+    boolean existsByTeamIdentifier_TeamId(String teamId);
+
     Team findByTeamName(String teamName);
+
+    // the team and its whole squad in one round trip: one row per player, [team, null] for an empty squad
+    @Query("SELECT t, p FROM Team t LEFT JOIN Player p ON p.teamIdentifier.teamId = t.teamIdentifier.teamId " +
+            "WHERE t.teamIdentifier.teamId = :teamId ORDER BY p.id")
+    List<Object[]> findRosterRows(@Param("teamId") String teamId);
+
+    // keyset page on the primary key: WHERE id > :afterId ORDER BY id LIMIT n
+    List<Team> findByIdGreaterThanOrderByIdAsc(Integer afterId, Limit limit);
+
+    // the same window, but only [id, version] per row
+    @Query("SELECT t.id, t.version FROM Team t WHERE t.id > :afterId ORDER BY t.id")
+    List<Object[]> findPageVersionsAfter(@Param("afterId") Integer afterId, Limit limit);
 }
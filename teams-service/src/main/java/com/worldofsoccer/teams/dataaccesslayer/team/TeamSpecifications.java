@@ -0,0 +1,38 @@
+package com.worldofsoccer.teams.dataaccesslayer.team;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+
+/**
+ * Search filters over teams, served by the (team_status, budget) index. Each returns null
+ * when its value is absent, so {@link Specification#and} skips it.
+ */
+public final class TeamSpecifications {
+
+    private TeamSpecifications() {
+    }
+
+    public static Specification<Team> statusIs(TeamStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("teamStatus"), status);
+    }
+
+    public static Specification<Team> budgetBetween(BigDecimal minBudget, BigDecimal maxBudget) {
+        if (minBudget == null && maxBudget == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (minBudget == null) {
+                return cb.lessThanOrEqualTo(root.get("budget"), maxBudget);
+            }
+            if (maxBudget == null) {
+                return cb.greaterThanOrEqualTo(root.get("budget"), minBudget);
+            }
+            return cb.between(root.get("budget"), minBudget, maxBudget);
+        };
+    }
+
+    public static Specification<Team> idAfter(int afterId) {
+        return afterId <= 0 ? null : (root, query, cb) -> cb.greaterThan(root.get("id"), afterId);
+    }
+}
@@ -2,11 +2,15 @@ package com.worldofsoccer.teams.presentationlayer.player;
 
 
 import com.worldofsoccer.teams.businesslayer.player.PlayerService;
+import com.worldofsoccer.teams.utils.CursorPage;
+import com.worldofsoccer.teams.utils.IfMatch;
 import com.worldofsoccer.teams.utils.exceptions.InvalidInputException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -20,11 +24,23 @@ public class PlayerController {
     private static final int UUID_LENGTH = 36;
 
     @GetMapping()
-    public ResponseEntity<List<PlayerResponseModel>> getPlayersByTeamID(@PathVariable String teamId) {
+    public ResponseEntity<List<PlayerResponseModel>> getPlayersByTeamID(@PathVariable String teamId,
+                                                                        @RequestParam(required = false) String after,
+                                                                        @RequestParam(required = false) Integer limit,
+                                                                        WebRequest request) {
         if (teamId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid teamId provided: " + teamId);
         }
-        return ResponseEntity.ok().body(playerService.getPlayersByTeamId(teamId));
+        String etag = playerService.getPlayersByTeamIdEtag(teamId, after, limit);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        CursorPage<PlayerResponseModel> page = playerService.getPlayersByTeamId(teamId, after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @GetMapping("/{playerId}")
@@ -32,7 +48,8 @@ public class PlayerController {
         if (teamId.length() != UUID_LENGTH || playerId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid teamId or playerId provided.");
         }
-        return ResponseEntity.ok().body(playerService.getPlayerById(teamId, playerId));
+        PlayerResponseModel player = playerService.getPlayerById(teamId, playerId);
+        return ResponseEntity.ok().eTag(IfMatch.etag(player.getVersion())).body(player);
     }
 
 
@@ -45,11 +62,13 @@ public class PlayerController {
     }
 
     @PutMapping("/{playerId}")
-    public ResponseEntity<PlayerResponseModel> updatePlayerInTeam(@PathVariable String teamId, @PathVariable String playerId, @RequestBody PlayerRequestModel playerRequestModel) {
+    public ResponseEntity<PlayerResponseModel> updatePlayerInTeam(@PathVariable String teamId, @PathVariable String playerId, @RequestBody PlayerRequestModel playerRequestModel,
+                                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         if (teamId.length() != UUID_LENGTH || playerId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid teamId or playerId provided.");
         }
-        return ResponseEntity.status(HttpStatus.OK).body(playerService.updatePlayerInTeam(teamId, playerId, playerRequestModel));
+        PlayerResponseModel player = playerService.updatePlayerInTeam(teamId, playerId, playerRequestModel, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.status(HttpStatus.OK).eTag(IfMatch.etag(player.getVersion())).body(player);
     }
 
     @DeleteMapping("/{playerId}")
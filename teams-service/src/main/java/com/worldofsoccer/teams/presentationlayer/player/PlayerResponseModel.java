@@ -17,4 +17,5 @@ public class PlayerResponseModel extends RepresentationModel<PlayerResponseModel
     private Integer jerseyNumber;
     private String position;
     private String teamId;
+    private Long version;
 }
@@ -0,0 +1,29 @@
+package com.worldofsoccer.teams.presentationlayer.player;
+
+import com.worldofsoccer.teams.businesslayer.player.PlayerService;
+import com.worldofsoccer.teams.utils.CursorPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("api/v1/players")
+@RequiredArgsConstructor
+public class PlayerSearchController {
+
+    private final PlayerService playerService;
+
+    @GetMapping("/search")
+    public ResponseEntity<List<PlayerResponseModel>> searchPlayers(PlayerSearchRequestModel criteria,
+                                                                   @RequestParam(required = false) String after,
+                                                                   @RequestParam(required = false) Integer limit) {
+        CursorPage<PlayerResponseModel> page = playerService.searchPlayers(criteria, after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+}
@@ -0,0 +1,23 @@
+package com.worldofsoccer.teams.presentationlayer.player;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PlayerSearchRequestModel {
+    private String position;
+    private String nationality;
+    private Integer minAge;
+    private Integer maxAge;
+    private Integer jerseyNumber;
+    private String teamStatus;
+    private BigDecimal minBudget;
+    private BigDecimal maxBudget;
+}
@@ -1,12 +1,17 @@
 package com.worldofsoccer.teams.presentationlayer.team;
 
 import com.worldofsoccer.teams.businesslayer.team.TeamService;
+import com.worldofsoccer.teams.utils.CursorPage;
+import com.worldofsoccer.teams.utils.IfMatch;
 import com.worldofsoccer.teams.utils.exceptions.InvalidInputException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,8 +24,33 @@ public class TeamController {
     private static final int UUID_LENGTH = 36;
 
     @GetMapping()
-    public ResponseEntity<List<TeamResponseModel>> getAllTeams() {
-        return ResponseEntity.ok().body(teamService.getAllTeams());
+    public ResponseEntity<List<TeamResponseModel>> getAllTeams(@RequestParam(required = false) String after,
+                                                               @RequestParam(required = false) Integer limit,
+                                                               WebRequest request) {
+        String etag = teamService.getAllTeamsEtag(after, limit);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        CursorPage<TeamResponseModel> page = teamService.getAllTeams(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag);
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<TeamResponseModel>> searchTeams(@RequestParam(required = false) String teamStatus,
+                                                               @RequestParam(required = false) BigDecimal minBudget,
+                                                               @RequestParam(required = false) BigDecimal maxBudget,
+                                                               @RequestParam(required = false) String after,
+                                                               @RequestParam(required = false) Integer limit) {
+        CursorPage<TeamResponseModel> page = teamService.searchTeams(teamStatus, minBudget, maxBudget, after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(CursorPage.NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
     }
 
     @GetMapping("/{teamId}")
@@ -28,7 +58,16 @@ public class TeamController {
         if (teamId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid teamId provided: " + teamId);
         }
-        return ResponseEntity.ok().body(teamService.getTeamById(UUID.fromString(teamId)));
+        TeamResponseModel team = teamService.getTeamById(UUID.fromString(teamId));
+        return ResponseEntity.ok().eTag(IfMatch.etag(team.getVersion())).body(team);
+    }
+
+    @GetMapping("/{teamId}/roster")
+    public ResponseEntity<TeamRosterResponseModel> getTeamRoster(@PathVariable String teamId) {
+        if (teamId.length() != UUID_LENGTH) {
+            throw new InvalidInputException("Invalid teamId provided: " + teamId);
+        }
+        return ResponseEntity.ok(teamService.getTeamRoster(UUID.fromString(teamId)));
     }
 
     @PostMapping()
@@ -38,12 +77,13 @@ public class TeamController {
     }
 
     @PutMapping("/{teamId}")
-    public ResponseEntity<TeamResponseModel> updateTeam(@PathVariable String teamId, @RequestBody TeamRequestModel teamRequestModel) {
+    public ResponseEntity<TeamResponseModel> updateTeam(@PathVariable String teamId, @RequestBody TeamRequestModel teamRequestModel,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         if (teamId.length() != UUID_LENGTH) {
             throw new InvalidInputException("Invalid teamId provided: " + teamId);
         }
-        TeamResponseModel updatedTeam = teamService.updateTeam(UUID.fromString(teamId), teamRequestModel);
-        return ResponseEntity.status(HttpStatus.OK).body(updatedTeam);
+        TeamResponseModel updatedTeam = teamService.updateTeam(UUID.fromString(teamId), teamRequestModel, IfMatch.expectedVersion(ifMatch));
+        return ResponseEntity.status(HttpStatus.OK).eTag(IfMatch.etag(updatedTeam.getVersion())).body(updatedTeam);
     }
 
     @DeleteMapping("/{teamId}")
@@ -0,0 +1,17 @@
+package com.worldofsoccer.teams.presentationlayer.team;
+
+import com.worldofsoccer.teams.presentationlayer.player.PlayerResponseModel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TeamRosterResponseModel extends RepresentationModel<TeamRosterResponseModel> {
+    private TeamResponseModel team;
+    private List<PlayerResponseModel> players;
+}
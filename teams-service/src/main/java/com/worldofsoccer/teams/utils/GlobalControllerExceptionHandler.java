@@ -3,13 +3,17 @@ package com.worldofsoccer.teams.utils;
 import com.worldofsoccer.teams.utils.exceptions.InvalidInputException;
 import com.worldofsoccer.teams.utils.exceptions.NotFoundException;
 import com.worldofsoccer.teams.utils.exceptions.TeamAlreadyExistsException;
+import com.worldofsoccer.teams.utils.exceptions.PreconditionFailedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 
@@ -35,6 +39,21 @@ public class GlobalControllerExceptionHandler {
         return createHttpErrorInfo(UNPROCESSABLE_ENTITY, request, ex);
     }
 
+    // a concurrent writer committed between our read and our write; the client re-reads and retries
+    @ResponseStatus(CONFLICT)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public HttpErrorInfo handleOptimisticLockingFailureException(WebRequest request, Exception ex) {
+        log.debug("Optimistic lock failure: {}", ex.getMessage());
+        return new HttpErrorInfo(CONFLICT, request.getDescription(false),
+                "The resource was modified concurrently. Re-read it and retry.");
+    }
+
+    @ResponseStatus(PRECONDITION_FAILED)
+    @ExceptionHandler(PreconditionFailedException.class)
+    public HttpErrorInfo handlePreconditionFailedException(WebRequest request, Exception ex) {
+        return createHttpErrorInfo(PRECONDITION_FAILED, request, ex);
+    }
+
     private HttpErrorInfo createHttpErrorInfo(HttpStatus httpStatus, WebRequest request, Exception ex) {
         final String path = request.getDescription(false);
         final String message = ex.getMessage();
@@ -0,0 +1,57 @@
+package com.worldofsoccer.teams.utils;
+
+import com.worldofsoccer.teams.utils.exceptions.InvalidInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursor for keyset pagination. The sort key of the last row of a page is
+ * joined and Base64 (URL-safe) encoded so clients never depend on its layout.
+ */
+public final class PageCursor {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String SEPARATOR = "|";
+
+    private PageCursor() {
+    }
+
+    public static String encode(String... keys) {
+        String raw = String.join(SEPARATOR, keys);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedKeys) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = raw.split("\\" + SEPARATOR, -1);
+            if (keys.length != expectedKeys) {
+                throw new InvalidInputException("Invalid cursor provided: " + cursor);
+            }
+            return keys;
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidInputException("Invalid cursor provided: " + cursor, ex);
+        }
+    }
+
+    public static int decodeId(String cursor) {
+        String key = decode(cursor, 1)[0];
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException ex) {
+            throw new InvalidInputException("Invalid cursor provided: " + cursor, ex);
+        }
+    }
+
+    public static int pageSize(Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return pageSize;
+    }
+}
@@ -8,7 +8,8 @@ CREATE TABLE teams (
                        coach VARCHAR(255) NOT NULL,
                        founding_year INT NOT NULL,
                        budget DECIMAL(15, 2) NOT NULL,
-                       team_status VARCHAR(20) DEFAULT 'IS_PLAYING'
+                       team_status VARCHAR(20) DEFAULT 'IS_PLAYING',
+                       version BIGINT NOT NULL DEFAULT 0
 );
 
 DROP TABLE IF EXISTS players;
@@ -24,5 +25,16 @@ CREATE TABLE players (
                          jersey_number INT NOT NULL,
                          position VARCHAR(50) NOT NULL,
                          team_id VARCHAR(36) NOT NULL,
+                         version BIGINT NOT NULL DEFAULT 0,
                          FOREIGN KEY (team_id) REFERENCES teams(team_id) ON DELETE CASCADE
-);
\ No newline at end of file
+);
+
+-- teams.team_id is already indexed by its UNIQUE constraint.
+-- roster and listing reads filter players on team_id and order by id
+CREATE INDEX players_team_id_idx ON players (team_id, id);
+
+-- search indexes: equality columns first, the range column last
+CREATE INDEX teams_status_budget_idx ON teams (team_status, budget);
+CREATE INDEX players_position_nationality_age_idx ON players (position, nationality, age);
+CREATE INDEX players_nationality_age_idx ON players (nationality, age);
+CREATE INDEX players_jersey_number_idx ON players (jersey_number);
@@ -10,6 +10,7 @@ CREATE TABLE teams (
                        founding_year INT NOT NULL,
                        budget DECIMAL(15, 2) NOT NULL,
                        team_status VARCHAR(20) DEFAULT 'IS_PLAYING',
+                       version BIGINT NOT NULL DEFAULT 0,
                        PRIMARY KEY (id)
 
 );
@@ -24,6 +25,17 @@ CREATE TABLE players (
                          jersey_number INT NOT NULL,
                          position VARCHAR(50) NOT NULL,
                          team_id VARCHAR(36) NOT NULL,
+                         version BIGINT NOT NULL DEFAULT 0,
                          FOREIGN KEY (team_id) REFERENCES teams(team_id) ON DELETE CASCADE,
                          PRIMARY KEY (id)
 );
+
+-- teams.team_id is already indexed by its UNIQUE constraint.
+-- players.team_id is not indexed by its foreign key; roster and listing reads filter on it
+CREATE INDEX players_team_id_idx ON players (team_id, id);
+
+-- search indexes: equality columns first, the range column last
+CREATE INDEX teams_status_budget_idx ON teams (team_status, budget);
+CREATE INDEX players_position_nationality_age_idx ON players (position, nationality, age);
+CREATE INDEX players_nationality_age_idx ON players (nationality, age);
+CREATE INDEX players_jersey_number_idx ON players (jersey_number);
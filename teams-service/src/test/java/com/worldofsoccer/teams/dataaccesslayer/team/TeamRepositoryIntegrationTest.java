@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -133,7 +134,7 @@ public class TeamRepositoryIntegrationTest {
     @Test
     public void whenDeletingNullTeam_thenThrowException() {
         assertThrows(InvalidDataAccessApiUsageException.class, () -> {
-            teamRepository.delete(null);
+            teamRepository.delete((Team) null);
         });
     }
 
@@ -154,4 +155,37 @@ public class TeamRepositoryIntegrationTest {
         assertNotNull(players);
         assertEquals(2, players.size());
     }
+
+    @Test
+    public void whenPagingTeamsById_thenEachPageStartsAfterCursor() {
+        Team first = teamRepository.save(new Team("Team P1", "Coach", 2000, BigDecimal.ONE));
+        Team second = teamRepository.save(new Team("Team P2", "Coach", 2000, BigDecimal.ONE));
+        Team third = teamRepository.save(new Team("Team P3", "Coach", 2000, BigDecimal.ONE));
+
+        List<Team> page1 = teamRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(2));
+        List<Team> page2 = teamRepository.findByIdGreaterThanOrderByIdAsc(page1.get(1).getId(), Limit.of(2));
+
+        assertEquals(List.of(first.getId(), second.getId()), page1.stream().map(Team::getId).toList());
+        assertEquals(List.of(third.getId()), page2.stream().map(Team::getId).toList());
+    }
+
+    @Test
+    public void whenFetchingRoster_thenTeamAndPlayersComeBackInOneResult() {
+        Team team = teamRepository.save(new Team("Team R", "Coach R", 2001, BigDecimal.ONE));
+        Team empty = teamRepository.save(new Team("Team E", "Coach E", 2002, BigDecimal.ONE));
+        Player first = playerRepository.save(new Player("One", "A", 20, "X", 1, Position.GOALKEEPER, team.getTeamIdentifier()));
+        Player second = playerRepository.save(new Player("Two", "B", 21, "X", 2, Position.DEFENDER, team.getTeamIdentifier()));
+
+        List<Object[]> rows = teamRepository.findRosterRows(team.getTeamIdentifier().getTeamId());
+        assertEquals(2, rows.size());
+        assertEquals(team.getId(), ((Team) rows.get(0)[0]).getId());
+        assertEquals(List.of(first.getId(), second.getId()),
+                rows.stream().map(row -> ((Player) row[1]).getId()).toList());
+
+        List<Object[]> emptyRows = teamRepository.findRosterRows(empty.getTeamIdentifier().getTeamId());
+        assertEquals(1, emptyRows.size());
+        assertNull(emptyRows.get(0)[1]);
+
+        assertTrue(teamRepository.findRosterRows("00000000-0000-0000-0000-000000000000").isEmpty());
+    }
 }
@@ -3,15 +3,18 @@ package com.worldofsoccer.teams.presentationlayer.team;
 
 import com.worldofsoccer.teams.dataaccesslayer.team.Team;
 import com.worldofsoccer.teams.dataaccesslayer.team.TeamRepository;
+import com.worldofsoccer.teams.dataaccesslayer.team.TeamStatus;
 import com.worldofsoccer.teams.presentationlayer.team.TeamRequestModel;
 import com.worldofsoccer.teams.presentationlayer.team.TeamResponseModel;
 import com.worldofsoccer.teams.presentationlayer.player.PlayerRequestModel;
 import com.worldofsoccer.teams.presentationlayer.player.PlayerResponseModel;
+import com.worldofsoccer.teams.utils.CursorPage;
 import com.worldofsoccer.teams.dataaccesslayer.player.Position;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
@@ -19,6 +22,7 @@ import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -63,6 +67,27 @@ class TeamControllerIntegrationTest {
                 });
     }
 
+    @Test
+    public void whenTeamUnchangedSinceETag_thenReturnNotModified() {
+        String etag = webClient.get()
+                .uri(BASE_URI_TEAMS + "/" + validTeamId)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+
+        webClient.get()
+                .uri(BASE_URI_TEAMS + "/" + validTeamId)
+                .accept(MediaType.APPLICATION_JSON)
+                .ifNoneMatch(etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals("ETag", etag)
+                .expectBody().isEmpty();
+    }
+
     @Test
     public void whenInvalidTeamIdLength_thenReturnInvalidInputException() {
         webClient.get()
@@ -139,6 +164,40 @@ class TeamControllerIntegrationTest {
                 });
     }
 
+    @Test
+    public void whenUpdateWithStaleIfMatch_thenReturnPreconditionFailed() {
+        String etag = webClient.get()
+                .uri(BASE_URI_TEAMS + "/" + validTeamId)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+
+        TeamRequestModel firstWrite = new TeamRequestModel("Team Alpha First", "Coach Alpha", 2000, 550000.0, "IS_PLAYING");
+        String newEtag = webClient.put()
+                .uri(BASE_URI_TEAMS + "/" + validTeamId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .bodyValue(firstWrite)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders().getETag();
+        assertNotEquals(etag, newEtag);
+
+        // a second writer that read the same version must not overwrite the first
+        TeamRequestModel secondWrite = new TeamRequestModel("Team Alpha Second", "Coach Alpha", 2000, 550000.0, "IS_PLAYING");
+        webClient.put()
+                .uri(BASE_URI_TEAMS + "/" + validTeamId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_MATCH, etag)
+                .bodyValue(secondWrite)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED);
+
+        assertEquals("Team Alpha First", teamRepository.findByTeamIdentifier_TeamId(validTeamId).getTeamName());
+    }
+
     @Test
     public void whenUpdateNonExistentTeam_thenReturnNotFoundException() {
         String nonExistentTeamId = "00000000-0000-0000-0000-000000000000";
@@ -536,6 +595,191 @@ class TeamControllerIntegrationTest {
                 .value(list -> assertEquals(saved.getPlayerId(), list.get(0).getPlayerId()));
     }
 
+    @Test
+    public void whenGetAllTeamsWithLimit_thenReturnNextCursorAndResumeAfterIt() {
+        teamRepository.save(new Team("Team Beta", "Coach Beta", 2001, BigDecimal.valueOf(1000000)));
+
+        String cursor = webClient.get()
+                .uri(BASE_URI_TEAMS + "?limit=1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TeamResponseModel.class)
+                .hasSize(1)
+                .returnResult()
+                .getResponseHeaders()
+                .getFirst("X-Next-Cursor");
+        assertNotNull(cursor);
+
+        webClient.get()
+                .uri(BASE_URI_TEAMS + "?limit=1&after=" + cursor)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist("X-Next-Cursor")
+                .expectBodyList(TeamResponseModel.class)
+                .hasSize(1)
+                .value(list -> assertEquals("Team Beta", list.get(0).getName()));
+    }
+
+    @Test
+    public void whenGetAllTeamsWithInvalidLimit_thenReturnUnprocessableEntity() {
+        webClient.get()
+                .uri(BASE_URI_TEAMS + "?limit=0")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    public void whenSearchPlayersWithPlayerAndTeamFilters_thenOnlyMatchingPlayersReturned() {
+        Team resting = new Team("Team Beta", "Coach Beta", 1990, BigDecimal.valueOf(5000000));
+        resting.setTeamStatus(TeamStatus.RESTING);
+        teamRepository.save(resting);
+        String restingTeamId = resting.getTeamIdentifier().getTeamId();
+
+        addPlayer(validTeamId, new PlayerRequestModel("Ana", "One", 24, "Testland", 9, Position.FORWARD));
+        addPlayer(validTeamId, new PlayerRequestModel("Ben", "Two", 31, "Testland", 11, Position.FORWARD));
+        addPlayer(validTeamId, new PlayerRequestModel("Cai", "Three", 25, "Testland", 4, Position.DEFENDER));
+        addPlayer(restingTeamId, new PlayerRequestModel("Dov", "Four", 22, "Testland", 7, Position.FORWARD));
+
+        webClient.get()
+                .uri(uri -> uri.path("/api/v1/players/search")
+                        .queryParam("position", "forward")
+                        .queryParam("nationality", "Testland")
+                        .queryParam("minAge", 20)
+                        .queryParam("maxAge", 30)
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(PlayerResponseModel.class)
+                .value(players -> assertEquals(List.of("Ana", "Dov"),
+                        players.stream().map(PlayerResponseModel::getFirstName).toList()));
+
+        webClient.get()
+                .uri(uri -> uri.path("/api/v1/players/search")
+                        .queryParam("nationality", "Testland")
+                        .queryParam("teamStatus", "RESTING")
+                        .build())
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(PlayerResponseModel.class)
+                .value(players -> {
+                    assertEquals(1, players.size());
+                    assertEquals(restingTeamId, players.get(0).getTeamId());
+                });
+    }
+
+    @Test
+    public void whenSearchPlayersPageIsFull_thenNextCursorLeadsToTheRest() {
+        addPlayer(validTeamId, new PlayerRequestModel("Ana", "One", 24, "Testland", 9, Position.FORWARD));
+        addPlayer(validTeamId, new PlayerRequestModel("Ben", "Two", 26, "Testland", 11, Position.FORWARD));
+
+        String next = webClient.get()
+                .uri("/api/v1/players/search?nationality=Testland&limit=1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(PlayerResponseModel.class)
+                .value(players -> assertEquals("Ana", players.get(0).getFirstName()))
+                .returnResult()
+                .getResponseHeaders()
+                .getFirst(CursorPage.NEXT_CURSOR_HEADER);
+        assertNotNull(next);
+
+        webClient.get()
+                .uri("/api/v1/players/search?nationality=Testland&limit=1&after=" + next)
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().doesNotExist(CursorPage.NEXT_CURSOR_HEADER)
+                .expectBodyList(PlayerResponseModel.class)
+                .value(players -> assertEquals("Ben", players.get(0).getFirstName()));
+    }
+
+    @Test
+    public void whenSearchPlayersWithInvertedAgeRange_thenReturnUnprocessableEntity() {
+        webClient.get()
+                .uri("/api/v1/players/search?minAge=30&maxAge=20")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(UNPROCESSABLE_ENTITY)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("minAge must not be greater than maxAge");
+    }
 
+    @Test
+    public void whenSearchTeamsByStatusAndBudget_thenOnlyMatchingTeamsReturned() {
+        Team resting = new Team("Team Beta", "Coach Beta", 1990, BigDecimal.valueOf(5000000));
+        resting.setTeamStatus(TeamStatus.RESTING);
+        teamRepository.save(resting);
+        teamRepository.save(new Team("Team Gamma", "Coach Gamma", 1995, BigDecimal.valueOf(9000000)));
 
+        webClient.get()
+                .uri(BASE_URI_TEAMS + "/search?teamStatus=IS_PLAYING&maxBudget=2000000")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(TeamResponseModel.class)
+                .value(teams -> {
+                    assertEquals(1, teams.size());
+                    assertEquals(validTeamId, teams.get(0).getTeamId());
+                });
+
+        webClient.get()
+                .uri(BASE_URI_TEAMS + "/search?teamStatus=SLEEPING")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isEqualTo(UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    public void whenGetRoster_thenTeamReturnedWithAllItsPlayers() {
+        addPlayer(validTeamId, new PlayerRequestModel("Ana", "One", 24, "Testland", 9, Position.FORWARD));
+        addPlayer(validTeamId, new PlayerRequestModel("Ben", "Two", 26, "Testland", 1, Position.GOALKEEPER));
+
+        webClient.get()
+                .uri(BASE_URI_TEAMS + "/" + validTeamId + "/roster")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.team.teamId").isEqualTo(validTeamId)
+                .jsonPath("$.players.length()").isEqualTo(2)
+                .jsonPath("$.players[0].firstName").isEqualTo("Ana")
+                .jsonPath("$.players[1].firstName").isEqualTo("Ben")
+                .jsonPath("$.players[1].teamId").isEqualTo(validTeamId);
+    }
+
+    @Test
+    public void whenGetRosterOfEmptyTeam_thenPlayersIsEmpty() {
+        webClient.get()
+                .uri(BASE_URI_TEAMS + "/" + validTeamId + "/roster")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.team.teamId").isEqualTo(validTeamId)
+                .jsonPath("$.players.length()").isEqualTo(0);
+    }
+
+    @Test
+    public void whenGetRosterOfUnknownTeam_thenReturnNotFound() {
+        webClient.get()
+                .uri(BASE_URI_TEAMS + "/" + UUID.randomUUID() + "/roster")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    private void addPlayer(String teamId, PlayerRequestModel player) {
+        webClient.post()
+                .uri(BASE_URI_TEAMS + "/" + teamId + "/players")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(player)
+                .exchange()
+                .expectStatus().isCreated();
+    }
 }
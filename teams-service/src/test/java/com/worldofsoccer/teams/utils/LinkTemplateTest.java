@@ -0,0 +1,69 @@
+package com.worldofsoccer.teams.utils;
+
+import com.worldofsoccer.teams.presentationlayer.player.PlayerController;
+import com.worldofsoccer.teams.presentationlayer.team.TeamController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+class LinkTemplateTest {
+
+    private static final String TEAM_ID = "11111111-1111-1111-1111-111111111111";
+    private static final String PLAYER_ID = "22222222-2222-2222-2222-222222222222";
+
+    @BeforeEach
+    void bindRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/teams");
+        request.setServerName("teams.example");
+        request.setServerPort(9090);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void unbindRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void whenExpanded_thenSameLinksAsLinkToMethodOn() {
+        LinkTemplate self = LinkTemplate.of(p -> methodOn(PlayerController.class).getPlayerById(p[0], p[1]), 2);
+        LinkTemplate all = LinkTemplate.of(p -> methodOn(TeamController.class).getAllTeams(null, null, null), 0);
+
+        Link expectedSelf = linkTo(methodOn(PlayerController.class).getPlayerById(TEAM_ID, PLAYER_ID)).withSelfRel();
+        Link expectedAll = linkTo(methodOn(TeamController.class).getAllTeams(null, null, null)).withRel("allTeams");
+
+        // linkTo also attaches affordances, which HAL does not render; compare what is rendered
+        assertRendersAs(expectedSelf, self.expand(IanaLinkRelations.SELF, TEAM_ID, PLAYER_ID));
+        assertRendersAs(expectedAll, all.expand("allTeams"));
+        assertTrue(expectedSelf.getHref().startsWith("http://teams.example:9090/"));
+    }
+
+    @Test
+    void whenValuesNeedEncoding_thenEachIsEncodedAsPathSegment() {
+        LinkTemplate self = LinkTemplate.of(p -> methodOn(TeamController.class).getTeamById(p[0]), 1);
+
+        assertEquals("http://teams.example:9090/api/v1/teams/a%20b%2Fc",
+                self.expand(IanaLinkRelations.SELF, "a b/c").getHref());
+    }
+
+    @Test
+    void whenWrongNumberOfValues_thenThrows() {
+        LinkTemplate self = LinkTemplate.of(p -> methodOn(TeamController.class).getTeamById(p[0]), 1);
+
+        assertThrows(IllegalArgumentException.class, () -> self.expand(IanaLinkRelations.SELF));
+    }
+
+    private static void assertRendersAs(Link expected, Link actual) {
+        assertEquals(expected.getRel(), actual.getRel());
+        assertEquals(expected.getHref(), actual.getHref());
+    }
+}